@@ -0,0 +1,47 @@
+package com.kkmalysa.claimmodule.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Runs the selected benchmarks with the GC profiler (allocation rate, bytes/op) once per thread count:
+ * 1, 2, 4 ... up to maxThreads. One JSON result file per thread count, to diff against a saved baseline.
+ *
+ * args: include-regex maxThreads outputDir [extra JMH command line options]
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        String include = args.length > 0 ? args[0] : ".*";
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        Path outputDir = Path.of(args.length > 2 ? args[2] : "target");
+        String[] jmhArgs = args.length > 3
+                ? String.join(" ", Arrays.copyOfRange(args, 3, args.length)).trim().split("\\s+")
+                : new String[0];
+        if (jmhArgs.length == 1 && jmhArgs[0].isEmpty()) jmhArgs = new String[0];
+
+        CommandLineOptions commandLine = new CommandLineOptions(jmhArgs);
+
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                    .parent(commandLine)
+                    .include(include)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(outputDir.resolve("jmh-result-t" + threads + ".json").toString());
+            new Runner(options.build()).run();
+        }
+    }
+}
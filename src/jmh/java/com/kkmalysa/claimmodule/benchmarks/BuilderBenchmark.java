@@ -0,0 +1,228 @@
+package com.kkmalysa.claimmodule.benchmarks;
+
+import com.kkmalysa.claimmodule.application.submission.ClaimSubmission;
+import com.kkmalysa.claimmodule.application.submission.ClaimSubmissionBuilder;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.domain.events.DomainEventBuilder;
+import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.domain.incident.IncidentType;
+import com.kkmalysa.claimmodule.domain.shared.BuildResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One benchmark per builder path. Inputs are prepared once per thread, so the numbers are the
+ * builder itself (validation + the objects it allocates, see gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BuilderBenchmark {
+
+    private Instant occurredAt;
+    private Instant createdAt;
+    private Incident autoIncident;
+    private Claim autoClaim;
+    private Claim manualClaim;
+    private ClaimSubmission submission;
+    private List<String> attachments;
+
+    // the @State is per thread, so these stay on their thread
+    private IncidentBuilder.Reusable incidents;
+    private ClaimBuilder.Reusable claims;
+    private ClaimSubmissionBuilder.Reusable submissions;
+    private DomainEventBuilder.Reusable events;
+
+    @Setup
+    public void setUp() {
+        occurredAt = Instant.parse("2026-02-01T10:00:00Z");
+        createdAt = Instant.parse("2026-02-01T10:05:00Z");
+        attachments = List.of("att-1", "att-2");
+        autoIncident = incidentAuto();
+        autoClaim = claim(autoIncident, "AUTO");
+        manualClaim = claim(autoIncident, "MANUAL");
+        submission = submissionAuto();
+        incidents = IncidentBuilder.reusable();
+        claims = ClaimBuilder.reusable();
+        submissions = ClaimSubmissionBuilder.reusable();
+        events = DomainEventBuilder.reusable();
+    }
+
+    @Benchmark
+    public Incident incidentAuto() {
+        return IncidentBuilder.auto()
+                .occurredAt(occurredAt)
+                .location("Warsaw")
+                .forAuto()
+                .vin("WVWZZZ1JZXW000001")
+                .licensePlate("WI1234A")
+                .build();
+    }
+
+    @Benchmark
+    public Incident incidentTheft() {
+        return IncidentBuilder.theft()
+                .occurredAt(occurredAt)
+                .location("Warsaw")
+                .description("Bike stolen from the garage")
+                .forTheft()
+                .stolenItem("Bike")
+                .policeReportNumber("KRP-123/2026")
+                .build();
+    }
+
+    @Benchmark
+    public Incident incidentProperty() {
+        return IncidentBuilder.property()
+                .occurredAt(occurredAt)
+                .location("Warsaw")
+                .forProperty()
+                .propertyAddress("Marszałkowska 1, Warsaw")
+                .build();
+    }
+
+    @Benchmark
+    public Incident incidentInjury() {
+        return IncidentBuilder.injury()
+                .occurredAt(occurredAt)
+                .location("Warsaw")
+                .forInjury()
+                .injuredPerson("Jan Kowalski")
+                .medicalReportNumber("MED-77")
+                .build();
+    }
+
+    @Benchmark
+    public Claim claimFnol() {
+        return claim(autoIncident, "AUTO");
+    }
+
+    @Benchmark
+    public ClaimSubmission submissionAuto() {
+        return ClaimSubmissionBuilder.create()
+                .fromClaim(autoClaim)
+                .policyNumber("PN-1")
+                .attachments(attachments)
+                .submittedBy("user-1")
+                .auto()
+                .termsAccepted(true)
+                .build();
+    }
+
+    @Benchmark
+    public ClaimSubmission submissionManual() {
+        return ClaimSubmissionBuilder.create()
+                .fromClaim(manualClaim)
+                .policyNumber("PN-1")
+                .attachments(List.of())
+                .submittedBy("agent-1")
+                .manual()
+                .build();
+    }
+
+    @Benchmark
+    public DomainEvent domainEvent() {
+        return DomainEventBuilder.claimSubmitted()
+                .claim(autoClaim)
+                .submission(submission)
+                .actor("user-1")
+                .build();
+    }
+
+    // an invalid row (vin missing) the way a bulk import meets it: thrown and caught vs returned
+    @Benchmark
+    public Object invalidIncidentBuildAndCatch() {
+        try {
+            return IncidentBuilder.auto()
+                    .occurredAt(occurredAt)
+                    .location("Warsaw")
+                    .forAuto()
+                    .licensePlate("WI1234A")
+                    .build();
+        } catch (IllegalStateException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public BuildResult<Incident> invalidIncidentTryBuild() {
+        return IncidentBuilder.auto()
+                .occurredAt(occurredAt)
+                .location("Warsaw")
+                .forAuto()
+                .licensePlate("WI1234A")
+                .tryBuild();
+    }
+
+    // same paths with the reusable builders - compare gc.alloc.rate.norm with incidentAuto, claimFnol...
+    @Benchmark
+    public Incident incidentAutoReused() {
+        return incidents.reset(IncidentType.AUTO)
+                .occurredAt(occurredAt)
+                .location("Warsaw")
+                .forAuto()
+                .vin("WVWZZZ1JZXW000001")
+                .licensePlate("WI1234A")
+                .build();
+    }
+
+    @Benchmark
+    public Claim claimFnolReused() {
+        return claims.reset()
+                .policyId("POL-1")
+                .incident(autoIncident)
+                .createdBy("user-1")
+                .channel("AUTO")
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @Benchmark
+    public ClaimSubmission submissionAutoReused() {
+        return submissions.reset()
+                .fromClaim(autoClaim)
+                .policyNumber("PN-1")
+                .attachments(attachments)
+                .submittedBy("user-1")
+                .auto()
+                .termsAccepted(true)
+                .build();
+    }
+
+    @Benchmark
+    public DomainEvent domainEventReused() {
+        return events.reset()
+                .claim(autoClaim)
+                .submission(submission)
+                .actor("user-1")
+                .build();
+    }
+
+    private Claim claim(Incident incident, String channel) {
+        return ClaimBuilder.fnol()
+                .policyId("POL-1")
+                .incident(incident)
+                .createdBy("user-1")
+                .channel(channel)
+                .createdAt(createdAt)
+                .build();
+    }
+}
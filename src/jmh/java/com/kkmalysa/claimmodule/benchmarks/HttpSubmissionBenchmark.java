@@ -0,0 +1,180 @@
+package com.kkmalysa.claimmodule.benchmarks;
+
+import com.kkmalysa.claimmodule.ClaimModuleApplication;
+import com.kkmalysa.claimmodule.adapters.out.policy.FakePolicyProvider;
+import com.kkmalysa.claimmodule.ports.out.PolicyProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local load test of the HTTP API: the whole application on a random port, every JMH thread is one client
+ * sending requests back to back over a shared HttpClient. Thread count = concurrency, so the
+ * 1, 2, 4 ... runs of BenchmarkRunner show how throughput scales with concurrent clients. Go past
+ * Tomcat's 200 platform threads to see the difference virtual threads make:
+ *   ./mvnw -Pjmh test-compile exec:exec -Djmh.include=HttpSubmission -Djmh.maxThreads=512
+ *
+ * policyLatencyMillis puts a sleeping (remote-like) policy service behind the use case - with 0 the run
+ * is CPU bound, with a few millis it is bound by how many requests can wait at once.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class HttpSubmissionBenchmark {
+
+    private static final Pattern CLAIM_ID = Pattern.compile("\"claimId\"\\s*:\\s*\"([^\"]+)\"");
+    private static final int BULK_SIZE = 100;
+
+    @State(Scope.Benchmark)
+    public static class Server {
+
+        @Param({"true", "false"})
+        public boolean virtualThreads;
+
+        @Param({"0", "5"})
+        public long policyLatencyMillis;
+
+        ConfigurableApplicationContext context;
+        HttpClient http;
+        String baseUrl;
+
+        @Setup(Level.Trial)
+        public void start() {
+            context = new SpringApplicationBuilder(ClaimModuleApplication.class, SlowPolicyConfiguration.class)
+                    .properties(
+                            "server.port=0",
+                            "spring.main.banner-mode=off",
+                            "spring.main.allow-bean-definition-overriding=true",
+                            "logging.level.root=WARN",
+                            "spring.threads.virtual.enabled=" + virtualThreads,
+                            "benchmark.policy-latency-millis=" + policyLatencyMillis,
+                            // the drainer polls every 50 ms - a burst between two polls is dropped, not a 503 in the timings
+                            "claim.submission-gateway.overflow-policy=DROP_OLDEST"
+                    )
+                    .run();
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            http.close();
+            context.close();
+        }
+
+        HttpResponse<String> post(String path, String contentType, String body) throws IOException, InterruptedException {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", contentType)
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 300) throw new IllegalStateException(response.statusCode() + ": " + response.body());
+            return response;
+        }
+
+        String reportClaim(String policyId) throws IOException, InterruptedException {
+            String body = post("/claims", "application/json", """
+                    {"policyId":"%s","createdBy":"load-test","channel":"MANUAL",
+                     "incidentType":"THEFT","occurredAt":"2026-02-01T10:00:00Z","location":"Warsaw","stolenItem":"bike"}
+                    """.formatted(policyId)).body();
+            Matcher matcher = CLAIM_ID.matcher(body);
+            if (!matcher.find()) throw new IllegalStateException("no claimId in " + body);
+            return matcher.group(1);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        String claimId;
+        String bulkBody;
+
+        @Setup(Level.Trial)
+        public void setUp(Server server) throws IOException, InterruptedException {
+            claimId = server.reportClaim("POL-" + Thread.currentThread().threadId());
+
+            // own claims per thread - bulk requests of different threads never race for the same claim
+            StringBuilder ndjson = new StringBuilder();
+            for (int i = 0; i < BULK_SIZE; i++) {
+                ndjson.append("{\"claimId\":\"").append(server.reportClaim("POL-" + i))
+                        .append("\",\"channel\":\"MANUAL\",\"actor\":\"load-test\",\"termsAccepted\":true}\n");
+            }
+            bulkBody = ndjson.toString();
+        }
+    }
+
+    @Benchmark
+    public HttpResponse<String> submitOne(Server server, Client client) throws IOException, InterruptedException {
+        return server.post("/claims/" + client.claimId + "/submissions", "application/json",
+                "{\"channel\":\"MANUAL\",\"actor\":\"load-test\",\"termsAccepted\":true}");
+    }
+
+    // throughput is in bulk requests - multiply by BULK_SIZE for submissions
+    @Benchmark
+    public HttpResponse<String> submitBulk(Server server, Client client) throws IOException, InterruptedException {
+        return server.post("/claims/submissions/bulk", "application/x-ndjson", client.bulkBody);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    public static class SlowPolicyConfiguration {
+
+        // same bean name as in ClaimModuleConfiguration -> replaces the instant fake
+        @Bean
+        PolicyProvider policyProvider(Environment environment) {
+            long latencyMillis = environment.getProperty("benchmark.policy-latency-millis", Long.class, 0L);
+            FakePolicyProvider fake = new FakePolicyProvider();
+            return new PolicyProvider() {
+                @Override
+                public Optional<String> getPolicyNumber(String policyId) {
+                    pause(latencyMillis);
+                    return fake.getPolicyNumber(policyId);
+                }
+
+                // one round trip for the whole batch, like a real batch endpoint
+                @Override
+                public Map<String, String> getPolicyNumbers(Collection<String> policyIds) {
+                    pause(latencyMillis);
+                    return fake.getPolicyNumbers(policyIds);
+                }
+            };
+        }
+
+        private static void pause(long millis) {
+            if (millis == 0) return;
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.kkmalysa.claimmodule.benchmarks;
+
+import com.kkmalysa.claimmodule.domain.shared.CompactId;
+import com.kkmalysa.claimmodule.domain.shared.IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UUID.randomUUID() (shared SecureRandom) vs the UUIDv7 generator. Run with several thread counts -
+ * the difference is mostly contention.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator timeOrdered = IdGenerator.timeOrdered();
+
+    @Benchmark
+    public String randomUuidString() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public CompactId timeOrderedId() {
+        return timeOrdered.next();
+    }
+
+    @Benchmark
+    public String timeOrderedIdString() {
+        return timeOrdered.nextString();
+    }
+}
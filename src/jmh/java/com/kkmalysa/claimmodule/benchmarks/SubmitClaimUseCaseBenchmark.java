@@ -0,0 +1,101 @@
+package com.kkmalysa.claimmodule.benchmarks;
+
+import com.kkmalysa.claimmodule.adapters.out.attachments.FakeAttachmentProvider;
+import com.kkmalysa.claimmodule.adapters.out.persistence.InMemoryClaimRepository;
+import com.kkmalysa.claimmodule.adapters.out.policy.FakePolicyProvider;
+import com.kkmalysa.claimmodule.adapters.out.submission.InMemorySubmissionGateway;
+import com.kkmalysa.claimmodule.adapters.out.submission.OverflowPolicy;
+import com.kkmalysa.claimmodule.application.submission.SubmissionChannel;
+import com.kkmalysa.claimmodule.application.submission.SubmissionResult;
+import com.kkmalysa.claimmodule.application.submission.SubmitClaimUseCase;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.ports.out.OutboxEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * End-to-end submit() against the in-memory adapters, shared by all benchmark threads.
+ * Every thread submits its own claim over and over (each submit bumps the version), so threads
+ * contend on the shared maps and the gateway ring - not on optimistic-lock conflicts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubmitClaimUseCaseBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Adapters {
+        final InMemoryClaimRepository claims = new InMemoryClaimRepository();
+        final FakeAttachmentProvider attachments = new FakeAttachmentProvider();
+        // nobody drains it here -> keep the newest, never block
+        final InMemorySubmissionGateway gateway = new InMemorySubmissionGateway(1024, OverflowPolicy.DROP_OLDEST);
+        final AtomicInteger threadIds = new AtomicInteger();
+
+        SubmitClaimUseCase useCase;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            useCase = new SubmitClaimUseCase(claims, new FakePolicyProvider(), attachments, gateway);
+        }
+
+        // nobody relays the outbox here - checkpoint it so it doesn't grow across iterations
+        @TearDown(Level.Iteration)
+        public void dropOutbox() {
+            List<OutboxEntry> pending = claims.outbox().readAfter(claims.outbox().checkpoint(), Integer.MAX_VALUE);
+            if (!pending.isEmpty()) claims.outbox().checkpoint(pending.get(pending.size() - 1).getSequence());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadClaim {
+        String claimId;
+
+        @Setup(Level.Trial)
+        public void setUp(Adapters adapters) {
+            Claim claim = ClaimBuilder.fnol()
+                    .policyId("POL-" + adapters.threadIds.incrementAndGet())
+                    .incident(IncidentBuilder.auto()
+                            .occurredAt(Instant.parse("2026-02-01T10:00:00Z"))
+                            .location("Warsaw")
+                            .forAuto()
+                            .vin("WVWZZZ1JZXW000001")
+                            .licensePlate("WI1234A")
+                            .build())
+                    .createdBy("user-1")
+                    .channel("AUTO")
+                    .build();
+            adapters.claims.save(claim);
+            adapters.attachments.put(claim.getClaimId(), List.of("att-1"));
+            claimId = claim.getClaimId();
+        }
+    }
+
+    @Benchmark
+    public SubmissionResult submitAuto(Adapters adapters, ThreadClaim thread) {
+        return adapters.useCase.submit(thread.claimId, SubmissionChannel.AUTO, "user-1", true);
+    }
+
+    @Benchmark
+    public SubmissionResult submitManual(Adapters adapters, ThreadClaim thread) {
+        return adapters.useCase.submit(thread.claimId, SubmissionChannel.MANUAL, "agent-1", false);
+    }
+}
@@ -0,0 +1,138 @@
+package com.kkmalysa.claimmodule.adapters.in.fnol;
+
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.incident.IncidentType;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * CSV rows (RFC 4180: comma separated, "quoted" fields, "" inside quotes, line breaks inside quotes).
+ * The header row names the columns after the record's properties; their order is free and
+ * columns that are not needed can be left out. An empty field means "not set".
+ */
+final class CsvFnolRowReader extends FnolRowReader {
+
+    private static final Map<String, BiConsumer<ImportedFnolRecord, String>> COLUMNS = Map.ofEntries(
+            Map.entry("policyId", ImportedFnolRecord::setPolicyId),
+            Map.entry("createdBy", ImportedFnolRecord::setCreatedBy),
+            Map.entry("channel", ImportedFnolRecord::setChannel),
+            Map.entry("incidentType", (r, v) -> r.setIncidentType(IncidentType.valueOf(v))),
+            Map.entry("occurredAt", (r, v) -> r.setOccurredAt(Instant.parse(v))),
+            Map.entry("location", ImportedFnolRecord::setLocation),
+            Map.entry("description", ImportedFnolRecord::setDescription),
+            Map.entry("vin", ImportedFnolRecord::setVin),
+            Map.entry("licensePlate", ImportedFnolRecord::setLicensePlate),
+            Map.entry("stolenItem", ImportedFnolRecord::setStolenItem),
+            Map.entry("policeReportNumber", ImportedFnolRecord::setPoliceReportNumber),
+            Map.entry("propertyAddress", ImportedFnolRecord::setPropertyAddress),
+            Map.entry("injuredPerson", ImportedFnolRecord::setInjuredPerson),
+            Map.entry("medicalReportNumber", ImportedFnolRecord::setMedicalReportNumber),
+            Map.entry("claimId", ImportedFnolRecord::setClaimId),
+            Map.entry("createdAt", (r, v) -> r.setCreatedAt(Instant.parse(v))),
+            Map.entry("status", (r, v) -> r.setStatus(ClaimStatus.valueOf(v)))
+    );
+
+    private final String[] header;
+    private final List<BiConsumer<ImportedFnolRecord, String>> setters;
+
+    private CsvFnolRowReader(LineReader lines, String[] header) {
+        super(lines);
+        this.header = header;
+        this.setters = new ArrayList<>(header.length);
+        for (String column : header) {
+            BiConsumer<ImportedFnolRecord, String> setter = COLUMNS.get(column);
+            if (setter == null) throw new IllegalArgumentException("Unknown CSV column: '" + column + "' (known: " + COLUMNS.keySet() + ")");
+            setters.add(setter);
+        }
+    }
+
+    static CsvFnolRowReader open(LineReader lines) throws IOException {
+        String headerLine = lines.readLine();
+        if (headerLine == null) throw new IllegalArgumentException("CSV file is empty - a header row is required");
+        if (!headerLine.isEmpty() && headerLine.charAt(0) == '\uFEFF') headerLine = headerLine.substring(1); // BOM from Excel
+        List<String> header = new ArrayList<>();
+        if (!splitFields(headerLine, header)) throw new IllegalArgumentException("CSV header has an unclosed quote");
+        CsvFnolRowReader reader = new CsvFnolRowReader(lines, header.stream().map(String::trim).toArray(String[]::new));
+        reader.nextLineNumber = 2;
+        return reader;
+    }
+
+    @Override
+    FnolRow next() throws IOException {
+        String line;
+        long rowNumber;
+        do {
+            rowNumber = nextLineNumber;
+            line = readLine();
+            if (line == null) return null;
+        } while (line.isBlank());
+
+        // a quoted field may contain line breaks - keep reading until the quotes are closed
+        String raw = line;
+        List<String> fields = new ArrayList<>(header.length);
+        while (!splitFields(raw, fields)) {
+            String continuation = readLine();
+            if (continuation == null) return FnolRow.unparseable(rowNumber, raw, new IllegalArgumentException("unclosed quote at end of file"));
+            raw = raw + "\n" + continuation;
+            fields.clear();
+        }
+
+        if (fields.size() != header.length) {
+            return FnolRow.unparseable(rowNumber, raw,
+                    new IllegalArgumentException("expected " + header.length + " fields, got " + fields.size()));
+        }
+        ImportedFnolRecord record = new ImportedFnolRecord();
+        for (int i = 0; i < header.length; i++) {
+            String value = fields.get(i);
+            if (value.isEmpty()) continue;
+            try {
+                setters.get(i).accept(record, value);
+            } catch (RuntimeException e) {
+                return FnolRow.unparseable(rowNumber, raw, new IllegalArgumentException(header[i] + ": " + e.getMessage(), e));
+            }
+        }
+        return FnolRow.parsed(rowNumber, raw, record);
+    }
+
+    /**
+     * Splits one record into fields.
+     * @return false when a quoted field is still open at the end of the text
+     */
+    static boolean splitFields(String text, List<String> fields) {
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) return false;
+        fields.add(field.toString());
+        return true;
+    }
+
+    static String quote(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,16 @@
+package com.kkmalysa.claimmodule.adapters.in.fnol;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+public enum FnolFileFormat {
+    CSV,    // header row with FnolRecord/ImportedFnolRecord property names, RFC 4180 quoting
+    NDJSON; // one JSON object per line
+
+    public static FnolFileFormat of(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) return CSV;
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) return NDJSON;
+        throw new IllegalArgumentException("Unknown import file format (expected .csv, .ndjson or .jsonl): " + file);
+    }
+}
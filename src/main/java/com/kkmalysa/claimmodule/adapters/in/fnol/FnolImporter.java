@@ -0,0 +1,316 @@
+package com.kkmalysa.claimmodule.adapters.in.fnol;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.domain.shared.BuildResult;
+import com.kkmalysa.claimmodule.ports.out.ClaimRepository;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bulk FNOL import from CSV or NDJSON files of any size (broker onboarding: millions of historical claims).
+ *
+ * One thread reads the file in chunks of chunkSize rows; a pool of parallelism workers builds the claims
+ * (FnolRecord -> IncidentBuilder/ClaimBuilder tryBuild(), so an imported claim passes exactly the same validation
+ * as one reported over HTTP) and saves each chunk with one {@link ClaimRepository#saveAll} call.
+ * At most 2 x parallelism chunks are in memory at once - the reader waits when the workers fall behind.
+ *
+ * Rows that don't parse or fail validation are not imported; they go to the error file (CSV: row,error,record).
+ * A failing repository is different - it stops the import (with the exception), nothing is rejected for it.
+ *
+ * An import never overwrites: claims are saved with {@link ClaimRepository#insertAllIfAbsent}, so a row whose claimId
+ * is already in the repository is skipped (counted, not rejected) - re-running a file, resuming after a crash or
+ * racing with an HTTP update cannot reset a claim to its imported state. A claimId repeated within one chunk is
+ * rejected from the second row on; repeated in different chunks (which run in parallel), whichever chunk is saved
+ * first wins and the other row is counted as skipped.
+ *
+ * Chunks finish out of order, but they are committed in file order: their rejected rows are written and the
+ * checkpoint is moved past them only once every chunk before them is done. Both are forced to disk before
+ * the import goes on. Running the same import again with the same checkpoint file resumes after the last
+ * committed chunk. Chunks that were saved but not yet committed when the import stopped are read again - rows
+ * with a claimId are then skipped, rows without one would become a second claim, so files meant to be resumed
+ * should carry claim ids.
+ */
+public final class FnolImporter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    private static final String ERROR_FILE_HEADER = "row,error,record\n";
+
+    private final ClaimRepository claimRepository;
+    private final int chunkSize;
+    private final int parallelism;
+    private final ObjectMapper objectMapper;
+
+    public FnolImporter(ClaimRepository claimRepository) {
+        this(claimRepository, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    public FnolImporter(ClaimRepository claimRepository, int chunkSize, int parallelism) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be positive");
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism must be positive");
+        this.claimRepository = Objects.requireNonNull(claimRepository);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.objectMapper = JsonMapper.builder().build();
+    }
+
+    /**
+     * Imports the file (format by extension, see {@link FnolFileFormat#of}), resuming from checkpointFile if it exists.
+     *
+     * @throws IllegalStateException the import stopped - the checkpoint stays, call again to resume
+     */
+    public ImportReport importFile(Path input, Path errorFile, Path checkpointFile) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        FnolFileFormat format = FnolFileFormat.of(input);
+        ImportCheckpoint checkpoint = ImportCheckpoint.loadOrFresh(checkpointFile, input);
+        long resumedAtLine = checkpoint.isFresh() ? 0 : checkpoint.nextLineNumber();
+
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("fnol-import-", 0).factory());
+        Semaphore chunksInFlight = new Semaphore(parallelism * 2);
+
+        try (ErrorFile errors = ErrorFile.open(errorFile, checkpoint);
+             FnolRowReader reader = FnolRowReader.open(input, format, objectMapper, checkpoint.nextOffset(), checkpoint.nextLineNumber())) {
+
+            Commits commits = new Commits(checkpoint, errors, checkpointFile);
+            long chunkIndex = 0;
+            while (true) {
+                chunksInFlight.acquire();
+                List<FnolRow> rows = commits.failed() ? List.of() : reader.nextChunk(chunkSize);
+                if (rows.isEmpty()) {
+                    chunksInFlight.release();
+                    break;
+                }
+                Chunk chunk = new Chunk(chunkIndex++, rows, reader.position(), reader.nextLineNumber);
+                workers.execute(() -> {
+                    try {
+                        commits.completed(process(chunk));
+                    } catch (Throwable e) {
+                        commits.fail(e);
+                    } finally {
+                        chunksInFlight.release();
+                    }
+                });
+            }
+
+            workers.shutdown();
+            // also after a failure - nothing may still be saving when this method returns
+            while (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                // a big chunk on a slow repository - keep waiting
+            }
+            commits.throwIfFailed();
+
+            ImportCheckpoint done = commits.checkpoint();
+            return new ImportReport(done.imported(), done.rejected(), done.skipped(), resumedAtLine, Duration.ofNanos(System.nanoTime() - start));
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private ChunkResult process(Chunk chunk) {
+        List<Claim> claims = new ArrayList<>(chunk.rows.size());
+        List<String> rejected = new ArrayList<>();
+        Map<String, Long> rowOfClaimId = new HashMap<>();
+        // a chunk runs on one worker thread - one builder pair for all its rows
+        IncidentBuilder.Reusable incidents = IncidentBuilder.reusable();
+        ClaimBuilder.Reusable claimBuilder = ClaimBuilder.reusable();
+        for (FnolRow row : chunk.rows) {
+            if (row.parseFailure() != null) {
+                RuntimeException failure = row.parseFailure();
+                rejected.add(ErrorFile.line(row, failure.getClass().getSimpleName() + ": " + failure.getMessage()));
+                continue;
+            }
+            // no exception per invalid row - with a few percent of bad rows their stack traces would dominate
+            BuildResult<Claim> claim = row.record().tryToClaim(incidents, claimBuilder);
+            if (!claim.isValid()) {
+                rejected.add(ErrorFile.line(row, String.join("; ", claim.getViolations())));
+                continue;
+            }
+            Long firstRow = rowOfClaimId.putIfAbsent(claim.get().getClaimId(), row.rowNumber());
+            if (firstRow != null) {
+                rejected.add(ErrorFile.line(row, "duplicate claimId " + claim.get().getClaimId() + " (first in row " + firstRow + ")"));
+                continue;
+            }
+            claims.add(claim.get());
+        }
+        // insert-if-absent, atomic per claim in the repository: whatever is stored already is left alone
+        Set<String> existing = claimRepository.insertAllIfAbsent(claims); // throws -> the import stops, the chunk is not committed
+        return new ChunkResult(chunk, claims.size() - existing.size(), existing.size(), rejected);
+    }
+
+    private static final class Chunk {
+        private final long index;
+        private final List<FnolRow> rows;
+        private final long endOffset;
+        private final long nextLineNumber;
+
+        private Chunk(long index, List<FnolRow> rows, long endOffset, long nextLineNumber) {
+            this.index = index;
+            this.rows = rows;
+            this.endOffset = endOffset;
+            this.nextLineNumber = nextLineNumber;
+        }
+    }
+
+    private static final class ChunkResult {
+        private final Chunk chunk;
+        private final int imported;
+        private final int skipped;
+        private final List<String> rejectedLines;
+
+        private ChunkResult(Chunk chunk, int imported, int skipped, List<String> rejectedLines) {
+            this.chunk = chunk;
+            this.imported = imported;
+            this.skipped = skipped;
+            this.rejectedLines = rejectedLines;
+        }
+    }
+
+    /**
+     * Commits finished chunks in file order and moves the checkpoint. Out-of-order chunks wait here -
+     * at most as many as there are chunks in flight.
+     */
+    private static final class Commits {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, ChunkResult> waiting = new HashMap<>();
+        private final ErrorFile errors;
+        private final Path checkpointFile;
+
+        private ImportCheckpoint checkpoint;
+        private long nextToCommit;
+        private volatile Throwable failure;
+
+        private Commits(ImportCheckpoint checkpoint, ErrorFile errors, Path checkpointFile) {
+            this.checkpoint = checkpoint;
+            this.errors = errors;
+            this.checkpointFile = checkpointFile;
+        }
+
+        void completed(ChunkResult result) throws IOException {
+            lock.lock();
+            try {
+                if (failure != null) return; // don't move the checkpoint past a chunk that failed
+                waiting.put(result.chunk.index, result);
+                ChunkResult next;
+                boolean advanced = false;
+                while ((next = waiting.remove(nextToCommit)) != null) {
+                    errors.write(next.rejectedLines);
+                    checkpoint = checkpoint.advance(next.chunk.endOffset, next.chunk.nextLineNumber, next.imported, next.rejectedLines.size(), next.skipped);
+                    nextToCommit++;
+                    advanced = true;
+                }
+                if (advanced) {
+                    errors.sync(); // the rejected rows must be on disk before the checkpoint says so
+                    checkpoint = checkpoint.withErrorFileBytes(errors.size());
+                    checkpoint.store(checkpointFile);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void fail(Throwable e) {
+            lock.lock();
+            try {
+                if (failure == null) failure = e;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean failed() {
+            return failure != null;
+        }
+
+        void throwIfFailed() {
+            if (failure != null) throw new IllegalStateException("Import stopped - run it again to resume from the last checkpoint", failure);
+        }
+
+        ImportCheckpoint checkpoint() {
+            lock.lock();
+            try {
+                return checkpoint;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Rejected rows. On resume it is cut back to the length recorded in the checkpoint, so rows of chunks
+     * that were written after the last checkpoint don't show up twice.
+     */
+    private static final class ErrorFile implements AutoCloseable {
+        private final FileChannel channel;
+        private final Writer writer;
+
+        private ErrorFile(FileChannel channel, Writer writer) {
+            this.channel = channel;
+            this.writer = writer;
+        }
+
+        static ErrorFile open(Path file, ImportCheckpoint checkpoint) throws IOException {
+            if (checkpoint.isFresh()) {
+                Files.deleteIfExists(file);
+            }
+            FileOutputStream out = new FileOutputStream(file.toFile(), true);
+            FileChannel channel = out.getChannel();
+            channel.truncate(checkpoint.errorFileBytes());
+            ErrorFile errors = new ErrorFile(channel, new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+            if (channel.size() == 0) errors.write(List.of(ERROR_FILE_HEADER));
+            return errors;
+        }
+
+        static String line(FnolRow row, String error) {
+            // Jackson adds a location line to its messages
+            return row.rowNumber() + "," + CsvFnolRowReader.quote(firstLine(error)) + "," + CsvFnolRowReader.quote(row.raw()) + "\n";
+        }
+
+        private static String firstLine(String message) {
+            if (message == null) return "";
+            int end = message.indexOf('\n');
+            return (end < 0) ? message : message.substring(0, end);
+        }
+
+        void write(List<String> lines) throws IOException {
+            for (String line : lines) writer.write(line);
+        }
+
+        void sync() throws IOException {
+            writer.flush();
+            channel.force(false);
+        }
+
+        long size() throws IOException {
+            return channel.size();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
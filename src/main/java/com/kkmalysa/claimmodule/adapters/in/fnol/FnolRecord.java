@@ -0,0 +1,172 @@
+package com.kkmalysa.claimmodule.adapters.in.fnol;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.domain.incident.IncidentDraft;
+import com.kkmalysa.claimmodule.domain.incident.IncidentType;
+import com.kkmalysa.claimmodule.domain.shared.BuildResult;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A first notice of loss as it arrives from outside - the JSON body of POST /claims, one NDJSON line
+ * or one CSV row of an import. Flat on purpose - the incident specific fields sit next to the common ones
+ * and only the ones matching incidentType are used.
+ * All validation stays in the builders; this class only maps the fields onto their steps.
+ * As an {@link IncidentDraft} a whole chunk of records can also be checked against IncidentRules in one go.
+ */
+public class FnolRecord implements IncidentDraft {
+
+    private String policyId;
+    private String createdBy;
+    private String channel;
+
+    private IncidentType incidentType;
+    private Instant occurredAt;
+    private String location;
+    private String description;
+
+    private String vin;
+    private String licensePlate;
+    private String stolenItem;
+    private String policeReportNumber;
+    private String propertyAddress;
+    private String injuredPerson;
+    private String medicalReportNumber;
+
+    /**
+     * @throws IllegalArgumentException listing every problem of the record
+     */
+    public Claim toClaim() {
+        BuildResult<Claim> claim = tryToClaim();
+        if (!claim.isValid()) throw new IllegalArgumentException(String.join("; ", claim.getViolations()));
+        return claim.get();
+    }
+
+    /**
+     * Exception-free mapping for bulk paths: blank fields are simply not passed to the builders
+     * (their steps would throw), so a missing value shows up as the builder's "... is required" violation.
+     */
+    public BuildResult<Claim> tryToClaim() {
+        return build(null, null);
+    }
+
+    /**
+     * Same, but built with the caller's reusable builders (importer: one pair per chunk) -
+     * only the Incident and the Claim get allocated.
+     */
+    public BuildResult<Claim> tryToClaim(IncidentBuilder.Reusable incidents, ClaimBuilder.Reusable claims) {
+        return build(Objects.requireNonNull(incidents), Objects.requireNonNull(claims));
+    }
+
+    // null builders = fresh ones
+    private BuildResult<Claim> build(IncidentBuilder.Reusable incidents, ClaimBuilder.Reusable claims) {
+        List<String> violations = List.of();
+        if (isBlank(policyId)) violations = BuildResult.addViolation(violations, "policyId must not be blank");
+        if (isBlank(createdBy)) violations = BuildResult.addViolation(violations, "createdBy must not be blank");
+        if (isBlank(channel)) violations = BuildResult.addViolation(violations, "channel must not be blank");
+
+        BuildResult<Incident> incident = tryToIncident(incidents);
+        for (String violation : incident.getViolations()) {
+            violations = BuildResult.addViolation(violations, violation);
+        }
+        if (!violations.isEmpty()) return BuildResult.invalid(violations);
+
+        ClaimBuilder.OptionalStep claim = (claims != null ? claims.reset() : ClaimBuilder.fnol())
+                .policyId(policyId)
+                .incident(incident.get())
+                .createdBy(createdBy)
+                .channel(channel);
+        return withOptionalSteps(claim).tryBuild();
+    }
+
+    // all required steps done - subclasses can still add the optional ones
+    protected ClaimBuilder.OptionalStep withOptionalSteps(ClaimBuilder.OptionalStep claim) {
+        return claim;
+    }
+
+    private BuildResult<Incident> tryToIncident(IncidentBuilder.Reusable incidents) {
+        if (incidentType == null) return BuildResult.invalid(List.of("incidentType is required"));
+
+        IncidentBuilder.CommonStep common = (incidents != null) ? incidents.reset(incidentType) : IncidentBuilder.of(incidentType);
+        if (occurredAt != null) common.occurredAt(occurredAt);
+        if (!isBlank(location)) common.location(location);
+        if (!isBlank(description)) common.description(description);
+
+        return switch (incidentType) {
+            case AUTO -> {
+                IncidentBuilder.AutoStep auto = common.forAuto();
+                if (!isBlank(vin)) auto.vin(vin);
+                if (!isBlank(licensePlate)) auto.licensePlate(licensePlate);
+                yield auto.tryBuild();
+            }
+            case THEFT -> {
+                IncidentBuilder.TheftStep theft = common.forTheft();
+                if (!isBlank(stolenItem)) theft.stolenItem(stolenItem);
+                if (!isBlank(policeReportNumber)) theft.policeReportNumber(policeReportNumber);
+                yield theft.tryBuild();
+            }
+            case PROPERTY -> {
+                IncidentBuilder.PropertyStep property = common.forProperty();
+                if (!isBlank(propertyAddress)) property.propertyAddress(propertyAddress);
+                yield property.tryBuild();
+            }
+            case INJURY -> {
+                IncidentBuilder.InjuryStep injury = common.forInjury();
+                if (!isBlank(injuredPerson)) injury.injuredPerson(injuredPerson);
+                if (!isBlank(medicalReportNumber)) injury.medicalReportNumber(medicalReportNumber);
+                yield injury.tryBuild();
+            }
+        };
+    }
+
+    static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    public String getPolicyId() { return policyId; }
+    public void setPolicyId(String policyId) { this.policyId = policyId; }
+
+    public String getCreatedBy() { return createdBy; }
+    public void setCreatedBy(String createdBy) { this.createdBy = createdBy; }
+
+    public String getChannel() { return channel; }
+    public void setChannel(String channel) { this.channel = channel; }
+
+    @Override public IncidentType getIncidentType() { return incidentType; }
+    public void setIncidentType(IncidentType incidentType) { this.incidentType = incidentType; }
+
+    @Override public Instant getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(Instant occurredAt) { this.occurredAt = occurredAt; }
+
+    @Override public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    @Override public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    @Override public String getVin() { return vin; }
+    public void setVin(String vin) { this.vin = vin; }
+
+    @Override public String getLicensePlate() { return licensePlate; }
+    public void setLicensePlate(String licensePlate) { this.licensePlate = licensePlate; }
+
+    @Override public String getStolenItem() { return stolenItem; }
+    public void setStolenItem(String stolenItem) { this.stolenItem = stolenItem; }
+
+    @Override public String getPoliceReportNumber() { return policeReportNumber; }
+    public void setPoliceReportNumber(String policeReportNumber) { this.policeReportNumber = policeReportNumber; }
+
+    @Override public String getPropertyAddress() { return propertyAddress; }
+    public void setPropertyAddress(String propertyAddress) { this.propertyAddress = propertyAddress; }
+
+    @Override public String getInjuredPerson() { return injuredPerson; }
+    public void setInjuredPerson(String injuredPerson) { this.injuredPerson = injuredPerson; }
+
+    @Override public String getMedicalReportNumber() { return medicalReportNumber; }
+    public void setMedicalReportNumber(String medicalReportNumber) { this.medicalReportNumber = medicalReportNumber; }
+}
@@ -0,0 +1,33 @@
+package com.kkmalysa.claimmodule.adapters.in.fnol;
+
+/**
+ * One parsed input record. Either the record or the parse failure is set.
+ * rowNumber is the line number where the record starts - what a person opening the file would look for.
+ */
+final class FnolRow {
+
+    private final long rowNumber;
+    private final String raw;
+    private final ImportedFnolRecord record;
+    private final RuntimeException parseFailure;
+
+    private FnolRow(long rowNumber, String raw, ImportedFnolRecord record, RuntimeException parseFailure) {
+        this.rowNumber = rowNumber;
+        this.raw = raw;
+        this.record = record;
+        this.parseFailure = parseFailure;
+    }
+
+    static FnolRow parsed(long rowNumber, String raw, ImportedFnolRecord record) {
+        return new FnolRow(rowNumber, raw, record, null);
+    }
+
+    static FnolRow unparseable(long rowNumber, String raw, RuntimeException failure) {
+        return new FnolRow(rowNumber, raw, null, failure);
+    }
+
+    long rowNumber() { return rowNumber; }
+    String raw() { return raw; }
+    ImportedFnolRecord record() { return record; }
+    RuntimeException parseFailure() { return parseFailure; }
+}
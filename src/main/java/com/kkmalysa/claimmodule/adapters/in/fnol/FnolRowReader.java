@@ -0,0 +1,80 @@
+package com.kkmalysa.claimmodule.adapters.in.fnol;
+
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns an import file into {@link FnolRow}s, one chunk at a time. Rows that don't parse are returned too
+ * (with their failure) - rejecting them is the importer's job, not the reader's.
+ */
+abstract class FnolRowReader implements Closeable {
+
+    final LineReader lines;
+    long nextLineNumber = 1;
+
+    FnolRowReader(LineReader lines) {
+        this.lines = lines;
+    }
+
+    /**
+     * @param offset byte offset of the first row to read - 0 for a fresh import, a checkpoint's offset when resuming
+     * @param lineNumber line number at that offset
+     */
+    static FnolRowReader open(Path file, FnolFileFormat format, ObjectMapper objectMapper, long offset, long lineNumber) throws IOException {
+        LineReader lines = new LineReader(file);
+        try {
+            FnolRowReader reader = switch (format) {
+                case CSV -> CsvFnolRowReader.open(lines);
+                case NDJSON -> new NdjsonFnolRowReader(lines, objectMapper);
+            };
+            if (offset > lines.position()) {
+                lines.seek(offset);
+                reader.nextLineNumber = lineNumber;
+            }
+            return reader;
+        } catch (IOException | RuntimeException e) {
+            lines.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the next row, or null at the end of the file
+     */
+    abstract FnolRow next() throws IOException;
+
+    /**
+     * @return up to maxRows rows; empty at the end of the file
+     */
+    List<FnolRow> nextChunk(int maxRows) throws IOException {
+        List<FnolRow> rows = new ArrayList<>(maxRows);
+        FnolRow row;
+        while (rows.size() < maxRows && (row = next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * @return byte offset right after the last returned row
+     */
+    long position() {
+        return lines.position();
+    }
+
+    String readLine() throws IOException {
+        String line = lines.readLine();
+        if (line != null) nextLineNumber++;
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lines.close();
+    }
+}
@@ -0,0 +1,121 @@
+package com.kkmalysa.claimmodule.adapters.in.fnol;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+
+/**
+ * How far an import got: every row before nextOffset is either saved or in the error file
+ * (which was errorFileBytes long at that moment). Stored as a small properties file, forced to disk and
+ * replaced atomically, so a crash leaves either the old or the new checkpoint - never half of one.
+ */
+final class ImportCheckpoint {
+
+    private final String input;
+    private final long nextOffset;
+    private final long nextLineNumber;
+    private final long imported;
+    private final long rejected;
+    private final long skipped;
+    private final long errorFileBytes;
+
+    ImportCheckpoint(String input, long nextOffset, long nextLineNumber, long imported, long rejected, long skipped, long errorFileBytes) {
+        this.input = input;
+        this.nextOffset = nextOffset;
+        this.nextLineNumber = nextLineNumber;
+        this.imported = imported;
+        this.rejected = rejected;
+        this.skipped = skipped;
+        this.errorFileBytes = errorFileBytes;
+    }
+
+    static ImportCheckpoint fresh(Path input) {
+        return new ImportCheckpoint(key(input), 0, 1, 0, 0, 0, 0);
+    }
+
+    /**
+     * @return the stored checkpoint, or a fresh one when the file does not exist
+     */
+    static ImportCheckpoint loadOrFresh(Path checkpointFile, Path input) throws IOException {
+        if (!Files.exists(checkpointFile)) return fresh(input);
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(checkpointFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        String storedInput = properties.getProperty("input");
+        if (!key(input).equals(storedInput)) {
+            throw new IllegalArgumentException("Checkpoint " + checkpointFile + " belongs to " + storedInput + ", not to " + key(input));
+        }
+        return new ImportCheckpoint(
+                storedInput,
+                Long.parseLong(properties.getProperty("nextOffset")),
+                Long.parseLong(properties.getProperty("nextLineNumber")),
+                Long.parseLong(properties.getProperty("imported")),
+                Long.parseLong(properties.getProperty("rejected")),
+                Long.parseLong(properties.getProperty("skipped", "0")), // not in checkpoints written before skipping existed
+                Long.parseLong(properties.getProperty("errorFileBytes"))
+        );
+    }
+
+    void store(Path checkpointFile) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("input", input);
+        properties.setProperty("nextOffset", Long.toString(nextOffset));
+        properties.setProperty("nextLineNumber", Long.toString(nextLineNumber));
+        properties.setProperty("imported", Long.toString(imported));
+        properties.setProperty("rejected", Long.toString(rejected));
+        properties.setProperty("skipped", Long.toString(skipped));
+        properties.setProperty("errorFileBytes", Long.toString(errorFileBytes));
+
+        Path tmp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8))) {
+            properties.store(writer, null);
+            writer.flush();
+            channel.force(true); // content on disk before the rename makes it the checkpoint
+        }
+        Files.move(tmp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory(checkpointFile.toAbsolutePath().getParent()); // and the rename itself
+    }
+
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // not every platform can open a directory (Windows) - the rename is still atomic there
+        }
+    }
+
+    ImportCheckpoint advance(long nextOffset, long nextLineNumber, long imported, long rejected, long skipped) {
+        return new ImportCheckpoint(input, nextOffset, nextLineNumber,
+                this.imported + imported, this.rejected + rejected, this.skipped + skipped, errorFileBytes);
+    }
+
+    ImportCheckpoint withErrorFileBytes(long errorFileBytes) {
+        return new ImportCheckpoint(input, nextOffset, nextLineNumber, imported, rejected, skipped, errorFileBytes);
+    }
+
+    boolean isFresh() { return nextOffset == 0; }
+
+    long nextOffset() { return nextOffset; }
+    long nextLineNumber() { return nextLineNumber; }
+    long imported() { return imported; }
+    long rejected() { return rejected; }
+    long skipped() { return skipped; }
+    long errorFileBytes() { return errorFileBytes; }
+
+    private static String key(Path input) {
+        return input.toAbsolutePath().normalize().toString();
+    }
+}
@@ -0,0 +1,44 @@
+package com.kkmalysa.claimmodule.adapters.in.fnol;
+
+import java.time.Duration;
+
+/**
+ * Summary of an import. Counts include rows done by earlier, interrupted runs of the same import.
+ */
+public final class ImportReport {
+
+    private final long imported;
+    private final long rejected;
+    private final long skipped;
+    private final long resumedAtLine;
+    private final Duration elapsed;
+
+    ImportReport(long imported, long rejected, long skipped, long resumedAtLine, Duration elapsed) {
+        this.imported = imported;
+        this.rejected = rejected;
+        this.skipped = skipped;
+        this.resumedAtLine = resumedAtLine;
+        this.elapsed = elapsed;
+    }
+
+    public long getImported() { return imported; }
+    public long getRejected() { return rejected; }
+
+    // valid rows whose claimId was already in the repository - left as they were
+    // (after a resume this includes rows saved by the interrupted run but not yet checkpointed)
+    public long getSkipped() { return skipped; }
+
+    public boolean isResumed() { return resumedAtLine > 0; }
+
+    // line this run started at; 0 for an import that started from the beginning
+    public long getResumedAtLine() { return resumedAtLine; }
+
+    // this run only
+    public Duration getElapsed() { return elapsed; }
+
+    @Override
+    public String toString() {
+        return "ImportReport{imported=" + imported + ", rejected=" + rejected + ", skipped=" + skipped
+                + (isResumed() ? ", resumedAtLine=" + resumedAtLine : "") + ", elapsed=" + elapsed + "}";
+    }
+}
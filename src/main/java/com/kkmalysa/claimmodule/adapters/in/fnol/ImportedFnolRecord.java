@@ -0,0 +1,36 @@
+package com.kkmalysa.claimmodule.adapters.in.fnol;
+
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+
+import java.time.Instant;
+
+/**
+ * One row of a bulk import. Historical claims come with their own id, creation time and status,
+ * so on top of a plain FNOL an import may set the builder's optional steps - all three stay optional.
+ *
+ * A row with a claimId is idempotent: importing it again is skipped once the claim exists.
+ */
+public class ImportedFnolRecord extends FnolRecord {
+
+    private String claimId;
+    private Instant createdAt;
+    private ClaimStatus status;
+
+    @Override
+    protected ClaimBuilder.OptionalStep withOptionalSteps(ClaimBuilder.OptionalStep claim) {
+        if (!isBlank(claimId)) claim.claimId(claimId);
+        if (createdAt != null) claim.createdAt(createdAt);
+        if (status != null) claim.status(status);
+        return claim;
+    }
+
+    public String getClaimId() { return claimId; }
+    public void setClaimId(String claimId) { this.claimId = claimId; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public ClaimStatus getStatus() { return status; }
+    public void setStatus(ClaimStatus status) { this.status = status; }
+}
@@ -0,0 +1,92 @@
+package com.kkmalysa.claimmodule.adapters.in.fnol;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads UTF-8 lines and knows the byte offset of the next one - that offset is what a checkpoint stores,
+ * so a resumed import seeks straight to it instead of re-reading millions of lines.
+ * (BufferedReader buffers chars and can't tell where in the file it is.)
+ *
+ * Accepts \n and \r\n line ends. Not thread-safe - the importer reads on one thread.
+ */
+final class LineReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).flip(); // starts empty
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private long position;
+
+    LineReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+    }
+
+    void seek(long offset) throws IOException {
+        if (offset > channel.size()) throw new IllegalStateException("Offset " + offset + " is past the end of the file - was it replaced?");
+        channel.position(offset);
+        buffer.clear().flip();
+        position = offset;
+    }
+
+    /**
+     * @return byte offset of the next line
+     */
+    long position() {
+        return position;
+    }
+
+    /**
+     * @return the next line without its line end, or null at the end of the file
+     */
+    String readLine() throws IOException {
+        lineLength = 0;
+        boolean readAnything = false;
+        while (true) {
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                int read = channel.read(buffer);
+                buffer.flip();
+                if (read <= 0) return readAnything ? decode() : null;
+            }
+            readAnything = true;
+
+            // copy up to the line end in one go
+            byte[] array = buffer.array();
+            int from = buffer.position();
+            int end = from;
+            while (end < buffer.limit() && array[end] != '\n') end++;
+            append(array, from, end - from);
+
+            boolean lineEnded = end < buffer.limit();
+            int consumed = end - from + (lineEnded ? 1 : 0);
+            buffer.position(from + consumed);
+            position += consumed;
+            if (lineEnded) return decode();
+        }
+    }
+
+    private void append(byte[] source, int from, int length) {
+        if (lineLength + length > line.length) line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        System.arraycopy(source, from, line, lineLength, length);
+        lineLength += length;
+    }
+
+    private String decode() {
+        int length = (lineLength > 0 && line[lineLength - 1] == '\r') ? lineLength - 1 : lineLength;
+        return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,38 @@
+package com.kkmalysa.claimmodule.adapters.in.fnol;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.Objects;
+
+final class NdjsonFnolRowReader extends FnolRowReader {
+
+    private final ObjectMapper objectMapper;
+
+    NdjsonFnolRowReader(LineReader lines, ObjectMapper objectMapper) {
+        super(lines);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    @Override
+    FnolRow next() throws IOException {
+        String line;
+        long rowNumber;
+        do {
+            rowNumber = nextLineNumber;
+            line = readLine();
+            if (line == null) return null;
+        } while (line.isBlank());
+
+        try {
+            ImportedFnolRecord record = objectMapper.readValue(line, ImportedFnolRecord.class);
+            if (record == null) { // the line "null" is valid JSON, but no record
+                return FnolRow.unparseable(rowNumber, line, new IllegalArgumentException("Line is not a JSON object"));
+            }
+            return FnolRow.parsed(rowNumber, line, record);
+        } catch (JacksonException e) {
+            return FnolRow.unparseable(rowNumber, line, e);
+        }
+    }
+}
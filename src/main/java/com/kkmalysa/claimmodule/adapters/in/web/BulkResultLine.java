@@ -0,0 +1,57 @@
+package com.kkmalysa.claimmodule.adapters.in.web;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kkmalysa.claimmodule.application.submission.SubmissionOutcome;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+
+/**
+ * One line of the NDJSON bulk response. {@code line} is the 1-based line number of the request it answers,
+ * so a client can match results without keeping its own bookkeeping.
+ * Either the submission fields or error/message are set, never both.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class BulkResultLine {
+
+    private final long line;
+    private final String claimId;
+    private final String submissionId;
+    private final ClaimStatus claimStatus;
+    private final Long claimVersion;
+    private final String error;
+    private final String message;
+
+    private BulkResultLine(long line, String claimId, String submissionId, ClaimStatus claimStatus, Long claimVersion,
+                           String error, String message) {
+        this.line = line;
+        this.claimId = claimId;
+        this.submissionId = submissionId;
+        this.claimStatus = claimStatus;
+        this.claimVersion = claimVersion;
+        this.error = error;
+        this.message = message;
+    }
+
+    static BulkResultLine of(long line, SubmissionOutcome outcome) {
+        String claimId = outcome.getRequest().getClaimId();
+        if (!outcome.isSuccess()) return failure(line, claimId, outcome.getFailure());
+        return new BulkResultLine(
+                line, claimId,
+                outcome.getResult().getSubmission().getSubmissionId(),
+                outcome.getResult().getUpdatedClaim().getStatus(),
+                outcome.getResult().getUpdatedClaim().getVersion(),
+                null, null
+        );
+    }
+
+    static BulkResultLine failure(long line, String claimId, RuntimeException failure) {
+        return new BulkResultLine(line, claimId, null, null, null, failure.getClass().getSimpleName(), failure.getMessage());
+    }
+
+    public long getLine() { return line; }
+    public String getClaimId() { return claimId; }
+    public String getSubmissionId() { return submissionId; }
+    public ClaimStatus getClaimStatus() { return claimStatus; }
+    public Long getClaimVersion() { return claimVersion; }
+    public String getError() { return error; }
+    public String getMessage() { return message; }
+}
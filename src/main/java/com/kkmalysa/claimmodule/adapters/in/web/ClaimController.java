@@ -0,0 +1,81 @@
+package com.kkmalysa.claimmodule.adapters.in.web;
+
+import com.kkmalysa.claimmodule.adapters.in.fnol.FnolRecord;
+import com.kkmalysa.claimmodule.application.submission.SubmissionRequest;
+import com.kkmalysa.claimmodule.application.submission.SubmissionResult;
+import com.kkmalysa.claimmodule.application.submission.SubmitClaimUseCase;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.ports.out.ClaimRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+/**
+ * HTTP entry point: FNOL creation and claim submission.
+ *
+ * Handlers are plain blocking code - requests run on virtual threads (spring.threads.virtual.enabled),
+ * so a request waiting on a port parks cheaply instead of holding one of a small pool of platform threads.
+ */
+@RestController
+@RequestMapping("/claims")
+public class ClaimController {
+
+    private final ClaimRepository claimRepository;
+    private final SubmitClaimUseCase submitClaimUseCase;
+    private final NdjsonBulkSubmission bulkSubmission;
+
+    public ClaimController(ClaimRepository claimRepository, SubmitClaimUseCase submitClaimUseCase, ObjectMapper objectMapper) {
+        this.claimRepository = claimRepository;
+        this.submitClaimUseCase = submitClaimUseCase;
+        this.bulkSubmission = new NdjsonBulkSubmission(submitClaimUseCase, objectMapper);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public ClaimResponse report(@RequestBody FnolRecord request) {
+        Claim claim = request.toClaim();
+        claimRepository.save(claim);
+        return ClaimResponse.of(claim);
+    }
+
+    @GetMapping("/{claimId}")
+    public ClaimResponse get(@PathVariable String claimId) {
+        return claimRepository.getById(claimId)
+                .map(ClaimResponse::of)
+                .orElseThrow(() -> new ClaimNotFoundException(claimId));
+    }
+
+    @PostMapping("/{claimId}/submissions")
+    public SubmissionResponse submit(
+            @PathVariable String claimId,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody SubmitRequest request
+    ) {
+        request.setClaimId(claimId);
+        SubmissionRequest submission = request.toSubmissionRequest();
+        SubmissionResult result = (idempotencyKey != null)
+                ? submitClaimUseCase.submit(idempotencyKey, claimId, submission.getChannel(), submission.getActor(), submission.isTermsAccepted())
+                : submitClaimUseCase.submit(claimId, submission.getChannel(), submission.getActor(), submission.isTermsAccepted());
+        return SubmissionResponse.of(result);
+    }
+
+    // raw servlet streams on purpose - a message converter would read the whole body first
+    @PostMapping(path = "/submissions/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void submitBulk(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        bulkSubmission.stream(request.getInputStream(), response.getOutputStream());
+    }
+}
@@ -0,0 +1,12 @@
+package com.kkmalysa.claimmodule.adapters.in.web;
+
+/**
+ * GET of an unknown claim. The use case reports a missing claim as IllegalArgumentException
+ * (bad input for a command), a read of a missing resource is a 404 instead.
+ */
+final class ClaimNotFoundException extends RuntimeException {
+
+    ClaimNotFoundException(String claimId) {
+        super("Claim not found: " + claimId);
+    }
+}
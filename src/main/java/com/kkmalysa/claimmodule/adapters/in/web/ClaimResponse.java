@@ -0,0 +1,41 @@
+package com.kkmalysa.claimmodule.adapters.in.web;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.incident.IncidentType;
+
+import java.time.Instant;
+
+/**
+ * What the API tells about a claim. Only the fields a client needs to continue (id, status, version) -
+ * not the whole aggregate.
+ */
+public final class ClaimResponse {
+
+    private final String claimId;
+    private final String policyId;
+    private final IncidentType incidentType;
+    private final ClaimStatus status;
+    private final long version;
+    private final Instant createdAt;
+
+    private ClaimResponse(Claim claim) {
+        this.claimId = claim.getClaimId();
+        this.policyId = claim.getPolicyId();
+        this.incidentType = claim.getIncident().getIncidentType();
+        this.status = claim.getStatus();
+        this.version = claim.getVersion();
+        this.createdAt = claim.getCreatedAt();
+    }
+
+    static ClaimResponse of(Claim claim) {
+        return new ClaimResponse(claim);
+    }
+
+    public String getClaimId() { return claimId; }
+    public String getPolicyId() { return policyId; }
+    public IncidentType getIncidentType() { return incidentType; }
+    public ClaimStatus getStatus() { return status; }
+    public long getVersion() { return version; }
+    public Instant getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,126 @@
+package com.kkmalysa.claimmodule.adapters.in.web;
+
+import com.kkmalysa.claimmodule.application.submission.SubmissionOutcome;
+import com.kkmalysa.claimmodule.application.submission.SubmissionRequest;
+import com.kkmalysa.claimmodule.application.submission.SubmitClaimUseCase;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Streams NDJSON submission requests in and NDJSON results out. The body is never held in memory as a whole:
+ * lines are read into a chunk of at most chunkSize requests, the chunk goes through
+ * {@link SubmitClaimUseCase#submitAll} (one batch call per port), its results are written and flushed,
+ * and only then the next lines are read.
+ *
+ * A chunk is also closed early when no more input is buffered yet - a client that sends slowly
+ * gets its results as it goes instead of waiting for a full chunk.
+ *
+ * Results come out in input order, one per non-blank line. A line that is not valid JSON or misses a field
+ * gets an error line and does not stop the stream.
+ */
+final class NdjsonBulkSubmission {
+
+    static final int DEFAULT_CHUNK_SIZE = 100;
+
+    private static final byte NEW_LINE = '\n';
+
+    private final SubmitClaimUseCase useCase;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    NdjsonBulkSubmission(SubmitClaimUseCase useCase, ObjectMapper objectMapper) {
+        this(useCase, objectMapper, DEFAULT_CHUNK_SIZE);
+    }
+
+    NdjsonBulkSubmission(SubmitClaimUseCase useCase, ObjectMapper objectMapper, int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be positive");
+        this.useCase = Objects.requireNonNull(useCase);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return number of result lines written
+     */
+    long stream(InputStream in, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<PendingLine> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        long written = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) continue;
+            chunk.add(parse(lineNumber, line));
+
+            if (chunk.size() >= chunkSize || !reader.ready()) {
+                written += process(chunk, out);
+                chunk.clear();
+            }
+        }
+        written += process(chunk, out);
+        return written;
+    }
+
+    private PendingLine parse(long lineNumber, String line) {
+        try {
+            SubmitRequest request = objectMapper.readValue(line, SubmitRequest.class);
+            if (request == null) return PendingLine.invalid(lineNumber, new IllegalArgumentException("Line is not a JSON object"));
+            return PendingLine.parsed(lineNumber, request.toSubmissionRequest());
+        } catch (JacksonException | IllegalArgumentException e) {
+            return PendingLine.invalid(lineNumber, e);
+        }
+    }
+
+    private int process(List<PendingLine> chunk, OutputStream out) throws IOException {
+        if (chunk.isEmpty()) return 0;
+
+        List<SubmissionRequest> requests = new ArrayList<>(chunk.size());
+        for (PendingLine pending : chunk) {
+            if (pending.request != null) requests.add(pending.request);
+        }
+        List<SubmissionOutcome> outcomes = requests.isEmpty() ? List.of() : useCase.submitAll(requests);
+
+        int next = 0; // outcomes are in request order, invalid lines have none
+        for (PendingLine pending : chunk) {
+            BulkResultLine result = (pending.request != null)
+                    ? BulkResultLine.of(pending.lineNumber, outcomes.get(next++))
+                    : BulkResultLine.failure(pending.lineNumber, null, pending.invalid);
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write(NEW_LINE);
+        }
+        out.flush();
+        return chunk.size();
+    }
+
+    private static final class PendingLine {
+        private final long lineNumber;
+        private final SubmissionRequest request;
+        private final RuntimeException invalid;
+
+        private PendingLine(long lineNumber, SubmissionRequest request, RuntimeException invalid) {
+            this.lineNumber = lineNumber;
+            this.request = request;
+            this.invalid = invalid;
+        }
+
+        static PendingLine parsed(long lineNumber, SubmissionRequest request) {
+            return new PendingLine(lineNumber, request, null);
+        }
+
+        static PendingLine invalid(long lineNumber, RuntimeException invalid) {
+            return new PendingLine(lineNumber, null, invalid);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.kkmalysa.claimmodule.adapters.in.web;
+
+import com.kkmalysa.claimmodule.application.submission.ClaimSubmission;
+import com.kkmalysa.claimmodule.application.submission.SubmissionResult;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Result of a successful submission - the sent submission plus the claim state after it.
+ */
+public final class SubmissionResponse {
+
+    private final String submissionId;
+    private final String claimId;
+    private final String policyNumber;
+    private final Instant submittedAt;
+    private final List<String> attachmentIds;
+    private final ClaimStatus claimStatus;
+    private final long claimVersion;
+
+    private SubmissionResponse(SubmissionResult result) {
+        ClaimSubmission submission = result.getSubmission();
+        this.submissionId = submission.getSubmissionId();
+        this.claimId = submission.getClaimId();
+        this.policyNumber = submission.getPolicyNumber();
+        this.submittedAt = submission.getSubmittedAt();
+        this.attachmentIds = submission.getAttachmentIds();
+        this.claimStatus = result.getUpdatedClaim().getStatus();
+        this.claimVersion = result.getUpdatedClaim().getVersion();
+    }
+
+    static SubmissionResponse of(SubmissionResult result) {
+        return new SubmissionResponse(result);
+    }
+
+    public String getSubmissionId() { return submissionId; }
+    public String getClaimId() { return claimId; }
+    public String getPolicyNumber() { return policyNumber; }
+    public Instant getSubmittedAt() { return submittedAt; }
+    public List<String> getAttachmentIds() { return attachmentIds; }
+    public ClaimStatus getClaimStatus() { return claimStatus; }
+    public long getClaimVersion() { return claimVersion; }
+}
@@ -0,0 +1,35 @@
+package com.kkmalysa.claimmodule.adapters.in.web;
+
+import com.kkmalysa.claimmodule.application.submission.SubmissionChannel;
+import com.kkmalysa.claimmodule.application.submission.SubmissionRequest;
+
+/**
+ * JSON body of POST /claims/{claimId}/submissions, and one line of the NDJSON bulk body.
+ * claimId is only read in bulk - for a single submission it comes from the path.
+ */
+public class SubmitRequest {
+
+    private String claimId;
+    private SubmissionChannel channel;
+    private String actor;
+    private boolean termsAccepted;
+
+    SubmissionRequest toSubmissionRequest() {
+        if (claimId == null) throw new IllegalArgumentException("claimId is required");
+        if (channel == null) throw new IllegalArgumentException("channel is required");
+        if (actor == null) throw new IllegalArgumentException("actor is required");
+        return new SubmissionRequest(claimId, channel, actor, termsAccepted);
+    }
+
+    public String getClaimId() { return claimId; }
+    public void setClaimId(String claimId) { this.claimId = claimId; }
+
+    public SubmissionChannel getChannel() { return channel; }
+    public void setChannel(SubmissionChannel channel) { this.channel = channel; }
+
+    public String getActor() { return actor; }
+    public void setActor(String actor) { this.actor = actor; }
+
+    public boolean isTermsAccepted() { return termsAccepted; }
+    public void setTermsAccepted(boolean termsAccepted) { this.termsAccepted = termsAccepted; }
+}
@@ -0,0 +1,43 @@
+package com.kkmalysa.claimmodule.adapters.in.web;
+
+import com.kkmalysa.claimmodule.application.submission.ClaimVersionConflictException;
+import com.kkmalysa.claimmodule.ports.out.SubmissionRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps the exceptions the domain and the use case already throw onto problem+json responses.
+ * The same conventions hold as everywhere else in the module: IllegalArgumentException = bad input,
+ * IllegalStateException = a rule of the claim/submission is not met.
+ */
+@RestControllerAdvice(assignableTypes = ClaimController.class)
+class WebExceptionHandler {
+
+    @ExceptionHandler(ClaimNotFoundException.class)
+    ProblemDetail notFound(ClaimNotFoundException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(ClaimVersionConflictException.class)
+    ProblemDetail conflict(ClaimVersionConflictException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    // the gateway is overloaded - nothing was sent, the claim was released, the client can retry
+    @ExceptionHandler(SubmissionRejectedException.class)
+    ProblemDetail unavailable(SubmissionRejectedException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    ProblemDetail badRequest(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    ProblemDetail unprocessable(IllegalStateException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.UNPROCESSABLE_CONTENT, e.getMessage());
+    }
+}
@@ -0,0 +1,90 @@
+package com.kkmalysa.claimmodule.adapters.out.async;
+
+import com.kkmalysa.claimmodule.application.submission.ClaimSubmission;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.ports.out.AsyncAttachmentProvider;
+import com.kkmalysa.claimmodule.ports.out.AsyncClaimRepository;
+import com.kkmalysa.claimmodule.ports.out.AsyncPolicyProvider;
+import com.kkmalysa.claimmodule.ports.out.AsyncSubmissionGateway;
+import com.kkmalysa.claimmodule.ports.out.AttachmentProvider;
+import com.kkmalysa.claimmodule.ports.out.ClaimRepository;
+import com.kkmalysa.claimmodule.ports.out.PolicyProvider;
+import com.kkmalysa.claimmodule.ports.out.SubmissionGateway;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Async ports on top of the existing blocking adapters: every call runs on the given executor and
+ * completes its future from there.
+ *
+ * Default executor = one virtual thread per call. A blocked virtual thread only costs its (small)
+ * stack, so tens of thousands of in-flight calls to a slow blocking adapter don't need a pool sized for them.
+ * A client that is non-blocking by itself (async HTTP...) should implement the async port directly instead.
+ */
+public final class BlockingPortAdapters {
+
+    private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("blocking-port-", 0).factory();
+    private static final Executor VIRTUAL_THREAD_PER_CALL = task -> VIRTUAL_THREADS.newThread(task).start();
+
+    private BlockingPortAdapters() {}
+
+    public static Executor virtualThreadPerCall() {
+        return VIRTUAL_THREAD_PER_CALL;
+    }
+
+    public static AsyncClaimRepository claimRepository(ClaimRepository repository) {
+        return claimRepository(repository, VIRTUAL_THREAD_PER_CALL);
+    }
+
+    public static AsyncClaimRepository claimRepository(ClaimRepository repository, Executor executor) {
+        Objects.requireNonNull(repository);
+        Objects.requireNonNull(executor);
+        return new AsyncClaimRepository() {
+            @Override
+            public CompletableFuture<Optional<Claim>> getById(String claimId) {
+                return CompletableFuture.supplyAsync(() -> repository.getById(claimId), executor);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> compareAndSave(long expectedVersion, Claim claim, List<DomainEvent> events) {
+                return CompletableFuture.supplyAsync(() -> repository.compareAndSave(expectedVersion, claim, events), executor);
+            }
+        };
+    }
+
+    public static AsyncPolicyProvider policyProvider(PolicyProvider provider) {
+        return policyProvider(provider, VIRTUAL_THREAD_PER_CALL);
+    }
+
+    public static AsyncPolicyProvider policyProvider(PolicyProvider provider, Executor executor) {
+        Objects.requireNonNull(provider);
+        Objects.requireNonNull(executor);
+        return policyId -> CompletableFuture.supplyAsync(() -> provider.getPolicyNumber(policyId), executor);
+    }
+
+    public static AsyncAttachmentProvider attachmentProvider(AttachmentProvider provider) {
+        return attachmentProvider(provider, VIRTUAL_THREAD_PER_CALL);
+    }
+
+    public static AsyncAttachmentProvider attachmentProvider(AttachmentProvider provider, Executor executor) {
+        Objects.requireNonNull(provider);
+        Objects.requireNonNull(executor);
+        return claimId -> CompletableFuture.supplyAsync(() -> provider.findAttachmentIdsForClaim(claimId), executor);
+    }
+
+    public static AsyncSubmissionGateway submissionGateway(SubmissionGateway gateway) {
+        return submissionGateway(gateway, VIRTUAL_THREAD_PER_CALL);
+    }
+
+    public static AsyncSubmissionGateway submissionGateway(SubmissionGateway gateway, Executor executor) {
+        Objects.requireNonNull(gateway);
+        Objects.requireNonNull(executor);
+        return (ClaimSubmission submission) -> CompletableFuture.runAsync(() -> gateway.send(submission), executor);
+    }
+}
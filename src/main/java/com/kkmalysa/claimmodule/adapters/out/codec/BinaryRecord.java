@@ -0,0 +1,184 @@
+package com.kkmalysa.claimmodule.adapters.out.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One record, read lazily: creating it only walks the tags (skipping over the values) to find
+ * where each field starts and where the record ends. A value is decoded when it is asked for,
+ * so a reader that only needs e.g. the status never builds the strings.
+ *
+ * Fields this schema version does not know are skipped - newer writers stay readable.
+ */
+final class BinaryRecord {
+
+    private final ByteBuffer buffer;
+    private final int recordType;
+    private final int fieldsStart;
+    private final int end; // position right after the END byte
+
+    private final int[] valueOffsets = new int[WireFormat.MAX_FIELD + 1]; // first occurrence of each field, -1 = absent
+    private final byte[] wireTypes = new byte[WireFormat.MAX_FIELD + 1];
+
+    private int cursor; // read position for the varint helpers
+
+    /**
+     * Reads the record at buffer.position() and moves the position past it.
+     */
+    static BinaryRecord read(ByteBuffer buffer, int expectedType) {
+        BinaryRecord record = new BinaryRecord(buffer, buffer.position());
+        if (record.recordType != expectedType) {
+            throw new IllegalStateException("Expected record type " + expectedType + " but was " + record.recordType);
+        }
+        buffer.position(record.end);
+        return record;
+    }
+
+    private BinaryRecord(ByteBuffer buffer, int start) {
+        this.buffer = buffer;
+        Arrays.fill(valueOffsets, -1);
+
+        int schemaVersion = buffer.get(start);
+        if (schemaVersion < 1 || schemaVersion > WireFormat.SCHEMA_VERSION) {
+            throw new IllegalStateException("Unsupported schema version: " + schemaVersion);
+        }
+        this.recordType = buffer.get(start + 1);
+        this.fieldsStart = start + 2;
+
+        cursor = fieldsStart;
+        while (true) {
+            long tag = readVarLong();
+            if (tag == WireFormat.END) break;
+
+            int field = (int) (tag >>> 2);
+            int wireType = (int) (tag & 0x3);
+            if (field <= WireFormat.MAX_FIELD && valueOffsets[field] == -1) {
+                valueOffsets[field] = cursor;
+                wireTypes[field] = (byte) wireType;
+            }
+            skipValue(wireType);
+        }
+        this.end = cursor;
+    }
+
+    int recordType() { return recordType; }
+
+    boolean has(int field) {
+        return valueOffsets[field] != -1;
+    }
+
+    long varLong(int field, long defaultValue) {
+        if (!at(field, WireFormat.VARINT)) return defaultValue;
+        return readVarLong();
+    }
+
+    boolean bool(int field) {
+        return varLong(field, 0) != 0;
+    }
+
+    <E extends Enum<E>> E enumValue(int field, EnumDictionary<E> dictionary) {
+        if (!at(field, WireFormat.VARINT)) return null;
+        return dictionary.value(readVarLong());
+    }
+
+    String string(int field) {
+        if (!at(field, WireFormat.BYTES)) return null;
+        return readString();
+    }
+
+    String id(int field) {
+        if (!has(field)) return null;
+        cursor = valueOffsets[field];
+        return readId(wireTypes[field]);
+    }
+
+    Instant instant(int field) {
+        if (!at(field, WireFormat.BYTES)) return null;
+        readVarLong(); // length
+        long seconds = WireFormat.unzigzag(readVarLong());
+        long nanos = readVarLong();
+        return Instant.ofEpochSecond(seconds, nanos);
+    }
+
+    // repeated field: every occurrence, in write order
+    List<String> ids(int field) {
+        List<String> values = new ArrayList<>();
+        cursor = fieldsStart;
+        while (true) {
+            long tag = readVarLong();
+            if (tag == WireFormat.END) return values;
+            int wireType = (int) (tag & 0x3);
+            if ((tag >>> 2) == field) values.add(readId(wireType));
+            else skipValue(wireType);
+        }
+    }
+
+    // --- reading ---
+
+    private boolean at(int field, int wireType) {
+        if (!has(field)) return false;
+        if (wireTypes[field] != wireType) {
+            throw new IllegalStateException("Field " + field + " has wire type " + wireTypes[field] + ", expected " + wireType);
+        }
+        cursor = valueOffsets[field];
+        return true;
+    }
+
+    private String readId(int wireType) {
+        if (wireType == WireFormat.FIXED128) {
+            String id = WireFormat.formatUuid(buffer.getLong(cursor), buffer.getLong(cursor + 8));
+            cursor += 16;
+            return id;
+        }
+        if (wireType == WireFormat.BYTES) return readString();
+        throw new IllegalStateException("Wire type " + wireType + " is not an id");
+    }
+
+    private String readString() {
+        int length = readLength();
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + cursor, length, StandardCharsets.UTF_8);
+        } else {
+            byte[] utf8 = new byte[length];
+            buffer.get(cursor, utf8);
+            value = new String(utf8, StandardCharsets.UTF_8);
+        }
+        cursor += length;
+        return value;
+    }
+
+    private void skipValue(int wireType) {
+        switch (wireType) {
+            case WireFormat.VARINT -> readVarLong();
+            case WireFormat.FIXED128 -> cursor += 16;
+            case WireFormat.BYTES -> {
+                int length = readLength(); // moves the cursor past the length itself
+                cursor += length;
+            }
+            default -> throw new IllegalStateException("Unknown wire type: " + wireType);
+        }
+        if (cursor > buffer.limit()) throw new IllegalStateException("Truncated record");
+    }
+
+    private int readLength() {
+        long length = readVarLong();
+        if (length < 0 || cursor + length > buffer.limit()) throw new IllegalStateException("Truncated record");
+        return (int) length;
+    }
+
+    private long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (cursor >= buffer.limit()) throw new IllegalStateException("Truncated record");
+            byte b = buffer.get(cursor++);
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return result;
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+}
@@ -0,0 +1,33 @@
+package com.kkmalysa.claimmodule.adapters.out.codec;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.incident.IncidentType;
+
+import java.time.Instant;
+
+import static com.kkmalysa.claimmodule.adapters.out.codec.DomainBinaryCodec.*;
+
+/**
+ * An encoded claim that decodes single fields on demand - filtering by status or policy
+ * doesn't pay for the whole object. Valid only while the underlying buffer is not reused.
+ */
+public final class ClaimView {
+
+    private final BinaryRecord record;
+
+    ClaimView(BinaryRecord record) {
+        this.record = record;
+    }
+
+    public String claimId() { return record.id(CLAIM_ID); }
+    public String policyId() { return record.id(CLAIM_POLICY_ID); }
+    public ClaimStatus status() { return record.enumValue(CLAIM_STATUS, STATUSES); }
+    public Instant createdAt() { return record.instant(CLAIM_CREATED_AT); }
+    public long version() { return record.varLong(CLAIM_VERSION, 0); }
+    public IncidentType incidentType() { return record.enumValue(INCIDENT_TYPE, INCIDENT_TYPES); }
+
+    public Claim toClaim() {
+        return DomainBinaryCodec.toClaim(record);
+    }
+}
@@ -0,0 +1,263 @@
+package com.kkmalysa.claimmodule.adapters.out.codec;
+
+import com.kkmalysa.claimmodule.application.submission.ClaimSubmission;
+import com.kkmalysa.claimmodule.application.submission.ClaimSubmissionBuilder;
+import com.kkmalysa.claimmodule.application.submission.SubmissionChannel;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.events.ClaimSubmittedEvent;
+import com.kkmalysa.claimmodule.domain.incident.AutoDetails;
+import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.domain.incident.IncidentType;
+import com.kkmalysa.claimmodule.domain.incident.InjuryDetails;
+import com.kkmalysa.claimmodule.domain.incident.PropertyDetails;
+import com.kkmalysa.claimmodule.domain.incident.TheftDetails;
+
+import java.nio.ByteBuffer;
+
+import static com.kkmalysa.claimmodule.adapters.out.codec.WireFormat.*;
+
+/**
+ * Compact binary encoding of the domain objects for storage and messaging adapters
+ * (format described in {@link WireFormat}).
+ *
+ * encode() writes at the buffer's position and advances it; a too small buffer fails with
+ * BufferOverflowException. decode() reads the record at the position and advances past it,
+ * so records can simply be written one after another.
+ *
+ * Field numbers are part of the format: never reuse or renumber one, only add new ones.
+ * Decoding Claim and Incident goes through the builders - a record can't bring back an object
+ * the domain would not allow.
+ */
+public final class DomainBinaryCodec {
+
+    static final int TYPE_CLAIM = 1;
+    static final int TYPE_INCIDENT = 2;
+    static final int TYPE_SUBMISSION = 3;
+    static final int TYPE_CLAIM_SUBMITTED = 4;
+
+    static final EnumDictionary<ClaimStatus> STATUSES = new EnumDictionary<>(ClaimStatus.class,
+            ClaimStatus.DRAFT, ClaimStatus.SUBMITTED, ClaimStatus.IN_REVIEW, ClaimStatus.APPROVED,
+            ClaimStatus.REJECTED, ClaimStatus.REOPENED, ClaimStatus.RESUBMITTED, ClaimStatus.SUBMITTING);
+    static final EnumDictionary<IncidentType> INCIDENT_TYPES = new EnumDictionary<>(IncidentType.class,
+            IncidentType.AUTO, IncidentType.THEFT, IncidentType.PROPERTY, IncidentType.INJURY);
+    static final EnumDictionary<SubmissionChannel> CHANNELS = new EnumDictionary<>(SubmissionChannel.class,
+            SubmissionChannel.MANUAL, SubmissionChannel.AUTO);
+
+    // Claim (incident fields are inlined from 16 on)
+    static final int CLAIM_ID = 1;
+    static final int CLAIM_POLICY_ID = 2;
+    static final int CLAIM_STATUS = 3;
+    static final int CLAIM_CREATED_AT = 4;
+    static final int CLAIM_CREATED_BY = 5;
+    static final int CLAIM_CHANNEL = 6;
+    static final int CLAIM_VERSION = 7;
+
+    // Incident
+    static final int INCIDENT_TYPE = 16;
+    static final int INCIDENT_OCCURRED_AT = 17;
+    static final int INCIDENT_LOCATION = 18;
+    static final int INCIDENT_DESCRIPTION = 19;
+    static final int INCIDENT_VIN = 20;
+    static final int INCIDENT_LICENSE_PLATE = 21;
+    static final int INCIDENT_STOLEN_ITEM = 22;
+    static final int INCIDENT_POLICE_REPORT = 23;
+    static final int INCIDENT_PROPERTY_ADDRESS = 24;
+    static final int INCIDENT_INJURED_PERSON = 25;
+    static final int INCIDENT_MEDICAL_REPORT = 26;
+
+    // ClaimSubmission
+    static final int SUBMISSION_ID = 1;
+    static final int SUBMISSION_SUBMITTED_AT = 2;
+    static final int SUBMISSION_CHANNEL = 3;
+    static final int SUBMISSION_SUBMITTED_BY = 4;
+    static final int SUBMISSION_CLAIM_ID = 5;
+    static final int SUBMISSION_POLICY_ID = 6;
+    static final int SUBMISSION_POLICY_NUMBER = 7;
+    static final int SUBMISSION_INCIDENT_TYPE = 8;
+    static final int SUBMISSION_OCCURRED_AT = 9;
+    static final int SUBMISSION_LOCATION = 10;
+    static final int SUBMISSION_ATTACHMENT_ID = 11; // repeated
+    static final int SUBMISSION_TERMS_ACCEPTED = 12;
+
+    // ClaimSubmittedEvent
+    static final int EVENT_CLAIM_ID = 1;
+    static final int EVENT_SUBMISSION_ID = 2;
+    static final int EVENT_CHANNEL = 3;
+    static final int EVENT_ACTOR = 4;
+    static final int EVENT_OCCURRED_AT = 5;
+
+    private DomainBinaryCodec() {}
+
+    // --- Claim ---
+
+    public static void encode(Claim claim, ByteBuffer out) {
+        writeHeader(out, TYPE_CLAIM);
+        writeId(out, CLAIM_ID, claim.getClaimId());
+        writeId(out, CLAIM_POLICY_ID, claim.getPolicyId());
+        writeVarField(out, CLAIM_STATUS, STATUSES.code(claim.getStatus()));
+        writeInstant(out, CLAIM_CREATED_AT, claim.getCreatedAt());
+        writeString(out, CLAIM_CREATED_BY, claim.getCreatedBy());
+        writeVarField(out, CLAIM_CHANNEL, CHANNELS.code(SubmissionChannel.valueOf(claim.getChannel())));
+        if (claim.getVersion() != 0) writeVarField(out, CLAIM_VERSION, claim.getVersion());
+        writeIncidentFields(out, claim.getIncident());
+        writeEnd(out);
+    }
+
+    public static Claim decodeClaim(ByteBuffer in) {
+        return toClaim(BinaryRecord.read(in, TYPE_CLAIM));
+    }
+
+    /**
+     * Lazy variant of {@link #decodeClaim}: fields are decoded only when asked for.
+     */
+    public static ClaimView claimView(ByteBuffer in) {
+        return new ClaimView(BinaryRecord.read(in, TYPE_CLAIM));
+    }
+
+    static Claim toClaim(BinaryRecord record) {
+        return ClaimBuilder.fnol()
+                .policyId(record.id(CLAIM_POLICY_ID))
+                .incident(toIncident(record))
+                .createdBy(record.string(CLAIM_CREATED_BY))
+                .channel(record.enumValue(CLAIM_CHANNEL, CHANNELS).name())
+                .claimId(record.id(CLAIM_ID))
+                .createdAt(record.instant(CLAIM_CREATED_AT))
+                .status(record.enumValue(CLAIM_STATUS, STATUSES))
+                .version(record.varLong(CLAIM_VERSION, 0))
+                .build();
+    }
+
+    // --- Incident ---
+
+    public static void encode(Incident incident, ByteBuffer out) {
+        writeHeader(out, TYPE_INCIDENT);
+        writeIncidentFields(out, incident);
+        writeEnd(out);
+    }
+
+    public static Incident decodeIncident(ByteBuffer in) {
+        return toIncident(BinaryRecord.read(in, TYPE_INCIDENT));
+    }
+
+    private static void writeIncidentFields(ByteBuffer out, Incident incident) {
+        writeVarField(out, INCIDENT_TYPE, INCIDENT_TYPES.code(incident.getIncidentType()));
+        writeInstant(out, INCIDENT_OCCURRED_AT, incident.getOccurredAt());
+        writeString(out, INCIDENT_LOCATION, incident.getLocation());
+        writeNullableString(out, INCIDENT_DESCRIPTION, incident.getDescription());
+        switch (incident) {
+            case AutoDetails auto -> {
+                writeString(out, INCIDENT_VIN, auto.getVin());
+                writeString(out, INCIDENT_LICENSE_PLATE, auto.getLicensePlate());
+            }
+            case TheftDetails theft -> {
+                writeString(out, INCIDENT_STOLEN_ITEM, theft.getStolenItem());
+                writeNullableString(out, INCIDENT_POLICE_REPORT, theft.getPoliceReportNumber());
+            }
+            case PropertyDetails property -> writeString(out, INCIDENT_PROPERTY_ADDRESS, property.getPropertyAddress());
+            case InjuryDetails injury -> {
+                writeString(out, INCIDENT_INJURED_PERSON, injury.getInjuredPerson());
+                writeNullableString(out, INCIDENT_MEDICAL_REPORT, injury.getMedicalReportNumber());
+            }
+        }
+    }
+
+    private static Incident toIncident(BinaryRecord record) {
+        IncidentType type = record.enumValue(INCIDENT_TYPE, INCIDENT_TYPES);
+        if (type == null) throw new IllegalStateException("Incident type is missing");
+
+        IncidentBuilder.CommonStep common = switch (type) {
+            case AUTO -> IncidentBuilder.auto();
+            case THEFT -> IncidentBuilder.theft();
+            case PROPERTY -> IncidentBuilder.property();
+            case INJURY -> IncidentBuilder.injury();
+        };
+        common.occurredAt(record.instant(INCIDENT_OCCURRED_AT)).location(record.string(INCIDENT_LOCATION));
+        String description = record.string(INCIDENT_DESCRIPTION);
+        if (description != null) common.description(description);
+
+        return switch (type) {
+            case AUTO -> common.forAuto()
+                    .vin(record.string(INCIDENT_VIN))
+                    .licensePlate(record.string(INCIDENT_LICENSE_PLATE))
+                    .build();
+            case THEFT -> {
+                IncidentBuilder.TheftStep theft = common.forTheft().stolenItem(record.string(INCIDENT_STOLEN_ITEM));
+                String policeReportNumber = record.string(INCIDENT_POLICE_REPORT);
+                if (policeReportNumber != null) theft.policeReportNumber(policeReportNumber);
+                yield theft.build();
+            }
+            case PROPERTY -> common.forProperty().propertyAddress(record.string(INCIDENT_PROPERTY_ADDRESS)).build();
+            case INJURY -> {
+                IncidentBuilder.InjuryStep injury = common.forInjury().injuredPerson(record.string(INCIDENT_INJURED_PERSON));
+                String medicalReportNumber = record.string(INCIDENT_MEDICAL_REPORT);
+                if (medicalReportNumber != null) injury.medicalReportNumber(medicalReportNumber);
+                yield injury.build();
+            }
+        };
+    }
+
+    // --- ClaimSubmission ---
+
+    public static void encode(ClaimSubmission submission, ByteBuffer out) {
+        writeHeader(out, TYPE_SUBMISSION);
+        writeId(out, SUBMISSION_ID, submission.getSubmissionId());
+        writeInstant(out, SUBMISSION_SUBMITTED_AT, submission.getSubmittedAt());
+        writeVarField(out, SUBMISSION_CHANNEL, CHANNELS.code(submission.getChannel()));
+        writeString(out, SUBMISSION_SUBMITTED_BY, submission.getSubmittedBy());
+        writeId(out, SUBMISSION_CLAIM_ID, submission.getClaimId());
+        writeId(out, SUBMISSION_POLICY_ID, submission.getPolicyId());
+        writeString(out, SUBMISSION_POLICY_NUMBER, submission.getPolicyNumber());
+        writeVarField(out, SUBMISSION_INCIDENT_TYPE, INCIDENT_TYPES.code(IncidentType.valueOf(submission.getIncidentType())));
+        writeInstant(out, SUBMISSION_OCCURRED_AT, submission.getOccurredAt());
+        writeString(out, SUBMISSION_LOCATION, submission.getLocation());
+        for (String attachmentId : submission.getAttachmentIds()) {
+            writeId(out, SUBMISSION_ATTACHMENT_ID, attachmentId);
+        }
+        if (submission.isTermsAccepted()) writeVarField(out, SUBMISSION_TERMS_ACCEPTED, 1);
+        writeEnd(out);
+    }
+
+    public static ClaimSubmission decodeSubmission(ByteBuffer in) {
+        BinaryRecord record = BinaryRecord.read(in, TYPE_SUBMISSION);
+        return ClaimSubmissionBuilder.restore(
+                record.id(SUBMISSION_ID),
+                record.instant(SUBMISSION_SUBMITTED_AT),
+                record.enumValue(SUBMISSION_CHANNEL, CHANNELS),
+                record.string(SUBMISSION_SUBMITTED_BY),
+                record.id(SUBMISSION_CLAIM_ID),
+                record.id(SUBMISSION_POLICY_ID),
+                record.string(SUBMISSION_POLICY_NUMBER),
+                record.enumValue(SUBMISSION_INCIDENT_TYPE, INCIDENT_TYPES).name(),
+                record.instant(SUBMISSION_OCCURRED_AT),
+                record.string(SUBMISSION_LOCATION),
+                record.ids(SUBMISSION_ATTACHMENT_ID),
+                record.bool(SUBMISSION_TERMS_ACCEPTED)
+        );
+    }
+
+    // --- ClaimSubmittedEvent ---
+
+    public static void encode(ClaimSubmittedEvent event, ByteBuffer out) {
+        writeHeader(out, TYPE_CLAIM_SUBMITTED);
+        writeId(out, EVENT_CLAIM_ID, event.getClaimId());
+        writeId(out, EVENT_SUBMISSION_ID, event.getSubmissionId());
+        writeVarField(out, EVENT_CHANNEL, CHANNELS.code(SubmissionChannel.valueOf(event.getChannel())));
+        writeString(out, EVENT_ACTOR, event.getActor());
+        writeInstant(out, EVENT_OCCURRED_AT, event.occurredAt());
+        writeEnd(out);
+    }
+
+    public static ClaimSubmittedEvent decodeSubmittedEvent(ByteBuffer in) {
+        BinaryRecord record = BinaryRecord.read(in, TYPE_CLAIM_SUBMITTED);
+        return new ClaimSubmittedEvent(
+                record.id(EVENT_CLAIM_ID),
+                record.id(EVENT_SUBMISSION_ID),
+                record.enumValue(EVENT_CHANNEL, CHANNELS).name(),
+                record.string(EVENT_ACTOR),
+                record.instant(EVENT_OCCURRED_AT)
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.kkmalysa.claimmodule.adapters.out.codec;
+
+import java.util.Arrays;
+
+/**
+ * Stable enum <-> small int codes. The codes are the position in the constructor list, NOT ordinal(),
+ * so reordering the enum does not change stored data. New constants must be appended here;
+ * a constant that is missing fails when the codec class loads, not when the first record is written.
+ */
+final class EnumDictionary<E extends Enum<E>> {
+
+    private final E[] valuesByCode;
+    private final int[] codesByOrdinal;
+
+    @SafeVarargs
+    EnumDictionary(Class<E> type, E... valuesByCode) {
+        E[] constants = type.getEnumConstants();
+        this.valuesByCode = valuesByCode.clone();
+        this.codesByOrdinal = new int[constants.length];
+        Arrays.fill(codesByOrdinal, -1);
+
+        for (int code = 0; code < valuesByCode.length; code++) {
+            E value = valuesByCode[code];
+            if (codesByOrdinal[value.ordinal()] != -1) throw new IllegalArgumentException("Duplicate dictionary entry: " + value);
+            codesByOrdinal[value.ordinal()] = code;
+        }
+        for (E constant : constants) {
+            if (codesByOrdinal[constant.ordinal()] == -1) throw new IllegalArgumentException("No dictionary code for " + constant);
+        }
+    }
+
+    int code(E value) {
+        return codesByOrdinal[value.ordinal()];
+    }
+
+    E value(long code) {
+        if (code < 0 || code >= valuesByCode.length) throw new IllegalStateException("Unknown enum code: " + code);
+        return valuesByCode[(int) code];
+    }
+}
@@ -0,0 +1,192 @@
+package com.kkmalysa.claimmodule.adapters.out.codec;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * Low-level pieces of the binary format, written straight into a ByteBuffer.
+ *
+ * Record: [schema version][record type] then fields, then an END byte (0).
+ * Field:  varint tag = (field number << 2 | wire type), then the value:
+ * - VARINT:   unsigned LEB128 varint (signed values are zigzag-encoded first),
+ * - FIXED128: 16 bytes, a UUID as two big-endian longs,
+ * - BYTES:    varint length + bytes (UTF-8 strings, instants).
+ *
+ * Every value carries its own length, so a reader can skip fields it does not know or does not need.
+ * Absent optional fields are simply not written.
+ */
+final class WireFormat {
+
+    static final int SCHEMA_VERSION = 1;
+
+    static final int VARINT = 0;
+    static final int FIXED128 = 1;
+    static final int BYTES = 2;
+
+    static final int END = 0;
+    static final int MAX_FIELD = 63;
+
+    private WireFormat() {}
+
+    static void writeHeader(ByteBuffer out, int recordType) {
+        out.put((byte) SCHEMA_VERSION);
+        out.put((byte) recordType);
+    }
+
+    static void writeEnd(ByteBuffer out) {
+        out.put((byte) END);
+    }
+
+    static void writeTag(ByteBuffer out, int field, int wireType) {
+        writeVarLong(out, ((long) field << 2) | wireType);
+    }
+
+    static void writeVarField(ByteBuffer out, int field, long value) {
+        writeTag(out, field, VARINT);
+        writeVarLong(out, value);
+    }
+
+    static void writeString(ByteBuffer out, int field, String value) {
+        writeTag(out, field, BYTES);
+        writeVarLong(out, utf8Length(value));
+        writeUtf8(out, value);
+    }
+
+    static void writeNullableString(ByteBuffer out, int field, String value) {
+        if (value != null) writeString(out, field, value);
+    }
+
+    // canonical UUID strings take 16 bytes instead of 36, anything else is kept as a string
+    static void writeId(ByteBuffer out, int field, String id) {
+        if (!isCanonicalUuid(id)) {
+            writeString(out, field, id);
+            return;
+        }
+        writeTag(out, field, FIXED128);
+        out.putLong(parseHex(id, 0, 8) << 32 | parseHex(id, 9, 13) << 16 | parseHex(id, 14, 18));
+        out.putLong(parseHex(id, 19, 23) << 48 | parseHex(id, 24, 36));
+    }
+
+    static void writeInstant(ByteBuffer out, int field, Instant instant) {
+        long seconds = zigzag(instant.getEpochSecond());
+        int nanos = instant.getNano();
+        writeTag(out, field, BYTES);
+        writeVarLong(out, varLongSize(seconds) + varLongSize(nanos));
+        writeVarLong(out, seconds);
+        writeVarLong(out, nanos);
+    }
+
+    static void writeVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static int varLongSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            size++;
+            value >>>= 7;
+        }
+        return size;
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // --- UTF-8 without an intermediate byte[] ---
+
+    static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) length += 1;
+            else if (c < 0x800) length += 2;
+            else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) length += 1; // lone surrogate -> '?'
+            else length += 3;
+        }
+        return length;
+    }
+
+    static void writeUtf8(ByteBuffer out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | (c >> 6)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out.put((byte) (0xF0 | (codePoint >> 18)));
+                out.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                out.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                // a lone surrogate becomes '?', same as String.getBytes(UTF_8)
+                if (Character.isSurrogate(c)) c = '?';
+                if (c < 0x80) {
+                    out.put((byte) c);
+                    continue;
+                }
+                out.put((byte) (0xE0 | (c >> 12)));
+                out.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    // --- UUIDs ---
+
+    static boolean isCanonicalUuid(String value) {
+        if (value.length() != 36) return false;
+        for (int i = 0; i < 36; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') return false;
+            } else if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false; // upper case would not come back the same
+            }
+        }
+        return true;
+    }
+
+    static String formatUuid(long mostSignificant, long leastSignificant) {
+        char[] chars = new char[36];
+        formatHex(chars, 0, mostSignificant >>> 32, 8);
+        chars[8] = '-';
+        formatHex(chars, 9, mostSignificant >>> 16, 4);
+        chars[13] = '-';
+        formatHex(chars, 14, mostSignificant, 4);
+        chars[18] = '-';
+        formatHex(chars, 19, leastSignificant >>> 48, 4);
+        chars[23] = '-';
+        formatHex(chars, 24, leastSignificant, 12);
+        return new String(chars);
+    }
+
+    private static long parseHex(String value, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            result = (result << 4) | Character.digit(value.charAt(i), 16);
+        }
+        return result;
+    }
+
+    private static void formatHex(char[] chars, int offset, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            chars[offset + i] = Character.forDigit((int) (value & 0xF), 16);
+            value >>>= 4;
+        }
+    }
+}
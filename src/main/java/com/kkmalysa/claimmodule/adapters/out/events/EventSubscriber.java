@@ -0,0 +1,14 @@
+package com.kkmalysa.claimmodule.adapters.out.events;
+
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface EventSubscriber {
+    /**
+     * Called on the subscriber's own thread with events in publish order (up to its batch size).
+     * The list is reused for the next batch - copy it if you need to keep it.
+     */
+    void onEvents(List<DomainEvent> events);
+}
@@ -0,0 +1,267 @@
+package com.kkmalysa.claimmodule.adapters.out.events;
+
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.ports.out.DomainEventPublisher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process {@link DomainEventPublisher}: events go into a preallocated ring, every subscriber
+ * reads it with its own cursor on its own thread. Put it behind the
+ * {@link com.kkmalysa.claimmodule.application.events.OutboxRelay} and fraud scoring, notifications
+ * and projections run off submissions without adding anything to submit().
+ *
+ * Publishing claims a range of sequences with one atomic add, writes the slots and marks each one
+ * as published - no lock and no allocation ({@link #publish(DomainEvent)}). A slot is reused one
+ * ring later; before that, publishers only wait for {@link SlowSubscriberPolicy#BACKPRESSURE}
+ * subscribers. {@link SlowSubscriberPolicy#ISOLATE} subscribers that fall a ring behind skip ahead
+ * and count what they missed.
+ *
+ * A subscriber that throws is not retried (the failure is counted) - its events are delivered
+ * once, and it can't stop the others.
+ *
+ * Subscribe first, then {@link #start()}.
+ */
+public final class RingBufferEventBus implements DomainEventPublisher, AutoCloseable {
+
+    static final int DEFAULT_CAPACITY = 8192;
+
+    private static final long WRITING = -1; // slot is being overwritten
+    private static final long IDLE_PARK_NANOS = 50_000;
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<DomainEvent> entries;
+    private final AtomicLongArray publishedSequences; // per slot: sequence it holds, WRITING, or -2 (never used)
+
+    private final AtomicLong claimed = new AtomicLong(-1); // last sequence handed out to a publisher
+    private volatile long gatingCache = -1;                 // last known min cursor of BACKPRESSURE subscribers
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private volatile Subscription[] gating = new Subscription[0];
+    private volatile boolean started;
+    private volatile boolean closed;
+
+    public RingBufferEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RingBufferEventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("capacity must be a power of two");
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.publishedSequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) publishedSequences.set(i, -2);
+    }
+
+    /**
+     * @param batchSize 1 = one event per call, more = whatever is available, up to batchSize
+     */
+    public synchronized Subscription subscribe(String name, EventSubscriber subscriber, int batchSize, SlowSubscriberPolicy policy) {
+        if (started) throw new IllegalStateException("Subscribe before the bus is started");
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive");
+
+        Subscription subscription = new Subscription(name, subscriber, batchSize, policy);
+        subscriptions.add(subscription);
+        if (policy == SlowSubscriberPolicy.BACKPRESSURE) {
+            gating = subscriptions.stream()
+                    .filter(s -> s.policy == SlowSubscriberPolicy.BACKPRESSURE)
+                    .toArray(Subscription[]::new);
+        }
+        return subscription;
+    }
+
+    public synchronized void start() {
+        if (started) throw new IllegalStateException("Bus is already started");
+        if (closed) throw new IllegalStateException("Bus is closed");
+        started = true;
+        for (Subscription subscription : subscriptions) subscription.start();
+    }
+
+    public void publish(DomainEvent event) {
+        Objects.requireNonNull(event, "event");
+        ensureOpen();
+        long sequence = claimed.incrementAndGet();
+        awaitCapacity(sequence);
+        write(sequence, event);
+    }
+
+    @Override
+    public void publish(List<DomainEvent> events) {
+        ensureOpen();
+        // check before claiming anything - a claimed sequence that is never written stalls every subscriber
+        for (DomainEvent event : events) Objects.requireNonNull(event, "event");
+        // one claim per ring-sized chunk, a bigger range could never fit
+        for (int from = 0; from < events.size(); from += capacity) {
+            int count = Math.min(capacity, events.size() - from);
+            long last = claimed.addAndGet(count);
+            long first = last - count + 1;
+            awaitCapacity(last);
+            for (int i = 0; i < count; i++) {
+                write(first + i, events.get(from + i));
+            }
+        }
+    }
+
+    public int capacity() { return capacity; }
+    public long publishedCount() { return claimed.get() + 1; }
+
+    /**
+     * Stops accepting events, lets every subscriber finish what was already published, then stops their threads.
+     */
+    @Override
+    public void close() {
+        List<Subscription> toStop;
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            toStop = List.copyOf(subscriptions);
+        }
+        for (Subscription subscription : toStop) subscription.stop();
+    }
+
+    // --- publisher side ---
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("Event bus is closed");
+    }
+
+    // the slot of sequence held sequence - capacity; wait until every BACKPRESSURE subscriber is past it
+    private void awaitCapacity(long sequence) {
+        long wrapPoint = sequence - capacity;
+        if (wrapPoint <= gatingCache) return;
+
+        int idle = 0;
+        long min;
+        while ((min = minGatingCursor(sequence)) < wrapPoint) {
+            idle = idle(idle);
+        }
+        gatingCache = min;
+    }
+
+    private long minGatingCursor(long fallback) {
+        long min = fallback;
+        for (Subscription subscription : gating) {
+            min = Math.min(min, subscription.cursor.get());
+        }
+        return min;
+    }
+
+    private void write(long sequence, DomainEvent event) {
+        int slot = (int) (sequence & mask);
+        publishedSequences.set(slot, WRITING); // readers racing with the overwrite see it and back off
+        entries.set(slot, event);
+        publishedSequences.set(slot, sequence);
+    }
+
+    private static int idle(int idle) {
+        if (idle < 100) Thread.onSpinWait();
+        else if (idle < 200) Thread.yield();
+        else LockSupport.parkNanos(IDLE_PARK_NANOS);
+        return idle + 1;
+    }
+
+    // --- subscribers ---
+
+    public final class Subscription {
+
+        private final String name;
+        private final EventSubscriber subscriber;
+        private final int batchSize;
+        private final SlowSubscriberPolicy policy;
+
+        private final AtomicLong cursor = new AtomicLong(-1); // last sequence handed to the subscriber
+        private Thread thread;
+        private volatile boolean stopping;
+
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private Subscription(String name, EventSubscriber subscriber, int batchSize, SlowSubscriberPolicy policy) {
+            this.name = Objects.requireNonNull(name);
+            this.subscriber = Objects.requireNonNull(subscriber);
+            this.batchSize = batchSize;
+            this.policy = Objects.requireNonNull(policy);
+        }
+
+        public String name() { return name; }
+        public long deliveredCount() { return delivered.sum(); }
+        public long droppedCount() { return dropped.sum(); }
+        public long failureCount() { return failures.sum(); }
+        public long lag() { return claimed.get() - cursor.get(); }
+
+        private void start() {
+            thread = Thread.ofPlatform().name("event-bus-" + name).daemon().start(this::consumeLoop);
+        }
+
+        private void stop() {
+            stopping = true;
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void consumeLoop() {
+            List<DomainEvent> batch = new ArrayList<>(batchSize);
+            List<DomainEvent> view = Collections.unmodifiableList(batch);
+            int idle = 0;
+
+            while (true) {
+                long next = cursor.get() + 1;
+                if (policy == SlowSubscriberPolicy.ISOLATE) next = skipOverwritten(next);
+
+                long last = collect(next, batch);
+                if (batch.isEmpty()) {
+                    // closing: leave once everything claimed before close() is consumed
+                    if (stopping && cursor.get() >= claimed.get()) return;
+                    idle = idle(idle);
+                    continue;
+                }
+                idle = 0;
+
+                try {
+                    subscriber.onEvents(view);
+                } catch (RuntimeException e) {
+                    failures.increment();
+                }
+                delivered.add(batch.size());
+                batch.clear();
+                cursor.set(last);
+            }
+        }
+
+        private long skipOverwritten(long next) {
+            long oldestAvailable = claimed.get() - capacity + 1;
+            if (next >= oldestAvailable) return next;
+            dropped.add(oldestAvailable - next);
+            cursor.set(oldestAvailable - 1);
+            return oldestAvailable;
+        }
+
+        // contiguous published events from next on; returns the last collected sequence
+        private long collect(long next, List<DomainEvent> batch) {
+            long sequence = next;
+            while (batch.size() < batchSize) {
+                int slot = (int) (sequence & mask);
+                if (publishedSequences.get(slot) != sequence) break;
+                DomainEvent event = entries.get(slot);
+                if (publishedSequences.get(slot) != sequence) break; // overwritten while reading (ISOLATE only)
+                batch.add(event);
+                sequence++;
+            }
+            return sequence - 1;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.kkmalysa.claimmodule.adapters.out.events;
+
+/**
+ * What the event bus does when a subscriber falls a whole ring behind the publishers.
+ */
+public enum SlowSubscriberPolicy {
+    BACKPRESSURE, // publishers wait for this subscriber before reusing its slots - it never misses an event
+    ISOLATE       // publishers never wait for it; it skips ahead over overwritten events (counted as dropped)
+}
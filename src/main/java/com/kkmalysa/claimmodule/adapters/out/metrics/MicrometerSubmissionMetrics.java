@@ -0,0 +1,106 @@
+package com.kkmalysa.claimmodule.adapters.out.metrics;
+
+import com.kkmalysa.claimmodule.application.submission.SubmissionChannel;
+import com.kkmalysa.claimmodule.application.submission.SubmissionStage;
+import com.kkmalysa.claimmodule.domain.incident.IncidentType;
+import com.kkmalysa.claimmodule.ports.out.SubmissionMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SubmissionMetrics} on Micrometer:
+ * - claim.submission.stage  timer, tags stage / channel / incidentType,
+ * - claim.submission        timer of the whole submit(), tags channel / incidentType,
+ * - claim.submission.failures counter, tags channel / incidentType / exception (simple class name).
+ *
+ * Timers publish a percentile histogram (server-side p99 etc. in Prometheus) plus p50/p95/p99
+ * for /actuator/metrics. All timers are registered upfront, so recording is an array lookup,
+ * not a registry lookup. incidentType "unknown" = the claim was never loaded.
+ */
+public final class MicrometerSubmissionMetrics implements SubmissionMetrics {
+
+    static final String STAGE_TIMER = "claim.submission.stage";
+    static final String SUBMISSION_TIMER = "claim.submission";
+    static final String FAILURE_COUNTER = "claim.submission.failures";
+
+    private static final String UNKNOWN = "unknown";
+    private static final int INCIDENT_TYPES = IncidentType.values().length + 1; // + unknown
+
+    private final MeterRegistry registry;
+    private final Timer[] stageTimers;      // [stage][channel][incidentType]
+    private final Timer[] submissionTimers; // [channel][incidentType]
+
+    public MicrometerSubmissionMetrics(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry);
+
+        SubmissionChannel[] channels = SubmissionChannel.values();
+        SubmissionStage[] stages = SubmissionStage.values();
+        this.stageTimers = new Timer[stages.length * channels.length * INCIDENT_TYPES];
+        this.submissionTimers = new Timer[channels.length * INCIDENT_TYPES];
+
+        for (SubmissionChannel channel : channels) {
+            for (int type = 0; type < INCIDENT_TYPES; type++) {
+                String incidentType = incidentTypeTag(type);
+                submissionTimers[index(channel, type)] = timer(SUBMISSION_TIMER, "Whole submit() call")
+                        .tag("channel", channel.name())
+                        .tag("incidentType", incidentType)
+                        .register(registry);
+                for (SubmissionStage stage : stages) {
+                    stageTimers[stage.ordinal() * submissionTimers.length + index(channel, type)] = timer(STAGE_TIMER, "One stage of submit()")
+                            .tag("stage", stage.name())
+                            .tag("channel", channel.name())
+                            .tag("incidentType", incidentType)
+                            .register(registry);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void recordStage(SubmissionStage stage, SubmissionChannel channel, IncidentType incidentType, long nanos) {
+        stageTimers[stage.ordinal() * submissionTimers.length + index(channel, incidentType)].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordSubmission(SubmissionChannel channel, IncidentType incidentType, long nanos) {
+        submissionTimers[index(channel, incidentType)].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // failures are rare - a registry lookup is fine here and keeps the exception tag open-ended
+    @Override
+    public void recordFailure(SubmissionChannel channel, IncidentType incidentType, RuntimeException failure) {
+        Counter.builder(FAILURE_COUNTER)
+                .description("Failed submit() calls by exception type")
+                .tag("channel", channel.name())
+                .tag("incidentType", incidentType != null ? incidentType.name() : UNKNOWN)
+                .tag("exception", failure.getClass().getSimpleName())
+                .register(registry)
+                .increment();
+    }
+
+    private static Timer.Builder timer(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(Duration.ofSeconds(10));
+    }
+
+    private static int index(SubmissionChannel channel, IncidentType incidentType) {
+        return index(channel, incidentType != null ? incidentType.ordinal() : INCIDENT_TYPES - 1);
+    }
+
+    private static int index(SubmissionChannel channel, int incidentTypeIndex) {
+        return channel.ordinal() * INCIDENT_TYPES + incidentTypeIndex;
+    }
+
+    private static String incidentTypeTag(int incidentTypeIndex) {
+        return incidentTypeIndex < INCIDENT_TYPES - 1 ? IncidentType.values()[incidentTypeIndex].name() : UNKNOWN;
+    }
+}
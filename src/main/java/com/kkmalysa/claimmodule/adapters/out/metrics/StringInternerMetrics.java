@@ -0,0 +1,39 @@
+package com.kkmalysa.claimmodule.adapters.out.metrics;
+
+import com.kkmalysa.claimmodule.domain.shared.StringInterner;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Objects;
+
+/**
+ * Publishes the {@link StringInterner} counters:
+ * - claim.strings.interned           counter, tag result = hit / miss / skipped,
+ * - claim.strings.interned.hit.rate  gauge,
+ * - claim.strings.interned.saved     counter of (estimated) bytes no longer retained.
+ */
+public final class StringInternerMetrics implements MeterBinder {
+
+    static final String LOOKUPS = "claim.strings.interned";
+    static final String HIT_RATE = "claim.strings.interned.hit.rate";
+    static final String BYTES_SAVED = "claim.strings.interned.saved";
+
+    private final StringInterner interner;
+
+    public StringInternerMetrics(StringInterner interner) {
+        this.interner = Objects.requireNonNull(interner);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(LOOKUPS, interner, StringInterner::hitCount).tag("result", "hit").register(registry);
+        FunctionCounter.builder(LOOKUPS, interner, StringInterner::missCount).tag("result", "miss").register(registry);
+        FunctionCounter.builder(LOOKUPS, interner, StringInterner::skippedCount).tag("result", "skipped").register(registry);
+        Gauge.builder(HIT_RATE, interner, StringInterner::hitRate).register(registry);
+        FunctionCounter.builder(BYTES_SAVED, interner, StringInterner::bytesSaved)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
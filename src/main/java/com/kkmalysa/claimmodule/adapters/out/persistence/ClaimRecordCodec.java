@@ -0,0 +1,165 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.incident.AutoDetails;
+import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.domain.incident.IncidentType;
+import com.kkmalysa.claimmodule.domain.incident.InjuryDetails;
+import com.kkmalysa.claimmodule.domain.incident.PropertyDetails;
+import com.kkmalysa.claimmodule.domain.incident.TheftDetails;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Claim <-> byte[] for the write-ahead log and its snapshots.
+ *
+ * Decoding goes through the regular builders (IncidentBuilder + ClaimBuilder), so a record
+ * can never bring back a Claim that the domain would not allow to be built.
+ */
+final class ClaimRecordCodec {
+
+    private static final byte FORMAT_VERSION = 2; // 2: + claim version
+
+    private ClaimRecordCodec() {}
+
+    static byte[] encode(Claim claim) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(bytes);
+
+            out.writeByte(FORMAT_VERSION);
+            writeString(out, claim.getClaimId());
+            writeString(out, claim.getPolicyId());
+            writeString(out, claim.getStatus().name());
+            writeInstant(out, claim.getCreatedAt());
+            writeString(out, claim.getCreatedBy());
+            writeString(out, claim.getChannel());
+            out.writeLong(claim.getVersion());
+
+            Incident incident = claim.getIncident();
+            writeString(out, incident.getIncidentType().name());
+            writeInstant(out, incident.getOccurredAt());
+            writeString(out, incident.getLocation());
+            writeNullableString(out, incident.getDescription());
+            // fixed slots for every type, the record layout predates the sealed details
+            writeNullableString(out, incident instanceof AutoDetails auto ? auto.getVin() : null);
+            writeNullableString(out, incident instanceof AutoDetails auto ? auto.getLicensePlate() : null);
+            writeNullableString(out, incident instanceof TheftDetails theft ? theft.getStolenItem() : null);
+            writeNullableString(out, incident instanceof TheftDetails theft ? theft.getPoliceReportNumber() : null);
+            writeNullableString(out, incident instanceof PropertyDetails property ? property.getPropertyAddress() : null);
+            writeNullableString(out, incident instanceof InjuryDetails injury ? injury.getInjuredPerson() : null);
+            writeNullableString(out, incident instanceof InjuryDetails injury ? injury.getMedicalReportNumber() : null);
+
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // in-memory stream, does not happen
+        }
+    }
+
+    static Claim decode(byte[] record) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+
+            byte format = in.readByte();
+            if (format < 1 || format > FORMAT_VERSION) throw new IllegalStateException("Unsupported claim record version: " + format);
+
+            String claimId = readString(in);
+            String policyId = readString(in);
+            ClaimStatus status = ClaimStatus.valueOf(readString(in));
+            Instant createdAt = readInstant(in);
+            String createdBy = readString(in);
+            String channel = readString(in);
+            long version = (format >= 2) ? in.readLong() : 0;
+
+            IncidentType type = IncidentType.valueOf(readString(in));
+            Instant occurredAt = readInstant(in);
+            String location = readString(in);
+            String description = readNullableString(in);
+            String vin = readNullableString(in);
+            String licensePlate = readNullableString(in);
+            String stolenItem = readNullableString(in);
+            String policeReportNumber = readNullableString(in);
+            String propertyAddress = readNullableString(in);
+            String injuredPerson = readNullableString(in);
+            String medicalReportNumber = readNullableString(in);
+
+            IncidentBuilder.CommonStep common = switch (type) {
+                case AUTO -> IncidentBuilder.auto();
+                case THEFT -> IncidentBuilder.theft();
+                case PROPERTY -> IncidentBuilder.property();
+                case INJURY -> IncidentBuilder.injury();
+            };
+            common.occurredAt(occurredAt).location(location);
+            if (description != null) common.description(description);
+
+            Incident incident = switch (type) {
+                case AUTO -> common.forAuto().vin(vin).licensePlate(licensePlate).build();
+                case THEFT -> {
+                    IncidentBuilder.TheftStep theft = common.forTheft().stolenItem(stolenItem);
+                    if (policeReportNumber != null) theft.policeReportNumber(policeReportNumber);
+                    yield theft.build();
+                }
+                case PROPERTY -> common.forProperty().propertyAddress(propertyAddress).build();
+                case INJURY -> {
+                    IncidentBuilder.InjuryStep injury = common.forInjury().injuredPerson(injuredPerson);
+                    if (medicalReportNumber != null) injury.medicalReportNumber(medicalReportNumber);
+                    yield injury.build();
+                }
+            };
+
+            return ClaimBuilder.fnol()
+                    .policyId(policyId)
+                    .incident(incident)
+                    .createdBy(createdBy)
+                    .channel(channel)
+                    .claimId(claimId)
+                    .createdAt(createdAt)
+                    .status(status)
+                    .version(version)
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupted claim record", e);
+        }
+    }
+
+    static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeLong(instant.getEpochSecond());
+        out.writeInt(instant.getNano());
+    }
+
+    static Instant readInstant(DataInputStream in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        byte[] utf8 = new byte[in.readInt()];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) writeString(out, value);
+    }
+
+    static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readString(in) : null;
+    }
+}
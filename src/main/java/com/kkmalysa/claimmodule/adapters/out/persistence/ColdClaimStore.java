@@ -0,0 +1,437 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Cold tier of {@link TieredClaimRepository}: claims written in blocks of many claims, one file per block,
+ * [int magic][int claimCount][int crc32 of the payload][deflated payload of framed ClaimRecordCodec records].
+ * Whole blocks compress far better than single claims - the same policy / location / channel strings
+ * repeat across them.
+ *
+ * What stays in memory per cold claim:
+ * - its slot in the off-heap {@link ColdIdIndex} (claimId -> block/slot + version, 32 bytes at up to 50% load),
+ *   nothing on the heap unless the claimId is not a UUID,
+ * - ~1 byte on the heap in its block's {@link BlockSummary} (live bit + policyId bloom filter bits).
+ * Plus one summary object per block and an LRU cache of the last few decoded blocks. A block file is deleted
+ * once none of its claims is live any more (all promoted back or moved again). Deleting is best effort:
+ * the claim has been written to the hot tier already, so a file that cannot be deleted is counted and
+ * tried again with {@link #retryDeletes()} (every tiering run) instead of failing that write.
+ *
+ * Queries go block by block: the summary (statuses, createdAt range, policyId bloom filter) rules a block out
+ * without reading it, only the blocks that may match are read and filtered. That is one check per block
+ * (~1000 claims), not per claim - but a query whose value is in most blocks (findByStatus(APPROVED)) still reads
+ * most of them. This tier is for history that is rarely asked for.
+ *
+ * This tier extends memory, it is not a durable store: the hot tier is in memory only, so block files
+ * left over from a previous run are deleted when the store is opened.
+ *
+ * One lock for index, summaries, cache and file reads - this tier is almost never read.
+ */
+final class ColdClaimStore {
+
+    private static final int BLOCK_MAGIC = 0x434C4D42; // "CLMB"
+    private static final String BLOCK_SUFFIX = ".cold";
+
+    private final Path directory;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final ColdIdIndex locations = new ColdIdIndex(); // claimId -> location(block, slot)
+    private final TreeMap<Integer, BlockSummary> blocks = new TreeMap<>(); // live blocks only
+    private final LinkedHashMap<Integer, Claim[]> cache;
+    private final Set<Integer> undeleted = new TreeSet<>(); // released, but the file is still there
+    private int nextBlock;
+
+    private long cacheHits;
+    private long cacheMisses;
+    private long diskBytes;
+    private long deleteFailures;
+
+    ColdClaimStore(Path directory, int cachedBlocks) {
+        if (cachedBlocks < 1) throw new IllegalArgumentException("cachedBlocks must be >= 1");
+        this.directory = directory;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Claim[]> eldest) {
+                return size() > cachedBlocks;
+            }
+        };
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(directory, "*" + BLOCK_SUFFIX)) {
+                for (Path leftover : leftovers) Files.delete(leftover);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot open cold tier " + directory, e);
+        }
+    }
+
+    /**
+     * Writes the claims as one new block and makes them readable from it; an older cold copy
+     * of the same claim is replaced.
+     * @return the block number
+     */
+    int writeBlock(List<Claim> claims) {
+        int block;
+        lock.lock();
+        try {
+            block = nextBlock++;
+        } finally {
+            lock.unlock();
+        }
+
+        byte[] file = encodeBlock(claims);
+        try {
+            Files.write(blockPath(block), file); // outside the lock, nobody can see this block yet
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot write cold block " + block, e);
+        }
+
+        lock.lock();
+        try {
+            diskBytes += file.length;
+            blocks.put(block, new BlockSummary(claims));
+            for (int slot = 0; slot < claims.size(); slot++) {
+                Claim claim = claims.get(slot);
+                long previous = locations.put(claim.getClaimId(), location(block, slot), claim.getVersion());
+                if (previous != ColdIdIndex.ABSENT) release(previous);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return block;
+    }
+
+    Optional<Claim> get(String claimId) {
+        lock.lock();
+        try {
+            long location = locations.location(claimId);
+            if (location == ColdIdIndex.ABSENT) return Optional.empty();
+            return Optional.of(loadBlock(blockOf(location))[slotOf(location)]);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** @return version of the cold copy, or -1 when the claim is not in this tier */
+    long versionOf(String claimId) {
+        lock.lock();
+        try {
+            return locations.version(claimId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Forgets the cold copy (the claim is hot again). */
+    void remove(String claimId) {
+        lock.lock();
+        try {
+            long location = locations.remove(claimId);
+            if (location != ColdIdIndex.ABSENT) release(location);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Same, but only if the cold copy is the one from that block. */
+    void remove(String claimId, int block) {
+        lock.lock();
+        try {
+            long location = locations.location(claimId);
+            if (location != ColdIdIndex.ABSENT && blockOf(location) == block) {
+                locations.remove(claimId);
+                release(location);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Live claims that match. A block is read only when blockMayMatch says it can hold a match,
+     * and then every block is read once.
+     */
+    List<Claim> find(Predicate<BlockSummary> blockMayMatch, Predicate<Claim> matches) {
+        lock.lock();
+        try {
+            List<Claim> found = new ArrayList<>();
+            for (Map.Entry<Integer, BlockSummary> e : blocks.entrySet()) {
+                BlockSummary summary = e.getValue();
+                if (!blockMayMatch.test(summary)) continue;
+                Claim[] claims = loadBlock(e.getKey());
+                for (int slot = summary.live.nextSetBit(0); slot >= 0; slot = summary.live.nextSetBit(slot + 1)) {
+                    if (matches.test(claims[slot])) found.add(claims[slot]);
+                }
+            }
+            return found;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Deletes the files of released blocks whose delete failed before. */
+    void retryDeletes() {
+        lock.lock();
+        try {
+            for (Integer block : List.copyOf(undeleted)) deleteFile(block);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return (int) locations.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int blockCount() {
+        lock.lock();
+        try {
+            return blocks.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long diskBytes() {
+        lock.lock();
+        try {
+            return diskBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long deleteFailures() {
+        lock.lock();
+        try {
+            return deleteFailures;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long cacheHits() {
+        lock.lock();
+        try {
+            return cacheHits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long cacheMisses() {
+        lock.lock();
+        try {
+            return cacheMisses;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // --- internals (lock held) ---
+
+    private static long location(int block, int slot) {
+        return ((long) block << 32) | slot;
+    }
+
+    private static int blockOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int slotOf(long location) {
+        return (int) location;
+    }
+
+    // the claim at location is not live any more; the block goes once nothing in it is
+    private void release(long location) {
+        int block = blockOf(location);
+        BlockSummary summary = blocks.get(block);
+        summary.live.clear(slotOf(location));
+        if (!summary.live.isEmpty()) return;
+        blocks.remove(block);
+        cache.remove(block);
+        deleteFile(block);
+    }
+
+    private void deleteFile(int block) {
+        Path path = blockPath(block);
+        try {
+            long size = Files.size(path);
+            Files.delete(path);
+            diskBytes -= size;
+            undeleted.remove(block);
+        } catch (IOException e) {
+            deleteFailures++; // nobody reads the block any more, it only takes disk space
+            undeleted.add(block);
+        }
+    }
+
+    private Claim[] loadBlock(int block) {
+        Claim[] claims = cache.get(block);
+        if (claims != null) {
+            cacheHits++;
+            return claims;
+        }
+        cacheMisses++;
+        try {
+            claims = decodeBlock(Files.readAllBytes(blockPath(block)), block);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot read cold block " + block, e);
+        }
+        cache.put(block, claims);
+        return claims;
+    }
+
+    private Path blockPath(int block) {
+        return directory.resolve(String.format("block-%08d%s", block, BLOCK_SUFFIX));
+    }
+
+    private static byte[] encodeBlock(List<Claim> claims) {
+        try {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(payload, new Deflater(Deflater.BEST_SPEED), true))) {
+                for (Claim claim : claims) {
+                    byte[] record = ClaimRecordCodec.encode(claim);
+                    out.writeInt(record.length);
+                    out.write(record);
+                }
+            }
+            byte[] compressed = payload.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update(compressed);
+            return ByteBuffer.allocate(3 * Integer.BYTES + compressed.length)
+                    .putInt(BLOCK_MAGIC)
+                    .putInt(claims.size())
+                    .putInt((int) crc.getValue())
+                    .put(compressed)
+                    .array();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // in-memory streams, does not happen
+        }
+    }
+
+    // in slot order - the slot is the claim's position in the block
+    private static Claim[] decodeBlock(byte[] file, int block) throws IOException {
+        ByteBuffer header = ByteBuffer.wrap(file);
+        if (file.length < 3 * Integer.BYTES || header.getInt() != BLOCK_MAGIC) throw new IllegalStateException("Not a cold block: " + block);
+        int count = header.getInt();
+        int expectedCrc = header.getInt();
+
+        CRC32 crc = new CRC32();
+        crc.update(file, header.position(), header.remaining());
+        if ((int) crc.getValue() != expectedCrc) throw new IllegalStateException("Corrupted cold block: " + block);
+
+        Claim[] claims = new Claim[count];
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(
+                new ByteArrayInputStream(file, header.position(), header.remaining())))) {
+            for (int i = 0; i < count; i++) {
+                byte[] record = new byte[in.readInt()];
+                in.readFully(record);
+                claims[i] = ClaimRecordCodec.decode(record);
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * What stays on the heap for a block - enough to skip it in a query without reading it.
+     * The checks may say yes for a block without a match (bloom filter, createdAt range), never no for one with.
+     */
+    static final class BlockSummary {
+        private static final int BLOOM_BITS_PER_CLAIM = 8; // ~2% false positives with 3 hashes
+        private static final int BLOOM_HASHES = 3;
+
+        private final BitSet live;
+        private final long statuses; // bit per ClaimStatus ordinal
+        private final long minCreatedAtSecond;
+        private final long maxCreatedAtSecond;
+        private final long[] policyBloom;
+
+        private BlockSummary(List<Claim> claims) {
+            this.live = new BitSet(claims.size());
+            this.live.set(0, claims.size());
+            this.policyBloom = new long[Math.max(1, (claims.size() * BLOOM_BITS_PER_CLAIM + 63) / 64)];
+
+            long statusBits = 0;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (Claim claim : claims) {
+                statusBits |= 1L << claim.getStatus().ordinal();
+                long second = claim.getCreatedAt().getEpochSecond();
+                min = Math.min(min, second);
+                max = Math.max(max, second);
+                long hash = bloomHash(claim.getPolicyId());
+                for (int i = 0; i < BLOOM_HASHES; i++) {
+                    int bit = bloomBit(hash, i);
+                    policyBloom[bit >>> 6] |= 1L << bit;
+                }
+            }
+            this.statuses = statusBits;
+            this.minCreatedAtSecond = min;
+            this.maxCreatedAtSecond = max;
+        }
+
+        boolean mayContainPolicy(String policyId) {
+            long hash = bloomHash(policyId);
+            for (int i = 0; i < BLOOM_HASHES; i++) {
+                int bit = bloomBit(hash, i);
+                if ((policyBloom[bit >>> 6] & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+
+        boolean mayContainStatus(ClaimStatus status) {
+            return (statuses & (1L << status.ordinal())) != 0;
+        }
+
+        // whole seconds - a block on the boundary is read and filtered exactly
+        boolean mayContainCreatedBetween(Instant fromInclusive, Instant toExclusive) {
+            return maxCreatedAtSecond >= fromInclusive.getEpochSecond() && minCreatedAtSecond <= toExclusive.getEpochSecond();
+        }
+
+        private static long bloomHash(String value) {
+            long h = value.hashCode() * 0x9E3779B97F4A7C15L;
+            return h ^ (h >>> 29);
+        }
+
+        // double hashing: h1 + i * h2
+        private int bloomBit(long hash, int i) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            return Math.floorMod(h1 + i * h2, policyBloom.length * 64);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * claimId -> (location, version) of the cold tier, off-heap: each slot is [msb][lsb][location + 1][version]
+ * in an {@link OffHeapColumn}, so an empty slot is all zeros and a cold claim costs nothing on the heap.
+ * Linear probing, doubled at 50% load, backward-shift delete (claims are promoted back all the time,
+ * tombstones would pile up).
+ *
+ * Only canonical UUIDs (what the module generates) fit into a slot. Any other claimId (e.g. from an import)
+ * goes to a plain HashMap - on the heap, but only for those claims.
+ *
+ * Not thread-safe - {@link ColdClaimStore} guards it with its lock.
+ */
+final class ColdIdIndex {
+
+    static final long ABSENT = -1;
+
+    private static final int SLOT_WIDTH = 32;
+    private static final int MSB = 0;
+    private static final int LSB = 8;
+    private static final int LOCATION = 16;
+    private static final int VERSION = 24;
+
+    private OffHeapColumn slots;
+    private long capacity;
+    private long size;
+
+    private final Map<String, long[]> others = new HashMap<>(); // {location, version}
+
+    ColdIdIndex() {
+        this.capacity = OffHeapColumn.ROWS_PER_CHUNK;
+        this.slots = allocate(capacity);
+    }
+
+    /** @return the location, or ABSENT */
+    long location(String claimId) {
+        UUID uuid = OffHeapClaimRepository.canonicalUuid(claimId);
+        if (uuid == null) {
+            long[] other = others.get(claimId);
+            return (other == null) ? ABSENT : other[0];
+        }
+        long slot = slotOf(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        return slots.getLong(slot, LOCATION) - 1; // empty slot: 0 - 1 = ABSENT
+    }
+
+    /** @return the version, or -1 when absent */
+    long version(String claimId) {
+        UUID uuid = OffHeapClaimRepository.canonicalUuid(claimId);
+        if (uuid == null) {
+            long[] other = others.get(claimId);
+            return (other == null) ? -1 : other[1];
+        }
+        long slot = slotOf(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        return (slots.getLong(slot, LOCATION) == 0) ? -1 : slots.getLong(slot, VERSION);
+    }
+
+    /** @return the replaced location, or ABSENT */
+    long put(String claimId, long location, long version) {
+        if (location < 0) throw new IllegalArgumentException("location must be >= 0");
+        UUID uuid = OffHeapClaimRepository.canonicalUuid(claimId);
+        if (uuid == null) {
+            long[] previous = others.put(claimId, new long[] {location, version});
+            return (previous == null) ? ABSENT : previous[0];
+        }
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        long slot = slotOf(msb, lsb);
+        long previous = slots.getLong(slot, LOCATION) - 1;
+        if (previous == ABSENT) {
+            if ((size + 1) * 2 > capacity) {
+                grow();
+                slot = slotOf(msb, lsb);
+            }
+            slots.putLong(slot, MSB, msb);
+            slots.putLong(slot, LSB, lsb);
+            size++;
+        }
+        slots.putLong(slot, LOCATION, location + 1);
+        slots.putLong(slot, VERSION, version);
+        return previous;
+    }
+
+    /** @return the removed location, or ABSENT */
+    long remove(String claimId) {
+        UUID uuid = OffHeapClaimRepository.canonicalUuid(claimId);
+        if (uuid == null) {
+            long[] removed = others.remove(claimId);
+            return (removed == null) ? ABSENT : removed[0];
+        }
+        long slot = slotOf(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        long removed = slots.getLong(slot, LOCATION) - 1;
+        if (removed == ABSENT) return ABSENT;
+        deleteAt(slot);
+        size--;
+        return removed;
+    }
+
+    long size() {
+        return size + others.size();
+    }
+
+    long allocatedBytes() {
+        return slots.allocatedBytes();
+    }
+
+    // --- internals ---
+
+    // the slot holding the key, or the empty slot where it would go
+    private long slotOf(long msb, long lsb) {
+        long mask = capacity - 1;
+        for (long slot = home(msb, lsb, mask); ; slot = (slot + 1) & mask) {
+            if (slots.getLong(slot, LOCATION) == 0) return slot;
+            if (slots.getLong(slot, MSB) == msb && slots.getLong(slot, LSB) == lsb) return slot;
+        }
+    }
+
+    // pulls later entries of the same probe run back into the hole, so lookups never stop too early
+    private void deleteAt(long slot) {
+        long mask = capacity - 1;
+        long hole = slot;
+        for (long next = (hole + 1) & mask; slots.getLong(next, LOCATION) != 0; next = (next + 1) & mask) {
+            long home = home(slots.getLong(next, MSB), slots.getLong(next, LSB), mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                copy(slots, next, slots, hole);
+                hole = next;
+            }
+        }
+        slots.putLong(hole, MSB, 0);
+        slots.putLong(hole, LSB, 0);
+        slots.putLong(hole, LOCATION, 0);
+        slots.putLong(hole, VERSION, 0);
+    }
+
+    private void grow() {
+        long newCapacity = capacity * 2;
+        OffHeapColumn bigger = allocate(newCapacity);
+        long newMask = newCapacity - 1;
+        for (long slot = 0; slot < capacity; slot++) {
+            if (slots.getLong(slot, LOCATION) == 0) continue;
+            long target = home(slots.getLong(slot, MSB), slots.getLong(slot, LSB), newMask);
+            while (bigger.getLong(target, LOCATION) != 0) target = (target + 1) & newMask;
+            copy(slots, slot, bigger, target);
+        }
+        slots = bigger; // the old chunks go away with their ByteBuffers
+        capacity = newCapacity;
+    }
+
+    private static void copy(OffHeapColumn from, long fromSlot, OffHeapColumn to, long toSlot) {
+        to.putLong(toSlot, MSB, from.getLong(fromSlot, MSB));
+        to.putLong(toSlot, LSB, from.getLong(fromSlot, LSB));
+        to.putLong(toSlot, LOCATION, from.getLong(fromSlot, LOCATION));
+        to.putLong(toSlot, VERSION, from.getLong(fromSlot, VERSION));
+    }
+
+    // UUIDv7 msb starts with a timestamp - mix both halves
+    private static long home(long msb, long lsb, long mask) {
+        long h = (msb ^ Long.rotateLeft(lsb, 32)) * 0x9E3779B97F4A7C15L;
+        return (h ^ (h >>> 32)) & mask;
+    }
+
+    private static OffHeapColumn allocate(long capacity) {
+        OffHeapColumn table = new OffHeapColumn(SLOT_WIDTH);
+        table.ensureCapacity(capacity);
+        return table;
+    }
+}
@@ -0,0 +1,69 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import com.kkmalysa.claimmodule.domain.events.ClaimSubmittedEvent;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * DomainEvent <-> byte[] for outbox entries stored in the write-ahead log and its snapshots.
+ * Only event types listed here can go through a durable outbox.
+ */
+final class EventRecordCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte TYPE_CLAIM_SUBMITTED = 1;
+
+    private EventRecordCodec() {}
+
+    static byte[] encode(DomainEvent event) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(FORMAT_VERSION);
+
+            if (event instanceof ClaimSubmittedEvent submitted) {
+                out.writeByte(TYPE_CLAIM_SUBMITTED);
+                ClaimRecordCodec.writeString(out, submitted.getClaimId());
+                ClaimRecordCodec.writeString(out, submitted.getSubmissionId());
+                ClaimRecordCodec.writeString(out, submitted.getChannel());
+                ClaimRecordCodec.writeString(out, submitted.getActor());
+                ClaimRecordCodec.writeInstant(out, submitted.occurredAt());
+            } else {
+                throw new IllegalArgumentException("Unsupported event type: " + event.eventType());
+            }
+
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // in-memory stream, does not happen
+        }
+    }
+
+    static DomainEvent decode(byte[] record) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+
+            byte format = in.readByte();
+            if (format != FORMAT_VERSION) throw new IllegalStateException("Unsupported event record version: " + format);
+
+            byte type = in.readByte();
+            if (type != TYPE_CLAIM_SUBMITTED) throw new IllegalStateException("Unknown event record type: " + type);
+
+            return new ClaimSubmittedEvent(
+                    ClaimRecordCodec.readString(in),
+                    ClaimRecordCodec.readString(in),
+                    ClaimRecordCodec.readString(in),
+                    ClaimRecordCodec.readString(in),
+                    ClaimRecordCodec.readInstant(in)
+            );
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupted event record", e);
+        }
+    }
+}
@@ -1,16 +1,54 @@
 package com.kkmalysa.claimmodule.adapters.out.persistence;
 
 import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
 import com.kkmalysa.claimmodule.ports.out.ClaimRepository;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
 
+/**
+ * Claims kept in a map by claimId, plus secondary indexes by policyId, status and createdAt.
+ *
+ * The indexes are updated inside the same map.compute() as the claim itself, so a save that
+ * changes a claim's status (withStatus) moves it between status buckets atomically per claim.
+ * Index entries only hold claimIds; queries resolve them against the map and re-check the criteria,
+ * so a reader racing with a save never gets a claim that doesn't match.
+ *
+ * compareAndSave is the same per-entry compute with a version check in it - writers of different
+ * claims never wait for each other, there is no lock around the whole store. Its events go to the
+ * outbox inside that compute too, so they are written only together with the claim, in version order.
+ */
 public final class InMemoryClaimRepository implements ClaimRepository {
 
     private final Map<String, Claim> store = new ConcurrentHashMap<>();
 
+    private final Map<String, Set<String>> idsByPolicyId = new ConcurrentHashMap<>();
+    private final Map<ClaimStatus, Set<String>> idsByStatus = new EnumMap<>(ClaimStatus.class);
+    private final ConcurrentSkipListSet<CreatedAtKey> idsByCreatedAt = new ConcurrentSkipListSet<>();
+
+    private final InMemoryEventOutbox outbox = new InMemoryEventOutbox();
+
+    public InMemoryClaimRepository() {
+        // all buckets created upfront -> the EnumMap itself is never modified again
+        for (ClaimStatus status : ClaimStatus.values()) {
+            idsByStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
     @Override
     public Optional<Claim> getById(String claimId) {
         return Optional.ofNullable(store.get(claimId));
@@ -18,6 +56,174 @@ public final class InMemoryClaimRepository implements ClaimRepository {
 
     @Override
     public void save(Claim claim) {
-        store.put(claim.getClaimId(), claim);
+        saveWithEvents(claim, List.of());
+    }
+
+    @Override
+    public boolean compareAndSave(long expectedVersion, Claim claim, List<DomainEvent> events) {
+        List<DomainEvent> toPublish = List.copyOf(events);
+        boolean[] saved = new boolean[1];
+        store.computeIfPresent(claim.getClaimId(), (claimId, current) -> {
+            if (current.getVersion() != expectedVersion) return current;
+            unindex(current);
+            index(claim);
+            outbox.append(toPublish);
+            saved[0] = true;
+            return claim;
+        });
+        return saved[0];
+    }
+
+    @Override
+    public InMemoryEventOutbox outbox() {
+        return outbox;
+    }
+
+    @Override
+    public List<Claim> findByPolicyId(String policyId) {
+        Objects.requireNonNull(policyId, "policyId");
+        return resolve(idsByPolicyId.getOrDefault(policyId, Set.of()), claim -> claim.getPolicyId().equals(policyId));
+    }
+
+    @Override
+    public List<Claim> findByStatus(ClaimStatus status) {
+        Objects.requireNonNull(status, "status");
+        return resolve(idsByStatus.get(status), claim -> claim.getStatus() == status);
+    }
+
+    @Override
+    public List<Claim> findCreatedBetween(Instant fromInclusive, Instant toExclusive) {
+        Objects.requireNonNull(fromInclusive, "fromInclusive");
+        Objects.requireNonNull(toExclusive, "toExclusive");
+        if (!fromInclusive.isBefore(toExclusive)) return List.of();
+
+        List<Claim> found = new ArrayList<>();
+        for (CreatedAtKey key : idsByCreatedAt.subSet(CreatedAtKey.lowest(fromInclusive), CreatedAtKey.lowest(toExclusive))) {
+            Claim claim = store.get(key.claimId);
+            if (claim != null && claim.getCreatedAt().equals(key.createdAt)) found.add(claim);
+        }
+        return found;
+    }
+
+    // unconditional save + outbox append, used when replaying already accepted writes from a log
+    void saveWithEvents(Claim claim, List<DomainEvent> events) {
+        store.compute(claim.getClaimId(), (claimId, previous) -> {
+            if (previous != null) unindex(previous);
+            index(claim);
+            outbox.append(events);
+            return claim;
+        });
+    }
+
+    @Override
+    public Set<String> insertAllIfAbsent(Collection<Claim> claims) {
+        Set<String> existing = new HashSet<>();
+        for (Claim claim : claims) {
+            if (!insertIfAbsent(claim, List.of())) existing.add(claim.getClaimId());
+        }
+        return existing;
+    }
+
+    // --- used by TieredClaimRepository to move claims between its tiers ---
+
+    // put a claim back (promoted from the cold tier) unless someone did it first
+    boolean insertIfAbsent(Claim claim, List<DomainEvent> events) {
+        List<DomainEvent> toPublish = List.copyOf(events);
+        boolean[] inserted = new boolean[1];
+        store.computeIfAbsent(claim.getClaimId(), claimId -> {
+            index(claim);
+            outbox.append(toPublish);
+            inserted[0] = true;
+            return claim;
+        });
+        return inserted[0];
+    }
+
+    // drop a claim that was moved elsewhere - only if nobody saved a newer revision meanwhile
+    boolean removeIfVersion(String claimId, long expectedVersion) {
+        boolean[] removed = new boolean[1];
+        store.computeIfPresent(claimId, (id, current) -> {
+            if (current.getVersion() != expectedVersion) return current;
+            unindex(current);
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    int size() {
+        return store.size();
+    }
+
+    // point-in-time copy, used for snapshots by the durable repositories built on top of this one
+    Collection<Claim> allClaims() {
+        return List.copyOf(store.values());
+    }
+
+    // --- index maintenance (always called inside store.compute for that claimId) ---
+
+    private void index(Claim claim) {
+        String claimId = claim.getClaimId();
+        idsByPolicyId.compute(claim.getPolicyId(), (policyId, ids) -> {
+            Set<String> bucket = (ids != null) ? ids : ConcurrentHashMap.newKeySet();
+            bucket.add(claimId);
+            return bucket;
+        });
+        idsByStatus.get(claim.getStatus()).add(claimId);
+        idsByCreatedAt.add(new CreatedAtKey(claim.getCreatedAt(), claimId));
+    }
+
+    private void unindex(Claim claim) {
+        String claimId = claim.getClaimId();
+        idsByPolicyId.computeIfPresent(claim.getPolicyId(), (policyId, ids) -> {
+            ids.remove(claimId);
+            return ids.isEmpty() ? null : ids;
+        });
+        idsByStatus.get(claim.getStatus()).remove(claimId);
+        idsByCreatedAt.remove(new CreatedAtKey(claim.getCreatedAt(), claimId));
+    }
+
+    private List<Claim> resolve(Set<String> claimIds, Predicate<Claim> stillMatches) {
+        List<Claim> found = new ArrayList<>(claimIds.size());
+        for (String claimId : claimIds) {
+            Claim claim = store.get(claimId);
+            if (claim != null && stillMatches.test(claim)) found.add(claim);
+        }
+        return found;
+    }
+
+    // one entry per claim (not a set per instant) -> add/remove are single atomic skip-list operations
+    private static final class CreatedAtKey implements Comparable<CreatedAtKey> {
+        private static final Comparator<CreatedAtKey> ORDER = Comparator
+                .comparing((CreatedAtKey key) -> key.createdAt)
+                .thenComparing(key -> key.claimId);
+
+        private final Instant createdAt;
+        private final String claimId;
+
+        private CreatedAtKey(Instant createdAt, String claimId) {
+            this.createdAt = createdAt;
+            this.claimId = claimId;
+        }
+
+        // sorts before every real key with the same createdAt ("" < any claimId)
+        private static CreatedAtKey lowest(Instant createdAt) {
+            return new CreatedAtKey(createdAt, "");
+        }
+
+        @Override
+        public int compareTo(CreatedAtKey other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CreatedAtKey other && createdAt.equals(other.createdAt) && claimId.equals(other.claimId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(createdAt, claimId);
+        }
     }
 }
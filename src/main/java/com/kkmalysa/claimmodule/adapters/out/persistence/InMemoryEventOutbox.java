@@ -0,0 +1,87 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.ports.out.EventOutbox;
+import com.kkmalysa.claimmodule.ports.out.OutboxEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox kept next to the in-memory claim store. Events are appended by the repository inside the
+ * same atomic step that saves their claim; entries are dropped once the relay checkpoints past them.
+ *
+ * No lock - append runs inside the repository's per-claim compute, so it must not serialize
+ * saves of different claims. A sequence range is taken with one atomic add and the entries go into
+ * a skip list by sequence. Two appends can insert in the other order than they took their sequences,
+ * so readAfter stops at the first gap (an append still in flight) - nothing is skipped and then
+ * checkpointed over.
+ */
+public final class InMemoryEventOutbox implements EventOutbox {
+
+    private final ConcurrentSkipListMap<Long, OutboxEntry> pending = new ConcurrentSkipListMap<>();
+    private final AtomicLong lastSequence = new AtomicLong();
+    private final AtomicLong checkpoint = new AtomicLong();
+
+    @Override
+    public List<OutboxEntry> readAfter(long afterSequence, int maxEntries) {
+        // entries up to the checkpoint are gone, the gap check starts after it
+        long expected = Math.max(afterSequence, checkpoint.get()) + 1;
+        List<OutboxEntry> batch = new ArrayList<>(Math.min(maxEntries, 64));
+        for (OutboxEntry entry : pending.tailMap(expected, true).values()) {
+            if (batch.size() == maxEntries || entry.getSequence() != expected) break;
+            batch.add(entry);
+            expected++;
+        }
+        return batch;
+    }
+
+    @Override
+    public long checkpoint() {
+        return checkpoint.get();
+    }
+
+    @Override
+    public void checkpoint(long sequence) {
+        if (sequence > lastSequence.get()) throw new IllegalArgumentException("Cannot checkpoint past the last entry: " + sequence);
+        long previous = checkpoint.getAndAccumulate(sequence, Math::max);
+        if (sequence <= previous) return;
+        pending.headMap(sequence, true).clear();
+    }
+
+    // walks the skip list - for monitoring and tests, not for hot paths
+    public int size() {
+        return pending.size();
+    }
+
+    // --- repository side ---
+
+    void append(List<DomainEvent> events) {
+        if (events.isEmpty()) return;
+        long sequence = lastSequence.getAndAdd(events.size());
+        for (DomainEvent event : events) {
+            sequence++;
+            pending.put(sequence, new OutboxEntry(sequence, event));
+        }
+    }
+
+    long lastSequence() {
+        return lastSequence.get();
+    }
+
+    List<OutboxEntry> pendingEntries() {
+        return List.copyOf(pending.values());
+    }
+
+    // rebuilding from a snapshot, before the outbox is used
+    void restore(long lastSequence, long checkpoint, List<OutboxEntry> pendingEntries) {
+        this.pending.clear();
+        for (OutboxEntry entry : pendingEntries) {
+            this.pending.put(entry.getSequence(), entry);
+        }
+        this.lastSequence.set(lastSequence);
+        this.checkpoint.set(checkpoint);
+    }
+}
@@ -0,0 +1,378 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.domain.incident.AutoDetails;
+import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.domain.incident.IncidentType;
+import com.kkmalysa.claimmodule.domain.incident.InjuryDetails;
+import com.kkmalysa.claimmodule.domain.incident.PropertyDetails;
+import com.kkmalysa.claimmodule.domain.incident.TheftDetails;
+import com.kkmalysa.claimmodule.ports.out.ClaimRepository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Claims stored column by column outside the Java heap - for tens of millions of claims without
+ * a multi-GB object graph for the GC to walk. On the heap there is only this object and the chunk
+ * arrays; a claim costs ~110 bytes of columns plus its not-yet-seen strings.
+ *
+ * Columns ({@link OffHeapColumn}, one value per row):
+ * - claimId as a 128-bit value (two longs) when it's a canonical UUID, otherwise an arena string,
+ * - status / incident type as a byte (ordinal - nothing here outlives the process),
+ * - createdAt / occurredAt as epoch seconds + nanos,
+ * - string fields as addresses in one shared {@link OffHeapStringArena}; the repeating ones
+ *   (policyId, createdBy, channel, location) are stored once per distinct value,
+ * - the type specific incident fields in two generic slots (AUTO vin/plate, THEFT item/report...).
+ *
+ * claimId -> row goes through an off-heap open-addressing {@link OffHeapHashIndex}. A Claim object is
+ * only built by getById / the queries, compareAndSave checks the version column without one.
+ *
+ * Queries scan a single primitive column (status bytes, policyId addresses, createdAt seconds) and
+ * decode just the matching rows - a sequential read of 1 or 8 bytes per claim, not the per-claim
+ * index sets of {@link InMemoryClaimRepository}, which would put the object graph back on the heap.
+ * NOTE: this deliberately breaks the "never a full scan" rule of {@link ClaimRepository} - a query is
+ * O(rows), ~10-80 MB read per query at 10M claims. Fine for an archive / batch store; a back-office
+ * screen with interactive queries should use one of the indexed adapters.
+ *
+ * One read-write lock for the whole store: readers run in parallel, writers are exclusive.
+ * Off-heap memory is released when the repository becomes unreachable (direct buffers).
+ */
+public final class OffHeapClaimRepository implements ClaimRepository {
+
+    private static final long NO_ROW = -1;
+
+    private static final IncidentType[] INCIDENT_TYPES = IncidentType.values();
+    private static final ClaimStatus[] STATUSES = ClaimStatus.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final OffHeapColumn idHigh = new OffHeapColumn(Long.BYTES);  // UUID msb or arena address
+    private final OffHeapColumn idLow = new OffHeapColumn(Long.BYTES);   // UUID lsb
+    private final OffHeapColumn idIsUuid = new OffHeapColumn(1);
+    private final OffHeapColumn policyId = new OffHeapColumn(Long.BYTES);
+    private final OffHeapColumn status = new OffHeapColumn(1);
+    private final OffHeapColumn createdAtSeconds = new OffHeapColumn(Long.BYTES);
+    private final OffHeapColumn createdAtNanos = new OffHeapColumn(Integer.BYTES);
+    private final OffHeapColumn createdBy = new OffHeapColumn(Long.BYTES);
+    private final OffHeapColumn channel = new OffHeapColumn(Long.BYTES);
+    private final OffHeapColumn version = new OffHeapColumn(Long.BYTES);
+    private final OffHeapColumn incidentType = new OffHeapColumn(1);
+    private final OffHeapColumn occurredAtSeconds = new OffHeapColumn(Long.BYTES);
+    private final OffHeapColumn occurredAtNanos = new OffHeapColumn(Integer.BYTES);
+    private final OffHeapColumn location = new OffHeapColumn(Long.BYTES);
+    private final OffHeapColumn description = new OffHeapColumn(Long.BYTES);
+    private final OffHeapColumn detail1 = new OffHeapColumn(Long.BYTES);
+    private final OffHeapColumn detail2 = new OffHeapColumn(Long.BYTES);
+
+    private final List<OffHeapColumn> columns = List.of(
+            idHigh, idLow, idIsUuid, policyId, status, createdAtSeconds, createdAtNanos, createdBy, channel, version,
+            incidentType, occurredAtSeconds, occurredAtNanos, location, description, detail1, detail2
+    );
+
+    private final OffHeapStringArena strings = new OffHeapStringArena();
+    private final OffHeapHashIndex rowsById;
+    private final InMemoryEventOutbox outbox = new InMemoryEventOutbox();
+
+    private long rowCount;
+
+    public OffHeapClaimRepository() {
+        this(OffHeapColumn.ROWS_PER_CHUNK);
+    }
+
+    /** expectedClaims only pre-sizes the id index, the columns grow chunk by chunk anyway */
+    public OffHeapClaimRepository(long expectedClaims) {
+        if (expectedClaims < 1) throw new IllegalArgumentException("expectedClaims must be >= 1");
+        this.rowsById = new OffHeapHashIndex(expectedClaims * 2);
+    }
+
+    @Override
+    public Optional<Claim> getById(String claimId) {
+        Objects.requireNonNull(claimId, "claimId");
+        lock.readLock().lock();
+        try {
+            long row = findRow(claimId);
+            return (row == NO_ROW) ? Optional.empty() : Optional.of(readClaim(row));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void save(Claim claim) {
+        lock.writeLock().lock();
+        try {
+            long row = findRow(claim.getClaimId());
+            if (row == NO_ROW) {
+                insertRow(claim);
+            } else {
+                writeRow(row, claim, true);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<String> insertAllIfAbsent(Collection<Claim> claims) {
+        Set<String> existing = new HashSet<>();
+        lock.writeLock().lock();
+        try {
+            for (Claim claim : claims) {
+                if (findRow(claim.getClaimId()) == NO_ROW) {
+                    insertRow(claim);
+                } else {
+                    existing.add(claim.getClaimId());
+                }
+            }
+            return existing;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean compareAndSave(long expectedVersion, Claim claim, List<DomainEvent> events) {
+        List<DomainEvent> toPublish = List.copyOf(events);
+        lock.writeLock().lock();
+        try {
+            long row = findRow(claim.getClaimId());
+            if (row == NO_ROW || version.getLong(row, 0) != expectedVersion) return false;
+            writeRow(row, claim, true);
+            outbox.append(toPublish);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public InMemoryEventOutbox outbox() {
+        return outbox;
+    }
+
+    @Override
+    public List<Claim> findByPolicyId(String policyId) {
+        Objects.requireNonNull(policyId, "policyId");
+        lock.readLock().lock();
+        try {
+            long address = strings.find(policyId); // interned -> one address per distinct policyId
+            if (address == OffHeapStringArena.NULL) return List.of();
+            List<Claim> found = new ArrayList<>();
+            for (long row = 0; row < rowCount; row++) {
+                if (this.policyId.getLong(row, 0) == address) found.add(readClaim(row));
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Claim> findByStatus(ClaimStatus status) {
+        Objects.requireNonNull(status, "status");
+        byte code = (byte) status.ordinal();
+        lock.readLock().lock();
+        try {
+            List<Claim> found = new ArrayList<>();
+            for (long row = 0; row < rowCount; row++) {
+                if (this.status.getByte(row, 0) == code) found.add(readClaim(row));
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Claim> findCreatedBetween(Instant fromInclusive, Instant toExclusive) {
+        Objects.requireNonNull(fromInclusive, "fromInclusive");
+        Objects.requireNonNull(toExclusive, "toExclusive");
+        if (!fromInclusive.isBefore(toExclusive)) return List.of();
+
+        long fromSeconds = fromInclusive.getEpochSecond();
+        long toSeconds = toExclusive.getEpochSecond();
+        lock.readLock().lock();
+        try {
+            List<Claim> found = new ArrayList<>();
+            for (long row = 0; row < rowCount; row++) {
+                long seconds = createdAtSeconds.getLong(row, 0);
+                if (seconds < fromSeconds || seconds > toSeconds) continue; // cheap filter on one column first
+                Instant createdAt = Instant.ofEpochSecond(seconds, createdAtNanos.getInt(row, 0));
+                if (!createdAt.isBefore(fromInclusive) && createdAt.isBefore(toExclusive)) found.add(readClaim(row));
+            }
+            found.sort(Comparator.comparing(Claim::getCreatedAt).thenComparing(Claim::getClaimId));
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return rowCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** direct memory reserved by columns, index and string arena */
+    public long offHeapBytes() {
+        lock.readLock().lock();
+        try {
+            long total = rowsById.allocatedBytes() + strings.allocatedBytes();
+            for (OffHeapColumn column : columns) total += column.allocatedBytes();
+            return total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- rows (callers hold the lock) ---
+
+    private long findRow(String claimId) {
+        UUID uuid = canonicalUuid(claimId);
+        if (uuid != null) {
+            long msb = uuid.getMostSignificantBits();
+            long lsb = uuid.getLeastSignificantBits();
+            return orNoRow(rowsById.find(claimId.hashCode(), row ->
+                    idIsUuid.getByte(row, 0) == 1 && idHigh.getLong(row, 0) == msb && idLow.getLong(row, 0) == lsb));
+        }
+        return orNoRow(rowsById.find(claimId.hashCode(), row ->
+                idIsUuid.getByte(row, 0) == 0 && strings.equals(idHigh.getLong(row, 0), claimId)));
+    }
+
+    private void insertRow(Claim claim) {
+        long row = rowCount;
+        if (row == idHigh.capacity()) {
+            for (OffHeapColumn column : columns) column.ensureCapacity(row + 1);
+        }
+
+        String claimId = claim.getClaimId();
+        UUID uuid = canonicalUuid(claimId);
+        if (uuid != null) {
+            idHigh.putLong(row, 0, uuid.getMostSignificantBits());
+            idLow.putLong(row, 0, uuid.getLeastSignificantBits());
+            idIsUuid.putByte(row, 0, (byte) 1);
+        } else {
+            idHigh.putLong(row, 0, strings.append(claimId));
+            idIsUuid.putByte(row, 0, (byte) 0);
+        }
+        writeRow(row, claim, false);
+        rowsById.insert(claimId.hashCode(), row);
+        rowCount++;
+    }
+
+    private void writeRow(long row, Claim claim, boolean existing) {
+        writeString(policyId, row, claim.getPolicyId(), true, existing);
+        status.putByte(row, 0, (byte) claim.getStatus().ordinal());
+        createdAtSeconds.putLong(row, 0, claim.getCreatedAt().getEpochSecond());
+        createdAtNanos.putInt(row, 0, claim.getCreatedAt().getNano());
+        writeString(createdBy, row, claim.getCreatedBy(), true, existing);
+        writeString(channel, row, claim.getChannel(), true, existing);
+        version.putLong(row, 0, claim.getVersion());
+
+        Incident incident = claim.getIncident();
+        incidentType.putByte(row, 0, (byte) incident.getIncidentType().ordinal());
+        occurredAtSeconds.putLong(row, 0, incident.getOccurredAt().getEpochSecond());
+        occurredAtNanos.putInt(row, 0, incident.getOccurredAt().getNano());
+        writeString(location, row, incident.getLocation(), true, existing);
+        writeString(description, row, incident.getDescription(), false, existing);
+
+        String first;
+        String second;
+        switch (incident) {
+            case AutoDetails auto -> { first = auto.getVin(); second = auto.getLicensePlate(); }
+            case TheftDetails theft -> { first = theft.getStolenItem(); second = theft.getPoliceReportNumber(); }
+            case PropertyDetails property -> { first = property.getPropertyAddress(); second = null; }
+            case InjuryDetails injury -> { first = injury.getInjuredPerson(); second = injury.getMedicalReportNumber(); }
+        }
+        writeString(detail1, row, first, false, existing);
+        writeString(detail2, row, second, false, existing);
+    }
+
+    // a new revision usually only changes status + version - its strings are already in the arena
+    private void writeString(OffHeapColumn column, long row, String value, boolean repeating, boolean existing) {
+        if (existing && strings.equals(column.getLong(row, 0), value)) return;
+        column.putLong(row, 0, repeating ? strings.intern(value) : strings.append(value));
+    }
+
+    private Claim readClaim(long row) {
+        String claimId = (idIsUuid.getByte(row, 0) == 1)
+                ? new UUID(idHigh.getLong(row, 0), idLow.getLong(row, 0)).toString()
+                : strings.get(idHigh.getLong(row, 0));
+
+        return ClaimBuilder.fnol()
+                .policyId(strings.get(policyId.getLong(row, 0)))
+                .incident(readIncident(row))
+                .createdBy(strings.get(createdBy.getLong(row, 0)))
+                .channel(strings.get(channel.getLong(row, 0)))
+                .claimId(claimId)
+                .createdAt(Instant.ofEpochSecond(createdAtSeconds.getLong(row, 0), createdAtNanos.getInt(row, 0)))
+                .status(STATUSES[status.getByte(row, 0)])
+                .version(version.getLong(row, 0))
+                .build();
+    }
+
+    private Incident readIncident(long row) {
+        IncidentType type = INCIDENT_TYPES[incidentType.getByte(row, 0)];
+        IncidentBuilder.CommonStep common = switch (type) {
+            case AUTO -> IncidentBuilder.auto();
+            case THEFT -> IncidentBuilder.theft();
+            case PROPERTY -> IncidentBuilder.property();
+            case INJURY -> IncidentBuilder.injury();
+        };
+        common.occurredAt(Instant.ofEpochSecond(occurredAtSeconds.getLong(row, 0), occurredAtNanos.getInt(row, 0)))
+                .location(strings.get(location.getLong(row, 0)));
+        String text = strings.get(description.getLong(row, 0));
+        if (text != null) common.description(text);
+
+        String first = strings.get(detail1.getLong(row, 0));
+        String second = strings.get(detail2.getLong(row, 0));
+        return switch (type) {
+            case AUTO -> common.forAuto().vin(first).licensePlate(second).build();
+            case THEFT -> {
+                IncidentBuilder.TheftStep theft = common.forTheft().stolenItem(first);
+                if (second != null) theft.policeReportNumber(second);
+                yield theft.build();
+            }
+            case PROPERTY -> common.forProperty().propertyAddress(first).build();
+            case INJURY -> {
+                IncidentBuilder.InjuryStep injury = common.forInjury().injuredPerson(first);
+                if (second != null) injury.medicalReportNumber(second);
+                yield injury.build();
+            }
+        };
+    }
+
+    private static long orNoRow(long found) {
+        return (found == OffHeapHashIndex.ABSENT) ? NO_ROW : found;
+    }
+
+    // only ids that come back identical from UUID.toString() are stored as 128 bits (here and in ColdIdIndex)
+    static UUID canonicalUuid(String id) {
+        if (id.length() != 36 || id.charAt(8) != '-' || id.charAt(13) != '-' || id.charAt(18) != '-' || id.charAt(23) != '-') {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Fixed-width off-heap column: row i lives at (i * width) in a chain of direct ByteBuffer chunks.
+ * Chunks are allocated on demand and never copied, so growing a column with 50M rows costs one new
+ * chunk, not a resize. Fresh chunks are zero-filled (direct buffers always are).
+ *
+ * Not thread-safe - the owner guards it with its own lock.
+ */
+final class OffHeapColumn {
+
+    static final int ROWS_PER_CHUNK = 1 << 16;
+
+    private final int width;
+    private ByteBuffer[] chunks = new ByteBuffer[16];
+    private int chunkCount;
+
+    OffHeapColumn(int width) {
+        if (width < 1) throw new IllegalArgumentException("width must be >= 1");
+        this.width = width;
+    }
+
+    /** makes rows [0, rows) addressable */
+    void ensureCapacity(long rows) {
+        long needed = (rows + ROWS_PER_CHUNK - 1) / ROWS_PER_CHUNK;
+        if (needed > Integer.MAX_VALUE) throw new IllegalArgumentException("Too many rows: " + rows);
+        if (needed > chunks.length) chunks = Arrays.copyOf(chunks, Math.max((int) needed, chunks.length * 2));
+        while (chunkCount < needed) {
+            chunks[chunkCount++] = ByteBuffer.allocateDirect(ROWS_PER_CHUNK * width).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    long capacity() {
+        return (long) chunkCount * ROWS_PER_CHUNK;
+    }
+
+    long allocatedBytes() {
+        return (long) chunkCount * ROWS_PER_CHUNK * width;
+    }
+
+    byte getByte(long row, int offset) { return chunk(row).get(position(row, offset)); }
+    int getInt(long row, int offset) { return chunk(row).getInt(position(row, offset)); }
+    long getLong(long row, int offset) { return chunk(row).getLong(position(row, offset)); }
+
+    void putByte(long row, int offset, byte value) { chunk(row).put(position(row, offset), value); }
+    void putInt(long row, int offset, int value) { chunk(row).putInt(position(row, offset), value); }
+    void putLong(long row, int offset, long value) { chunk(row).putLong(position(row, offset), value); }
+
+    private ByteBuffer chunk(long row) {
+        return chunks[(int) (row / ROWS_PER_CHUNK)];
+    }
+
+    private int position(long row, int offset) {
+        return (int) (row % ROWS_PER_CHUNK) * width + offset;
+    }
+}
@@ -0,0 +1,88 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import java.util.function.LongPredicate;
+
+/**
+ * Primitive open-addressing hash table, off-heap: each slot is [int hash][pad][long value + 1]
+ * in an {@link OffHeapColumn}, so an empty slot is all zeros. Linear probing, doubled at 50% load.
+ *
+ * Keys are not stored - only their hash. The caller passes a predicate that checks a candidate value
+ * against the real key (e.g. reads the claimId columns of a row), which keeps a slot at 16 bytes
+ * whatever the key is. Entries are never removed (claims are never deleted).
+ *
+ * Not thread-safe - the owner guards it with its own lock.
+ */
+final class OffHeapHashIndex {
+
+    static final long ABSENT = -1;
+
+    private static final int SLOT_WIDTH = 16;
+    private static final int HASH = 0;
+    private static final int VALUE = 8;
+
+    private OffHeapColumn slots;
+    private long capacity;
+    private long size;
+
+    OffHeapHashIndex(long initialCapacity) {
+        this.capacity = Math.max(OffHeapColumn.ROWS_PER_CHUNK, Long.highestOneBit(Math.max(1, initialCapacity - 1)) << 1);
+        this.slots = allocate(capacity);
+    }
+
+    /** @return the value whose key matches, or ABSENT */
+    long find(int hash, LongPredicate matches) {
+        long mask = capacity - 1;
+        for (long slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            long stored = slots.getLong(slot, VALUE);
+            if (stored == 0) return ABSENT;
+            if (slots.getInt(slot, HASH) == hash && matches.test(stored - 1)) return stored - 1;
+        }
+    }
+
+    /** the key must not be in the table yet (call find first) */
+    void insert(int hash, long value) {
+        if (value < 0) throw new IllegalArgumentException("value must be >= 0");
+        if ((size + 1) * 2 > capacity) grow();
+        put(slots, capacity, hash, value + 1);
+        size++;
+    }
+
+    long size() {
+        return size;
+    }
+
+    long allocatedBytes() {
+        return slots.allocatedBytes();
+    }
+
+    private void grow() {
+        long newCapacity = capacity * 2;
+        OffHeapColumn bigger = allocate(newCapacity);
+        for (long slot = 0; slot < capacity; slot++) {
+            long stored = slots.getLong(slot, VALUE);
+            if (stored != 0) put(bigger, newCapacity, slots.getInt(slot, HASH), stored);
+        }
+        slots = bigger; // the old chunks go away with their ByteBuffers
+        capacity = newCapacity;
+    }
+
+    private static void put(OffHeapColumn table, long capacity, int hash, long stored) {
+        long mask = capacity - 1;
+        long slot = spread(hash) & mask;
+        while (table.getLong(slot, VALUE) != 0) slot = (slot + 1) & mask;
+        table.putInt(slot, HASH, hash);
+        table.putLong(slot, VALUE, stored);
+    }
+
+    private static OffHeapColumn allocate(long capacity) {
+        OffHeapColumn table = new OffHeapColumn(SLOT_WIDTH);
+        table.ensureCapacity(capacity);
+        return table;
+    }
+
+    // String.hashCode() is weak in the low bits for short keys
+    private static long spread(int hash) {
+        long h = hash * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+}
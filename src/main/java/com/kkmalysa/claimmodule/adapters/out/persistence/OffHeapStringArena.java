@@ -0,0 +1,105 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Append-only off-heap storage for the string columns. A string is [int length][UTF-8 bytes] inside
+ * one direct ByteBuffer chunk and is referred to by a long address (chunk << 32 | offset).
+ * NULL (-1) stands for a null string.
+ *
+ * intern() keeps one copy per distinct value (policyId, channel, createdBy, location repeat a lot);
+ * the dedup table is an off-heap {@link OffHeapHashIndex} keyed by String.hashCode().
+ * append() skips the dedup - for values that are unique anyway (descriptions, ids).
+ *
+ * Nothing is ever freed: a string that is no longer referenced stays until the store is rebuilt.
+ * Claims rarely change their string fields (a revision is mostly a status change), so that's fine.
+ *
+ * Not thread-safe - the owner guards it with its own lock.
+ */
+final class OffHeapStringArena {
+
+    static final long NULL = -1;
+
+    private static final int CHUNK_SIZE = 1 << 20;
+
+    private final OffHeapHashIndex dedup = new OffHeapHashIndex(1024);
+    private ByteBuffer[] chunks = new ByteBuffer[16];
+    private int chunkCount;
+    private long usedBytes;
+
+    long intern(String value) {
+        if (value == null) return NULL;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int hash = value.hashCode();
+        long found = dedup.find(hash, address -> equals(address, bytes));
+        if (found != OffHeapHashIndex.ABSENT) return found;
+
+        long address = write(bytes);
+        dedup.insert(hash, address);
+        return address;
+    }
+
+    /** @return the address of an interned copy of value, NULL when there is none */
+    long find(String value) {
+        if (value == null) return NULL;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long found = dedup.find(value.hashCode(), address -> equals(address, bytes));
+        return (found == OffHeapHashIndex.ABSENT) ? NULL : found;
+    }
+
+    long append(String value) {
+        return (value == null) ? NULL : write(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    String get(long address) {
+        if (address == NULL) return null;
+        ByteBuffer chunk = chunks[(int) (address >>> 32)];
+        int offset = (int) address;
+        byte[] bytes = new byte[chunk.getInt(offset)];
+        chunk.get(offset + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    boolean equals(long address, String value) {
+        if (address == NULL || value == null) return address == NULL && value == null;
+        return equals(address, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    long usedBytes() {
+        return usedBytes;
+    }
+
+    long allocatedBytes() {
+        long total = dedup.allocatedBytes();
+        for (int i = 0; i < chunkCount; i++) total += chunks[i].capacity();
+        return total;
+    }
+
+    private boolean equals(long address, byte[] bytes) {
+        ByteBuffer chunk = chunks[(int) (address >>> 32)];
+        int offset = (int) address;
+        if (chunk.getInt(offset) != bytes.length) return false;
+        return chunk.slice(offset + Integer.BYTES, bytes.length).equals(ByteBuffer.wrap(bytes));
+    }
+
+    private long write(byte[] bytes) {
+        int size = Integer.BYTES + bytes.length;
+        ByteBuffer chunk = (chunkCount == 0) ? null : chunks[chunkCount - 1];
+        if (chunk == null || chunk.remaining() < size) chunk = newChunk(Math.max(CHUNK_SIZE, size));
+
+        int offset = chunk.position();
+        chunk.putInt(bytes.length).put(bytes);
+        usedBytes += size;
+        return (long) (chunkCount - 1) << 32 | offset;
+    }
+
+    private ByteBuffer newChunk(int size) {
+        if (chunkCount == chunks.length) chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        ByteBuffer chunk = ByteBuffer.allocateDirect(size).order(ByteOrder.nativeOrder());
+        chunks[chunkCount++] = chunk;
+        return chunk;
+    }
+}
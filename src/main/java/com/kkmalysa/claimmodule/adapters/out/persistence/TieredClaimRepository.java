@@ -0,0 +1,241 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.ports.out.ClaimRepository;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Two tiers: active claims in an {@link InMemoryClaimRepository}, closed ones (APPROVED / REJECTED)
+ * moved to compressed block files by {@link ColdClaimStore}. Hot memory follows the working set,
+ * not the whole history.
+ *
+ * Moving ({@link #tierOnce()}, or the background thread from {@link #start()}) takes full blocks of
+ * terminal claims: writes the block, makes it readable, and only then drops each claim from the hot
+ * tier - if its version is still the one written. A claim saved meanwhile stays hot and its cold
+ * copy is forgotten. Leftovers smaller than a block wait for the next run.
+ *
+ * Reads always try hot first, so a claim that is in both tiers for a moment is read from hot.
+ * Writing a cold claim (e.g. reopening it) promotes it back: compareAndSave checks the cold copy's
+ * version and puts the new revision into the hot tier, then forgets the cold copy.
+ *
+ * Queries are served from the hot tier's indexes; the cold tier only for statuses it can hold, and there
+ * block by block (see {@link ColdClaimStore} - not an index, a block summary skips blocks without a match).
+ *
+ * The outbox is the hot tier's - events are only written with hot saves.
+ */
+public final class TieredClaimRepository implements ClaimRepository, AutoCloseable {
+
+    public static final Set<ClaimStatus> TERMINAL = EnumSet.of(ClaimStatus.APPROVED, ClaimStatus.REJECTED);
+
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+    public static final int DEFAULT_CACHED_BLOCKS = 8;
+    public static final Duration DEFAULT_TIERING_INTERVAL = Duration.ofMinutes(1);
+
+    private final InMemoryClaimRepository hot = new InMemoryClaimRepository();
+    private final ColdClaimStore cold;
+    private final int blockSize;
+    private final long tieringIntervalNanos;
+
+    private final Object tierLock = new Object(); // one tiering run at a time, also with a manual tierOnce()
+    private Thread worker;
+    private volatile boolean closed;
+
+    private final LongAdder moved = new LongAdder();
+    private final LongAdder promoted = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public TieredClaimRepository(Path coldDirectory) {
+        this(coldDirectory, DEFAULT_BLOCK_SIZE, DEFAULT_CACHED_BLOCKS, DEFAULT_TIERING_INTERVAL);
+    }
+
+    public TieredClaimRepository(Path coldDirectory, int blockSize, int cachedBlocks, Duration tieringInterval) {
+        if (blockSize < 1) throw new IllegalArgumentException("blockSize must be >= 1");
+        if (tieringInterval.isNegative() || tieringInterval.isZero()) throw new IllegalArgumentException("tieringInterval must be positive");
+
+        this.cold = new ColdClaimStore(Objects.requireNonNull(coldDirectory), cachedBlocks);
+        this.blockSize = blockSize;
+        this.tieringIntervalNanos = tieringInterval.toNanos();
+    }
+
+    @Override
+    public Optional<Claim> getById(String claimId) {
+        Optional<Claim> found = hot.getById(claimId);
+        if (found.isPresent()) return found;
+        found = cold.get(claimId);
+        // promoted between the two reads: it went into hot before it left cold
+        return found.isPresent() ? found : hot.getById(claimId);
+    }
+
+    @Override
+    public void save(Claim claim) {
+        hot.save(claim);
+        cold.remove(claim.getClaimId()); // the hot revision wins anyway, just don't keep a stale copy
+    }
+
+    @Override
+    public boolean compareAndSave(long expectedVersion, Claim claim, List<DomainEvent> events) {
+        if (hot.compareAndSave(expectedVersion, claim, events)) return true;
+
+        String claimId = claim.getClaimId();
+        if (cold.versionOf(claimId) != expectedVersion) return false;
+        if (hot.insertIfAbsent(claim, events)) {
+            cold.remove(claimId);
+            promoted.increment();
+            return true;
+        }
+        // someone else promoted or moved it first - settle it on the hot copy
+        return hot.compareAndSave(expectedVersion, claim, events);
+    }
+
+    // under tierLock: no claim can leave hot for cold between the two checks (a promotion goes into hot
+    // before it leaves cold, so it is seen by one of them anyway)
+    @Override
+    public Set<String> insertAllIfAbsent(Collection<Claim> claims) {
+        Set<String> existing = new HashSet<>();
+        synchronized (tierLock) {
+            for (Claim claim : claims) {
+                String claimId = claim.getClaimId();
+                if (cold.versionOf(claimId) >= 0 || !hot.insertIfAbsent(claim, List.of())) existing.add(claimId);
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public InMemoryEventOutbox outbox() {
+        return hot.outbox();
+    }
+
+    @Override
+    public List<Claim> findByPolicyId(String policyId) {
+        Objects.requireNonNull(policyId, "policyId");
+        return merge(hot.findByPolicyId(policyId),
+                block -> block.mayContainPolicy(policyId), claim -> claim.getPolicyId().equals(policyId));
+    }
+
+    @Override
+    public List<Claim> findByStatus(ClaimStatus status) {
+        Objects.requireNonNull(status, "status");
+        List<Claim> found = hot.findByStatus(status);
+        return TERMINAL.contains(status)
+                ? merge(found, block -> block.mayContainStatus(status), claim -> claim.getStatus() == status)
+                : found;
+    }
+
+    @Override
+    public List<Claim> findCreatedBetween(Instant fromInclusive, Instant toExclusive) {
+        List<Claim> found = merge(hot.findCreatedBetween(fromInclusive, toExclusive),
+                block -> block.mayContainCreatedBetween(fromInclusive, toExclusive),
+                claim -> !claim.getCreatedAt().isBefore(fromInclusive) && claim.getCreatedAt().isBefore(toExclusive));
+        found.sort(Comparator.comparing(Claim::getCreatedAt).thenComparing(Claim::getClaimId));
+        return found;
+    }
+
+    /**
+     * Moves full blocks of terminal claims to the cold tier.
+     * @return number of claims that left the hot tier
+     */
+    public int tierOnce() {
+        synchronized (tierLock) {
+            cold.retryDeletes();
+            List<Claim> candidates = new ArrayList<>();
+            for (ClaimStatus status : TERMINAL) candidates.addAll(hot.findByStatus(status));
+
+            int movedNow = 0;
+            for (int from = 0; from + blockSize <= candidates.size(); from += blockSize) {
+                List<Claim> block = candidates.subList(from, from + blockSize);
+                int blockNumber = cold.writeBlock(block);
+                for (Claim claim : block) {
+                    if (hot.removeIfVersion(claim.getClaimId(), claim.getVersion())) {
+                        movedNow++;
+                    } else {
+                        cold.remove(claim.getClaimId(), blockNumber); // changed meanwhile, stays hot
+                    }
+                }
+            }
+            moved.add(movedNow);
+            return movedNow;
+        }
+    }
+
+    public synchronized void start() {
+        if (closed) throw new IllegalStateException("Repository is closed");
+        if (worker != null) throw new IllegalStateException("Tiering is already started");
+        worker = Thread.ofPlatform().name("claim-tiering").daemon().start(this::tieringLoop);
+    }
+
+    public int hotSize() { return hot.size(); }
+    public int coldSize() { return cold.size(); }
+    public int coldBlockCount() { return cold.blockCount(); }
+    public long coldDiskBytes() { return cold.diskBytes(); }
+    public long coldCacheHits() { return cold.cacheHits(); }
+    public long coldCacheMisses() { return cold.cacheMisses(); }
+    public long coldDeleteFailures() { return cold.deleteFailures(); }
+    public long movedCount() { return moved.sum(); }
+    public long promotedCount() { return promoted.sum(); }
+    public long failureCount() { return failures.sum(); }
+
+    /**
+     * Stops the background thread; a run that is in progress is finished first.
+     * The block files stay on disk until the next open of the same directory.
+     */
+    @Override
+    public void close() {
+        Thread running;
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            running = worker;
+        }
+        if (running == null) return;
+        running.interrupt();
+        try {
+            running.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // a claim in both tiers (mid-move / mid-promotion) is reported once, from hot
+    private List<Claim> merge(List<Claim> fromHot, Predicate<ColdClaimStore.BlockSummary> coldBlockMayMatch, Predicate<Claim> coldMatches) {
+        List<Claim> found = new ArrayList<>(fromHot);
+        for (Claim claim : cold.find(coldBlockMayMatch, coldMatches)) {
+            if (hot.getById(claim.getClaimId()).isEmpty()) found.add(claim);
+        }
+        return found;
+    }
+
+    // --- tiering thread ---
+
+    private void tieringLoop() {
+        while (!closed) {
+            try {
+                tierOnce();
+            } catch (RuntimeException e) {
+                failures.increment(); // e.g. disk full - the claims just stay hot, retried next time
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(tieringIntervalNanos);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
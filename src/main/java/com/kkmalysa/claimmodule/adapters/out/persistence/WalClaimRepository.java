@@ -0,0 +1,506 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.ports.out.ClaimRepository;
+import com.kkmalysa.claimmodule.ports.out.EventOutbox;
+import com.kkmalysa.claimmodule.ports.out.OutboxEntry;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Durable {@link ClaimRepository}: every save is appended to a {@link WriteAheadLog} on local disk
+ * (group-committed, so concurrent writers share fsyncs) before it becomes visible.
+ *
+ * Reads, including the secondary-index queries, never touch the disk - they are served by an
+ * {@link InMemoryClaimRepository} used as the index.
+ *
+ * On startup the index is rebuilt from the newest snapshot plus the log segments written after it.
+ * {@link #snapshot()} writes the whole index to a snapshot file and drops the segments it covers,
+ * which keeps restart time bounded.
+ *
+ * Outbox events are stored in the same log record as their claims, and relay checkpoints get
+ * their own records. The index and the outbox are updated on the log's writer thread, in log
+ * order, so outbox sequences after a restart are exactly the ones handed out before it.
+ */
+public final class WalClaimRepository implements ClaimRepository, AutoCloseable {
+
+    static final long DEFAULT_MAX_SEGMENT_BYTES = 64L * 1024 * 1024;
+
+    private static final byte RECORD_SAVE_CLAIMS = 1; // old format, claims only - still replayed
+    private static final byte RECORD_SAVE_CLAIMS_WITH_EVENTS = 2;
+    private static final byte RECORD_OUTBOX_CHECKPOINT = 3;
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final int SNAPSHOT_MAGIC = 0x434C4D53; // "CLMS" - claims only, still readable
+    private static final int SNAPSHOT_WITH_OUTBOX_MAGIC = 0x434C4D4F; // "CLMO"
+
+    // a log append + index update for one claimId must not interleave with another one for the same id,
+    // otherwise the index and the log (= state after restart) could disagree about the last write
+    private static final int LOCK_STRIPES = 1024;
+
+    private final Path directory;
+    private final InMemoryClaimRepository index = new InMemoryClaimRepository();
+    private final WriteAheadLog log;
+    private final DurableOutbox outbox = new DurableOutbox();
+
+    private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+    // writers share it, snapshot() takes it exclusively for the short "roll segment + copy index" moment
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
+    public WalClaimRepository(Path directory) {
+        this(directory, DEFAULT_MAX_SEGMENT_BYTES);
+    }
+
+    WalClaimRepository(Path directory, long maxSegmentBytes) {
+        this.directory = Objects.requireNonNull(directory);
+        for (int i = 0; i < LOCK_STRIPES; i++) stripes[i] = new ReentrantLock();
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot create WAL directory " + directory, e);
+        }
+
+        long firstSegment = loadLatestSnapshot();
+        long nextSegment = WriteAheadLog.replay(directory, firstSegment, this::applyRecord);
+        this.log = new WriteAheadLog(directory, nextSegment, maxSegmentBytes);
+    }
+
+    @Override
+    public Optional<Claim> getById(String claimId) {
+        return index.getById(claimId);
+    }
+
+    @Override
+    public Map<String, Claim> getByIds(Collection<String> claimIds) {
+        return index.getByIds(claimIds);
+    }
+
+    @Override
+    public List<Claim> findByPolicyId(String policyId) {
+        return index.findByPolicyId(policyId);
+    }
+
+    @Override
+    public List<Claim> findByStatus(ClaimStatus status) {
+        return index.findByStatus(status);
+    }
+
+    @Override
+    public List<Claim> findCreatedBetween(Instant fromInclusive, Instant toExclusive) {
+        return index.findCreatedBetween(fromInclusive, toExclusive);
+    }
+
+    @Override
+    public void save(Claim claim) {
+        saveAll(List.of(claim));
+    }
+
+    /**
+     * All claims go to the log as ONE record - a batch is durable (and survives a crash) as a whole.
+     */
+    @Override
+    public void saveAll(Collection<Claim> claims) {
+        if (claims.isEmpty()) return;
+        byte[] record = encodeSaveClaims(claims, Map.of());
+        List<ReentrantLock> locks = stripesFor(claims);
+
+        snapshotLock.readLock().lock();
+        try {
+            locks.forEach(ReentrantLock::lock);
+            try {
+                log.append(record, () -> index.saveAll(claims));
+            } finally {
+                locks.forEach(ReentrantLock::unlock);
+            }
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Checked against the index under the stripes of all claims, like compareAndSaveAll;
+     * the new claims go to the log as one record.
+     */
+    @Override
+    public Set<String> insertAllIfAbsent(Collection<Claim> claims) {
+        if (claims.isEmpty()) return Set.of();
+        List<ReentrantLock> locks = stripesFor(claims);
+
+        snapshotLock.readLock().lock();
+        try {
+            locks.forEach(ReentrantLock::lock);
+            try {
+                Set<String> existing = new HashSet<>();
+                Set<String> acceptedIds = new HashSet<>();
+                List<Claim> accepted = new ArrayList<>(claims.size());
+                for (Claim claim : claims) {
+                    String claimId = claim.getClaimId();
+                    if (acceptedIds.contains(claimId) || index.getById(claimId).isPresent()) {
+                        existing.add(claimId);
+                    } else {
+                        acceptedIds.add(claimId);
+                        accepted.add(claim);
+                    }
+                }
+                if (!accepted.isEmpty()) {
+                    log.append(encodeSaveClaims(accepted, Map.of()), () -> index.saveAll(accepted));
+                }
+                return existing;
+            } finally {
+                locks.forEach(ReentrantLock::unlock);
+            }
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean compareAndSave(long expectedVersion, Claim claim, List<DomainEvent> events) {
+        return compareAndSaveAll(
+                Map.of(claim.getClaimId(), expectedVersion),
+                List.of(claim),
+                Map.of(claim.getClaimId(), events)
+        ).isEmpty();
+    }
+
+    /**
+     * Versions are checked against the index while holding the stripes of all claims, so nobody can
+     * sneak in between the check and the log append. The accepted claims and their events go to the
+     * log as one record.
+     */
+    @Override
+    public Set<String> compareAndSaveAll(
+            Map<String, Long> expectedVersions,
+            Collection<Claim> claims,
+            Map<String, List<DomainEvent>> eventsByClaimId
+    ) {
+        if (claims.isEmpty()) return Set.of();
+        List<ReentrantLock> locks = stripesFor(claims);
+
+        snapshotLock.readLock().lock();
+        try {
+            locks.forEach(ReentrantLock::lock);
+            try {
+                Set<String> conflicts = new HashSet<>();
+                List<Claim> accepted = new ArrayList<>(claims.size());
+                for (Claim claim : claims) {
+                    Long expectedVersion = expectedVersions.get(claim.getClaimId());
+                    if (expectedVersion == null) throw new IllegalArgumentException("No expected version for claim: " + claim.getClaimId());
+
+                    Optional<Claim> current = index.getById(claim.getClaimId());
+                    if (current.isPresent() && current.get().getVersion() == expectedVersion) {
+                        accepted.add(claim);
+                    } else {
+                        conflicts.add(claim.getClaimId());
+                    }
+                }
+
+                if (!accepted.isEmpty()) {
+                    log.append(encodeSaveClaims(accepted, eventsByClaimId), () -> {
+                        for (Claim claim : accepted) {
+                            index.saveWithEvents(claim, eventsByClaimId.getOrDefault(claim.getClaimId(), List.of()));
+                        }
+                    });
+                }
+                return conflicts;
+            } finally {
+                locks.forEach(ReentrantLock::unlock);
+            }
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public EventOutbox outbox() {
+        return outbox;
+    }
+
+    /**
+     * Writes the current state to a new snapshot file and deletes the log segments and snapshots it replaces.
+     */
+    public void snapshot() {
+        long firstSegment;
+        Collection<Claim> claims;
+        long lastSequence;
+        long checkpoint;
+        List<OutboxEntry> pending;
+
+        snapshotLock.writeLock().lock();
+        try {
+            firstSegment = log.roll();
+            claims = index.allClaims();
+            lastSequence = index.outbox().lastSequence();
+            checkpoint = index.outbox().checkpoint();
+            pending = index.outbox().pendingEntries();
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+
+        writeSnapshot(firstSegment, claims, lastSequence, checkpoint, pending);
+        WriteAheadLog.deleteSegmentsBefore(directory, firstSegment);
+        deleteSnapshotsBefore(firstSegment);
+    }
+
+    long walAppendCount() { return log.appendCount(); }
+    long walSyncCount() { return log.syncCount(); }
+
+    @Override
+    public void close() {
+        log.close();
+    }
+
+    // --- log records ---
+
+    private static byte[] encodeSaveClaims(Collection<Claim> claims, Map<String, List<DomainEvent>> eventsByClaimId) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 * claims.size());
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(RECORD_SAVE_CLAIMS_WITH_EVENTS);
+            out.writeInt(claims.size());
+            for (Claim claim : claims) {
+                writeBytes(out, ClaimRecordCodec.encode(claim));
+                List<DomainEvent> events = eventsByClaimId.getOrDefault(claim.getClaimId(), List.of());
+                out.writeInt(events.size());
+                for (DomainEvent event : events) {
+                    writeBytes(out, EventRecordCodec.encode(event));
+                }
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] encodeCheckpoint(long sequence) {
+        return ByteBuffer.allocate(1 + Long.BYTES).put(RECORD_OUTBOX_CHECKPOINT).putLong(sequence).array();
+    }
+
+    private void applyRecord(byte[] record) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+            byte type = in.readByte();
+            switch (type) {
+                case RECORD_SAVE_CLAIMS, RECORD_SAVE_CLAIMS_WITH_EVENTS -> {
+                    int count = in.readInt();
+                    for (int i = 0; i < count; i++) {
+                        Claim claim = ClaimRecordCodec.decode(readBytes(in));
+                        List<DomainEvent> events = new ArrayList<>();
+                        if (type == RECORD_SAVE_CLAIMS_WITH_EVENTS) {
+                            int eventCount = in.readInt();
+                            for (int j = 0; j < eventCount; j++) events.add(EventRecordCodec.decode(readBytes(in)));
+                        }
+                        index.saveWithEvents(claim, events);
+                    }
+                }
+                case RECORD_OUTBOX_CHECKPOINT -> index.outbox().checkpoint(in.readLong());
+                default -> throw new IllegalStateException("Unknown WAL record type: " + type);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupted WAL record", e);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private List<ReentrantLock> stripesFor(Collection<Claim> claims) {
+        // sorted -> every writer takes the stripes in the same order, no deadlocks
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (Claim claim : claims) {
+            indexes.add(Math.floorMod(claim.getClaimId().hashCode(), LOCK_STRIPES));
+        }
+        List<ReentrantLock> locks = new ArrayList<>(indexes.size());
+        for (int i : indexes) locks.add(stripes[i]);
+        return locks;
+    }
+
+    // --- snapshots ---
+
+    /**
+     * @return first log segment NOT covered by the loaded snapshot (0 when there is none)
+     */
+    private long loadLatestSnapshot() {
+        List<Long> sequences = snapshotSequences();
+        if (sequences.isEmpty()) return 0;
+
+        long sequence = sequences.get(sequences.size() - 1);
+        Path path = snapshotPath(sequence);
+        try (InputStream file = Files.newInputStream(path)) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(file));
+            int magic = in.readInt();
+            if (magic != SNAPSHOT_MAGIC && magic != SNAPSHOT_WITH_OUTBOX_MAGIC) throw new IllegalStateException("Not a claim snapshot: " + path);
+            int count = in.readInt();
+            long headerBytes = 2 * Integer.BYTES;
+
+            long lastSequence = 0;
+            long checkpoint = 0;
+            int pendingCount = 0;
+            if (magic == SNAPSHOT_WITH_OUTBOX_MAGIC) {
+                lastSequence = in.readLong();
+                checkpoint = in.readLong();
+                pendingCount = in.readInt();
+                headerBytes += 2 * Long.BYTES + Integer.BYTES;
+            }
+
+            // claims first, then the pending outbox entries
+            List<Claim> claims = new ArrayList<>(count);
+            List<OutboxEntry> pending = new ArrayList<>(pendingCount);
+            WriteAheadLog.readRecords(in, Files.size(path) - headerBytes, record -> {
+                if (claims.size() < count) claims.add(ClaimRecordCodec.decode(record));
+                else pending.add(decodeOutboxEntry(record));
+            });
+            if (claims.size() != count || pending.size() != pendingCount) throw new IllegalStateException("Corrupted claim snapshot: " + path);
+
+            index.saveAll(claims);
+            index.outbox().restore(lastSequence, checkpoint, pending);
+            return sequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot read snapshot " + path, e);
+        }
+    }
+
+    private void writeSnapshot(long firstSegment, Collection<Claim> claims, long lastSequence, long checkpoint, List<OutboxEntry> pending) {
+        Path target = snapshotPath(firstSegment);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            try (OutputStream file = Files.newOutputStream(temp)) {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file));
+                out.writeInt(SNAPSHOT_WITH_OUTBOX_MAGIC);
+                out.writeInt(claims.size());
+                out.writeLong(lastSequence);
+                out.writeLong(checkpoint);
+                out.writeInt(pending.size());
+                for (Claim claim : claims) {
+                    out.write(WriteAheadLog.frame(ClaimRecordCodec.encode(claim)));
+                }
+                for (OutboxEntry entry : pending) {
+                    out.write(WriteAheadLog.frame(encodeOutboxEntry(entry)));
+                }
+                out.flush();
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            // a half-written snapshot is never visible under its final name
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            WriteAheadLog.syncDirectory(directory); // and the rename itself, before the segments it covers go
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot write snapshot " + target, e);
+        }
+    }
+
+    private static byte[] encodeOutboxEntry(OutboxEntry entry) {
+        byte[] event = EventRecordCodec.encode(entry.getEvent());
+        return ByteBuffer.allocate(Long.BYTES + event.length).putLong(entry.getSequence()).put(event).array();
+    }
+
+    private static OutboxEntry decodeOutboxEntry(byte[] record) {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        long sequence = buffer.getLong();
+        byte[] event = new byte[buffer.remaining()];
+        buffer.get(event);
+        return new OutboxEntry(sequence, EventRecordCodec.decode(event));
+    }
+
+    private void deleteSnapshotsBefore(long sequence) {
+        for (long existing : snapshotSequences()) {
+            if (existing >= sequence) continue;
+            try {
+                Files.deleteIfExists(snapshotPath(existing));
+            } catch (IOException e) {
+                throw new UncheckedIOException("cannot delete snapshot " + existing, e);
+            }
+        }
+    }
+
+    private Path snapshotPath(long sequence) {
+        return directory.resolve(SNAPSHOT_PREFIX + String.format("%020d", sequence) + SNAPSHOT_SUFFIX);
+    }
+
+    private List<Long> snapshotSequences() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot list WAL directory " + directory, e);
+        }
+    }
+
+    // --- outbox ---
+
+    /**
+     * Reads straight from the index's outbox; a checkpoint is logged first and applied after the fsync,
+     * so relayed events are not offered again after a restart.
+     */
+    private final class DurableOutbox implements EventOutbox {
+
+        @Override
+        public List<OutboxEntry> readAfter(long afterSequence, int maxEntries) {
+            return index.outbox().readAfter(afterSequence, maxEntries);
+        }
+
+        @Override
+        public long checkpoint() {
+            return index.outbox().checkpoint();
+        }
+
+        @Override
+        public void checkpoint(long sequence) {
+            InMemoryEventOutbox events = index.outbox();
+            if (sequence > events.lastSequence()) throw new IllegalArgumentException("Cannot checkpoint past the last entry: " + sequence);
+            if (sequence <= events.checkpoint()) return;
+
+            snapshotLock.readLock().lock();
+            try {
+                log.append(encodeCheckpoint(sequence), () -> events.checkpoint(sequence));
+            } finally {
+                snapshotLock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, segmented log of opaque records on local disk.
+ *
+ * Record framing: [int length][int crc32(payload)][payload].
+ *
+ * Group commit: append() only enqueues the record and waits. A single writer thread takes
+ * everything that queued up meanwhile, writes it with one write call and makes it durable
+ * with ONE fsync, then wakes up all the waiting callers. Under concurrent writers this turns
+ * N fsyncs into one, which is what makes a durable store fast enough.
+ *
+ * Segments are named segment-{sequence}.wal; a new one is started when the current one
+ * exceeds maxSegmentBytes, or on demand (roll) before a snapshot.
+ */
+final class WriteAheadLog implements AutoCloseable {
+
+    static final int MAX_GROUP_SIZE = 1024;
+    private static final int HEADER_BYTES = 8;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private static final Object POISON = new Object();
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    // confined to the writer thread after construction
+    private FileChannel segment;
+    private long segmentSequence;
+    private IOException failure;
+
+    private final LongAdder appends = new LongAdder();
+    private final LongAdder syncs = new LongAdder();
+
+    WriteAheadLog(Path directory, long firstSegmentSequence, long maxSegmentBytes) {
+        this.directory = Objects.requireNonNull(directory);
+        this.maxSegmentBytes = maxSegmentBytes;
+        try {
+            openSegment(firstSegmentSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot open WAL segment in " + directory, e);
+        }
+        this.writer = Thread.ofPlatform().name("claim-wal-writer").daemon().start(this::writeLoop);
+    }
+
+    /**
+     * Appends one record and returns once it is durable on disk.
+     */
+    void append(byte[] payload) {
+        append(payload, null);
+    }
+
+    /**
+     * Like {@link #append(byte[])}, but afterSync runs on the writer thread once the record is durable,
+     * before the caller is released. Callbacks run in log order - whatever they apply to memory
+     * happens in the same order as a replay after restart would apply it.
+     */
+    void append(byte[] payload, Runnable afterSync) {
+        PendingAppend pending = new PendingAppend(payload, afterSync);
+        enqueue(pending);
+        await(pending.done);
+    }
+
+    /**
+     * Closes the current segment and starts a new one.
+     * @return sequence of the new segment - every record appended before this call lives in an older one
+     */
+    long roll() {
+        Roll roll = new Roll();
+        enqueue(roll);
+        return await(roll.done);
+    }
+
+    long appendCount() { return appends.sum(); }
+    long syncCount() { return syncs.sum(); }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        queue.add(POISON);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failRemaining(); // an append may have slipped in behind the poison pill, see enqueue()
+    }
+
+    // --- writer thread ---
+
+    private void writeLoop() {
+        List<Object> batch = new ArrayList<>(MAX_GROUP_SIZE);
+        List<PendingAppend> group = new ArrayList<>(MAX_GROUP_SIZE);
+        boolean running = true;
+
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, MAX_GROUP_SIZE - 1);
+
+            for (Object op : batch) {
+                if (op instanceof PendingAppend append) {
+                    group.add(append);
+                    continue;
+                }
+                commit(group); // everything queued before a roll/close must land in the current segment
+                if (op instanceof Roll roll) {
+                    rollNow(roll);
+                } else if (op == POISON) {
+                    running = false;
+                }
+            }
+            commit(group);
+            batch.clear();
+        }
+
+        closeSegment();
+        failRemaining();
+    }
+
+    private void commit(List<PendingAppend> group) {
+        if (group.isEmpty()) return;
+        try {
+            if (failure != null) throw failure;
+
+            int size = 0;
+            for (PendingAppend append : group) size += HEADER_BYTES + append.payload.length;
+
+            ByteBuffer buffer = ByteBuffer.allocate(size);
+            for (PendingAppend append : group) {
+                buffer.putInt(append.payload.length).putInt(crc(append.payload)).put(append.payload);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) segment.write(buffer);
+            segment.force(false); // the one fsync for the whole group
+            syncs.increment();
+            appends.add(group.size());
+
+            for (PendingAppend append : group) append.complete();
+
+            if (segment.size() >= maxSegmentBytes) {
+                openSegment(segmentSequence + 1);
+            }
+        } catch (IOException e) {
+            failure = e; // the log is unusable from now on
+            for (PendingAppend append : group) append.done.completeExceptionally(e);
+        }
+        group.clear();
+    }
+
+    private void rollNow(Roll roll) {
+        try {
+            if (failure != null) throw failure;
+            openSegment(segmentSequence + 1);
+            roll.done.complete(segmentSequence);
+        } catch (IOException e) {
+            failure = e;
+            roll.done.completeExceptionally(e);
+        }
+    }
+
+    private void openSegment(long sequence) throws IOException {
+        closeSegment();
+        segment = FileChannel.open(segmentPath(directory, sequence),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        syncDirectory(directory); // a forced record is of no use if the new file's directory entry is lost
+        segmentSequence = sequence;
+    }
+
+    private void closeSegment() {
+        if (segment == null) return;
+        try {
+            segment.close();
+        } catch (IOException ignored) {
+            // everything written was already forced
+        }
+        segment = null;
+    }
+
+    private void failRemaining() {
+        Object op;
+        while ((op = queue.poll()) != null) {
+            IllegalStateException closedLog = new IllegalStateException("WAL is closed");
+            if (op instanceof PendingAppend append) append.done.completeExceptionally(closedLog);
+            if (op instanceof Roll roll) roll.done.completeExceptionally(closedLog);
+        }
+    }
+
+    // --- caller side ---
+
+    private void enqueue(Object op) {
+        if (closed) throw new IllegalStateException("WAL is closed");
+        queue.add(op);
+        // close() may have run between the check and the add - then nobody drains the queue anymore.
+        // If the op is still there, take it back; if not, the writer or failRemaining() already completed it.
+        if (closed && queue.remove(op)) throw new IllegalStateException("WAL is closed");
+    }
+
+    private static <T> T await(CompletableFuture<T> done) {
+        try {
+            return done.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw new UncheckedIOException("WAL write failed", io);
+            if (cause instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    // --- recovery / maintenance (static, used before the log is opened) ---
+
+    /**
+     * Feeds every intact record of segments >= fromSequence to the consumer, oldest first.
+     * A torn record at the end of the newest segment (crash in the middle of a write) is cut off;
+     * corruption anywhere else means lost data and fails loudly.
+     *
+     * @return sequence for the next segment to be opened
+     */
+    static long replay(Path directory, long fromSequence, Consumer<byte[]> consumer) {
+        List<Long> sequences = segmentSequences(directory).stream().filter(seq -> seq >= fromSequence).toList();
+
+        for (int i = 0; i < sequences.size(); i++) {
+            Path path = segmentPath(directory, sequences.get(i));
+            boolean newest = (i == sequences.size() - 1);
+            try {
+                long intactBytes = readRecords(path, consumer);
+                if (intactBytes < Files.size(path)) {
+                    if (!newest) throw new IllegalStateException("Corrupted WAL segment: " + path);
+                    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                        channel.truncate(intactBytes);
+                        channel.force(true);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("cannot replay WAL segment " + path, e);
+            }
+        }
+        return sequences.isEmpty() ? fromSequence : sequences.get(sequences.size() - 1) + 1;
+    }
+
+    static void deleteSegmentsBefore(Path directory, long sequence) {
+        for (long existing : segmentSequences(directory)) {
+            if (existing >= sequence) continue;
+            try {
+                Files.deleteIfExists(segmentPath(directory, existing));
+            } catch (IOException e) {
+                throw new UncheckedIOException("cannot delete WAL segment " + existing, e);
+            }
+        }
+    }
+
+    // makes created / renamed files in the directory survive a crash (same as ImportCheckpoint)
+    static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // not every platform can open a directory (Windows) - nothing more to do there
+        }
+    }
+
+    /**
+     * Reads framed records until EOF or the first damaged record.
+     * @return number of bytes that hold intact records
+     */
+    static long readRecords(Path path, Consumer<byte[]> consumer) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return readRecords(new DataInputStream(new BufferedInputStream(in)), Files.size(path), consumer);
+        }
+    }
+
+    static long readRecords(DataInputStream in, long totalBytes, Consumer<byte[]> consumer) throws IOException {
+        long position = 0;
+        while (position + HEADER_BYTES <= totalBytes) {
+            int length;
+            int crc;
+            try {
+                length = in.readInt();
+                crc = in.readInt();
+            } catch (EOFException e) {
+                break;
+            }
+            if (length < 0 || position + HEADER_BYTES + length > totalBytes) break;
+
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            if (crc(payload) != crc) break;
+
+            consumer.accept(payload);
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    static byte[] frame(byte[] payload) {
+        return ByteBuffer.allocate(HEADER_BYTES + payload.length)
+                .putInt(payload.length)
+                .putInt(crc(payload))
+                .put(payload)
+                .array();
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    static Path segmentPath(Path directory, long sequence) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%020d", sequence) + SEGMENT_SUFFIX);
+    }
+
+    private static List<Long> segmentSequences(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot list WAL directory " + directory, e);
+        }
+    }
+
+    // --- queued operations ---
+
+    private static final class PendingAppend {
+        private final byte[] payload;
+        private final Runnable afterSync; // nullable
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private PendingAppend(byte[] payload, Runnable afterSync) {
+            this.payload = Objects.requireNonNull(payload);
+            this.afterSync = afterSync;
+        }
+
+        private void complete() {
+            try {
+                if (afterSync != null) afterSync.run();
+                done.complete(null);
+            } catch (RuntimeException e) {
+                done.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class Roll {
+        private final CompletableFuture<Long> done = new CompletableFuture<>();
+    }
+}
@@ -0,0 +1,295 @@
+package com.kkmalysa.claimmodule.adapters.out.policy;
+
+import com.kkmalysa.claimmodule.ports.out.PolicyProvider;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Decorator: caches policy numbers in front of a (slow, remote) {@link PolicyProvider}.
+ *
+ * - size-bounded, least recently used entry is evicted first,
+ * - entries expire after timeToLive,
+ * - a hit in the last refreshAhead window before expiry reloads the entry in the background,
+ *   so hot policies (fleets) are never served as a miss,
+ * - "not found" is cached too, but only for the (short) negativeTimeToLive,
+ * - concurrent misses of the same policy share one delegate call (single flight).
+ *
+ * A hit takes no lock: entries live in a ConcurrentHashMap and a hit only stamps the entry with an
+ * access tick. Eviction goes by those ticks - it runs under its own lock on the insert path, and a
+ * full cache evicts a small batch at once (1/64 of maximumSize) so it scans the map rarely.
+ *
+ * Hit / miss / eviction counters are exposed for monitoring.
+ */
+public final class CachingPolicyProvider implements PolicyProvider {
+
+    private final PolicyProvider delegate;
+    private final int maximumSize;
+    private final int evictionSlack;
+    private final long timeToLiveMillis;
+    private final long refreshAheadMillis;
+    private final long negativeTimeToLiveMillis;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<String>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong accessTicks = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    public CachingPolicyProvider(
+            PolicyProvider delegate,
+            int maximumSize,
+            Duration timeToLive,
+            Duration refreshAhead,
+            Duration negativeTimeToLive
+    ) {
+        this(delegate, maximumSize, timeToLive, refreshAhead, negativeTimeToLive,
+                Clock.systemUTC(), task -> Thread.ofVirtual().start(task));
+    }
+
+    CachingPolicyProvider( // test-friendly
+            PolicyProvider delegate,
+            int maximumSize,
+            Duration timeToLive,
+            Duration refreshAhead,
+            Duration negativeTimeToLive,
+            Clock clock,
+            Executor refreshExecutor
+    ) {
+        if (maximumSize <= 0) throw new IllegalArgumentException("maximumSize must be positive");
+        if (timeToLive.isNegative() || timeToLive.isZero()) throw new IllegalArgumentException("timeToLive must be positive");
+        if (refreshAhead.isNegative() || refreshAhead.compareTo(timeToLive) >= 0) {
+            throw new IllegalArgumentException("refreshAhead must be between 0 and timeToLive");
+        }
+        if (negativeTimeToLive.isNegative()) throw new IllegalArgumentException("negativeTimeToLive must not be negative");
+
+        this.delegate = Objects.requireNonNull(delegate);
+        this.maximumSize = maximumSize;
+        this.evictionSlack = maximumSize / 64; // 0 for small caches -> exact bound
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.refreshAheadMillis = refreshAhead.toMillis();
+        this.negativeTimeToLiveMillis = negativeTimeToLive.toMillis();
+        this.clock = Objects.requireNonNull(clock);
+        this.refreshExecutor = Objects.requireNonNull(refreshExecutor);
+    }
+
+    @Override
+    public Optional<String> getPolicyNumber(String policyId) {
+        Entry cached = lookup(policyId);
+        if (cached != null) {
+            return Optional.ofNullable(cached.policyNumber);
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> inFlight = loading.putIfAbsent(policyId, mine);
+        if (inFlight != null) {
+            return Optional.ofNullable(await(inFlight)); // someone else is loading it already
+        }
+        try {
+            // the previous loader may have stored it between our lookup and putIfAbsent
+            Entry stored = live(policyId);
+            if (stored != null) {
+                mine.complete(stored.policyNumber);
+                return Optional.ofNullable(stored.policyNumber);
+            }
+            misses.increment();
+            String loaded = delegate.getPolicyNumber(policyId).orElse(null);
+            store(policyId, loaded);
+            mine.complete(loaded);
+            return Optional.ofNullable(loaded);
+        } catch (Throwable e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(policyId, mine);
+        }
+    }
+
+    @Override
+    public Map<String, String> getPolicyNumbers(Collection<String> policyIds) {
+        Map<String, String> found = new HashMap<>();
+        Map<String, CompletableFuture<String>> mine = new HashMap<>();
+        Map<String, CompletableFuture<String>> others = new HashMap<>();
+
+        for (String policyId : policyIds) {
+            Entry cached = lookup(policyId);
+            if (cached != null) {
+                if (cached.policyNumber != null) found.put(policyId, cached.policyNumber);
+                continue;
+            }
+            if (mine.containsKey(policyId) || others.containsKey(policyId)) continue;
+
+            CompletableFuture<String> future = new CompletableFuture<>();
+            CompletableFuture<String> inFlight = loading.putIfAbsent(policyId, future);
+            if (inFlight == null) {
+                mine.put(policyId, future);
+            } else {
+                others.put(policyId, inFlight);
+            }
+        }
+
+        if (!mine.isEmpty()) {
+            try {
+                misses.add(mine.size());
+                Map<String, String> loaded = delegate.getPolicyNumbers(new ArrayList<>(mine.keySet()));
+                for (Map.Entry<String, CompletableFuture<String>> loadedHere : mine.entrySet()) {
+                    String policyNumber = loaded.get(loadedHere.getKey());
+                    store(loadedHere.getKey(), policyNumber);
+                    loadedHere.getValue().complete(policyNumber);
+                    if (policyNumber != null) found.put(loadedHere.getKey(), policyNumber);
+                }
+            } catch (Throwable e) {
+                for (CompletableFuture<String> future : mine.values()) future.completeExceptionally(e);
+                throw e;
+            } finally {
+                mine.forEach(loading::remove);
+            }
+        }
+
+        // loaded by other callers meanwhile - only now, so our own batch call was not held up by them
+        for (Map.Entry<String, CompletableFuture<String>> loadedElsewhere : others.entrySet()) {
+            String policyNumber = await(loadedElsewhere.getValue());
+            if (policyNumber != null) found.put(loadedElsewhere.getKey(), policyNumber);
+        }
+        return found;
+    }
+
+    public long hitCount() { return hits.sum(); }
+    public long missCount() { return misses.sum(); }
+    public long evictionCount() { return evictions.sum(); }
+    public long refreshCount() { return refreshes.sum(); }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // --- internals ---
+
+    /**
+     * @return a live entry (counted as a hit), or null when absent/expired
+     */
+    private Entry lookup(String policyId) {
+        long now = clock.millis();
+        Entry entry = entries.get(policyId);
+        if (entry == null || now >= entry.expiresAtMillis) return null;
+
+        hits.increment();
+        touch(entry);
+        if (entry.policyNumber != null && now >= entry.refreshAtMillis && entry.refreshing.compareAndSet(false, true)) {
+            refreshInBackground(policyId, entry);
+        }
+        return entry;
+    }
+
+    // no hit, no refresh - just "is there a live one"
+    private Entry live(String policyId) {
+        Entry entry = entries.get(policyId);
+        return (entry == null || clock.millis() >= entry.expiresAtMillis) ? null : entry;
+    }
+
+    private void touch(Entry entry) {
+        // a hot entry hit again and again does not keep writing the shared counter
+        if (entry.lastAccess != accessTicks.get()) {
+            entry.lastAccess = accessTicks.incrementAndGet();
+        }
+    }
+
+    private void refreshInBackground(String policyId, Entry stale) {
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    store(policyId, delegate.getPolicyNumber(policyId).orElse(null));
+                    refreshes.increment();
+                } catch (RuntimeException e) {
+                    // keep serving the old value until it expires, the next hit will try again
+                    stale.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            stale.refreshing.set(false); // executor full / shut down - the next hit will try again
+        }
+    }
+
+    private void store(String policyId, String policyNumber) {
+        long now = clock.millis();
+        Entry entry = (policyNumber != null)
+                ? new Entry(policyNumber, now + timeToLiveMillis, now + timeToLiveMillis - refreshAheadMillis)
+                : new Entry(null, now + negativeTimeToLiveMillis, Long.MAX_VALUE);
+        entry.lastAccess = accessTicks.incrementAndGet();
+
+        entries.put(policyId, entry);
+        if (entries.size() > maximumSize) evict();
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) return; // someone is evicting already
+        try {
+            int excess = entries.size() - maximumSize;
+            if (excess <= 0) return;
+            int toEvict = excess + evictionSlack;
+
+            // max-heap by access tick: keeps the toEvict least recently used entries
+            PriorityQueue<Map.Entry<String, Entry>> oldest =
+                    new PriorityQueue<>(toEvict + 1, Comparator.comparingLong((Map.Entry<String, Entry> e) -> e.getValue().lastAccess).reversed());
+            for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+                oldest.add(Map.entry(candidate.getKey(), candidate.getValue()));
+                if (oldest.size() > toEvict) oldest.poll();
+            }
+            for (Map.Entry<String, Entry> victim : oldest) {
+                // only if it was not replaced meanwhile
+                if (entries.remove(victim.getKey(), victim.getValue())) evictions.increment();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static String await(CompletableFuture<String> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+
+    // immutable apart from the refresh flag and the access tick; a refresh replaces the whole entry
+    private static final class Entry {
+        private final String policyNumber; // null = cached "not found"
+        private final long expiresAtMillis;
+        private final long refreshAtMillis;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile long lastAccess;
+
+        private Entry(String policyNumber, long expiresAtMillis, long refreshAtMillis) {
+            this.policyNumber = policyNumber;
+            this.expiresAtMillis = expiresAtMillis;
+            this.refreshAtMillis = refreshAtMillis;
+        }
+    }
+}
@@ -2,21 +2,179 @@ package com.kkmalysa.claimmodule.adapters.out.submission;
 
 import com.kkmalysa.claimmodule.application.submission.ClaimSubmission;
 import com.kkmalysa.claimmodule.ports.out.SubmissionGateway;
+import com.kkmalysa.claimmodule.ports.out.SubmissionRejectedException;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
+/**
+ * Bounded in-memory gateway: sent submissions land in a fixed-size ring buffer
+ * (many producers = concurrent submit() calls, one consumer that drains it).
+ *
+ * Memory never grows past the capacity; what happens when the buffer is full is decided by
+ * the {@link OverflowPolicy}. Occupancy and accepted/dropped/rejected counters are exposed for monitoring.
+ *
+ * A single short lock guards the ring - DROP_OLDEST needs a producer to remove the head,
+ * which a lock-free single-consumer queue cannot offer.
+ */
 public final class InMemorySubmissionGateway implements SubmissionGateway {
 
-    private final List<ClaimSubmission> sent = new ArrayList<>();
+    public static final int DEFAULT_CAPACITY = 10_000;
+
+    private final ClaimSubmission[] ring;
+    private final OverflowPolicy overflowPolicy;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition notEmpty = lock.newCondition();
+
+    private int head; // index of the oldest buffered submission
+    private int size;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    // REJECT: without a consumer a full BLOCK buffer would hang every submit - BLOCK only with a drainer
+    public InMemorySubmissionGateway() {
+        this(DEFAULT_CAPACITY, OverflowPolicy.REJECT);
+    }
+
+    public InMemorySubmissionGateway(int capacity, OverflowPolicy overflowPolicy) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        this.ring = new ClaimSubmission[capacity];
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+    }
 
     @Override
     public void send(ClaimSubmission submission) {
-        sent.add(submission);
+        Objects.requireNonNull(submission, "submission");
+        lock.lock();
+        try {
+            if (size == ring.length) makeRoom();
+            ring[(head + size) % ring.length] = submission;
+            size++;
+            accepted.increment();
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // --- consumer side (single consumer) ---
+
+    /**
+     * Removes and returns up to maxElements of the oldest buffered submissions, without waiting.
+     */
+    public List<ClaimSubmission> drain(int maxElements) {
+        List<ClaimSubmission> drained = new ArrayList<>(Math.min(maxElements, ring.length));
+        drainTo(drained::add, maxElements);
+        return drained;
     }
 
+    /**
+     * Like {@link #drain(int)}, but waits up to maxWait for at least one submission.
+     * @return an empty list if nothing arrived in time
+     */
+    public List<ClaimSubmission> drain(int maxElements, Duration maxWait) throws InterruptedException {
+        long remainingNanos = maxWait.toNanos();
+        lock.lock();
+        try {
+            while (size == 0 && remainingNanos > 0) {
+                remainingNanos = notEmpty.awaitNanos(remainingNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return drain(maxElements);
+    }
+
+    /**
+     * Hands up to maxElements of the oldest buffered submissions to the consumer, oldest first.
+     * @return how many were drained
+     */
+    public int drainTo(Consumer<? super ClaimSubmission> consumer, int maxElements) {
+        if (maxElements <= 0) return 0;
+        List<ClaimSubmission> batch;
+        lock.lock();
+        try {
+            int count = Math.min(maxElements, size);
+            batch = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                batch.add(ring[head]);
+                ring[head] = null; // let GC have it
+                head = (head + 1) % ring.length;
+            }
+            size -= count;
+            if (count > 0) notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        batch.forEach(consumer); // outside the lock, producers are not held up by a slow consumer
+        return batch.size();
+    }
+
+    /**
+     * @return a copy of the submissions buffered right now (not yet drained), oldest first
+     */
     public List<ClaimSubmission> sentSubmissions() {
-        return Collections.unmodifiableList(sent);
+        lock.lock();
+        try {
+            List<ClaimSubmission> copy = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                copy.add(ring[(head + i) % ring.length]);
+            }
+            return copy;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // --- metrics ---
+
+    public int capacity() { return ring.length; }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long acceptedCount() { return accepted.sum(); }
+    public long droppedCount() { return dropped.sum(); }
+    public long rejectedCount() { return rejected.sum(); }
+
+    // --- overflow (called with the lock held and the ring full) ---
+
+    private void makeRoom() {
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    while (size == ring.length) notFull.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for space in the submission buffer", e);
+                }
+            }
+            case DROP_OLDEST -> {
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+                size--;
+                dropped.increment();
+            }
+            case REJECT -> {
+                rejected.increment();
+                throw new SubmissionRejectedException("Submission buffer is full (capacity " + ring.length + ")");
+            }
+        }
     }
 }
@@ -0,0 +1,267 @@
+package com.kkmalysa.claimmodule.adapters.out.submission;
+
+import com.kkmalysa.claimmodule.application.submission.ClaimSubmission;
+import com.kkmalysa.claimmodule.ports.out.SubmissionGateway;
+import com.kkmalysa.claimmodule.ports.out.SubmissionRejectedException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/**
+ * Decorator: collects submissions from many callers and forwards them to the downstream gateway
+ * in batches ({@link SubmissionGateway#sendAll}), so the downstream fixed per-request cost is paid
+ * once per batch instead of once per submission.
+ *
+ * A batch is flushed as soon as one of these is hit:
+ * - maxBatchSize submissions,
+ * - maxBatchBytes (estimated payload size),
+ * - maxLinger since the oldest submission in the batch was queued (caps the extra latency).
+ *
+ * {@link #sendAsync} returns a per-submission completion handle; {@link #send} keeps the blocking
+ * port contract (returns once the downstream accepted the batch, throws if it failed).
+ *
+ * The queue in front of the flusher is bounded. When the downstream falls behind and the queue is full,
+ * a caller waits at most enqueueTimeout for space and then gets a {@link SubmissionRejectedException}
+ * (counted as rejected) - a slow downstream turns into backpressure, not into unbounded memory.
+ */
+public final class MicroBatchingSubmissionGateway implements SubmissionGateway, AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    public static final Duration DEFAULT_ENQUEUE_TIMEOUT = Duration.ofSeconds(1);
+
+    private final SubmissionGateway downstream;
+    private final int maxBatchSize;
+    private final long maxBatchBytes;
+    private final long maxLingerNanos;
+    private final ToIntFunction<ClaimSubmission> sizeEstimator;
+    private final int queueCapacity;
+    private final long enqueueTimeoutNanos;
+
+    private final BlockingQueue<Pending> queue;
+    private final Thread flusher;
+    private volatile boolean closed;
+
+    private Pending carriedOver; // flusher thread only: did not fit into the previous batch (bytes)
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder submissions = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public MicroBatchingSubmissionGateway(SubmissionGateway downstream, int maxBatchSize, long maxBatchBytes, Duration maxLinger) {
+        this(downstream, maxBatchSize, maxBatchBytes, maxLinger, MicroBatchingSubmissionGateway::estimateSize);
+    }
+
+    public MicroBatchingSubmissionGateway(
+            SubmissionGateway downstream,
+            int maxBatchSize,
+            long maxBatchBytes,
+            Duration maxLinger,
+            ToIntFunction<ClaimSubmission> sizeEstimator
+    ) {
+        this(downstream, maxBatchSize, maxBatchBytes, maxLinger, DEFAULT_QUEUE_CAPACITY, DEFAULT_ENQUEUE_TIMEOUT, sizeEstimator);
+    }
+
+    public MicroBatchingSubmissionGateway(
+            SubmissionGateway downstream,
+            int maxBatchSize,
+            long maxBatchBytes,
+            Duration maxLinger,
+            int queueCapacity,
+            Duration enqueueTimeout
+    ) {
+        this(downstream, maxBatchSize, maxBatchBytes, maxLinger, queueCapacity, enqueueTimeout,
+                MicroBatchingSubmissionGateway::estimateSize);
+    }
+
+    public MicroBatchingSubmissionGateway(
+            SubmissionGateway downstream,
+            int maxBatchSize,
+            long maxBatchBytes,
+            Duration maxLinger,
+            int queueCapacity,
+            Duration enqueueTimeout,
+            ToIntFunction<ClaimSubmission> sizeEstimator
+    ) {
+        if (maxBatchSize <= 0) throw new IllegalArgumentException("maxBatchSize must be positive");
+        if (maxBatchBytes <= 0) throw new IllegalArgumentException("maxBatchBytes must be positive");
+        if (maxLinger.isNegative()) throw new IllegalArgumentException("maxLinger must not be negative");
+        if (queueCapacity <= 0) throw new IllegalArgumentException("queueCapacity must be positive");
+        if (enqueueTimeout.isNegative()) throw new IllegalArgumentException("enqueueTimeout must not be negative");
+
+        this.downstream = Objects.requireNonNull(downstream);
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchBytes = maxBatchBytes;
+        this.maxLingerNanos = maxLinger.toNanos();
+        this.sizeEstimator = Objects.requireNonNull(sizeEstimator);
+        this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+        this.queueCapacity = queueCapacity;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flusher = Thread.ofPlatform().name("submission-micro-batcher").daemon().start(this::flushLoop);
+    }
+
+    @Override
+    public void send(ClaimSubmission submission) {
+        try {
+            sendAsync(submission).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Queues the submission for the next batch. Waits up to enqueueTimeout when the queue is full.
+     * @return completed when the batch holding this submission was accepted downstream,
+     *         or completed exceptionally with the downstream failure
+     *         (or {@link SubmissionRejectedException} when the queue stayed full)
+     */
+    public CompletableFuture<Void> sendAsync(ClaimSubmission submission) {
+        Objects.requireNonNull(submission, "submission");
+        Pending pending = new Pending(submission, sizeEstimator.applyAsInt(submission), System.nanoTime());
+        if (closed) {
+            pending.done.completeExceptionally(new IllegalStateException("Gateway is closed"));
+            return pending.done;
+        }
+        try {
+            if (!queue.offer(pending, enqueueTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                pending.done.completeExceptionally(
+                        new SubmissionRejectedException("Micro-batch queue is full (capacity " + capacity() + ")"));
+                return pending.done;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.done.completeExceptionally(new SubmissionRejectedException("Interrupted while waiting for queue space"));
+            return pending.done;
+        }
+        // close() may have run meanwhile - if nobody took it yet, fail it here instead of leaving it queued forever
+        if (closed && queue.remove(pending)) {
+            pending.done.completeExceptionally(new IllegalStateException("Gateway is closed"));
+        }
+        return pending.done;
+    }
+
+    public long batchCount() { return batches.sum(); }
+    public long submissionCount() { return submissions.sum(); }
+    public long rejectedCount() { return rejected.sum(); }
+    public int queuedCount() { return queue.size(); }
+    public int capacity() { return queueCapacity; }
+
+    /**
+     * Flushes everything already queued, then stops the flusher thread.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        queue.offer(Pending.WAKE_UP); // a full queue wakes the flusher up anyway
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failLeftovers(); // a sendAsync may have slipped in after the flusher's last look
+    }
+
+    // --- flusher thread ---
+
+    private void flushLoop() {
+        try {
+            while (!closed || !queue.isEmpty() || carriedOver != null) {
+                List<Pending> batch = collectBatch();
+                if (!batch.isEmpty()) flush(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        failLeftovers();
+    }
+
+    private void failLeftovers() {
+        Pending leftover;
+        while ((leftover = queue.poll()) != null) {
+            leftover.done.completeExceptionally(new IllegalStateException("Gateway is closed"));
+        }
+    }
+
+    private List<Pending> collectBatch() throws InterruptedException {
+        Pending first = (carriedOver != null) ? carriedOver : queue.poll(100, TimeUnit.MILLISECONDS);
+        carriedOver = null;
+        if (first == null || first == Pending.WAKE_UP) return List.of();
+
+        List<Pending> batch = new ArrayList<>(Math.min(maxBatchSize, 1024));
+        batch.add(first);
+        long bytes = first.estimatedBytes;
+        long deadline = first.queuedAtNanos + maxLingerNanos;
+
+        while (batch.size() < maxBatchSize && bytes < maxBatchBytes) {
+            long waitNanos = closed ? 0 : deadline - System.nanoTime(); // closing: don't linger
+            Pending next = (waitNanos > 0) ? queue.poll(waitNanos, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) break;
+            if (next == Pending.WAKE_UP) continue;
+
+            if (bytes + next.estimatedBytes > maxBatchBytes) {
+                carriedOver = next; // starts the next batch
+                break;
+            }
+            batch.add(next);
+            bytes += next.estimatedBytes;
+        }
+        return batch;
+    }
+
+    private void flush(List<Pending> batch) {
+        List<ClaimSubmission> payload = new ArrayList<>(batch.size());
+        for (Pending pending : batch) payload.add(pending.submission);
+
+        try {
+            downstream.sendAll(payload);
+            batches.increment();
+            submissions.add(batch.size());
+            for (Pending pending : batch) pending.done.complete(null);
+        } catch (RuntimeException e) {
+            for (Pending pending : batch) pending.done.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Rough payload size (chars of the text fields + fixed overhead); good enough to keep batches
+     * under a transport limit. Pass a codec-based estimator when the wire format is known.
+     */
+    static int estimateSize(ClaimSubmission submission) {
+        int size = 64;
+        size += submission.getSubmissionId().length();
+        size += submission.getSubmittedBy().length();
+        size += submission.getClaimId().length();
+        size += submission.getPolicyId().length();
+        size += submission.getPolicyNumber().length();
+        size += submission.getIncidentType().length();
+        size += submission.getLocation().length();
+        for (String attachmentId : submission.getAttachmentIds()) size += attachmentId.length() + 4;
+        return size;
+    }
+
+    private static final class Pending {
+        private static final Pending WAKE_UP = new Pending(null, 0, 0);
+
+        private final ClaimSubmission submission;
+        private final int estimatedBytes;
+        private final long queuedAtNanos;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private Pending(ClaimSubmission submission, int estimatedBytes, long queuedAtNanos) {
+            this.submission = submission;
+            this.estimatedBytes = estimatedBytes;
+            this.queuedAtNanos = queuedAtNanos;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.kkmalysa.claimmodule.adapters.out.submission;
+
+/**
+ * What a bounded gateway does with a new submission when its buffer is full.
+ */
+public enum OverflowPolicy {
+    BLOCK,        // producer waits until the consumer drains some space (backpressure)
+    DROP_OLDEST,  // the oldest buffered submission is discarded to make room (counted as dropped)
+    REJECT        // send() fails fast with SubmissionRejectedException (counted as rejected)
+}
@@ -0,0 +1,86 @@
+package com.kkmalysa.claimmodule.adapters.out.submission;
+
+import com.kkmalysa.claimmodule.application.submission.ClaimSubmission;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * The single consumer of an {@link InMemorySubmissionGateway}: a background thread that drains it
+ * in batches and hands every batch downstream. Without one the buffer only fills up.
+ *
+ * A downstream that throws loses that batch (counted as failed) - the gateway is in-memory anyway,
+ * a real core integration would retry or dead-letter it.
+ */
+public final class SubmissionDrainer implements AutoCloseable {
+
+    private final InMemorySubmissionGateway gateway;
+    private final Consumer<List<ClaimSubmission>> downstream;
+    private final int batchSize;
+    private final Duration pollInterval;
+
+    private Thread worker;
+    private volatile boolean closed;
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public SubmissionDrainer(InMemorySubmissionGateway gateway, Consumer<List<ClaimSubmission>> downstream, int batchSize, Duration pollInterval) {
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive");
+        if (pollInterval.isNegative() || pollInterval.isZero()) throw new IllegalArgumentException("pollInterval must be positive");
+        this.gateway = Objects.requireNonNull(gateway);
+        this.downstream = Objects.requireNonNull(downstream);
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+    }
+
+    public synchronized void start() {
+        if (closed) throw new IllegalStateException("Drainer is closed");
+        if (worker != null) throw new IllegalStateException("Drainer is already started");
+        worker = Thread.ofPlatform().name("submission-drainer").daemon().start(this::drainLoop);
+    }
+
+    public long deliveredCount() { return delivered.sum(); }
+    public long failedCount() { return failed.sum(); }
+
+    /**
+     * Stops the thread; the batch being delivered is finished first, what is still buffered stays in the gateway.
+     */
+    @Override
+    public void close() {
+        Thread running;
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            running = worker;
+        }
+        if (running == null) return;
+        running.interrupt();
+        try {
+            running.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        while (!closed) {
+            List<ClaimSubmission> batch;
+            try {
+                batch = gateway.drain(batchSize, pollInterval);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (batch.isEmpty()) continue;
+            try {
+                downstream.accept(batch);
+                delivered.add(batch.size());
+            } catch (RuntimeException e) {
+                failed.add(batch.size());
+            }
+        }
+    }
+}
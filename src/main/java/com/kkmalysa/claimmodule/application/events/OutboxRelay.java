@@ -0,0 +1,122 @@
+package com.kkmalysa.claimmodule.application.events;
+
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.ports.out.DomainEventPublisher;
+import com.kkmalysa.claimmodule.ports.out.EventOutbox;
+import com.kkmalysa.claimmodule.ports.out.OutboxEntry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Moves events from an {@link EventOutbox} to the publishers: reads a batch after the checkpoint,
+ * hands it to every publisher in outbox order, then advances the checkpoint past it.
+ *
+ * At-least-once: if any publisher throws, the checkpoint stays where it was and the same batch
+ * is offered again on the next run - publishers that already got it will see it twice.
+ * Events are never lost and never reordered.
+ *
+ * Either call {@link #runOnce()} yourself, or {@link #start()} a background thread that polls
+ * every pollInterval while the outbox is empty (and after a failure).
+ */
+public final class OutboxRelay implements AutoCloseable {
+
+    private final EventOutbox outbox;
+    private final List<DomainEventPublisher> publishers;
+    private final int batchSize;
+    private final long pollIntervalNanos;
+
+    private final Object runLock = new Object(); // one batch at a time, also with a manual runOnce()
+    private Thread worker;
+    private volatile boolean closed;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public OutboxRelay(EventOutbox outbox, List<DomainEventPublisher> publishers, int batchSize, Duration pollInterval) {
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive");
+        if (pollInterval.isNegative() || pollInterval.isZero()) throw new IllegalArgumentException("pollInterval must be positive");
+
+        this.outbox = Objects.requireNonNull(outbox);
+        this.publishers = List.copyOf(publishers);
+        this.batchSize = batchSize;
+        this.pollIntervalNanos = pollInterval.toNanos();
+    }
+
+    /**
+     * Relays one batch.
+     * @return number of events relayed (0 = outbox was empty)
+     * @throws RuntimeException the publisher failure - nothing was checkpointed then
+     */
+    public int runOnce() {
+        synchronized (runLock) {
+            List<OutboxEntry> batch = outbox.readAfter(outbox.checkpoint(), batchSize);
+            if (batch.isEmpty()) return 0;
+
+            List<DomainEvent> events = new ArrayList<>(batch.size());
+            for (OutboxEntry entry : batch) events.add(entry.getEvent());
+
+            for (DomainEventPublisher publisher : publishers) {
+                publisher.publish(events);
+            }
+
+            outbox.checkpoint(batch.get(batch.size() - 1).getSequence());
+            published.add(events.size());
+            return events.size();
+        }
+    }
+
+    public synchronized void start() {
+        if (closed) throw new IllegalStateException("Relay is closed");
+        if (worker != null) throw new IllegalStateException("Relay is already started");
+        worker = Thread.ofPlatform().name("outbox-relay").daemon().start(this::relayLoop);
+    }
+
+    public long publishedCount() { return published.sum(); }
+    public long failureCount() { return failures.sum(); }
+
+    /**
+     * Stops the background thread; a batch that is being published is finished first.
+     */
+    @Override
+    public void close() {
+        Thread running;
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            running = worker;
+        }
+        if (running == null) return;
+        running.interrupt(); // wakes it up from the poll sleep
+        try {
+            running.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // --- relay thread ---
+
+    private void relayLoop() {
+        while (!closed) {
+            int relayed;
+            try {
+                relayed = runOnce();
+            } catch (RuntimeException e) {
+                failures.increment(); // retried after the poll interval, no backoff beyond that
+                relayed = 0;
+            }
+            if (relayed == 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(pollIntervalNanos);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+}
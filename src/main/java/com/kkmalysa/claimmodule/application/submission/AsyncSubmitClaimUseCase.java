@@ -0,0 +1,196 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.domain.events.DomainEventBuilder;
+import com.kkmalysa.claimmodule.domain.incident.IncidentType;
+import com.kkmalysa.claimmodule.ports.out.AsyncAttachmentProvider;
+import com.kkmalysa.claimmodule.ports.out.AsyncClaimRepository;
+import com.kkmalysa.claimmodule.ports.out.AsyncPolicyProvider;
+import com.kkmalysa.claimmodule.ports.out.AsyncSubmissionGateway;
+import com.kkmalysa.claimmodule.ports.out.SubmissionMetrics;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static com.kkmalysa.claimmodule.application.submission.SubmitClaimUseCase.buildSubmission;
+import static com.kkmalysa.claimmodule.application.submission.SubmitClaimUseCase.claimNotFound;
+import static com.kkmalysa.claimmodule.application.submission.SubmitClaimUseCase.policyNumberNotFound;
+import static com.kkmalysa.claimmodule.application.submission.SubmitClaimUseCase.released;
+import static com.kkmalysa.claimmodule.application.submission.SubmitClaimUseCase.reservation;
+import static com.kkmalysa.claimmodule.application.submission.SubmitClaimUseCase.statusAfterSubmission;
+import static com.kkmalysa.claimmodule.application.submission.SubmitClaimUseCase.submittedEvent;
+
+/**
+ * {@link SubmitClaimUseCase#submit} on the async ports: the same steps and business rules, composed
+ * as a chain of futures. No thread waits for a port - an in-flight submission is just a few callbacks
+ * waiting for their future, so tens of thousands of them against slow remote services cost memory, not threads.
+ *
+ * Lookups run like {@link LookupMode#CONCURRENT}: attachments (only need the claimId) in parallel
+ * with the claim -> policy number chain.
+ *
+ * The returned future fails with the exception submit() would throw (IllegalArgumentException for a
+ * missing claim, ClaimVersionConflictException...), not wrapped in a CompletionException.
+ * Stage timings and the outcome go to {@link SubmissionMetrics} the same way as in submit().
+ */
+public final class AsyncSubmitClaimUseCase {
+
+    private final AsyncClaimRepository claimRepository;
+    private final AsyncPolicyProvider policyProvider;
+    private final AsyncAttachmentProvider attachmentProvider;
+    private final AsyncSubmissionGateway submissionGateway;
+    private final SubmissionMetrics metrics;
+
+    public AsyncSubmitClaimUseCase(
+            AsyncClaimRepository claimRepository,
+            AsyncPolicyProvider policyProvider,
+            AsyncAttachmentProvider attachmentProvider,
+            AsyncSubmissionGateway submissionGateway
+    ) {
+        this(claimRepository, policyProvider, attachmentProvider, submissionGateway, SubmissionMetrics.NONE);
+    }
+
+    public AsyncSubmitClaimUseCase(
+            AsyncClaimRepository claimRepository,
+            AsyncPolicyProvider policyProvider,
+            AsyncAttachmentProvider attachmentProvider,
+            AsyncSubmissionGateway submissionGateway,
+            SubmissionMetrics metrics
+    ) {
+        this.claimRepository = Objects.requireNonNull(claimRepository);
+        this.policyProvider = Objects.requireNonNull(policyProvider);
+        this.attachmentProvider = Objects.requireNonNull(attachmentProvider);
+        this.submissionGateway = Objects.requireNonNull(submissionGateway);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    public CompletableFuture<SubmissionResult> submit(String claimId, SubmissionChannel channel, String actor, boolean termsAccepted) {
+        long start = System.nanoTime();
+        StageTimings timings = new StageTimings();
+        AtomicReference<IncidentType> incidentType = new AtomicReference<>(); // known once the claim is loaded
+
+        CompletableFuture<Claim> claim = call(() -> claimRepository.getById(claimId)).thenApply(found -> {
+            timings.end(SubmissionStage.CLAIM_LOAD, start);
+            Claim loaded = found.orElseThrow(() -> claimNotFound(claimId));
+            incidentType.set(loaded.getIncident().getIncidentType());
+            return loaded;
+        });
+
+        long attachmentsStart = System.nanoTime();
+        CompletableFuture<List<String>> attachments = call(() -> attachmentProvider.findAttachmentIdsForClaim(claimId)).thenApply(found -> {
+            timings.end(SubmissionStage.ATTACHMENT_LOOKUP, attachmentsStart);
+            return found;
+        });
+
+        CompletableFuture<String> policyNumber = claim.thenCompose(loaded -> {
+            long stageStart = System.nanoTime();
+            return call(() -> policyProvider.getPolicyNumber(loaded.getPolicyId())).thenApply(found -> {
+                timings.end(SubmissionStage.POLICY_LOOKUP, stageStart);
+                return found.orElseThrow(() -> policyNumberNotFound(loaded));
+            });
+        });
+
+        // policyNumber completes only after claim did, so claim.resultNow() is safe from here on
+        CompletableFuture<SubmissionResult> result = policyNumber
+                .thenCombine(attachments, (number, attachmentIds) -> {
+                    long stageStart = System.nanoTime();
+                    ClaimSubmission submission = buildSubmission(ClaimSubmissionBuilder.create(), claim.resultNow(), number, attachmentIds, channel, actor, termsAccepted);
+                    timings.end(SubmissionStage.SUBMISSION_BUILD, stageStart);
+                    return submission;
+                })
+                .thenCompose(submission -> reserveOrFail(claim.resultNow(), timings)
+                        .thenCompose(submitting -> sendOrRelease(claim.resultNow(), submitting, submission, timings))
+                        .thenCompose(submitting -> saveOrFail(submitting, submission, channel, actor, timings)));
+
+        // a failed lookup fails result early, while the other one may still be writing its timing -
+        // report once both are done (a failure waits for the slower lookup, like a success does)
+        CompletableFuture<Void> lookupsDone = CompletableFuture.allOf(attachments, policyNumber);
+        CompletableFuture<SubmissionResult> outcome = new CompletableFuture<>();
+        result.whenComplete((submitted, failure) -> lookupsDone.whenComplete((ignored, lookupFailure) -> {
+            timings.report(metrics, channel, incidentType.get());
+            if (failure == null) {
+                metrics.recordSubmission(channel, incidentType.get(), System.nanoTime() - start);
+                outcome.complete(submitted);
+            } else {
+                Throwable cause = unwrap(failure);
+                metrics.recordFailure(channel, incidentType.get(), (cause instanceof RuntimeException e) ? e : new CompletionException(cause));
+                outcome.completeExceptionally(cause);
+            }
+        }));
+        return outcome;
+    }
+
+    // nothing is sent before the claim is ours - same as SubmitClaimUseCase.reserveOrFail
+    private CompletableFuture<Claim> reserveOrFail(Claim loaded, StageTimings timings) {
+        long stageStart = System.nanoTime();
+        Claim submitting;
+        try {
+            submitting = reservation(loaded);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return call(() -> claimRepository.compareAndSave(loaded.getVersion(), submitting, List.of())).thenApply(saved -> {
+            timings.end(SubmissionStage.CLAIM_RESERVE, stageStart);
+            if (!saved) throw new ClaimVersionConflictException(loaded.getClaimId(), loaded.getVersion());
+            return submitting;
+        });
+    }
+
+    // a failed send releases the claim (best effort) and fails with the send's exception
+    private CompletableFuture<Claim> sendOrRelease(Claim loaded, Claim submitting, ClaimSubmission submission, StageTimings timings) {
+        long stageStart = System.nanoTime();
+        return call(() -> submissionGateway.send(submission))
+                .thenApply(sent -> {
+                    timings.end(SubmissionStage.GATEWAY_SEND, stageStart);
+                    return submitting;
+                })
+                .exceptionallyCompose(failure -> call(() -> claimRepository.compareAndSave(submitting.getVersion(), released(loaded, submitting), List.of()))
+                        .handle((releasedOrNot, releaseFailure) -> {
+                            throw new CompletionException(unwrap(failure));
+                        }));
+    }
+
+    // the submission is already sent - same conflict handling as SubmitClaimUseCase.saveOrFail
+    private CompletableFuture<SubmissionResult> saveOrFail(
+            Claim submitting,
+            ClaimSubmission submission,
+            SubmissionChannel channel,
+            String actor,
+            StageTimings timings
+    ) {
+        Claim updated = submitting.withStatus(statusAfterSubmission(channel));
+
+        long stageStart = System.nanoTime();
+        DomainEvent event = submittedEvent(DomainEventBuilder.claimSubmitted(), updated, submission, actor);
+        timings.end(SubmissionStage.EVENT_BUILD, stageStart);
+
+        long saveStart = System.nanoTime();
+        return call(() -> claimRepository.compareAndSave(submitting.getVersion(), updated, List.of(event))).thenApply(saved -> {
+            timings.end(SubmissionStage.SAVE, saveStart);
+            if (!saved) throw new ClaimVersionConflictException(submitting.getClaimId(), submitting.getVersion());
+            return new SubmissionResult(submission, updated, event);
+        });
+    }
+
+    // an adapter that throws instead of returning a failed future must not break the chain
+    private static <T> CompletableFuture<T> call(Supplier<CompletableFuture<T>> portCall) {
+        try {
+            return Objects.requireNonNull(portCall.get(), "port returned null instead of a future");
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
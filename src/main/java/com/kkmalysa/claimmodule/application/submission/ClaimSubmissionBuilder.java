@@ -2,23 +2,94 @@ package com.kkmalysa.claimmodule.application.submission;
 
 import com.kkmalysa.claimmodule.domain.claim.Claim;
 import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.shared.BuildResult;
+import com.kkmalysa.claimmodule.domain.shared.IdGenerator;
+import com.kkmalysa.claimmodule.domain.shared.RuleSet;
+import com.kkmalysa.claimmodule.domain.shared.StringInterner;
+import com.kkmalysa.claimmodule.domain.shared.ThreadConfined;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
 
 public final class ClaimSubmissionBuilder {
 
+    private static final StringInterner INTERNER = StringInterner.shared();
+
     private ClaimSubmissionBuilder() {}
 
     public static FromClaimStep create() {
-        return new BuilderImpl(Clock.systemUTC());
+        return new BuilderImpl(Clock.systemUTC(), IdGenerator.timeOrdered(), SubmissionRules.DEFAULT);
+    }
+
+    public static FromClaimStep create(IdGenerator ids) {
+        return new BuilderImpl(Clock.systemUTC(), ids, SubmissionRules.DEFAULT);
+    }
+
+    // e.g. an insurer's stricter rules - see SubmissionRules
+    public static FromClaimStep create(RuleSet<SubmissionChannel, SubmissionDraft> rules) {
+        return new BuilderImpl(Clock.systemUTC(), IdGenerator.timeOrdered(), rules);
     }
 
     static FromClaimStep create(Clock clock) { // test-friendly
-        return new BuilderImpl(clock);
+        return new BuilderImpl(clock, IdGenerator.timeOrdered(), SubmissionRules.DEFAULT);
+    }
+
+    // batch submission: one per thread (or per chunk), reset() before every submission
+    public static Reusable reusable() {
+        return new Reusable(IdGenerator.timeOrdered(), SubmissionRules.DEFAULT);
+    }
+
+    public static Reusable reusable(IdGenerator ids, RuleSet<SubmissionChannel, SubmissionDraft> rules) {
+        return new Reusable(ids, rules);
+    }
+
+    /**
+     * One builder reused for many submissions. reset() clears the previous state and starts at
+     * FromClaimStep again, so build() allocates only the ClaimSubmission (and its generated id).
+     * Not thread-safe: keep it in a local variable or a ThreadLocal, reset() fails on another thread.
+     */
+    public static final class Reusable {
+        private final ThreadConfined confined = new ThreadConfined("ClaimSubmissionBuilder.Reusable");
+        private final BuilderImpl builder;
+
+        private Reusable(IdGenerator ids, RuleSet<SubmissionChannel, SubmissionDraft> rules) {
+            this.builder = new BuilderImpl(Clock.systemUTC(), ids, rules);
+        }
+
+        public FromClaimStep reset() {
+            confined.check();
+            builder.reset();
+            return builder;
+        }
+    }
+
+    /**
+     * Rebuilds a submission read back from storage or a message. It was validated when it was
+     * first built, so the channel rules are not applied again. The repeating attributes are
+     * interned like in build() - decoded strings are always fresh instances.
+     */
+    public static ClaimSubmission restore(
+            String submissionId,
+            Instant submittedAt,
+            SubmissionChannel channel,
+            String submittedBy,
+            String claimId,
+            String policyId,
+            String policyNumber,
+            String incidentType,
+            Instant occurredAt,
+            String location,
+            List<String> attachmentIds,
+            boolean termsAccepted
+    ) {
+        return new ClaimSubmission(
+                submissionId, submittedAt, channel, INTERNER.intern(submittedBy),
+                claimId, INTERNER.intern(policyId), INTERNER.intern(policyNumber),
+                INTERNER.intern(incidentType), occurredAt, INTERNER.intern(location),
+                attachmentIds, termsAccepted
+        );
     }
 
     // --- steps (common) ---
@@ -48,12 +119,14 @@ public final class ClaimSubmissionBuilder {
     public interface ManualStep {
         OptionalStep termsAcceptedOptional(boolean accepted); // opcjonalne
         ClaimSubmission build(); // można build bez terms
+        BuildResult<ClaimSubmission> tryBuild();
     }
 
     // --- AUTO: strict rules ---
     public interface AutoStep {
         AutoStep termsAccepted(boolean accepted); // wymagane true (sprawdzimy w build)
         ClaimSubmission build();
+        BuildResult<ClaimSubmission> tryBuild();
     }
 
     // --- common optional overrides ---
@@ -61,13 +134,16 @@ public final class ClaimSubmissionBuilder {
         OptionalStep submissionId(String id);
         OptionalStep submittedAt(Instant at);
         ClaimSubmission build();
+        BuildResult<ClaimSubmission> tryBuild();
     }
 
     private static final class BuilderImpl
             implements FromClaimStep, PolicyStep, AttachmentsStep, SubmittedByStep,
-            ChannelSelectStep, ManualStep, AutoStep, OptionalStep {
+            ChannelSelectStep, ManualStep, AutoStep, OptionalStep, SubmissionDraft {
 
         private final Clock clock;
+        private final IdGenerator ids;
+        private final RuleSet<SubmissionChannel, SubmissionDraft> rules;
 
         private Claim claim;
         private String policyNumber;
@@ -80,8 +156,21 @@ public final class ClaimSubmissionBuilder {
         private String submissionId;
         private Instant submittedAt;
 
-        private BuilderImpl(Clock clock) {
+        private BuilderImpl(Clock clock, IdGenerator ids, RuleSet<SubmissionChannel, SubmissionDraft> rules) {
             this.clock = Objects.requireNonNull(clock);
+            this.ids = Objects.requireNonNull(ids);
+            this.rules = Objects.requireNonNull(rules);
+        }
+
+        private void reset() {
+            claim = null;
+            policyNumber = null;
+            attachmentIds = List.of();
+            submittedBy = null;
+            channel = null;
+            termsAccepted = false;
+            submissionId = null;
+            submittedAt = null;
         }
 
         @Override
@@ -92,7 +181,7 @@ public final class ClaimSubmissionBuilder {
 
         @Override
         public AttachmentsStep policyNumber(String policyNumber) {
-            this.policyNumber = requireText(policyNumber, "policyNumber");
+            this.policyNumber = INTERNER.intern(requireText(policyNumber, "policyNumber"));
             return this;
         }
 
@@ -104,7 +193,7 @@ public final class ClaimSubmissionBuilder {
 
         @Override
         public ChannelSelectStep submittedBy(String actor) {
-            this.submittedBy = requireText(actor, "submittedBy");
+            this.submittedBy = INTERNER.intern(requireText(actor, "submittedBy"));
             return this;
         }
 
@@ -146,19 +235,33 @@ public final class ClaimSubmissionBuilder {
 
         @Override
         public ClaimSubmission build() {
-            // required common
-            if (claim == null) throw new IllegalStateException("claim is required");
-            if (policyNumber == null) throw new IllegalStateException("policyNumber is required");
-            if (submittedBy == null) throw new IllegalStateException("submittedBy is required");
-            if (channel == null) throw new IllegalStateException("channel is required");
-
-            // channel-specific rules
-            if (channel == SubmissionChannel.AUTO) {
-                if (!termsAccepted) throw new IllegalStateException("termsAccepted must be true for AUTO channel");
-                if (attachmentIds.isEmpty()) throw new IllegalStateException("at least 1 attachment is required for AUTO channel");
-            }
-
-            String id = (submissionId != null) ? submissionId : UUID.randomUUID().toString();
+            List<String> violations = violations();
+            if (!violations.isEmpty()) throw new IllegalStateException(violations.get(0));
+            return create();
+        }
+
+        @Override
+        public BuildResult<ClaimSubmission> tryBuild() {
+            List<String> violations = violations();
+            return violations.isEmpty() ? BuildResult.valid(create()) : BuildResult.invalid(violations);
+        }
+
+        // required data per channel lives in the rules table (SubmissionRules)
+        private List<String> violations() {
+            if (channel == null) return List.of("channel is required"); // the rules are keyed by it
+            return rules.validate(channel, this);
+        }
+
+        // --- SubmissionDraft: the state the rules look at
+        @Override public Claim getClaim() { return claim; }
+        @Override public String getPolicyNumber() { return policyNumber; }
+        @Override public List<String> getAttachmentIds() { return attachmentIds; }
+        @Override public String getSubmittedBy() { return submittedBy; }
+        @Override public SubmissionChannel getChannel() { return channel; }
+        @Override public boolean isTermsAccepted() { return termsAccepted; }
+
+        private ClaimSubmission create() {
+            String id = (submissionId != null) ? submissionId : ids.nextString();
             Instant at = (submittedAt != null) ? submittedAt : Instant.now(clock);
 
             Incident incident = claim.getIncident();
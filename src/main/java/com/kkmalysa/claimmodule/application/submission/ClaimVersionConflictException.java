@@ -0,0 +1,29 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+/**
+ * The claim was changed by someone else between loading it and saving the submission result
+ * (optimistic lock lost). Nothing of the other writer's change was overwritten.
+ */
+public final class ClaimVersionConflictException extends IllegalStateException {
+
+    private final String claimId;
+    private final long expectedVersion;
+
+    public ClaimVersionConflictException(String claimId, long expectedVersion) {
+        this(claimId, expectedVersion, "Claim " + claimId + " was modified concurrently (expected version " + expectedVersion + ")");
+    }
+
+    private ClaimVersionConflictException(String claimId, long expectedVersion, String message) {
+        super(message);
+        this.claimId = claimId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    // another submission of the claim holds it (status SUBMITTING) - nothing was sent by this one
+    public static ClaimVersionConflictException submissionInProgress(String claimId, long version) {
+        return new ClaimVersionConflictException(claimId, version, "Claim " + claimId + " is already being submitted (version " + version + ")");
+    }
+
+    public String getClaimId() { return claimId; }
+    public long getExpectedVersion() { return expectedVersion; }
+}
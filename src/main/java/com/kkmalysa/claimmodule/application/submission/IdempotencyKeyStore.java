@@ -0,0 +1,176 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the result of a submission per idempotency key, so a client retry returns the first
+ * result instead of sending again.
+ *
+ * - the first call with a key runs; calls with the same key that arrive while it runs wait for it
+ *   and get its result (or its exception),
+ * - a successful result is kept for timeToLive after it completed; a failure is not kept at all,
+ *   the next retry runs again,
+ * - at most maximumSize completed results are kept, oldest evicted first. Keys in flight are never
+ *   evicted (that would let a duplicate through) - they may push the size over the limit for a moment,
+ * - a key reused for a different request is rejected with IllegalArgumentException.
+ */
+public final class IdempotencyKeyStore {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final int maximumSize;
+    private final long timeToLiveMillis;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(); // insertion order = oldest first
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder replays = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public IdempotencyKeyStore() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    public IdempotencyKeyStore(int maximumSize, Duration timeToLive) {
+        this(maximumSize, timeToLive, Clock.systemUTC());
+    }
+
+    IdempotencyKeyStore(int maximumSize, Duration timeToLive, Clock clock) { // test-friendly
+        if (maximumSize <= 0) throw new IllegalArgumentException("maximumSize must be positive");
+        if (timeToLive.isNegative() || timeToLive.isZero()) throw new IllegalArgumentException("timeToLive must be positive");
+        this.maximumSize = maximumSize;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    SubmissionResult execute(String key, SubmissionRequest request, Supplier<SubmissionResult> submission) {
+        Entry entry;
+        boolean owner = false;
+
+        lock.lock();
+        try {
+            long now = clock.millis();
+            entry = entries.get(key);
+            if (entry != null && entry.isExpired(now)) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new Entry(request);
+                entries.put(key, entry);
+                owner = true;
+                evictCompleted(now);
+            } else if (!sameRequest(entry.request, request)) {
+                throw new IllegalArgumentException("Idempotency key was already used for a different request: " + key);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (owner) return runAsOwner(key, entry, submission);
+
+        if (entry.result.isDone()) replays.increment();
+        else waits.increment();
+        try {
+            return entry.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+
+    public long executionCount() { return executions.sum(); }
+    public long replayCount() { return replays.sum(); }
+    public long waitCount() { return waits.sum(); }
+    public long evictionCount() { return evictions.sum(); }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private SubmissionResult runAsOwner(String key, Entry entry, Supplier<SubmissionResult> submission) {
+        executions.increment();
+        SubmissionResult result;
+        try {
+            result = submission.get();
+        } catch (Throwable failure) {
+            // Errors too (AssertionError, StackOverflowError...) - an entry left in flight would block every retry forever
+            try {
+                lock.lock();
+                try {
+                    entries.remove(key, entry); // not remembered - a retry runs again
+                } finally {
+                    lock.unlock();
+                }
+            } finally {
+                entry.result.completeExceptionally(failure);
+            }
+            throw failure;
+        }
+
+        lock.lock();
+        try {
+            entry.expiresAt = clock.millis() + timeToLiveMillis;
+        } finally {
+            lock.unlock();
+        }
+        entry.result.complete(result);
+        return result;
+    }
+
+    // under lock
+    private void evictCompleted(long now) {
+        if (entries.size() <= maximumSize) return;
+        Iterator<Entry> oldestFirst = entries.values().iterator();
+        while (entries.size() > maximumSize && oldestFirst.hasNext()) {
+            Entry candidate = oldestFirst.next();
+            if (candidate.inFlight()) continue;
+            oldestFirst.remove();
+            if (!candidate.isExpired(now)) evictions.increment();
+        }
+    }
+
+    private static boolean sameRequest(SubmissionRequest a, SubmissionRequest b) {
+        return a.getClaimId().equals(b.getClaimId())
+                && a.getChannel() == b.getChannel()
+                && a.getActor().equals(b.getActor())
+                && a.isTermsAccepted() == b.isTermsAccepted();
+    }
+
+    private static final class Entry {
+        private final SubmissionRequest request;
+        private final CompletableFuture<SubmissionResult> result = new CompletableFuture<>();
+        private long expiresAt = Long.MAX_VALUE; // set when the result is in; guarded by the store lock
+
+        private Entry(SubmissionRequest request) {
+            this.request = request;
+        }
+
+        private boolean inFlight() {
+            return expiresAt == Long.MAX_VALUE;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
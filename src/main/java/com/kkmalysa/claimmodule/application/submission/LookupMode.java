@@ -0,0 +1,9 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+/**
+ * How {@link SubmitClaimUseCase#submit} fetches its inputs from the outbound ports.
+ */
+public enum LookupMode {
+    SEQUENTIAL, // claim -> policy number -> attachments, one after another
+    CONCURRENT  // (claim -> policy number) in parallel with attachments, on virtual threads
+}
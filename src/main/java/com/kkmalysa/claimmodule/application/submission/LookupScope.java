@@ -0,0 +1,88 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Minimal structured-concurrency scope with "shutdown on failure" semantics:
+ * fork() -> join() -> throwIfFailed() -> resultNow().
+ *
+ * Every forked lookup runs on its own virtual thread. The first failure cancels (interrupts)
+ * the remaining lookups, and close() waits until all of them have finished, so no lookup
+ * outlives the submit() call that started it.
+ *
+ * Same shape as JDK's StructuredTaskScope.ShutdownOnFailure, which is still a preview API
+ * on Java 21 - swapping this class for it later should not touch the use case.
+ */
+final class LookupScope implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+    private final List<Future<?>> forked = new ArrayList<>();
+    private Throwable firstFailure; // written and read by the thread that owns the scope
+
+    @SuppressWarnings("unchecked")
+    <T> Future<T> fork(Callable<T> task) {
+        Future<T> future = (Future<T>) completion.submit(task::call);
+        forked.add(future);
+        return future;
+    }
+
+    /**
+     * Waits until all forked tasks are done, or until the first of them fails.
+     * That first failure is the one throwIfFailed() reports - the others are only its consequences
+     * (a sibling that waited on the failed task, or one interrupted by the cancel).
+     */
+    void join() throws InterruptedException {
+        for (int i = 0; i < forked.size(); i++) {
+            Future<Object> done = completion.take();
+            if (done.state() == Future.State.FAILED) {
+                Throwable failure = rootCause(done.exceptionNow());
+                if (failure instanceof CancellationException) continue; // waited on a cancelled sibling
+                firstFailure = failure;
+                cancelAll();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Rethrows the first failure as-is, so callers see the same exception
+     * as with a sequential lookup.
+     */
+    void throwIfFailed() {
+        if (firstFailure == null) return;
+        if (firstFailure instanceof RuntimeException e) throw e;
+        if (firstFailure instanceof Error e) throw e;
+        throw new IllegalStateException("lookup failed", firstFailure);
+    }
+
+    // a task that waited on a failed sibling (e.g. claim.get()) fails with ExecutionException around the sibling's exception
+    private static Throwable rootCause(Throwable failure) {
+        Throwable cause = failure;
+        while (cause instanceof ExecutionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private void cancelAll() {
+        for (Future<?> future : forked) {
+            future.cancel(true);
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelAll(); // no-op for finished tasks
+        executor.close();
+    }
+}
@@ -0,0 +1,29 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+import com.kkmalysa.claimmodule.domain.incident.IncidentType;
+import com.kkmalysa.claimmodule.ports.out.SubmissionMetrics;
+
+import java.util.Arrays;
+
+// stage durations of one submission; stages that did not run (or failed) stay at -1
+final class StageTimings {
+    private static final SubmissionStage[] STAGES = SubmissionStage.values();
+
+    // every stage writes only its own slot; read after the stages are joined (LookupScope.join() / future completion)
+    private final long[] nanos = new long[STAGES.length];
+
+    StageTimings() {
+        Arrays.fill(nanos, -1);
+    }
+
+    void end(SubmissionStage stage, long startNanos) {
+        nanos[stage.ordinal()] = System.nanoTime() - startNanos;
+    }
+
+    void report(SubmissionMetrics metrics, SubmissionChannel channel, IncidentType incidentType) {
+        for (SubmissionStage stage : STAGES) {
+            long value = nanos[stage.ordinal()];
+            if (value >= 0) metrics.recordStage(stage, channel, incidentType, value);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+
+import java.util.List;
+
+/**
+ * Read-only view of a submission that is not validated yet - what {@link SubmissionRules} check.
+ */
+public interface SubmissionDraft {
+    Claim getClaim();
+    String getPolicyNumber();
+    List<String> getAttachmentIds();
+    String getSubmittedBy();
+    SubmissionChannel getChannel();
+    boolean isTermsAccepted();
+}
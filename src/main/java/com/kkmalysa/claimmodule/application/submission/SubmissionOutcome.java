@@ -0,0 +1,43 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+import java.util.Objects;
+
+/**
+ * Outcome of one request in a bulk submission: either a {@link SubmissionResult}
+ * or the exception that a single {@link SubmitClaimUseCase#submit} call would have thrown.
+ * One bad claim must not fail the whole batch, so failures are values here, not exceptions.
+ */
+public final class SubmissionOutcome {
+
+    private final SubmissionRequest request;
+    private final SubmissionResult result;
+    private final RuntimeException failure;
+
+    private SubmissionOutcome(SubmissionRequest request, SubmissionResult result, RuntimeException failure) {
+        this.request = Objects.requireNonNull(request);
+        this.result = result;
+        this.failure = failure;
+    }
+
+    public static SubmissionOutcome success(SubmissionRequest request, SubmissionResult result) {
+        return new SubmissionOutcome(request, Objects.requireNonNull(result), null);
+    }
+
+    public static SubmissionOutcome failure(SubmissionRequest request, RuntimeException failure) {
+        return new SubmissionOutcome(request, null, Objects.requireNonNull(failure));
+    }
+
+    public SubmissionRequest getRequest() { return request; }
+
+    public boolean isSuccess() { return result != null; }
+
+    public SubmissionResult getResult() {
+        if (result == null) throw new IllegalStateException("submission failed for claim: " + request.getClaimId(), failure);
+        return result;
+    }
+
+    public RuntimeException getFailure() {
+        if (failure == null) throw new IllegalStateException("submission succeeded for claim: " + request.getClaimId());
+        return failure;
+    }
+}
@@ -0,0 +1,27 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+import java.util.Objects;
+
+/**
+ * Input of a single submission - the same four arguments as {@link SubmitClaimUseCase#submit},
+ * packed into one object so they can travel in bulk (see {@link SubmitClaimUseCase#submitAll}).
+ */
+public final class SubmissionRequest {
+
+    private final String claimId;
+    private final SubmissionChannel channel;
+    private final String actor;
+    private final boolean termsAccepted;
+
+    public SubmissionRequest(String claimId, SubmissionChannel channel, String actor, boolean termsAccepted) {
+        this.claimId = Objects.requireNonNull(claimId, "claimId");
+        this.channel = Objects.requireNonNull(channel, "channel");
+        this.actor = Objects.requireNonNull(actor, "actor");
+        this.termsAccepted = termsAccepted;
+    }
+
+    public String getClaimId() { return claimId; }
+    public SubmissionChannel getChannel() { return channel; }
+    public String getActor() { return actor; }
+    public boolean isTermsAccepted() { return termsAccepted; }
+}
@@ -0,0 +1,24 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+import com.kkmalysa.claimmodule.domain.shared.Rule;
+import com.kkmalysa.claimmodule.domain.shared.RuleSet;
+
+/**
+ * What a submission needs per channel - the table ClaimSubmissionBuilder validates against.
+ * MANUAL (agent/call center) only needs the common data, AUTO (self-service) also terms and attachments.
+ * Insurer specific rules: {@code SubmissionRules.DEFAULT.toBuilder()...compile()} and
+ * {@link ClaimSubmissionBuilder#create(RuleSet)}.
+ */
+public final class SubmissionRules {
+
+    private SubmissionRules() {}
+
+    public static final RuleSet<SubmissionChannel, SubmissionDraft> DEFAULT = RuleSet.<SubmissionChannel, SubmissionDraft>builder(SubmissionChannel.class)
+            .always(Rule.requirePresent("claim is required", SubmissionDraft::getClaim))
+            .always(Rule.requirePresent("policyNumber is required", SubmissionDraft::getPolicyNumber))
+            .always(Rule.requirePresent("submittedBy is required", SubmissionDraft::getSubmittedBy))
+
+            .when(SubmissionChannel.AUTO, Rule.require("termsAccepted must be true for AUTO channel", SubmissionDraft::isTermsAccepted))
+            .when(SubmissionChannel.AUTO, Rule.require("at least 1 attachment is required for AUTO channel", d -> !d.getAttachmentIds().isEmpty()))
+            .compile();
+}
@@ -0,0 +1,15 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+/**
+ * Steps of {@link SubmitClaimUseCase#submit} that are timed separately.
+ */
+public enum SubmissionStage {
+    CLAIM_LOAD,
+    POLICY_LOOKUP,
+    ATTACHMENT_LOOKUP,
+    SUBMISSION_BUILD,
+    CLAIM_RESERVE,   // compare-and-set to SUBMITTING, before anything is sent
+    GATEWAY_SEND,
+    SAVE,
+    EVENT_BUILD
+}
@@ -4,50 +4,461 @@ import com.kkmalysa.claimmodule.domain.claim.Claim;
 import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
 import com.kkmalysa.claimmodule.domain.events.DomainEvent;
 import com.kkmalysa.claimmodule.domain.events.DomainEventBuilder;
+import com.kkmalysa.claimmodule.domain.incident.IncidentType;
 import com.kkmalysa.claimmodule.ports.out.AttachmentProvider;
 import com.kkmalysa.claimmodule.ports.out.ClaimRepository;
 import com.kkmalysa.claimmodule.ports.out.PolicyProvider;
 import com.kkmalysa.claimmodule.ports.out.SubmissionGateway;
+import com.kkmalysa.claimmodule.ports.out.SubmissionMetrics;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Future;
 
 public final class SubmitClaimUseCase {
 
+    // how many requests share one round trip to each port in submitAll()
+    static final int BULK_CHUNK_SIZE = 500;
+
     private final ClaimRepository claimRepository;
     private final PolicyProvider policyProvider;
     private final AttachmentProvider attachmentProvider;
     private final SubmissionGateway submissionGateway;
+    private final LookupMode lookupMode;
+    private final SubmissionMetrics metrics;
+    private final IdempotencyKeyStore idempotencyKeys;
 
     public SubmitClaimUseCase(
             ClaimRepository claimRepository,
             PolicyProvider policyProvider,
             AttachmentProvider attachmentProvider,
             SubmissionGateway submissionGateway
+    ) {
+        this(claimRepository, policyProvider, attachmentProvider, submissionGateway, LookupMode.SEQUENTIAL);
+    }
+
+    public SubmitClaimUseCase(
+            ClaimRepository claimRepository,
+            PolicyProvider policyProvider,
+            AttachmentProvider attachmentProvider,
+            SubmissionGateway submissionGateway,
+            LookupMode lookupMode
+    ) {
+        this(claimRepository, policyProvider, attachmentProvider, submissionGateway, lookupMode, SubmissionMetrics.NONE);
+    }
+
+    public SubmitClaimUseCase(
+            ClaimRepository claimRepository,
+            PolicyProvider policyProvider,
+            AttachmentProvider attachmentProvider,
+            SubmissionGateway submissionGateway,
+            LookupMode lookupMode,
+            SubmissionMetrics metrics
+    ) {
+        this(claimRepository, policyProvider, attachmentProvider, submissionGateway, lookupMode, metrics, new IdempotencyKeyStore());
+    }
+
+    public SubmitClaimUseCase(
+            ClaimRepository claimRepository,
+            PolicyProvider policyProvider,
+            AttachmentProvider attachmentProvider,
+            SubmissionGateway submissionGateway,
+            LookupMode lookupMode,
+            SubmissionMetrics metrics,
+            IdempotencyKeyStore idempotencyKeys
     ) {
         this.claimRepository = Objects.requireNonNull(claimRepository);
         this.policyProvider = Objects.requireNonNull(policyProvider);
         this.attachmentProvider = Objects.requireNonNull(attachmentProvider);
         this.submissionGateway = Objects.requireNonNull(submissionGateway);
+        this.lookupMode = Objects.requireNonNull(lookupMode);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.idempotencyKeys = Objects.requireNonNull(idempotencyKeys);
+    }
+
+    /**
+     * {@link #submit(String, SubmissionChannel, String, boolean)} that is safe to retry: a call with an
+     * idempotencyKey seen within the store's time window returns the first call's result and does not
+     * send again. A duplicate that arrives while the first call is still running waits for it.
+     *
+     * @throws IllegalArgumentException the key was already used for a different request
+     */
+    public SubmissionResult submit(String idempotencyKey, String claimId, SubmissionChannel channel, String actor, boolean termsAccepted) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) throw new IllegalArgumentException("idempotencyKey must not be blank");
+        SubmissionRequest request = new SubmissionRequest(claimId, channel, actor, termsAccepted);
+        return idempotencyKeys.execute(idempotencyKey, request, () -> submit(claimId, channel, actor, termsAccepted));
     }
 
+    /**
+     * Every stage is timed (see {@link SubmissionStage}) and reported to {@link SubmissionMetrics}
+     * once the outcome is known - also the stages that completed before a failure.
+     */
     public SubmissionResult submit(String claimId, SubmissionChannel channel, String actor, boolean termsAccepted) {
-        Claim claim = claimRepository.getById(claimId)
-                .orElseThrow(() -> new IllegalArgumentException("Claim not found: " + claimId));
+        long start = System.nanoTime();
+        StageTimings timings = new StageTimings();
+        IncidentType incidentType = null;
+        try {
+            Lookups lookups = switch (lookupMode) {
+                case SEQUENTIAL -> lookupSequentially(claimId, timings);
+                case CONCURRENT -> lookupConcurrently(claimId, timings);
+            };
+            Claim claim = lookups.claim;
+            incidentType = claim.getIncident().getIncidentType();
+
+            long stageStart = System.nanoTime();
+            ClaimSubmission submission = buildSubmission(ClaimSubmissionBuilder.create(), claim, lookups.policyNumber, lookups.attachments, channel, actor, termsAccepted);
+            timings.end(SubmissionStage.SUBMISSION_BUILD, stageStart);
+
+            stageStart = System.nanoTime();
+            Claim submitting = reserveOrFail(claim);
+            timings.end(SubmissionStage.CLAIM_RESERVE, stageStart);
+
+            stageStart = System.nanoTime();
+            sendOrRelease(claim, submitting, submission);
+            timings.end(SubmissionStage.GATEWAY_SEND, stageStart);
+
+            Claim updatedClaim = submitting.withStatus(statusAfterSubmission(channel));
+
+            stageStart = System.nanoTime();
+            DomainEvent event = submittedEvent(DomainEventBuilder.claimSubmitted(), updatedClaim, submission, actor);
+            timings.end(SubmissionStage.EVENT_BUILD, stageStart);
 
-        String policyNumber = policyProvider.getPolicyNumber(claim.getPolicyId())
-                .orElseThrow(() -> new IllegalStateException("Policy number not found for policyId: " + claim.getPolicyId()));
+            stageStart = System.nanoTime();
+            saveOrFail(submitting, updatedClaim, event);
+            timings.end(SubmissionStage.SAVE, stageStart);
 
+            timings.report(metrics, channel, incidentType);
+            metrics.recordSubmission(channel, incidentType, System.nanoTime() - start);
+            return new SubmissionResult(submission, updatedClaim, event);
+        } catch (RuntimeException e) {
+            timings.report(metrics, channel, incidentType);
+            metrics.recordFailure(channel, incidentType, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Bulk variant of {@link #submit}: the requests are processed in chunks and every chunk
+     * loads claims, policy numbers and attachments with one batch call per port, reserves all its claims
+     * with one {@link ClaimRepository#compareAndSaveAll} call, sends, then saves the updated claims
+     * (and their events, into the outbox) with a second one.
+     *
+     * Business rules are the same as in submit(). A failing request does not stop the batch -
+     * its exception is returned as a failed {@link SubmissionOutcome} instead. A failing batch lookup
+     * fails all requests of its chunk the same way; the other chunks are still processed.
+     *
+     * @return one outcome per request, in the order of the requests
+     */
+    public List<SubmissionOutcome> submitAll(List<SubmissionRequest> requests) {
+        Objects.requireNonNull(requests, "requests");
+
+        List<SubmissionOutcome> outcomes = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += BULK_CHUNK_SIZE) {
+            int to = Math.min(from + BULK_CHUNK_SIZE, requests.size());
+            outcomes.addAll(submitChunk(requests.subList(from, to)));
+        }
+        return outcomes;
+    }
+
+    private Lookups lookupSequentially(String claimId, StageTimings timings) {
+        Claim claim = loadClaim(claimId, timings);
+        String policyNumber = loadPolicyNumber(claim, timings);
+        List<String> attachments = loadAttachments(claimId, timings);
+        return new Lookups(claim, policyNumber, attachments);
+    }
+
+    // attachments only need the claimId, so they don't wait for the claim -> policy chain
+    private Lookups lookupConcurrently(String claimId, StageTimings timings) {
+        try (LookupScope scope = new LookupScope()) {
+            Future<Claim> claim = scope.fork(() -> loadClaim(claimId, timings));
+            Future<String> policyNumber = scope.fork(() -> loadPolicyNumber(claim.get(), timings));
+            Future<List<String>> attachments = scope.fork(() -> loadAttachments(claimId, timings));
+
+            scope.join();
+            scope.throwIfFailed();
+
+            return new Lookups(claim.resultNow(), policyNumber.resultNow(), attachments.resultNow());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading data for claim: " + claimId, e);
+        }
+    }
+
+    private Claim loadClaim(String claimId, StageTimings timings) {
+        long start = System.nanoTime();
+        Optional<Claim> claim = claimRepository.getById(claimId);
+        timings.end(SubmissionStage.CLAIM_LOAD, start);
+        return claim.orElseThrow(() -> claimNotFound(claimId));
+    }
+
+    private String loadPolicyNumber(Claim claim, StageTimings timings) {
+        long start = System.nanoTime();
+        Optional<String> policyNumber = policyProvider.getPolicyNumber(claim.getPolicyId());
+        timings.end(SubmissionStage.POLICY_LOOKUP, start);
+        return policyNumber.orElseThrow(() -> policyNumberNotFound(claim));
+    }
+
+    private List<String> loadAttachments(String claimId, StageTimings timings) {
+        long start = System.nanoTime();
         List<String> attachments = attachmentProvider.findAttachmentIdsForClaim(claimId);
+        timings.end(SubmissionStage.ATTACHMENT_LOOKUP, start);
+        return attachments;
+    }
+
+    private List<SubmissionOutcome> submitChunk(List<SubmissionRequest> chunk) {
+        Set<String> claimIds = new LinkedHashSet<>();
+        for (SubmissionRequest request : chunk) {
+            claimIds.add(request.getClaimId());
+        }
 
+        Map<String, Claim> claims;
+        Map<String, String> policyNumbers;
+        Map<String, List<String>> attachmentsByClaimId;
+        try {
+            // mutable copy: a claim submitted twice in one chunk must see its own previous update
+            claims = new HashMap<>(claimRepository.getByIds(claimIds));
+
+            Set<String> policyIds = new LinkedHashSet<>();
+            for (Claim claim : claims.values()) {
+                policyIds.add(claim.getPolicyId());
+            }
+            policyNumbers = policyProvider.getPolicyNumbers(policyIds);
+            attachmentsByClaimId = attachmentProvider.findAttachmentIdsForClaims(claims.keySet());
+        } catch (RuntimeException e) {
+            // nothing of this chunk was sent - fail its requests, keep the outcomes of the chunks before it
+            List<SubmissionOutcome> failed = new ArrayList<>(chunk.size());
+            for (SubmissionRequest request : chunk) {
+                failed.add(SubmissionOutcome.failure(request, e));
+            }
+            return failed;
+        }
+
+        // one builder pair for the whole chunk - per request only the submission and the event are allocated
+        ClaimSubmissionBuilder.Reusable submissions = ClaimSubmissionBuilder.reusable();
+        DomainEventBuilder.Reusable events = DomainEventBuilder.reusable();
+
+        // a round takes each claim at most once; a claim requested again in this chunk goes to the next
+        // round, so it is reserved against the revision the previous round saved
+        SubmissionOutcome[] outcomes = new SubmissionOutcome[chunk.size()];
+        List<Integer> round = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            round.add(i);
+        }
+        while (!round.isEmpty()) {
+            round = submitRound(chunk, round, claims, policyNumbers, attachmentsByClaimId, submissions, events, outcomes);
+        }
+        return Arrays.asList(outcomes);
+    }
+
+    /**
+     * Same order as submit(), one batch call per step: reserve every claim of the round (compareAndSaveAll
+     * to SUBMITTING), send only the won ones, then save their final status and events in one more call.
+     * @return the requests left for the next round
+     */
+    private List<Integer> submitRound(
+            List<SubmissionRequest> chunk,
+            List<Integer> round,
+            Map<String, Claim> claims,
+            Map<String, String> policyNumbers,
+            Map<String, List<String>> attachmentsByClaimId,
+            ClaimSubmissionBuilder.Reusable submissions,
+            DomainEventBuilder.Reusable events,
+            SubmissionOutcome[] outcomes
+    ) {
+        List<Integer> nextRound = new ArrayList<>();
+        List<Reserved> reserved = new ArrayList<>(round.size());
+        Map<String, Long> loadedVersions = new HashMap<>();
+        Map<String, Claim> toReserve = new LinkedHashMap<>();
+
+        for (int index : round) {
+            SubmissionRequest request = chunk.get(index);
+            String claimId = request.getClaimId();
+            if (toReserve.containsKey(claimId)) {
+                nextRound.add(index);
+                continue;
+            }
+            try {
+                Claim claim = claims.get(claimId);
+                if (claim == null) throw claimNotFound(claimId);
+
+                String policyNumber = policyNumbers.get(claim.getPolicyId());
+                if (policyNumber == null) throw policyNumberNotFound(claim);
+
+                List<String> attachments = attachmentsByClaimId.getOrDefault(claimId, List.of());
+
+                ClaimSubmission submission = buildSubmission(
+                        submissions.reset(), claim, policyNumber, attachments,
+                        request.getChannel(), request.getActor(), request.isTermsAccepted()
+                );
+                Claim submitting = reservation(claim);
+
+                loadedVersions.put(claimId, claim.getVersion());
+                toReserve.put(claimId, submitting);
+                reserved.add(new Reserved(index, claim, submitting, submission));
+            } catch (RuntimeException e) {
+                outcomes[index] = SubmissionOutcome.failure(request, e);
+            }
+        }
+        if (reserved.isEmpty()) return nextRound;
+
+        Set<String> lost;
+        try {
+            lost = claimRepository.compareAndSaveAll(loadedVersions, toReserve.values());
+        } catch (RuntimeException e) {
+            for (Reserved entry : reserved) {
+                outcomes[entry.index] = SubmissionOutcome.failure(chunk.get(entry.index), e);
+            }
+            return nextRound;
+        }
+
+        Map<String, Long> reservedVersions = new HashMap<>();
+        Map<String, Claim> toSave = new LinkedHashMap<>();
+        Map<String, List<DomainEvent>> eventsByClaimId = new HashMap<>();
+        List<Reserved> sent = new ArrayList<>(reserved.size());
+
+        for (Reserved entry : reserved) {
+            SubmissionRequest request = chunk.get(entry.index);
+            String claimId = request.getClaimId();
+            if (lost.contains(claimId)) {
+                outcomes[entry.index] = SubmissionOutcome.failure(request, conflictOn(claimId, loadedVersions));
+                continue;
+            }
+            claims.put(claimId, entry.submitting);
+            try {
+                submissionGateway.send(entry.submission);
+            } catch (RuntimeException e) {
+                Claim released = release(entry.loaded, entry.submitting, e);
+                if (released != null) claims.put(claimId, released);
+                outcomes[entry.index] = SubmissionOutcome.failure(request, e);
+                continue;
+            }
+
+            Claim updatedClaim = entry.submitting.withStatus(statusAfterSubmission(request.getChannel()));
+            DomainEvent event = submittedEvent(events.reset(), updatedClaim, entry.submission, request.getActor());
+            reservedVersions.put(claimId, entry.submitting.getVersion());
+            toSave.put(claimId, updatedClaim);
+            eventsByClaimId.put(claimId, List.of(event));
+            sent.add(entry);
+
+            outcomes[entry.index] = SubmissionOutcome.success(request, new SubmissionResult(entry.submission, updatedClaim, event));
+        }
+        if (sent.isEmpty()) return nextRound;
+
+        // submissions were sent, but some claims may not have been updated - report that per request
+        try {
+            Set<String> conflicts = claimRepository.compareAndSaveAll(reservedVersions, toSave.values(), eventsByClaimId);
+            for (Reserved entry : sent) {
+                SubmissionRequest request = chunk.get(entry.index);
+                String claimId = request.getClaimId();
+                if (conflicts.contains(claimId)) {
+                    outcomes[entry.index] = SubmissionOutcome.failure(request, conflictOn(claimId, reservedVersions));
+                } else {
+                    claims.put(claimId, toSave.get(claimId));
+                }
+            }
+        } catch (RuntimeException e) {
+            for (Reserved entry : sent) {
+                outcomes[entry.index] = SubmissionOutcome.failure(chunk.get(entry.index), e);
+            }
+        }
+        return nextRound;
+    }
+
+    // a request of the current round whose claim was moved to SUBMITTING
+    private static final class Reserved {
+        private final int index;
+        private final Claim loaded;
+        private final Claim submitting;
+        private final ClaimSubmission submission;
+
+        private Reserved(int index, Claim loaded, Claim submitting, ClaimSubmission submission) {
+            this.index = index;
+            this.loaded = loaded;
+            this.submitting = submitting;
+            this.submission = submission;
+        }
+    }
+
+    /**
+     * Nothing is sent before this succeeds: the loaded revision is moved to SUBMITTING with a
+     * compare-and-set. Of two concurrent submits of one claim only the winner gets to send,
+     * the other one fails with {@link ClaimVersionConflictException} and has no side effects.
+     */
+    private Claim reserveOrFail(Claim loaded) {
+        Claim submitting = reservation(loaded);
+        if (!claimRepository.compareAndSave(loaded.getVersion(), submitting)) {
+            throw new ClaimVersionConflictException(loaded.getClaimId(), loaded.getVersion());
+        }
+        return submitting;
+    }
+
+    // a failed send gives the claim back (its previous status), so it can be submitted again
+    private void sendOrRelease(Claim loaded, Claim submitting, ClaimSubmission submission) {
+        try {
+            submissionGateway.send(submission);
+        } catch (RuntimeException e) {
+            release(loaded, submitting, e);
+            throw e;
+        }
+    }
+
+    // best effort: a release that fails too goes with the send failure (suppressed), not instead of it
+    // @return the released revision, or null when it was not saved
+    private Claim release(Claim loaded, Claim submitting, RuntimeException sendFailure) {
+        Claim released = released(loaded, submitting);
+        try {
+            return claimRepository.compareAndSave(submitting.getVersion(), released) ? released : null;
+        } catch (RuntimeException e) {
+            sendFailure.addSuppressed(e);
+            return null;
+        }
+    }
+
+    /**
+     * The submission has already been sent at this point, from the reserved (SUBMITTING) revision.
+     * Only a writer that ignores the reservation can get in between - we neither overwrite its change
+     * nor retry (a retry would send again); the caller gets a clean {@link ClaimVersionConflictException}.
+     *
+     * The event goes to the outbox together with the claim - it is relayed only if the claim was saved.
+     */
+    private void saveOrFail(Claim submitting, Claim updated, DomainEvent event) {
+        if (!claimRepository.compareAndSave(submitting.getVersion(), updated, List.of(event))) {
+            throw new ClaimVersionConflictException(submitting.getClaimId(), submitting.getVersion());
+        }
+    }
+
+    private static ClaimVersionConflictException conflictOn(String claimId, Map<String, Long> expectedVersions) {
+        return new ClaimVersionConflictException(claimId, expectedVersions.get(claimId));
+    }
+
+    // --- shared with AsyncSubmitClaimUseCase ---
+
+    // start: a fresh ClaimSubmissionBuilder.create() or a reset() reusable one
+    static ClaimSubmission buildSubmission(
+            ClaimSubmissionBuilder.FromClaimStep start,
+            Claim claim,
+            String policyNumber,
+            List<String> attachments,
+            SubmissionChannel channel,
+            String actor,
+            boolean termsAccepted
+    ) {
         // ======= (variant switch: MANUAL vs AUTO) =======
-        ClaimSubmissionBuilder.ChannelSelectStep base = ClaimSubmissionBuilder.create()
+        ClaimSubmissionBuilder.ChannelSelectStep base = start
                 .fromClaim(claim)
                 .policyNumber(policyNumber)
                 .attachments(attachments)
                 .submittedBy(actor);
 
-        ClaimSubmission submission = switch (channel) {
+        return switch (channel) {
             case AUTO -> base.auto()
                     .termsAccepted(termsAccepted)
                     .build();
@@ -55,20 +466,54 @@ public final class SubmitClaimUseCase {
                     .build();
         };
         // ================================================================
+    }
+
+    /**
+     * The revision a submission claims before it sends anything. A claim that is SUBMITTING already
+     * belongs to another submission in flight. If a process dies between reserving and the final save
+     * the claim stays SUBMITTING - it was possibly sent, so it needs a look before it is released by hand.
+     */
+    static Claim reservation(Claim loaded) {
+        if (loaded.getStatus() == ClaimStatus.SUBMITTING) {
+            throw ClaimVersionConflictException.submissionInProgress(loaded.getClaimId(), loaded.getVersion());
+        }
+        return loaded.withStatus(ClaimStatus.SUBMITTING);
+    }
 
-        submissionGateway.send(submission);
+    static Claim released(Claim loaded, Claim submitting) {
+        return submitting.withStatus(loaded.getStatus());
+    }
 
-        ClaimStatus newStatus = (channel == SubmissionChannel.AUTO) ? ClaimStatus.SUBMITTED : ClaimStatus.DRAFT;
-        Claim updatedClaim = claim.withStatus(newStatus);
-        claimRepository.save(updatedClaim);
+    static ClaimStatus statusAfterSubmission(SubmissionChannel channel) {
+        return (channel == SubmissionChannel.AUTO) ? ClaimStatus.SUBMITTED : ClaimStatus.DRAFT;
+    }
 
-        DomainEvent event = DomainEventBuilder
-                .claimSubmitted()
+    static DomainEvent submittedEvent(DomainEventBuilder.ClaimSubmittedStep start, Claim updatedClaim, ClaimSubmission submission, String actor) {
+        return start
                 .claim(updatedClaim)
                 .submission(submission)
                 .actor(actor)
                 .build();
+    }
+
+    // everything submit() needs from the ports before it can build a submission
+    private static final class Lookups {
+        private final Claim claim;
+        private final String policyNumber;
+        private final List<String> attachments;
+
+        private Lookups(Claim claim, String policyNumber, List<String> attachments) {
+            this.claim = claim;
+            this.policyNumber = policyNumber;
+            this.attachments = attachments;
+        }
+    }
+
+    static IllegalArgumentException claimNotFound(String claimId) {
+        return new IllegalArgumentException("Claim not found: " + claimId);
+    }
 
-        return new SubmissionResult(submission, updatedClaim, event);
+    static IllegalStateException policyNumberNotFound(Claim claim) {
+        return new IllegalStateException("Policy number not found for policyId: " + claim.getPolicyId());
     }
 }
@@ -0,0 +1,108 @@
+package com.kkmalysa.claimmodule.config;
+
+import com.kkmalysa.claimmodule.adapters.out.attachments.FakeAttachmentProvider;
+import com.kkmalysa.claimmodule.adapters.out.events.RingBufferEventBus;
+import com.kkmalysa.claimmodule.adapters.out.metrics.MicrometerSubmissionMetrics;
+import com.kkmalysa.claimmodule.adapters.out.metrics.StringInternerMetrics;
+import com.kkmalysa.claimmodule.adapters.out.persistence.InMemoryClaimRepository;
+import com.kkmalysa.claimmodule.adapters.out.policy.FakePolicyProvider;
+import com.kkmalysa.claimmodule.adapters.out.submission.InMemorySubmissionGateway;
+import com.kkmalysa.claimmodule.adapters.out.submission.OverflowPolicy;
+import com.kkmalysa.claimmodule.adapters.out.submission.SubmissionDrainer;
+import com.kkmalysa.claimmodule.application.events.OutboxRelay;
+import com.kkmalysa.claimmodule.application.submission.LookupMode;
+import com.kkmalysa.claimmodule.application.submission.SubmitClaimUseCase;
+import com.kkmalysa.claimmodule.domain.shared.StringInterner;
+import com.kkmalysa.claimmodule.ports.out.AttachmentProvider;
+import com.kkmalysa.claimmodule.ports.out.ClaimRepository;
+import com.kkmalysa.claimmodule.ports.out.PolicyProvider;
+import com.kkmalysa.claimmodule.ports.out.SubmissionGateway;
+import com.kkmalysa.claimmodule.ports.out.SubmissionMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Wires the use case to the in-memory / fake adapters. The domain and application layers stay
+ * framework-free - Spring only exists here.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ClaimModuleConfiguration {
+
+    @Bean
+    ClaimRepository claimRepository() {
+        return new InMemoryClaimRepository();
+    }
+
+    @Bean
+    PolicyProvider policyProvider() {
+        return new FakePolicyProvider();
+    }
+
+    @Bean
+    AttachmentProvider attachmentProvider() {
+        return new FakeAttachmentProvider();
+    }
+
+    @Bean
+    InMemorySubmissionGateway submissionGateway(
+            @Value("${claim.submission-gateway.capacity:" + InMemorySubmissionGateway.DEFAULT_CAPACITY + "}") int capacity,
+            @Value("${claim.submission-gateway.overflow-policy:REJECT}") OverflowPolicy overflowPolicy
+    ) {
+        return new InMemorySubmissionGateway(capacity, overflowPolicy);
+    }
+
+    // stands in for the claims core: drains the gateway and only counts what it got
+    @Bean(initMethod = "start", destroyMethod = "close")
+    SubmissionDrainer submissionDrainer(
+            InMemorySubmissionGateway submissionGateway,
+            @Value("${claim.submission-gateway.drain-batch-size:500}") int batchSize
+    ) {
+        return new SubmissionDrainer(submissionGateway, submissions -> {}, batchSize, Duration.ofMillis(50));
+    }
+
+    // in-process bus behind the outbox - fraud scoring, notifications... subscribe to it
+    @Bean(initMethod = "start", destroyMethod = "close")
+    RingBufferEventBus eventBus() {
+        return new RingBufferEventBus();
+    }
+
+    // drains the outbox the repository writes to - without it the outbox only grows
+    @Bean(initMethod = "start", destroyMethod = "close")
+    OutboxRelay outboxRelay(
+            ClaimRepository claimRepository,
+            RingBufferEventBus eventBus,
+            @Value("${claim.outbox-relay.batch-size:500}") int batchSize,
+            @Value("${claim.outbox-relay.poll-interval:50ms}") Duration pollInterval
+    ) {
+        return new OutboxRelay(claimRepository.outbox(), List.of(eventBus), batchSize, pollInterval);
+    }
+
+    @Bean
+    SubmissionMetrics submissionMetrics(MeterRegistry meterRegistry) {
+        return new MicrometerSubmissionMetrics(meterRegistry);
+    }
+
+    @Bean
+    StringInternerMetrics stringInternerMetrics() {
+        return new StringInternerMetrics(StringInterner.shared());
+    }
+
+    @Bean
+    SubmitClaimUseCase submitClaimUseCase(
+            ClaimRepository claimRepository,
+            PolicyProvider policyProvider,
+            AttachmentProvider attachmentProvider,
+            SubmissionGateway submissionGateway,
+            SubmissionMetrics submissionMetrics
+    ) {
+        return new SubmitClaimUseCase(
+                claimRepository, policyProvider, attachmentProvider, submissionGateway,
+                LookupMode.SEQUENTIAL, submissionMetrics
+        );
+    }
+}
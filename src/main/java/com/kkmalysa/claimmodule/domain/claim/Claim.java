@@ -16,7 +16,9 @@ public final class Claim {
     private final String createdBy;   // actor (np. userId / system)
     private final String channel;     // how did the client reported a claim. "via phone agent / via app/portal". in future type would be changed.
 
-    Claim(String claimId, String policyId, Incident incident, ClaimStatus status, Instant createdAt, String createdBy, String channel) {
+    private final long version;       // revision number for optimistic locking (ClaimRepository.compareAndSave)
+
+    Claim(String claimId, String policyId, Incident incident, ClaimStatus status, Instant createdAt, String createdBy, String channel, long version) {
         this.claimId = Objects.requireNonNull(claimId);
         this.policyId = Objects.requireNonNull(policyId);
         this.incident = Objects.requireNonNull(incident);
@@ -24,6 +26,7 @@ public final class Claim {
         this.createdAt = Objects.requireNonNull(createdAt);
         this.createdBy = Objects.requireNonNull(createdBy);
         this.channel = Objects.requireNonNull(channel);
+        this.version = version;
     }
 
     public String getClaimId() { return claimId; }
@@ -33,10 +36,12 @@ public final class Claim {
     public Instant getCreatedAt() { return createdAt; }
     public String getCreatedBy() { return createdBy; }
     public String getChannel() { return channel; }
+    public long getVersion() { return version; }
 
     // simple for now: status change can return new Claim (immutable), or create events in future.
+    // every change is a new revision -> version + 1
     public Claim withStatus(ClaimStatus newStatus) {
-        return new Claim(claimId, policyId, incident, newStatus, createdAt, createdBy, channel);
+        return new Claim(claimId, policyId, incident, newStatus, createdAt, createdBy, channel, version + 1);
     }
 }
 
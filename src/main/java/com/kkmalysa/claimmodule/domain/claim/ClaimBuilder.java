@@ -1,11 +1,15 @@
 package com.kkmalysa.claimmodule.domain.claim;
 
 import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.shared.BuildResult;
+import com.kkmalysa.claimmodule.domain.shared.IdGenerator;
+import com.kkmalysa.claimmodule.domain.shared.StringInterner;
+import com.kkmalysa.claimmodule.domain.shared.ThreadConfined;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * Builder #2 - ClaimBuilder (FNOL = First Notice of Loss).
@@ -20,24 +24,64 @@ import java.util.UUID;
  * The BuilderImpl implements all step interfaces and returns "this" cast to the next interface.
  *
  * In build() we apply FNOL defaults/business rules:
- * - generate claimId and createdAt (Clock injected for testability),
+ * - generate claimId (time-ordered, from the IdGenerator) and createdAt (Clock injected for testability),
  * - derive initial ClaimStatus from channel (e.g. MANUAL -> DRAFT, AUTO -> SUBMITTED).
  *
+ * policyId, createdBy and channel go through the shared StringInterner - they repeat across
+ * millions of claims (claimId does not, so it is kept as is).
+ *
+ * reusable() keeps one BuilderImpl for many claims (imports, codecs) - see Reusable.
+ *
  * Future hook: this is the natural place (or the surrounding use-case) to emit ClaimCreatedEvent.
  */
 
 public final class ClaimBuilder {
 
+    private static final StringInterner INTERNER = StringInterner.shared();
+
     private ClaimBuilder() {}
 
     // entrypoint “use-case’owy”
     public static PolicyStep fnol() {
-        return new BuilderImpl(Clock.systemUTC());
+        return new BuilderImpl(Clock.systemUTC(), IdGenerator.timeOrdered());
+    }
+
+    public static PolicyStep fnol(IdGenerator ids) {
+        return new BuilderImpl(Clock.systemUTC(), ids);
     }
 
     // entrypoint for tests
     static PolicyStep fnol(Clock clock) {
-        return new BuilderImpl(clock);
+        return new BuilderImpl(clock, IdGenerator.timeOrdered());
+    }
+
+    // bulk paths: one per thread, reset() before every claim
+    public static Reusable reusable() {
+        return new Reusable(IdGenerator.timeOrdered());
+    }
+
+    public static Reusable reusable(IdGenerator ids) {
+        return new Reusable(ids);
+    }
+
+    /**
+     * One builder reused for many claims. reset() clears the previous state (overrides included)
+     * and starts at PolicyStep again, so build() allocates only the Claim (and its generated id).
+     * Not thread-safe: keep it in a local variable or a ThreadLocal, reset() fails on another thread.
+     */
+    public static final class Reusable {
+        private final ThreadConfined confined = new ThreadConfined("ClaimBuilder.Reusable");
+        private final BuilderImpl builder;
+
+        private Reusable(IdGenerator ids) {
+            this.builder = new BuilderImpl(Clock.systemUTC(), ids);
+        }
+
+        public PolicyStep reset() {
+            confined.check();
+            builder.reset();
+            return builder;
+        }
     }
 
     // --- STEPS (sequence) ---
@@ -60,7 +104,10 @@ public final class ClaimBuilder {
     public interface OptionalStep {
         OptionalStep claimId(String claimId);     // override for tests / import
         OptionalStep createdAt(Instant createdAt);// override for tests
+        OptionalStep status(ClaimStatus status);  // override for rehydration (storage / import)
+        OptionalStep version(long version);       // override for rehydration (storage / import)
         Claim build();
+        BuildResult<Claim> tryBuild();            // all broken rules instead of an exception (bulk import)
     }
 
     // --- IMPLEMENTATION ---
@@ -68,6 +115,7 @@ public final class ClaimBuilder {
             implements PolicyStep, IncidentStep, ReporterStep, ChannelStep, OptionalStep {
 
         private final Clock clock;
+        private final IdGenerator ids;
 
         private String claimId;
         private String policyId;
@@ -78,13 +126,28 @@ public final class ClaimBuilder {
 
         private Instant createdAt;
 
-        private BuilderImpl(Clock clock) {
+        private ClaimStatus status;
+        private long version;
+
+        private BuilderImpl(Clock clock, IdGenerator ids) {
             this.clock = Objects.requireNonNull(clock);
+            this.ids = Objects.requireNonNull(ids);
+        }
+
+        private void reset() {
+            claimId = null;
+            policyId = null;
+            incident = null;
+            createdBy = null;
+            channel = null;
+            createdAt = null;
+            status = null;
+            version = 0;
         }
 
         @Override
         public IncidentStep policyId(String policyId) {
-            this.policyId = requireText(policyId, "policyId");
+            this.policyId = INTERNER.intern(requireText(policyId, "policyId"));
             return this;
         }
 
@@ -96,13 +159,13 @@ public final class ClaimBuilder {
 
         @Override
         public ChannelStep createdBy(String actor) {
-            this.createdBy = requireText(actor, "createdBy");
+            this.createdBy = INTERNER.intern(requireText(actor, "createdBy"));
             return this;
         }
 
         @Override
         public OptionalStep channel(String channel) {
-            this.channel = requireText(channel, "channel");
+            this.channel = INTERNER.intern(requireText(channel, "channel"));
             return this;
         }
 
@@ -118,31 +181,71 @@ public final class ClaimBuilder {
             return this;
         }
 
+        @Override
+        public OptionalStep status(ClaimStatus status) {
+            this.status = Objects.requireNonNull(status, "status");
+            return this;
+        }
+
+        @Override
+        public OptionalStep version(long version) {
+            if (version < 0) throw new IllegalArgumentException("version must not be negative");
+            this.version = version;
+            return this;
+        }
+
         @Override
         public Claim build() {
+            List<String> violations = violations();
+            if (!violations.isEmpty()) {
+                requireKnownChannel(channel); // an unknown channel stays an IllegalArgumentException
+                throw new IllegalStateException(violations.get(0));
+            }
+            return create();
+        }
+
+        @Override
+        public BuildResult<Claim> tryBuild() {
+            List<String> violations = violations();
+            return violations.isEmpty() ? BuildResult.valid(create()) : BuildResult.invalid(violations);
+        }
+
+        private List<String> violations() {
             // the required steps are dictated by the interface types,
             // but we still validate (e.g., someone reflected on null/blank)
-            if (policyId == null) throw new IllegalStateException("policyId is required");
-            if (incident == null) throw new IllegalStateException("incident is required");
-            if (createdBy == null) throw new IllegalStateException("createdBy is required");
-            if (channel == null) throw new IllegalStateException("channel is required");
+            List<String> violations = List.of();
+            if (policyId == null) violations = BuildResult.addViolation(violations, "policyId is required");
+            if (incident == null) violations = BuildResult.addViolation(violations, "incident is required");
+            if (createdBy == null) violations = BuildResult.addViolation(violations, "createdBy is required");
+            if (channel == null) violations = BuildResult.addViolation(violations, "channel is required");
+            else if (!isKnownChannel(channel)) violations = BuildResult.addViolation(violations, "Unknown channel: " + channel);
+            return violations;
+        }
 
-            String id = (claimId != null) ? claimId : UUID.randomUUID().toString();
+        private Claim create() {
+            String id = (claimId != null) ? claimId : ids.nextString();
             Instant now = (createdAt != null) ? createdAt : Instant.now(clock);
 
-            ClaimStatus initialStatus = initialStatusFor(channel);
-
             return new Claim(
                     id,
                     policyId,
                     incident,
-                    initialStatus,
+                    (status != null) ? status : initialStatusFor(channel),
                     now,
                     createdBy,
-                    channel
+                    channel,
+                    version
             );
         }
 
+        private static boolean isKnownChannel(String channel) {
+            return channel.equals("MANUAL") || channel.equals("AUTO");
+        }
+
+        private static void requireKnownChannel(String channel) {
+            if (channel != null && !isKnownChannel(channel)) throw new IllegalArgumentException("Unknown channel: " + channel);
+        }
+
         private static ClaimStatus initialStatusFor(String channel) {
             return switch (channel) {
                 case "MANUAL" -> ClaimStatus.DRAFT;
@@ -7,6 +7,7 @@ public enum ClaimStatus {
     APPROVED,
     REJECTED,
     REOPENED,
-    RESUBMITTED
+    RESUBMITTED,
+    SUBMITTING   // transitional: the submission owns this revision and is being sent (see SubmitClaimUseCase)
 }
 
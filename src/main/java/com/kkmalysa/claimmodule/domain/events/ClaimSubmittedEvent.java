@@ -1,5 +1,7 @@
 package com.kkmalysa.claimmodule.domain.events;
 
+import com.kkmalysa.claimmodule.domain.shared.StringInterner;
+
 import java.time.Instant;
 import java.util.Objects;
 
@@ -20,8 +22,9 @@ public final class ClaimSubmittedEvent implements DomainEvent {
     ) {
         this.claimId = Objects.requireNonNull(claimId);
         this.submissionId = Objects.requireNonNull(submissionId);
-        this.channel = Objects.requireNonNull(channel);
-        this.actor = Objects.requireNonNull(actor);
+        // interned here and not in the builder - the codecs call this constructor directly
+        this.channel = StringInterner.shared().intern(Objects.requireNonNull(channel));
+        this.actor = StringInterner.shared().intern(Objects.requireNonNull(actor));
         this.occurredAt = Objects.requireNonNull(occurredAt);
     }
 
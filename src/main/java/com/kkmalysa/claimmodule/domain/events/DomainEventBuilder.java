@@ -2,6 +2,7 @@ package com.kkmalysa.claimmodule.domain.events;
 
 import com.kkmalysa.claimmodule.application.submission.ClaimSubmission;
 import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.shared.ThreadConfined;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -19,6 +20,30 @@ public final class DomainEventBuilder {
         return new BuilderImpl(clock);
     }
 
+    // batch submission: one per thread (or per chunk), reset() before every event
+    public static Reusable reusable() {
+        return new Reusable(Clock.systemUTC());
+    }
+
+    /**
+     * One builder reused for many ClaimSubmitted events - build() allocates only the event.
+     * Not thread-safe: keep it in a local variable or a ThreadLocal, reset() fails on another thread.
+     */
+    public static final class Reusable {
+        private final ThreadConfined confined = new ThreadConfined("DomainEventBuilder.Reusable");
+        private final BuilderImpl builder;
+
+        private Reusable(Clock clock) {
+            this.builder = new BuilderImpl(clock);
+        }
+
+        public ClaimSubmittedStep reset() {
+            confined.check();
+            builder.reset();
+            return builder;
+        }
+    }
+
     // --- steps ---
     public interface ClaimSubmittedStep {
         ClaimStep claim(Claim claim);
@@ -49,6 +74,12 @@ public final class DomainEventBuilder {
             this.clock = Objects.requireNonNull(clock);
         }
 
+        private void reset() {
+            claim = null;
+            submission = null;
+            actor = null;
+        }
+
         @Override
         public ClaimStep claim(Claim claim) {
             this.claim = Objects.requireNonNull(claim);
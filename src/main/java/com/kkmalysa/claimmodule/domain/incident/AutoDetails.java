@@ -0,0 +1,22 @@
+package com.kkmalysa.claimmodule.domain.incident;
+
+import java.time.Instant;
+
+/** IncidentType = AUTO */
+public final class AutoDetails extends Incident {
+
+    private final String vin;
+    private final String licensePlate;
+
+    AutoDetails(Instant occurredAt, String location, String description, String vin, String licensePlate) {
+        super(occurredAt, location, description);
+        this.vin = vin;
+        this.licensePlate = licensePlate;
+    }
+
+    @Override
+    public IncidentType getIncidentType() { return IncidentType.AUTO; }
+
+    public String getVin() { return vin; }
+    public String getLicensePlate() { return licensePlate; }
+}
@@ -1,17 +1,19 @@
 package com.kkmalysa.claimmodule.domain.incident;
 
-import lombok.Getter;
-
 import java.time.Instant;
-import java.util.Optional;
-
 
 /**
- * @TODO sealed details + composition instead of a bunch of fields with a lot of nulls
+ * Common part of every incident. The type specific data lives in the sealed subclasses
+ * (AutoDetails, TheftDetails, PropertyDetails, InjuryDetails), so an instance only carries the
+ * fields its IncidentType actually uses - no slots that are always null.
+ *
+ * Details are subclasses and not a separate object on purpose: one object per incident instead of two
+ * keeps the header count down, and with millions of claims in memory that's what matters.
+ *
+ * Optional fields are returned as plain nullable values - no Optional allocated on every call.
+ * Use a switch over the sealed type to get to the details.
  */
-public class Incident {
-
-    private final IncidentType incidentType;
+public sealed abstract class Incident permits AutoDetails, TheftDetails, PropertyDetails, InjuryDetails {
 
     //obligatory
     private final Instant occurredAt;
@@ -20,70 +22,17 @@ public class Incident {
     //optional
     private final String description;
 
-    // IncidentType = AUTO
-    private final String vin;
-    private final String licensePlate;
-
-    // IncidentType = THEFT
-    private final String stolenItem;
-    private final String policeReportNumber; //optional
-
-    // IncidentType = PROPERTY
-    private final String propertyAddress;
-
-    // IncidentType = INJURY
-    private final String injuredPerson;
-    private final String medicalReportNumber; // optional
-
-    Incident(IncidentType incidentType, Instant occurredAt, String location, String description, String vin, String licensePlate,
-             String stolenItem, String policeReportNumber, String propertyAddress, String injuredPerson, String medicalReportNumber) {
-        this.incidentType = incidentType;
+    Incident(Instant occurredAt, String location, String description) {
         this.occurredAt = occurredAt;
         this.location = location;
         this.description = description;
-        this.vin = vin;
-        this.licensePlate = licensePlate;
-        this.stolenItem = stolenItem;
-        this.policeReportNumber = policeReportNumber;
-        this.propertyAddress = propertyAddress;
-        this.injuredPerson = injuredPerson;
-        this.medicalReportNumber = medicalReportNumber;
     }
 
-    public IncidentType getIncidentType() { return incidentType; }
+    public abstract IncidentType getIncidentType();
+
     public Instant getOccurredAt() { return occurredAt; }
     public String getLocation() { return location; }
 
-
-    public Optional <String> getDescription() {
-        return Optional.ofNullable(description);
-    }
-
-    public Optional <String> getVin() {
-        return Optional.ofNullable(vin);
-    }
-
-    public Optional <String> getLicensePlate() {
-        return Optional.ofNullable(licensePlate);
-    }
-
-    public Optional <String> getStolenItem() {
-        return Optional.ofNullable(stolenItem);
-    }
-
-    public Optional <String> getPoliceReportNumber() {
-        return Optional.ofNullable(policeReportNumber);
-    }
-
-    public Optional <String> getPropertyAddress() {
-        return Optional.ofNullable(propertyAddress);
-    }
-
-    public Optional <String> getInjuredPerson() {
-        return Optional.ofNullable(injuredPerson);
-    }
-
-    public Optional <String> getMedicalReportNumber() {
-        return Optional.ofNullable(medicalReportNumber);
-    }
+    /** null when not given */
+    public String getDescription() { return description; }
 }
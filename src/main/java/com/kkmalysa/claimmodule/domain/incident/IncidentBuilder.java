@@ -1,6 +1,12 @@
 package com.kkmalysa.claimmodule.domain.incident;
 
+import com.kkmalysa.claimmodule.domain.shared.BuildResult;
+import com.kkmalysa.claimmodule.domain.shared.RuleSet;
+import com.kkmalysa.claimmodule.domain.shared.StringInterner;
+import com.kkmalysa.claimmodule.domain.shared.ThreadConfined;
+
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -13,18 +19,56 @@ import java.util.Objects;
  * Pay attention on all the interfaces, and a class BuilderImpl that implements them all.
  * That's a popular trick in Step Builder - you return "this" but as specific interface.
  * important method - ensureType - prevents mistakes in incident Type.
+ * build() returns the sealed Incident subclass matching the type (AutoDetails, TheftDetails...).
+ * tryBuild() checks the same rules but returns all broken ones instead of throwing the first (bulk imports).
+ * Which fields a type requires is not coded here - it is the IncidentRules table (or one passed to of()).
+ * reusable() gives one builder for many incidents (bulk paths) - see Reusable.
  */
 
 
 public final class IncidentBuilder {
 
+    private static final StringInterner INTERNER = StringInterner.shared();
+
     private IncidentBuilder() {}
 
     // --- ENTRYPOINTS
-    public static CommonStep auto() { return new BuilderImpl(IncidentType.AUTO); }
-    public static CommonStep theft() { return new BuilderImpl(IncidentType.THEFT); }
-    public static CommonStep property() { return new BuilderImpl(IncidentType.PROPERTY); }
-    public static CommonStep injury() { return new BuilderImpl(IncidentType.INJURY); }
+    public static CommonStep auto() { return of(IncidentType.AUTO); }
+    public static CommonStep theft() { return of(IncidentType.THEFT); }
+    public static CommonStep property() { return of(IncidentType.PROPERTY); }
+    public static CommonStep injury() { return of(IncidentType.INJURY); }
+
+    // type known only at runtime (imports, APIs)
+    public static CommonStep of(IncidentType type) { return new BuilderImpl(type, IncidentRules.DEFAULT); }
+
+    // e.g. an insurer's stricter rules - see IncidentRules
+    public static CommonStep of(IncidentType type, RuleSet<IncidentType, IncidentDraft> rules) { return new BuilderImpl(type, rules); }
+
+    // bulk paths (imports, codecs): one per thread, reset(type) before every incident
+    public static Reusable reusable() { return new Reusable(IncidentRules.DEFAULT); }
+
+    public static Reusable reusable(RuleSet<IncidentType, IncidentDraft> rules) { return new Reusable(rules); }
+
+    /**
+     * One builder reused for many incidents. reset(type) clears the previous state and starts at
+     * CommonStep again - same steps, same checks - so build() allocates only the Incident itself.
+     * Not thread-safe: keep it in a local variable or a ThreadLocal, reset() fails on another thread.
+     * Steps returned before a reset() belong to the new incident, don't keep them around.
+     */
+    public static final class Reusable {
+        private final ThreadConfined confined = new ThreadConfined("IncidentBuilder.Reusable");
+        private final BuilderImpl builder;
+
+        private Reusable(RuleSet<IncidentType, IncidentDraft> rules) {
+            this.builder = new BuilderImpl(IncidentType.AUTO, rules);
+        }
+
+        public CommonStep reset(IncidentType type) {
+            confined.check();
+            builder.reset(type);
+            return builder;
+        }
+    }
 
     // --- STEPS: common
     public interface CommonStep {
@@ -45,28 +89,33 @@ public final class IncidentBuilder {
         AutoStep vin(String vin);
         AutoStep licensePlate(String plate);
         Incident build();
+        BuildResult<Incident> tryBuild();
     }
 
     public interface TheftStep {
         TheftStep stolenItem(String item);
         TheftStep policeReportNumber(String reportNumber);
         Incident build();
+        BuildResult<Incident> tryBuild();
     }
 
     public interface PropertyStep {
         PropertyStep propertyAddress(String address);
         Incident build();
+        BuildResult<Incident> tryBuild();
     }
 
     public interface InjuryStep {
         InjuryStep injuredPerson(String person);
         InjuryStep medicalReportNumber(String reportNumber);
         Incident build();
+        BuildResult<Incident> tryBuild();
     }
 
     // --- IMPLEMENTATION
-    private static final class BuilderImpl implements CommonStep, AutoStep, TheftStep, PropertyStep, InjuryStep {
-        private final IncidentType type;
+    private static final class BuilderImpl implements CommonStep, AutoStep, TheftStep, PropertyStep, InjuryStep, IncidentDraft {
+        private IncidentType type; // changes only in reset()
+        private final RuleSet<IncidentType, IncidentDraft> rules;
 
         private Instant occurredAt;
         private String location;
@@ -83,8 +132,23 @@ public final class IncidentBuilder {
         private String injuredPerson;
         private String medicalReportNumber;
 
-        private BuilderImpl(IncidentType type) {
+        private BuilderImpl(IncidentType type, RuleSet<IncidentType, IncidentDraft> rules) {
+            this.type = Objects.requireNonNull(type);
+            this.rules = Objects.requireNonNull(rules);
+        }
+
+        private void reset(IncidentType type) {
             this.type = Objects.requireNonNull(type);
+            occurredAt = null;
+            location = null;
+            description = null;
+            vin = null;
+            licensePlate = null;
+            stolenItem = null;
+            policeReportNumber = null;
+            propertyAddress = null;
+            injuredPerson = null;
+            medicalReportNumber = null;
         }
 
         @Override
@@ -95,7 +159,7 @@ public final class IncidentBuilder {
 
         @Override
         public CommonStep location(String location) {
-            this.location = requireText(location, "location");
+            this.location = INTERNER.intern(requireText(location, "location")); // same cities over and over
             return this;
         }
 
@@ -172,38 +236,44 @@ public final class IncidentBuilder {
 
         @Override
         public Incident build() {
-            // 1) common requirements
-            if (occurredAt == null) throw new IllegalStateException("occurredAt is required");
-            if (location == null || location.isBlank()) throw new IllegalStateException("location is required");
-
-            // 2) requirements per type
-            switch (type) {
-                case AUTO -> {
-                    if (isBlank(vin)) throw new IllegalStateException("vin is required for AUTO");
-                    if (isBlank(licensePlate)) throw new IllegalStateException("licensePlate is required for AUTO");
-                }
-                case THEFT -> {
-                    if (isBlank(stolenItem)) throw new IllegalStateException("stolenItem is required for THEFT");
-
-                }
-                case PROPERTY -> {
-                    if (isBlank(propertyAddress)) throw new IllegalStateException("propertyAddress is required for PROPERTY");
-                }
-                case INJURY -> {
-                    if (isBlank(injuredPerson)) throw new IllegalStateException("injuredPerson is required for INJURY");
-
-                }
-            }
+            List<String> violations = violations();
+            if (!violations.isEmpty()) throw new IllegalStateException(violations.get(0));
+            return create();
+        }
+
+        @Override
+        public BuildResult<Incident> tryBuild() {
+            List<String> violations = violations();
+            return violations.isEmpty() ? BuildResult.valid(create()) : BuildResult.invalid(violations);
+        }
+
+        // the required fields per type live in the rules table (IncidentRules), checked in one pass
+        private List<String> violations() {
+            return rules.validate(type, this);
+        }
 
-            return new Incident(
-                    type, occurredAt, location, description,
-                    vin, licensePlate,
-                    stolenItem, policeReportNumber,
-                    propertyAddress,
-                    injuredPerson, medicalReportNumber
-            );
+        private Incident create() {
+            return switch (type) {
+                case AUTO -> new AutoDetails(occurredAt, location, description, vin, licensePlate);
+                case THEFT -> new TheftDetails(occurredAt, location, description, stolenItem, policeReportNumber);
+                case PROPERTY -> new PropertyDetails(occurredAt, location, description, propertyAddress);
+                case INJURY -> new InjuryDetails(occurredAt, location, description, injuredPerson, medicalReportNumber);
+            };
         }
 
+        // --- IncidentDraft: the state the rules look at
+        @Override public IncidentType getIncidentType() { return type; }
+        @Override public Instant getOccurredAt() { return occurredAt; }
+        @Override public String getLocation() { return location; }
+        @Override public String getDescription() { return description; }
+        @Override public String getVin() { return vin; }
+        @Override public String getLicensePlate() { return licensePlate; }
+        @Override public String getStolenItem() { return stolenItem; }
+        @Override public String getPoliceReportNumber() { return policeReportNumber; }
+        @Override public String getPropertyAddress() { return propertyAddress; }
+        @Override public String getInjuredPerson() { return injuredPerson; }
+        @Override public String getMedicalReportNumber() { return medicalReportNumber; }
+
         private void ensureType(IncidentType expected) {
             if (this.type != expected) {
                 throw new IllegalStateException("This builder is for " + type + ", not " + expected);
@@ -215,6 +285,5 @@ public final class IncidentBuilder {
             return value;
         }
 
-        private static boolean isBlank(String s) { return s == null || s.isBlank(); }
     }
 }
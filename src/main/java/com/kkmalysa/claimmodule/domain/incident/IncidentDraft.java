@@ -0,0 +1,24 @@
+package com.kkmalysa.claimmodule.domain.incident;
+
+import java.time.Instant;
+
+/**
+ * Read-only view of incident data that is not validated yet - what {@link IncidentRules} check.
+ * IncidentBuilder's state is one, an import row can be another, so rows can be validated in bulk
+ * before anything is built.
+ */
+public interface IncidentDraft {
+    IncidentType getIncidentType();
+
+    Instant getOccurredAt();
+    String getLocation();
+    String getDescription();
+
+    String getVin();
+    String getLicensePlate();
+    String getStolenItem();
+    String getPoliceReportNumber();
+    String getPropertyAddress();
+    String getInjuredPerson();
+    String getMedicalReportNumber();
+}
@@ -0,0 +1,26 @@
+package com.kkmalysa.claimmodule.domain.incident;
+
+import com.kkmalysa.claimmodule.domain.shared.Rule;
+import com.kkmalysa.claimmodule.domain.shared.RuleSet;
+
+/**
+ * Required fields of an incident, per IncidentType - the table IncidentBuilder validates against.
+ * A new type-specific requirement is one line here. Insurer specific rules go on top of DEFAULT:
+ * {@code IncidentRules.DEFAULT.toBuilder().when(IncidentType.THEFT, ...).compile()}
+ * and the builder is created with {@link IncidentBuilder#of(IncidentType, RuleSet)}.
+ */
+public final class IncidentRules {
+
+    private IncidentRules() {}
+
+    public static final RuleSet<IncidentType, IncidentDraft> DEFAULT = RuleSet.<IncidentType, IncidentDraft>builder(IncidentType.class)
+            .always(Rule.requirePresent("occurredAt is required", IncidentDraft::getOccurredAt))
+            .always(Rule.requireText("location is required", IncidentDraft::getLocation))
+
+            .when(IncidentType.AUTO, Rule.requireText("vin is required for AUTO", IncidentDraft::getVin))
+            .when(IncidentType.AUTO, Rule.requireText("licensePlate is required for AUTO", IncidentDraft::getLicensePlate))
+            .when(IncidentType.THEFT, Rule.requireText("stolenItem is required for THEFT", IncidentDraft::getStolenItem))
+            .when(IncidentType.PROPERTY, Rule.requireText("propertyAddress is required for PROPERTY", IncidentDraft::getPropertyAddress))
+            .when(IncidentType.INJURY, Rule.requireText("injuredPerson is required for INJURY", IncidentDraft::getInjuredPerson))
+            .compile();
+}
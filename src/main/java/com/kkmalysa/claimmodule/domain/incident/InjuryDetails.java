@@ -0,0 +1,24 @@
+package com.kkmalysa.claimmodule.domain.incident;
+
+import java.time.Instant;
+
+/** IncidentType = INJURY */
+public final class InjuryDetails extends Incident {
+
+    private final String injuredPerson;
+    private final String medicalReportNumber; // optional
+
+    InjuryDetails(Instant occurredAt, String location, String description, String injuredPerson, String medicalReportNumber) {
+        super(occurredAt, location, description);
+        this.injuredPerson = injuredPerson;
+        this.medicalReportNumber = medicalReportNumber;
+    }
+
+    @Override
+    public IncidentType getIncidentType() { return IncidentType.INJURY; }
+
+    public String getInjuredPerson() { return injuredPerson; }
+
+    /** null when not given */
+    public String getMedicalReportNumber() { return medicalReportNumber; }
+}
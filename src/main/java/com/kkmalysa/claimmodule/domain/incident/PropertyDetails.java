@@ -0,0 +1,19 @@
+package com.kkmalysa.claimmodule.domain.incident;
+
+import java.time.Instant;
+
+/** IncidentType = PROPERTY */
+public final class PropertyDetails extends Incident {
+
+    private final String propertyAddress;
+
+    PropertyDetails(Instant occurredAt, String location, String description, String propertyAddress) {
+        super(occurredAt, location, description);
+        this.propertyAddress = propertyAddress;
+    }
+
+    @Override
+    public IncidentType getIncidentType() { return IncidentType.PROPERTY; }
+
+    public String getPropertyAddress() { return propertyAddress; }
+}
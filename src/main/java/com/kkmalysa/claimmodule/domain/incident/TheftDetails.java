@@ -0,0 +1,24 @@
+package com.kkmalysa.claimmodule.domain.incident;
+
+import java.time.Instant;
+
+/** IncidentType = THEFT */
+public final class TheftDetails extends Incident {
+
+    private final String stolenItem;
+    private final String policeReportNumber; //optional
+
+    TheftDetails(Instant occurredAt, String location, String description, String stolenItem, String policeReportNumber) {
+        super(occurredAt, location, description);
+        this.stolenItem = stolenItem;
+        this.policeReportNumber = policeReportNumber;
+    }
+
+    @Override
+    public IncidentType getIncidentType() { return IncidentType.THEFT; }
+
+    public String getStolenItem() { return stolenItem; }
+
+    /** null when not given */
+    public String getPoliceReportNumber() { return policeReportNumber; }
+}
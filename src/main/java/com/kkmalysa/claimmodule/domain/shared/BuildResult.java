@@ -0,0 +1,65 @@
+package com.kkmalysa.claimmodule.domain.shared;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Outcome of a builder's tryBuild(): the built object, or every rule it broke.
+ *
+ * build() reports the first broken rule as an exception - fine for a single object, but in a bulk import
+ * where a few percent of the rows are invalid, filling in all those stack traces costs more than the import
+ * itself. tryBuild() checks the same rules and just returns them as messages (the same texts build() throws).
+ */
+public final class BuildResult<T> {
+
+    private final T value;
+    private final List<String> violations;
+
+    private BuildResult(T value, List<String> violations) {
+        this.value = value;
+        this.violations = violations;
+    }
+
+    public static <T> BuildResult<T> valid(T value) {
+        return new BuildResult<>(Objects.requireNonNull(value), List.of());
+    }
+
+    public static <T> BuildResult<T> invalid(List<String> violations) {
+        if (violations.isEmpty()) throw new IllegalArgumentException("an invalid result needs at least one violation");
+        return new BuildResult<>(null, List.copyOf(violations));
+    }
+
+    public boolean isValid() {
+        return value != null;
+    }
+
+    /**
+     * @throws IllegalStateException listing all violations - for callers that already checked isValid()
+     */
+    public T get() {
+        if (value == null) throw new IllegalStateException(String.join("; ", violations));
+        return value;
+    }
+
+    // empty for a valid result
+    public List<String> getViolations() {
+        return violations;
+    }
+
+    /**
+     * For the builders' rule checks: the list is only allocated once a rule is broken,
+     * so checking a valid object allocates nothing.
+     * Start with {@code List.of()} and keep the returned list.
+     */
+    public static List<String> addViolation(List<String> violations, String violation) {
+        List<String> mutable = violations.isEmpty() ? new ArrayList<>(4) : violations;
+        mutable.add(violation);
+        return mutable;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "BuildResult{valid " + value + "}" : "BuildResult{violations=" + violations + "}";
+    }
+}
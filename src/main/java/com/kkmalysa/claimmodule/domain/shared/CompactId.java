@@ -0,0 +1,90 @@
+package com.kkmalysa.claimmodule.domain.shared;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 128-bit id held as two longs - 16 bytes of payload instead of a 36-char String (~80 bytes on the heap).
+ * Rendered as a canonical lowercase UUID string only when asked, so it stays compatible with the ids
+ * the codecs and stores already pack into 128 bits.
+ *
+ * Ordering is unsigned, high then low - the same as the string order, and for UUIDv7 ids
+ * (see {@link UuidV7Generator}) the same as creation time.
+ */
+public final class CompactId implements Comparable<CompactId> {
+
+    public static final int BYTES = 16;
+
+    private final long high;
+    private final long low;
+
+    public CompactId(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * @param value canonical UUID string (lowercase, with dashes)
+     * @throws IllegalArgumentException for anything else - it would not come back the same from toString()
+     */
+    public static CompactId parse(String value) {
+        if (value.length() != 36 || value.charAt(8) != '-' || value.charAt(13) != '-' || value.charAt(18) != '-' || value.charAt(23) != '-') {
+            throw new IllegalArgumentException("Not a canonical UUID: " + value);
+        }
+        UUID uuid = UUID.fromString(value);
+        if (!uuid.toString().equals(value)) throw new IllegalArgumentException("Not a canonical UUID: " + value);
+        return new CompactId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public static CompactId fromBytes(byte[] bytes) {
+        if (bytes.length != BYTES) throw new IllegalArgumentException("Expected " + BYTES + " bytes, got " + bytes.length);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new CompactId(buffer.getLong(), buffer.getLong());
+    }
+
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(BYTES).putLong(high).putLong(low).array();
+    }
+
+    public long high() { return high; }
+    public long low() { return low; }
+
+    public UUID toUuid() {
+        return new UUID(high, low);
+    }
+
+    /** UUID version nibble: 7 for time-ordered ids, 4 for random ones */
+    public int version() {
+        return (int) (high >>> 12) & 0xF;
+    }
+
+    /**
+     * @throws IllegalStateException when this is not a UUIDv7 - other versions carry no creation time
+     */
+    public Instant timestamp() {
+        if (version() != 7) throw new IllegalStateException("Not a time-ordered id: " + this);
+        return Instant.ofEpochMilli(high >>> 16);
+    }
+
+    @Override
+    public int compareTo(CompactId other) {
+        int byHigh = Long.compareUnsigned(high, other.high);
+        return (byHigh != 0) ? byHigh : Long.compareUnsigned(low, other.low);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CompactId other && high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high ^ low);
+    }
+
+    @Override
+    public String toString() {
+        return toUuid().toString();
+    }
+}
@@ -0,0 +1,19 @@
+package com.kkmalysa.claimmodule.domain.shared;
+
+/**
+ * Source of new claim / submission ids. The builders take one, so tests and other deployments can
+ * plug their own; the default is the process-wide {@link UuidV7Generator}.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    CompactId next();
+
+    default String nextString() {
+        return next().toString();
+    }
+
+    static IdGenerator timeOrdered() {
+        return UuidV7Generator.SHARED;
+    }
+}
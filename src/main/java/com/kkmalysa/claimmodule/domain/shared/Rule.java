@@ -0,0 +1,53 @@
+package com.kkmalysa.claimmodule.domain.shared;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * One validation rule: a check and the violation message reported when it fails.
+ * Rules are grouped and compiled into a {@link RuleSet}.
+ */
+public final class Rule<T> {
+
+    private final String message;
+    private final Predicate<? super T> check;
+
+    private Rule(String message, Predicate<? super T> check) {
+        this.message = Objects.requireNonNull(message, "message");
+        this.check = Objects.requireNonNull(check, "check");
+    }
+
+    /**
+     * @param check true when the subject is fine
+     */
+    public static <T> Rule<T> require(String message, Predicate<? super T> check) {
+        return new Rule<>(message, check);
+    }
+
+    public static <T> Rule<T> requireText(String message, Function<? super T, String> field) {
+        Objects.requireNonNull(field, "field");
+        return new Rule<>(message, subject -> {
+            String value = field.apply(subject);
+            return value != null && !value.isBlank();
+        });
+    }
+
+    public static <T> Rule<T> requirePresent(String message, Function<? super T, ?> field) {
+        Objects.requireNonNull(field, "field");
+        return new Rule<>(message, subject -> field.apply(subject) != null);
+    }
+
+    boolean passes(T subject) {
+        return check.test(subject);
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return "Rule{" + message + "}";
+    }
+}
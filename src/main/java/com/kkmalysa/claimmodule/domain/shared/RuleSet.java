@@ -0,0 +1,141 @@
+package com.kkmalysa.claimmodule.domain.shared;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Validation rules per variant (an enum key: IncidentType, SubmissionChannel...), compiled once.
+ *
+ * compile() flattens "rules for all" + "rules for this key" into one array per key, indexed by the key's
+ * ordinal - validate() is an array lookup and one pass over that array, no map lookups or switches per call.
+ * Every rule is evaluated, so the result is the full list of violations (in the order the rules were added,
+ * common ones first). A valid subject allocates nothing.
+ *
+ * A RuleSet is immutable and thread-safe. To add rules (e.g. for one insurer) use {@link #toBuilder()}
+ * and compile a new set once - the hot path of the default set does not change.
+ */
+public final class RuleSet<K extends Enum<K>, T> {
+
+    private final Class<K> keyType;
+    private final List<Rule<T>> common;
+    private final Map<K, List<Rule<T>>> perKey;
+    private final List<List<Rule<T>>> compiled; // [key.ordinal()] -> common + key rules
+
+    private RuleSet(Class<K> keyType, List<Rule<T>> common, Map<K, List<Rule<T>>> perKey) {
+        this.keyType = keyType;
+        this.common = List.copyOf(common);
+        this.perKey = new EnumMap<>(keyType);
+        perKey.forEach((key, rules) -> this.perKey.put(key, List.copyOf(rules)));
+
+        K[] keys = keyType.getEnumConstants(); // in ordinal order
+        List<List<Rule<T>>> table = new ArrayList<>(keys.length);
+        for (K key : keys) {
+            List<Rule<T>> rules = new ArrayList<>(this.common);
+            rules.addAll(this.perKey.getOrDefault(key, List.of()));
+            table.add(List.copyOf(rules));
+        }
+        this.compiled = List.copyOf(table);
+    }
+
+    public static <K extends Enum<K>, T> Builder<K, T> builder(Class<K> keyType) {
+        return new Builder<>(keyType);
+    }
+
+    /**
+     * @return every violated rule's message; an empty immutable list when the subject is valid
+     */
+    public List<String> validate(K key, T subject) {
+        List<String> violations = List.of();
+        List<Rule<T>> rules = compiled.get(key.ordinal());
+        for (int i = 0; i < rules.size(); i++) { // indexed - no iterator on the hot path
+            Rule<T> rule = rules.get(i);
+            if (!rule.passes(subject)) violations = BuildResult.addViolation(violations, rule.getMessage());
+        }
+        return violations;
+    }
+
+    /**
+     * Validates a batch in one go: rows are grouped by key and every rule of a key runs over all its rows
+     * before the next rule - the same check back to back instead of a different lambda every call.
+     *
+     * @return violations per subject, in the order of the subjects (an empty list for a valid one)
+     */
+    public List<List<String>> validateAll(List<? extends T> subjects, Function<? super T, K> keyOf) {
+        int size = subjects.size();
+        K[] keys = keyType.getEnumConstants();
+
+        // row indexes per key (counting sort by ordinal)
+        int[] keyOfRow = new int[size];
+        int[] counts = new int[keys.length + 1];
+        for (int i = 0; i < size; i++) {
+            K key = Objects.requireNonNull(keyOf.apply(subjects.get(i)), "key");
+            keyOfRow[i] = key.ordinal();
+            counts[key.ordinal() + 1]++;
+        }
+        for (int k = 0; k < keys.length; k++) counts[k + 1] += counts[k];
+        int[] rows = new int[size];
+        int[] next = counts.clone();
+        for (int i = 0; i < size; i++) rows[next[keyOfRow[i]]++] = i;
+
+        List<List<String>> violations = new ArrayList<>(Collections.nCopies(size, List.of()));
+        for (int k = 0; k < keys.length; k++) {
+            for (Rule<T> rule : compiled.get(k)) {
+                for (int r = counts[k]; r < counts[k + 1]; r++) {
+                    int row = rows[r];
+                    if (!rule.passes(subjects.get(row))) {
+                        violations.set(row, BuildResult.addViolation(violations.get(row), rule.getMessage()));
+                    }
+                }
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * @return how many checks validate() runs for the key
+     */
+    public int ruleCount(K key) {
+        return compiled.get(key.ordinal()).size();
+    }
+
+    /**
+     * @return a builder with all rules of this set - add more and compile a new set
+     */
+    public Builder<K, T> toBuilder() {
+        Builder<K, T> builder = new Builder<>(keyType);
+        builder.common.addAll(common);
+        perKey.forEach((key, rules) -> builder.perKey.computeIfAbsent(key, k -> new ArrayList<>()).addAll(rules));
+        return builder;
+    }
+
+    public static final class Builder<K extends Enum<K>, T> {
+        private final Class<K> keyType;
+        private final List<Rule<T>> common = new ArrayList<>();
+        private final Map<K, List<Rule<T>>> perKey;
+
+        private Builder(Class<K> keyType) {
+            this.keyType = Objects.requireNonNull(keyType, "keyType");
+            this.perKey = new EnumMap<>(keyType);
+        }
+
+        // checked for every key
+        public Builder<K, T> always(Rule<T> rule) {
+            common.add(Objects.requireNonNull(rule, "rule"));
+            return this;
+        }
+
+        public Builder<K, T> when(K key, Rule<T> rule) {
+            perKey.computeIfAbsent(Objects.requireNonNull(key, "key"), k -> new ArrayList<>()).add(Objects.requireNonNull(rule, "rule"));
+            return this;
+        }
+
+        public RuleSet<K, T> compile() {
+            return new RuleSet<>(keyType, common, perKey);
+        }
+    }
+}
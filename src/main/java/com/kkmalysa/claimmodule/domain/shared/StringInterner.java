@@ -0,0 +1,102 @@
+package com.kkmalysa.claimmodule.domain.shared;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free string deduplication for attributes that repeat across millions of objects
+ * (channel, policyId, createdBy, location...). Not String.intern() - that table is unbounded and global.
+ *
+ * The table is a fixed array of 2-entry buckets (slot i and i^1, same cache line). A lookup checks both;
+ * a miss pushes the first entry to the second slot and puts the new value first, so the older of the two
+ * falls out. No locks - two threads racing on one bucket can lose an entry, which only costs a
+ * dedup, never correctness: intern(x) always returns a string equal to x.
+ *
+ * Long strings are passed through untouched, they are almost never shared (descriptions, ids).
+ *
+ * bytesSaved is an estimate: a hit that returns a different instance than the one passed in means
+ * that duplicate (String + Latin-1 byte[], compressed oops) can be collected.
+ */
+public final class StringInterner {
+
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private static final StringInterner SHARED = new StringInterner(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+
+    private static final int STRING_HEADER_BYTES = 24; // header + value ref + hash + coder/hashIsZero, aligned
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private final AtomicReferenceArray<String> table;
+    private final int mask;
+    private final int maxLength;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /** capacity is rounded up to a power of two (at least 2) */
+    public StringInterner(int capacity, int maxLength) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be >= 1");
+        if (maxLength < 1) throw new IllegalArgumentException("maxLength must be >= 1");
+        int size = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.maxLength = maxLength;
+    }
+
+    /** The instance used by the builders and codecs. */
+    public static StringInterner shared() {
+        return SHARED;
+    }
+
+    public String intern(String value) {
+        if (value == null) return null;
+        if (value.length() > maxLength) {
+            skipped.increment();
+            return value;
+        }
+
+        int first = spread(value.hashCode()) & mask;
+        int second = first ^ 1;
+
+        String cached = table.get(first);
+        if (cached == null || !cached.equals(value)) {
+            String other = table.get(second);
+            if (other != null && other.equals(value)) {
+                cached = other;
+            } else {
+                if (cached != null) table.set(second, cached);
+                table.set(first, value);
+                misses.increment();
+                return value;
+            }
+        }
+
+        hits.increment();
+        if (cached != value) bytesSaved.add(estimatedSize(value));
+        return cached;
+    }
+
+    public long hitCount() { return hits.sum(); }
+    public long missCount() { return misses.sum(); }
+    public long skippedCount() { return skipped.sum(); }
+    public long bytesSaved() { return bytesSaved.sum(); }
+    public int capacity() { return table.length(); }
+
+    /** hits / (hits + misses), 0 before the first lookup; skipped strings don't count */
+    public double hitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    static long estimatedSize(String value) {
+        return STRING_HEADER_BYTES + ((ARRAY_HEADER_BYTES + value.length() + 7) & ~7);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
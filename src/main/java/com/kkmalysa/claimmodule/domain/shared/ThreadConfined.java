@@ -0,0 +1,22 @@
+package com.kkmalysa.claimmodule.domain.shared;
+
+/**
+ * Remembers the thread that created an object which is not thread-safe on purpose
+ * (the reusable builders) and fails fast when another thread picks it up.
+ * One reference comparison - cheap enough to run on every reset().
+ */
+public final class ThreadConfined {
+
+    private final Thread owner = Thread.currentThread();
+    private final String what;
+
+    public ThreadConfined(String what) {
+        this.what = what;
+    }
+
+    public void check() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException(what + " is confined to " + owner + " - create one per thread");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.kkmalysa.claimmodule.domain.shared;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * UUIDv7 (RFC 9562) ids: 48-bit unix millis | version 7 | 12-bit counter | variant | 62 random bits.
+ *
+ * Replaces UUID.randomUUID(), which goes through one shared SecureRandom and gives ids in random
+ * order. Here the time + counter part comes from a single AtomicLong bumped with a CAS - lock-free,
+ * every call gets a distinct value, strictly increasing across all threads, also when the clock
+ * stands still or jumps back (the counter then just keeps counting, borrowing from the next
+ * millisecond after 4096 ids).
+ *
+ * The 62 random bits come from SecureRandom, so the part after the timestamp cannot be guessed from
+ * other ids (ThreadLocalRandom can be predicted from a few outputs). Still, an id is not an access
+ * token - the time + counter part is guessable by design. To keep SecureRandom off the hot path it is
+ * read in 512-byte batches, into a few stripes picked by thread id (not per thread - virtual threads
+ * come and go with every request).
+ *
+ * Increasing ids keep inserts at the right end of sorted indexes, log segments and block files.
+ */
+public final class UuidV7Generator implements IdGenerator {
+
+    static final UuidV7Generator SHARED = new UuidV7Generator(Clock.systemUTC());
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final Clock clock;
+    private final AtomicLong lastTimeAndCounter = new AtomicLong(); // (millis << 12) | counter of the last id
+    private final RandomStripe[] stripes = RandomStripe.create(Runtime.getRuntime().availableProcessors() * 2);
+
+    public UuidV7Generator() {
+        this(Clock.systemUTC());
+    }
+
+    UuidV7Generator(Clock clock) { // test-friendly
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public CompactId next() {
+        long now = clock.millis() << COUNTER_BITS;
+        long timeAndCounter = lastTimeAndCounter.accumulateAndGet(now, (last, fresh) -> Math.max(fresh, last + 1));
+
+        long millis = timeAndCounter >>> COUNTER_BITS;
+        long counter = timeAndCounter & ((1L << COUNTER_BITS) - 1);
+        long high = (millis << 16) | VERSION_7 | counter;
+        long low = VARIANT | (randomLong() & RANDOM_MASK);
+        return new CompactId(high, low);
+    }
+
+    private long randomLong() {
+        return stripes[(int) Thread.currentThread().threadId() & (stripes.length - 1)].nextLong();
+    }
+
+    // one SecureRandom with a buffer of its output; the lock is held for a buffer read, rarely for a refill
+    private static final class RandomStripe {
+        private static final int BUFFER_BYTES = 512;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final SecureRandom random = new SecureRandom();
+        private final byte[] bytes = new byte[BUFFER_BYTES];
+        private final ByteBuffer buffer = ByteBuffer.wrap(bytes).position(BUFFER_BYTES); // empty, filled on first use
+
+        static RandomStripe[] create(int atLeast) {
+            RandomStripe[] stripes = new RandomStripe[Integer.highestOneBit(Math.max(1, atLeast - 1)) << 1];
+            for (int i = 0; i < stripes.length; i++) stripes[i] = new RandomStripe();
+            return stripes;
+        }
+
+        long nextLong() {
+            lock.lock();
+            try {
+                if (!buffer.hasRemaining()) {
+                    random.nextBytes(bytes);
+                    buffer.clear();
+                }
+                return buffer.getLong();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
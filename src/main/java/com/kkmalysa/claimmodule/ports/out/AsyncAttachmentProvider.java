@@ -0,0 +1,11 @@
+package com.kkmalysa.claimmodule.ports.out;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link AttachmentProvider}.
+ */
+public interface AsyncAttachmentProvider {
+    CompletableFuture<List<String>> findAttachmentIdsForClaim(String claimId);
+}
@@ -0,0 +1,21 @@
+package com.kkmalysa.claimmodule.ports.out;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link ClaimRepository} (only what the async submission needs).
+ * The futures complete exceptionally instead of throwing; semantics are the same as the blocking calls.
+ */
+public interface AsyncClaimRepository {
+    CompletableFuture<Optional<Claim>> getById(String claimId);
+
+    /**
+     * @see ClaimRepository#compareAndSave(long, Claim, List)
+     */
+    CompletableFuture<Boolean> compareAndSave(long expectedVersion, Claim claim, List<DomainEvent> events);
+}
@@ -0,0 +1,11 @@
+package com.kkmalysa.claimmodule.ports.out;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link PolicyProvider}.
+ */
+public interface AsyncPolicyProvider {
+    CompletableFuture<Optional<String>> getPolicyNumber(String policyId);
+}
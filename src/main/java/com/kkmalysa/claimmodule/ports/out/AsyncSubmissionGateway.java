@@ -0,0 +1,13 @@
+package com.kkmalysa.claimmodule.ports.out;
+
+import com.kkmalysa.claimmodule.application.submission.ClaimSubmission;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link SubmissionGateway}: the future completes once the submission
+ * was accepted downstream.
+ */
+public interface AsyncSubmissionGateway {
+    CompletableFuture<Void> send(ClaimSubmission submission);
+}
@@ -1,7 +1,22 @@
 package com.kkmalysa.claimmodule.ports.out;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public interface AttachmentProvider {
     List<String> findAttachmentIdsForClaim(String claimId);
+
+    /**
+     * Batch variant of {@link #findAttachmentIdsForClaim(String)}.
+     * @return attachment ids keyed by claimId; claims without attachments may be absent from the map
+     */
+    default Map<String, List<String>> findAttachmentIdsForClaims(Collection<String> claimIds) {
+        Map<String, List<String>> found = new HashMap<>();
+        for (String claimId : claimIds) {
+            found.put(claimId, findAttachmentIdsForClaim(claimId));
+        }
+        return found;
+    }
 }
@@ -1,11 +1,121 @@
 package com.kkmalysa.claimmodule.ports.out;
 
 import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 
 public interface ClaimRepository {
     Optional<Claim> getById(String claimId);
     void save(Claim claim);
+
+    /**
+     * Optimistic write: saves the claim only if the stored revision still has expectedVersion.
+     * @return false when the claim is missing or was changed by someone else in the meantime (nothing is saved then)
+     */
+    default boolean compareAndSave(long expectedVersion, Claim claim) {
+        return compareAndSave(expectedVersion, claim, List.of());
+    }
+
+    /**
+     * {@link #compareAndSave(long, Claim)} + transactional outbox: the events are appended to {@link #outbox()}
+     * in the same atomic step as the claim is saved. On a conflict neither of them is written.
+     */
+    boolean compareAndSave(long expectedVersion, Claim claim, List<DomainEvent> events);
+
+    /**
+     * @return the outbox that receives the events passed to compareAndSave
+     */
+    EventOutbox outbox();
+
+    // --- queries (back-office screens), served from secondary indexes - never a full scan
+    // (two exceptions: OffHeapClaimRepository scans a single column, and the cold tier of TieredClaimRepository
+    // checks a summary per block and reads the blocks that may match - see there)
+    List<Claim> findByPolicyId(String policyId);
+    List<Claim> findByStatus(ClaimStatus status);
+
+    /**
+     * @return claims with fromInclusive <= createdAt < toExclusive, oldest first
+     */
+    List<Claim> findCreatedBetween(Instant fromInclusive, Instant toExclusive);
+
+    // --- batch variants (bulk paths). Defaults fall back to one call per claim,
+    // adapters backed by a remote store should override them with a single round trip.
+
+    /**
+     * @return found claims keyed by claimId; missing ids are simply absent from the map
+     */
+    default Map<String, Claim> getByIds(Collection<String> claimIds) {
+        Map<String, Claim> found = new HashMap<>();
+        for (String claimId : claimIds) {
+            getById(claimId).ifPresent(claim -> found.put(claimId, claim));
+        }
+        return found;
+    }
+
+    default void saveAll(Collection<Claim> claims) {
+        for (Claim claim : claims) {
+            save(claim);
+        }
+    }
+
+    /**
+     * Bulk insert that never overwrites (imports): a claim whose claimId is already stored is left alone,
+     * and so is a second claim with the same claimId in the collection - the first one wins.
+     * The default checks and saves one by one, which is NOT atomic against concurrent writers;
+     * the adapters of this module override it so that check and insert are one step per claim.
+     * @return claimIds that were NOT inserted because they already existed
+     */
+    default Set<String> insertAllIfAbsent(Collection<Claim> claims) {
+        Set<String> existing = new HashSet<>();
+        Set<String> inserted = new HashSet<>();
+        for (Claim claim : claims) {
+            if (inserted.contains(claim.getClaimId()) || getById(claim.getClaimId()).isPresent()) {
+                existing.add(claim.getClaimId());
+            } else {
+                save(claim);
+                inserted.add(claim.getClaimId());
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * Batch variant of {@link #compareAndSave}. Every claim is checked against its own expected version
+     * (keyed by claimId) and saved or rejected independently - it is not all-or-nothing.
+     * @return claimIds that were NOT saved because of a version conflict
+     */
+    default Set<String> compareAndSaveAll(Map<String, Long> expectedVersions, Collection<Claim> claims) {
+        return compareAndSaveAll(expectedVersions, claims, Map.of());
+    }
+
+    /**
+     * Batch variant of {@link #compareAndSave(long, Claim, List)}; events are keyed by claimId
+     * and written only together with their claim.
+     * @return claimIds that were NOT saved because of a version conflict
+     */
+    default Set<String> compareAndSaveAll(
+            Map<String, Long> expectedVersions,
+            Collection<Claim> claims,
+            Map<String, List<DomainEvent>> eventsByClaimId
+    ) {
+        Set<String> conflicts = new HashSet<>();
+        for (Claim claim : claims) {
+            Long expectedVersion = expectedVersions.get(claim.getClaimId());
+            if (expectedVersion == null) throw new IllegalArgumentException("No expected version for claim: " + claim.getClaimId());
+            if (!compareAndSave(expectedVersion, claim, eventsByClaimId.getOrDefault(claim.getClaimId(), List.of()))) {
+                conflicts.add(claim.getClaimId());
+            }
+        }
+        return conflicts;
+    }
 }
@@ -0,0 +1,12 @@
+package com.kkmalysa.claimmodule.ports.out;
+
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+
+import java.util.List;
+
+public interface DomainEventPublisher {
+    /**
+     * Publishes events in the given order. Throwing means "not published" - the batch will be offered again.
+     */
+    void publish(List<DomainEvent> events);
+}
@@ -0,0 +1,26 @@
+package com.kkmalysa.claimmodule.ports.out;
+
+import java.util.List;
+
+/**
+ * Transactional outbox: domain events stored together with the claim change that produced them
+ * (see {@link ClaimRepository#compareAndSave(long, com.kkmalysa.claimmodule.domain.claim.Claim, List)}),
+ * waiting to be relayed to publishers.
+ */
+public interface EventOutbox {
+
+    /**
+     * @return up to maxEntries entries with sequence > afterSequence, in sequence order
+     */
+    List<OutboxEntry> readAfter(long afterSequence, int maxEntries);
+
+    /**
+     * @return sequence of the last relayed entry (0 = nothing relayed yet)
+     */
+    long checkpoint();
+
+    /**
+     * Marks every entry up to and including sequence as relayed; they may be dropped from the outbox.
+     */
+    void checkpoint(long sequence);
+}
@@ -0,0 +1,24 @@
+package com.kkmalysa.claimmodule.ports.out;
+
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+
+import java.util.Objects;
+
+/**
+ * A domain event waiting in the {@link EventOutbox}, with its position in the outbox.
+ * Sequences start at 1 and have no gaps.
+ */
+public final class OutboxEntry {
+
+    private final long sequence;
+    private final DomainEvent event;
+
+    public OutboxEntry(long sequence, DomainEvent event) {
+        if (sequence <= 0) throw new IllegalArgumentException("sequence must be positive");
+        this.sequence = sequence;
+        this.event = Objects.requireNonNull(event);
+    }
+
+    public long getSequence() { return sequence; }
+    public DomainEvent getEvent() { return event; }
+}
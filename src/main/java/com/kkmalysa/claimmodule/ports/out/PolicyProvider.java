@@ -1,7 +1,22 @@
 package com.kkmalysa.claimmodule.ports.out;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PolicyProvider {
     Optional<String> getPolicyNumber(String policyId);
+
+    /**
+     * Batch variant of {@link #getPolicyNumber(String)}.
+     * @return policy numbers keyed by policyId; unknown policies are absent from the map
+     */
+    default Map<String, String> getPolicyNumbers(Collection<String> policyIds) {
+        Map<String, String> found = new HashMap<>();
+        for (String policyId : policyIds) {
+            getPolicyNumber(policyId).ifPresent(number -> found.put(policyId, number));
+        }
+        return found;
+    }
 }
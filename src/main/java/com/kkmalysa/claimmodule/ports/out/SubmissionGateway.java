@@ -2,6 +2,18 @@ package com.kkmalysa.claimmodule.ports.out;
 
 import com.kkmalysa.claimmodule.application.submission.ClaimSubmission;
 
+import java.util.List;
+
 public interface SubmissionGateway {
     void send(ClaimSubmission submission);
+
+    /**
+     * Sends a whole batch in one call. Default falls back to one send() per submission;
+     * gateways with a per-request cost downstream should override it.
+     */
+    default void sendAll(List<ClaimSubmission> submissions) {
+        for (ClaimSubmission submission : submissions) {
+            send(submission);
+        }
+    }
 }
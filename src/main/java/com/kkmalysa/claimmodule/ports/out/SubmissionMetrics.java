@@ -0,0 +1,19 @@
+package com.kkmalysa.claimmodule.ports.out;
+
+import com.kkmalysa.claimmodule.application.submission.SubmissionChannel;
+import com.kkmalysa.claimmodule.application.submission.SubmissionStage;
+import com.kkmalysa.claimmodule.domain.incident.IncidentType;
+
+/**
+ * Where the use case reports its timings. incidentType is null when the claim could not be loaded.
+ */
+public interface SubmissionMetrics {
+
+    SubmissionMetrics NONE = new SubmissionMetrics() {};
+
+    default void recordStage(SubmissionStage stage, SubmissionChannel channel, IncidentType incidentType, long nanos) {}
+
+    default void recordSubmission(SubmissionChannel channel, IncidentType incidentType, long nanos) {}
+
+    default void recordFailure(SubmissionChannel channel, IncidentType incidentType, RuntimeException failure) {}
+}
@@ -0,0 +1,12 @@
+package com.kkmalysa.claimmodule.ports.out;
+
+/**
+ * The gateway did not take the submission because it is overloaded (e.g. its buffer is full).
+ * Nothing was sent - the caller may retry later.
+ */
+public final class SubmissionRejectedException extends IllegalStateException {
+
+    public SubmissionRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,231 @@
+package com.kkmalysa.claimmodule.adapters.in.fnol;
+
+import com.kkmalysa.claimmodule.adapters.out.persistence.InMemoryClaimRepository;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.domain.incident.AutoDetails;
+import com.kkmalysa.claimmodule.domain.incident.TheftDetails;
+import com.kkmalysa.claimmodule.ports.out.ClaimRepository;
+import com.kkmalysa.claimmodule.ports.out.EventOutbox;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FnolImporterTest {
+
+    @TempDir
+    Path dir;
+
+    private static String ndjsonTheft(int i) {
+        return "{\"claimId\":\"CLM-" + i + "\",\"policyId\":\"POL-" + (i % 50) + "\",\"createdBy\":\"broker-1\",\"channel\":\"MANUAL\","
+                + "\"incidentType\":\"THEFT\",\"occurredAt\":\"2020-01-01T10:00:00Z\",\"location\":\"Warsaw\",\"stolenItem\":\"bike\"}\n";
+    }
+
+    @Test
+    void csv_importsValidRows_andWritesRejectedOnesToTheErrorFile() throws Exception {
+        Path input = dir.resolve("claims.csv");
+        Files.writeString(input, """
+                claimId,policyId,createdBy,channel,incidentType,occurredAt,location,description,vin,licensePlate,stolenItem,status
+                CLM-1,POL-1,broker-1,MANUAL,AUTO,2020-01-01T10:00:00Z,Warsaw,"rear-ended, at a light",VIN-1,WI1234A,,APPROVED
+                CLM-2,POL-2,broker-1,MANUAL,THEFT,2020-01-02T10:00:00Z,"Krakow","bike taken
+                from the ""secure"" garage",,,bike,
+                CLM-3,POL-3,broker-1,MANUAL,AUTO,2020-01-03T10:00:00Z,Gdansk,,,WI1234A,,
+                CLM-4,POL-4,broker-1,MANUAL,AUTO,yesterday,Gdansk,,VIN-4,WI1234A,,
+                CLM-5,POL-5,broker-1,MANUAL,AUTO
+
+                CLM-6,POL-6,broker-1,MANUAL,THEFT,2020-01-06T10:00:00Z,Poznan,,,,phone,
+                """);
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+
+        ImportReport report = new FnolImporter(repo, 2, 2).importFile(input, dir.resolve("errors.csv"), dir.resolve("import.checkpoint"));
+
+        assertThat(report.getImported()).isEqualTo(3);
+        assertThat(report.getRejected()).isEqualTo(3);
+        assertThat(report.isResumed()).isFalse();
+
+        assertThat(repo.getById("CLM-1")).get().satisfies(claim -> {
+            assertThat(claim.getStatus()).isEqualTo(ClaimStatus.APPROVED);
+            assertThat(claim.getIncident()).isInstanceOfSatisfying(AutoDetails.class, auto -> assertThat(auto.getVin()).isEqualTo("VIN-1"));
+            assertThat(claim.getIncident().getDescription()).isEqualTo("rear-ended, at a light");
+        });
+        assertThat(repo.getById("CLM-2")).get().extracting(Claim::getIncident)
+                .isInstanceOfSatisfying(TheftDetails.class, theft -> assertThat(theft.getDescription()).isEqualTo("bike taken\nfrom the \"secure\" garage"));
+        assertThat(repo.getById("CLM-6")).isPresent();
+
+        List<String> errors = Files.readAllLines(dir.resolve("errors.csv"));
+        assertThat(errors.get(0)).isEqualTo("row,error,record");
+        // line numbers of the file - the quoted line break in CLM-2 counts
+        assertThat(errors.subList(1, errors.size()))
+                .satisfiesExactly(
+                        missingVin -> assertThat(missingVin).startsWith("5,").contains("vin"),
+                        badDate -> assertThat(badDate).startsWith("6,").contains("occurredAt"),
+                        tooFewFields -> assertThat(tooFewFields).startsWith("7,").contains("expected 12 fields"));
+    }
+
+    @Test
+    void ndjson_largeFile_isImportedInParallelChunks() throws Exception {
+        Path input = dir.resolve("claims.ndjson");
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            body.append(i == 5_000 ? "{not json\n" : ndjsonTheft(i));
+        }
+        Files.writeString(input, body);
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+
+        ImportReport report = new FnolImporter(repo, 128, 4).importFile(input, dir.resolve("errors.csv"), dir.resolve("import.checkpoint"));
+
+        assertThat(report.getImported()).isEqualTo(9_999);
+        assertThat(report.getRejected()).isEqualTo(1);
+        assertThat(repo.findByStatus(ClaimStatus.DRAFT)).hasSize(9_999);
+        assertThat(Files.readAllLines(dir.resolve("errors.csv"))).hasSize(2).last().asString().startsWith("5001,");
+    }
+
+    @Test
+    void interruptedImport_resumesFromTheCheckpoint_withoutDuplicates() throws Exception {
+        Path input = dir.resolve("claims.ndjson");
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 1_000; i++) {
+            body.append(i % 100 == 7 ? "{\"claimId\":\"CLM-" + i + "\"}\n" : ndjsonTheft(i)); // 10 invalid rows (all MANUAL -> DRAFT)
+        }
+        Files.writeString(input, body);
+        Path errorFile = dir.resolve("errors.csv");
+        Path checkpoint = dir.resolve("import.checkpoint");
+        InMemoryClaimRepository store = new InMemoryClaimRepository();
+
+        // the storage goes down after a few chunks
+        assertThatThrownBy(() -> new FnolImporter(new FailingAfter(store, 6), 50, 3).importFile(input, errorFile, checkpoint))
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("storage unavailable");
+        assertThat(checkpoint).exists();
+        assertThat(store.findByStatus(ClaimStatus.DRAFT).size()).isLessThan(990);
+
+        ImportReport resumed = new FnolImporter(store, 50, 3).importFile(input, errorFile, checkpoint);
+
+        assertThat(resumed.isResumed()).isTrue();
+        assertThat(resumed.getResumedAtLine()).isGreaterThan(1);
+        // chunks saved but not checkpointed before the failure are read again and skipped, not saved twice
+        assertThat(resumed.getImported() + resumed.getSkipped()).isEqualTo(990);
+        assertThat(resumed.getRejected()).isEqualTo(10);
+        assertThat(store.findByStatus(ClaimStatus.DRAFT)).hasSize(990);
+
+        List<String> errorRows = Files.readAllLines(errorFile).stream().skip(1).map(line -> line.substring(0, line.indexOf(','))).toList();
+        assertThat(errorRows).containsExactly("8", "108", "208", "308", "408", "508", "608", "708", "808", "908");
+
+        // done - running it again finds nothing left to import
+        ImportReport again = new FnolImporter(store, 50, 3).importFile(input, errorFile, checkpoint);
+        assertThat(again.getImported() + again.getSkipped()).isEqualTo(990);
+        assertThat(Files.readAllLines(errorFile)).hasSize(11);
+    }
+
+    @Test
+    void ndjsonNullLine_isRejected_insteadOfStoppingTheImport() throws Exception {
+        Path input = dir.resolve("claims.ndjson");
+        Files.writeString(input, ndjsonTheft(1) + "null\n" + ndjsonTheft(3));
+        InMemoryClaimRepository store = new InMemoryClaimRepository();
+
+        ImportReport report = new FnolImporter(store, 50, 1).importFile(input, dir.resolve("errors.csv"), dir.resolve("cp"));
+
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getRejected()).isEqualTo(1);
+        assertThat(Files.readAllLines(dir.resolve("errors.csv")).get(1)).startsWith("2,").contains("not a JSON object");
+    }
+
+    @Test
+    void sameClaimIdTwiceInAChunk_laterRowIsRejected() throws Exception {
+        Path input = dir.resolve("claims.ndjson");
+        Files.writeString(input, ndjsonTheft(1) + ndjsonTheft(2) + ndjsonTheft(1));
+        InMemoryClaimRepository store = new InMemoryClaimRepository();
+
+        ImportReport report = new FnolImporter(store, 50, 1).importFile(input, dir.resolve("errors.csv"), dir.resolve("cp"));
+
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getRejected()).isEqualTo(1);
+        assertThat(Files.readAllLines(dir.resolve("errors.csv")).get(1)).startsWith("3,").contains("duplicate claimId CLM-1 (first in row 1)");
+    }
+
+    @Test
+    void sameClaimIdInParallelChunks_isSavedOnce() throws Exception {
+        Path input = dir.resolve("claims.ndjson");
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 200; i++) body.append(ndjsonTheft(i % 100)); // every claim twice, in different chunks
+        Files.writeString(input, body);
+        InMemoryClaimRepository store = new InMemoryClaimRepository();
+
+        ImportReport report = new FnolImporter(store, 10, 4).importFile(input, dir.resolve("errors.csv"), dir.resolve("cp"));
+
+        assertThat(report.getImported()).isEqualTo(100);
+        assertThat(report.getSkipped()).isEqualTo(100);
+        assertThat(store.findByStatus(ClaimStatus.DRAFT)).hasSize(100);
+    }
+
+    @Test
+    void reimport_skipsClaimsThatAlreadyExist_insteadOfOverwritingThem() throws Exception {
+        Path input = dir.resolve("claims.ndjson");
+        Files.writeString(input, ndjsonTheft(1) + ndjsonTheft(2));
+        InMemoryClaimRepository store = new InMemoryClaimRepository();
+        new FnolImporter(store, 50, 1).importFile(input, dir.resolve("errors.csv"), dir.resolve("first.checkpoint"));
+
+        Claim moved = store.getById("CLM-1").orElseThrow().withStatus(ClaimStatus.SUBMITTED);
+        store.save(moved);
+
+        // a fresh checkpoint - the whole file is read again
+        ImportReport again = new FnolImporter(store, 50, 1).importFile(input, dir.resolve("errors.csv"), dir.resolve("second.checkpoint"));
+
+        assertThat(again.getImported()).isZero();
+        assertThat(again.getSkipped()).isEqualTo(2);
+        assertThat(store.getById("CLM-1")).containsSame(moved);
+    }
+
+    @Test
+    void unknownCsvColumn_failsBeforeImportingAnything() throws IOException {
+        Path input = dir.resolve("claims.csv");
+        Files.writeString(input, "policyId,colour\nPOL-1,red\n", StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> new FnolImporter(new InMemoryClaimRepository()).importFile(input, dir.resolve("errors.csv"), dir.resolve("cp")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("colour");
+    }
+
+    private static final class FailingAfter implements ClaimRepository {
+        private final ClaimRepository delegate;
+        private final AtomicInteger batchesLeft;
+
+        FailingAfter(ClaimRepository delegate, int batches) {
+            this.delegate = delegate;
+            this.batchesLeft = new AtomicInteger(batches);
+        }
+
+        @Override
+        public void saveAll(Collection<Claim> claims) {
+            if (batchesLeft.getAndDecrement() <= 0) throw new IllegalStateException("storage unavailable");
+            delegate.saveAll(claims);
+        }
+
+        @Override
+        public Set<String> insertAllIfAbsent(Collection<Claim> claims) {
+            if (batchesLeft.getAndDecrement() <= 0) throw new IllegalStateException("storage unavailable");
+            return delegate.insertAllIfAbsent(claims);
+        }
+
+        @Override public Optional<Claim> getById(String claimId) { return delegate.getById(claimId); }
+        @Override public void save(Claim claim) { delegate.save(claim); }
+        @Override public boolean compareAndSave(long expectedVersion, Claim claim, List<DomainEvent> events) { return delegate.compareAndSave(expectedVersion, claim, events); }
+        @Override public EventOutbox outbox() { return delegate.outbox(); }
+        @Override public List<Claim> findByPolicyId(String policyId) { return delegate.findByPolicyId(policyId); }
+        @Override public List<Claim> findByStatus(ClaimStatus status) { return delegate.findByStatus(status); }
+        @Override public List<Claim> findCreatedBetween(Instant fromInclusive, Instant toExclusive) { return delegate.findCreatedBetween(fromInclusive, toExclusive); }
+    }
+}
@@ -0,0 +1,137 @@
+package com.kkmalysa.claimmodule.adapters.in.web;
+
+import com.kkmalysa.claimmodule.application.events.OutboxRelay;
+import com.kkmalysa.claimmodule.ports.out.ClaimRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ClaimControllerTest {
+
+    private static final ObjectMapper JSON = JsonMapper.builder().build();
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    OutboxRelay outboxRelay;
+
+    @Autowired
+    ClaimRepository claimRepository;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    private HttpResponse<String> post(String path, String contentType, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String reportAutoClaim(String policyId) throws Exception {
+        HttpResponse<String> response = post("/claims", "application/json", """
+                {"policyId":"%s","createdBy":"agent-1","channel":"MANUAL",
+                 "incidentType":"AUTO","occurredAt":"2026-02-01T10:00:00Z","location":"Warsaw",
+                 "vin":"WVWZZZ1JZXW000001","licensePlate":"WI1234A"}
+                """.formatted(policyId));
+        assertThat(response.statusCode()).isEqualTo(201);
+        return JSON.readTree(response.body()).get("claimId").asString();
+    }
+
+    @Test
+    void reportAndSubmit_overHttp() throws Exception {
+        String claimId = reportAutoClaim("POL-1");
+
+        HttpResponse<String> submitted = post("/claims/" + claimId + "/submissions", "application/json",
+                "{\"channel\":\"MANUAL\",\"actor\":\"agent-1\",\"termsAccepted\":true}");
+
+        assertThat(submitted.statusCode()).isEqualTo(200);
+        JsonNode body = JSON.readTree(submitted.body());
+        assertThat(body.get("claimId").asString()).isEqualTo(claimId);
+        assertThat(body.get("policyNumber").asString()).isEqualTo("PN-POL-1");
+        assertThat(body.get("claimVersion").asLong()).isEqualTo(2); // reserved (SUBMITTING), then submitted
+
+        // the ClaimSubmitted event does not stay in the outbox - the relay moves it on
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (outboxRelay.publishedCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(outboxRelay.publishedCount()).isPositive();
+        assertThat(claimRepository.outbox().readAfter(claimRepository.outbox().checkpoint(), 1)).isEmpty();
+    }
+
+    @Test
+    void errors_areMappedToProblemResponses() throws Exception {
+        HttpResponse<String> missingVin = post("/claims", "application/json", """
+                {"policyId":"POL-1","createdBy":"agent-1","channel":"MANUAL",
+                 "incidentType":"AUTO","occurredAt":"2026-02-01T10:00:00Z","location":"Warsaw"}
+                """);
+        assertThat(missingVin.statusCode()).isEqualTo(400);
+        assertThat(missingVin.body()).contains("vin");
+
+        HttpResponse<String> unknownClaim = post("/claims/CLM-404/submissions", "application/json",
+                "{\"channel\":\"MANUAL\",\"actor\":\"agent-1\",\"termsAccepted\":true}");
+        assertThat(unknownClaim.statusCode()).isEqualTo(400);
+
+        // AUTO channel needs attachments - a business rule, not bad input
+        String claimId = reportAutoClaim("POL-2");
+        HttpResponse<String> ruleBroken = post("/claims/" + claimId + "/submissions", "application/json",
+                "{\"channel\":\"AUTO\",\"actor\":\"agent-1\",\"termsAccepted\":true}");
+        assertThat(ruleBroken.statusCode()).isEqualTo(422);
+
+        HttpResponse<String> notFound = http.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/claims/CLM-404")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(notFound.statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    void bulk_streamsOneResultLinePerRequestLine_inOrder() throws Exception {
+        List<String> claimIds = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            claimIds.add(reportAutoClaim("POL-B" + i));
+        }
+
+        StringBuilder ndjson = new StringBuilder();
+        for (String claimId : claimIds) {
+            ndjson.append("{\"claimId\":\"").append(claimId).append("\",\"channel\":\"MANUAL\",\"actor\":\"agent-1\",\"termsAccepted\":true}\n");
+        }
+        ndjson.append("not json\n");
+        ndjson.append("\n");
+        ndjson.append("{\"claimId\":\"CLM-404\",\"channel\":\"MANUAL\",\"actor\":\"agent-1\",\"termsAccepted\":true}\n");
+
+        HttpResponse<String> response = post("/claims/submissions/bulk", "application/x-ndjson", ndjson.toString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(type -> assertThat(type).startsWith("application/x-ndjson"));
+
+        List<JsonNode> lines = response.body().lines().map(JSON::readTree).toList();
+        assertThat(lines).hasSize(252);
+        for (int i = 0; i < 250; i++) {
+            assertThat(lines.get(i).get("line").asLong()).isEqualTo(i + 1);
+            assertThat(lines.get(i).get("claimId").asString()).isEqualTo(claimIds.get(i));
+            assertThat(lines.get(i).has("submissionId")).isTrue();
+        }
+        assertThat(lines.get(250).get("line").asLong()).isEqualTo(251);
+        assertThat(lines.get(250).has("error")).isTrue();
+        assertThat(lines.get(251).get("line").asLong()).isEqualTo(253); // the blank line is skipped, not answered
+        assertThat(lines.get(251).get("error").asString()).isEqualTo("IllegalArgumentException");
+    }
+}
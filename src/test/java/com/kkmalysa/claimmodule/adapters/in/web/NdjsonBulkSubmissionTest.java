@@ -0,0 +1,147 @@
+package com.kkmalysa.claimmodule.adapters.in.web;
+
+import com.kkmalysa.claimmodule.adapters.out.attachments.FakeAttachmentProvider;
+import com.kkmalysa.claimmodule.adapters.out.persistence.InMemoryClaimRepository;
+import com.kkmalysa.claimmodule.adapters.out.policy.FakePolicyProvider;
+import com.kkmalysa.claimmodule.adapters.out.submission.InMemorySubmissionGateway;
+import com.kkmalysa.claimmodule.application.submission.SubmitClaimUseCase;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NdjsonBulkSubmissionTest {
+
+    private static String storeClaim(InMemoryClaimRepository repo, int i) {
+        Claim claim = ClaimBuilder.fnol()
+                .policyId("POL-" + i)
+                .incident(IncidentBuilder.theft()
+                        .occurredAt(Instant.parse("2026-02-01T10:00:00Z"))
+                        .location("Warsaw")
+                        .forTheft()
+                        .stolenItem("bike")
+                        .build())
+                .createdBy("user-1")
+                .channel("MANUAL")
+                .build();
+        repo.save(claim);
+        return claim.getClaimId();
+    }
+
+    private static String requestLine(String claimId) {
+        return "{\"claimId\":\"" + claimId + "\",\"channel\":\"MANUAL\",\"actor\":\"agent-1\",\"termsAccepted\":true}\n";
+    }
+
+    /**
+     * Hands out the body one line at a time, like a client that is still sending,
+     * and records how many result lines were already written whenever it is asked for the next line.
+     */
+    private static final class TricklingInput extends InputStream {
+        private final List<byte[]> lines;
+        private final ByteArrayOutputStream out;
+        private final List<Long> resultsWrittenBeforeLine = new ArrayList<>();
+        private int current = -1;
+        private int position;
+
+        TricklingInput(List<String> lines, ByteArrayOutputStream out) {
+            this.lines = lines.stream().map(l -> l.getBytes(StandardCharsets.UTF_8)).toList();
+            this.out = out;
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0];
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (current < 0 || position == lines.get(current).length) {
+                if (current + 1 == lines.size()) return -1;
+                current++;
+                position = 0;
+                resultsWrittenBeforeLine.add(out.toString(StandardCharsets.UTF_8).lines().count());
+            }
+            int n = Math.min(length, lines.get(current).length - position);
+            System.arraycopy(lines.get(current), position, buffer, offset, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return (current < 0) ? 0 : lines.get(current).length - position; // nothing beyond the current line yet
+        }
+    }
+
+    @Test
+    void slowClient_getsEachResultBeforeSendingTheNextLine() throws Exception {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        SubmitClaimUseCase useCase = new SubmitClaimUseCase(repo, new FakePolicyProvider(), new FakeAttachmentProvider(), new InMemorySubmissionGateway());
+        List<String> body = List.of(requestLine(storeClaim(repo, 1)), requestLine(storeClaim(repo, 2)), requestLine(storeClaim(repo, 3)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TricklingInput in = new TricklingInput(body, out);
+
+        long written = new NdjsonBulkSubmission(useCase, JsonMapper.builder().build(), 100).stream(in, out);
+
+        assertThat(written).isEqualTo(3);
+        assertThat(in.resultsWrittenBeforeLine).containsExactly(0L, 1L, 2L);
+    }
+
+    @Test
+    void fastClient_isProcessedInChunks_withResultsInInputOrder() throws Exception {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        SubmitClaimUseCase useCase = new SubmitClaimUseCase(repo, new FakePolicyProvider(), new FakeAttachmentProvider(), new InMemorySubmissionGateway());
+
+        StringBuilder body = new StringBuilder();
+        List<String> claimIds = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            String claimId = storeClaim(repo, i);
+            claimIds.add(claimId);
+            body.append(requestLine(claimId));
+            if (i == 10) body.append("{\"claimId\":\"CLM-X\"}\n"); // channel and actor missing
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = new NdjsonBulkSubmission(useCase, JsonMapper.builder().build(), 4)
+                .stream(new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)), out);
+
+        List<String> results = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(written).isEqualTo(26);
+        assertThat(results).hasSize(26);
+        assertThat(results.get(11)).contains("\"line\":12").contains("channel is required");
+        for (int i = 0; i < 25; i++) {
+            String result = results.get(i < 11 ? i : i + 1);
+            assertThat(result).contains(claimIds.get(i)).contains("submissionId");
+        }
+    }
+
+    @Test
+    void nullLine_isAnInvalidLine_andTheRestIsStillSubmitted() throws Exception {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        SubmitClaimUseCase useCase = new SubmitClaimUseCase(repo, new FakePolicyProvider(), new FakeAttachmentProvider(), new InMemorySubmissionGateway());
+        String claimId = storeClaim(repo, 1);
+        String body = "null\n" + requestLine(claimId);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = new NdjsonBulkSubmission(useCase, JsonMapper.builder().build(), 4)
+                .stream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out);
+
+        List<String> results = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(written).isEqualTo(2);
+        assertThat(results.get(0)).contains("\"line\":1").contains("not a JSON object");
+        assertThat(results.get(1)).contains(claimId).contains("submissionId");
+    }
+}
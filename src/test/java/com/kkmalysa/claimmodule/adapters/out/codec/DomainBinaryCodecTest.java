@@ -0,0 +1,196 @@
+package com.kkmalysa.claimmodule.adapters.out.codec;
+
+import com.kkmalysa.claimmodule.application.submission.ClaimSubmission;
+import com.kkmalysa.claimmodule.application.submission.ClaimSubmissionBuilder;
+import com.kkmalysa.claimmodule.application.submission.SubmissionChannel;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.events.ClaimSubmittedEvent;
+import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.domain.incident.IncidentType;
+import com.kkmalysa.claimmodule.domain.incident.TheftDetails;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DomainBinaryCodecTest {
+
+    private static final String CLAIM_ID = "3f2b8c1e-9a4d-4e6f-8b7a-1c2d3e4f5a6b";
+
+    private static Claim theftClaim(String claimId) {
+        Incident incident = IncidentBuilder.theft()
+                .occurredAt(Instant.parse("2026-02-01T10:00:00.123456789Z"))
+                .location("Kraków, ul. Łódzka 5")
+                .description("Rower skradziony z garażu 🚲")
+                .forTheft()
+                .stolenItem("Bike")
+                .policeReportNumber("KRP-123/2026")
+                .build();
+
+        return ClaimBuilder.fnol()
+                .policyId("POL-1")
+                .incident(incident)
+                .createdBy("user-1")
+                .channel("MANUAL")
+                .claimId(claimId)
+                .createdAt(Instant.parse("2026-02-01T10:05:00Z"))
+                .status(ClaimStatus.IN_REVIEW)
+                .version(300)
+                .build();
+    }
+
+    private static ByteBuffer encoded(Claim claim) {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        DomainBinaryCodec.encode(claim, buffer);
+        return buffer.flip();
+    }
+
+    @Test
+    void claim_roundTrips_withAllIncidentFields() {
+        Claim claim = theftClaim(CLAIM_ID);
+
+        Claim decoded = DomainBinaryCodec.decodeClaim(encoded(claim));
+
+        assertThat(decoded.getClaimId()).isEqualTo(CLAIM_ID);
+        assertThat(decoded.getPolicyId()).isEqualTo("POL-1");
+        assertThat(decoded.getStatus()).isEqualTo(ClaimStatus.IN_REVIEW);
+        assertThat(decoded.getVersion()).isEqualTo(300);
+        assertThat(decoded.getCreatedAt()).isEqualTo(claim.getCreatedAt());
+        assertThat(decoded.getChannel()).isEqualTo("MANUAL");
+        assertThat(decoded.getIncident().getOccurredAt()).isEqualTo(claim.getIncident().getOccurredAt());
+        assertThat(decoded.getIncident().getLocation()).isEqualTo("Kraków, ul. Łódzka 5");
+        assertThat(decoded.getIncident().getDescription()).isEqualTo("Rower skradziony z garażu 🚲");
+        assertThat(decoded.getIncident()).isInstanceOfSatisfying(TheftDetails.class, theft ->
+                assertThat(theft.getPoliceReportNumber()).isEqualTo("KRP-123/2026"));
+    }
+
+    @Test
+    void uuidIds_areStoredAs16Bytes() {
+        int withUuid = encoded(theftClaim(CLAIM_ID)).remaining();
+        int withSameLengthString = encoded(theftClaim(CLAIM_ID.toUpperCase())).remaining(); // not canonical -> kept as text
+
+        assertThat(withSameLengthString - withUuid).isEqualTo(36 + 1 - 16); // string + its length byte vs 16 raw bytes
+        assertThat(DomainBinaryCodec.decodeClaim(encoded(theftClaim(CLAIM_ID.toUpperCase()))).getClaimId())
+                .isEqualTo(CLAIM_ID.toUpperCase());
+    }
+
+    @Test
+    void claimView_decodesOnlyRequestedFields_andSkipsToTheNextRecord() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+        DomainBinaryCodec.encode(theftClaim(CLAIM_ID), buffer);
+        DomainBinaryCodec.encode(theftClaim("CLM-2"), buffer);
+        buffer.flip();
+
+        ClaimView first = DomainBinaryCodec.claimView(buffer);
+        ClaimView second = DomainBinaryCodec.claimView(buffer);
+
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(first.status()).isEqualTo(ClaimStatus.IN_REVIEW);
+        assertThat(first.incidentType()).isEqualTo(IncidentType.THEFT);
+        assertThat(second.claimId()).isEqualTo("CLM-2");
+        assertThat(second.toClaim().getIncident()).isInstanceOfSatisfying(TheftDetails.class, theft ->
+                assertThat(theft.getStolenItem()).isEqualTo("Bike"));
+    }
+
+    @Test
+    void unknownFields_fromNewerWriters_areSkipped() {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        DomainBinaryCodec.encode(theftClaim(CLAIM_ID), buffer);
+        buffer.position(buffer.position() - 1); // drop END, append a field this version doesn't know
+        WireFormat.writeString(buffer, 40, "added in a later version");
+        WireFormat.writeVarField(buffer, 41, 12345);
+        WireFormat.writeEnd(buffer);
+        buffer.flip();
+
+        assertThat(DomainBinaryCodec.decodeClaim(buffer).getClaimId()).isEqualTo(CLAIM_ID);
+    }
+
+    @Test
+    void submission_roundTrips_withRepeatedAttachments() {
+        Claim claim = ClaimBuilder.fnol()
+                .policyId(UUID.randomUUID().toString())
+                .incident(IncidentBuilder.auto()
+                        .occurredAt(Instant.parse("2026-02-01T10:00:00Z"))
+                        .location("Warsaw")
+                        .forAuto()
+                        .vin("WVWZZZ1JZXW000001")
+                        .licensePlate("WI1234A")
+                        .build())
+                .createdBy("user-1")
+                .channel("AUTO")
+                .build();
+        ClaimSubmission submission = ClaimSubmissionBuilder.create()
+                .fromClaim(claim)
+                .policyNumber("PN-1")
+                .attachments(List.of("att-1", UUID.randomUUID().toString()))
+                .submittedBy("user-1")
+                .auto()
+                .termsAccepted(true)
+                .build();
+
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        DomainBinaryCodec.encode(submission, buffer);
+        ClaimSubmission decoded = DomainBinaryCodec.decodeSubmission(buffer.flip());
+
+        assertThat(decoded.getSubmissionId()).isEqualTo(submission.getSubmissionId());
+        assertThat(decoded.getSubmittedAt()).isEqualTo(submission.getSubmittedAt());
+        assertThat(decoded.getChannel()).isEqualTo(SubmissionChannel.AUTO);
+        assertThat(decoded.getClaimId()).isEqualTo(claim.getClaimId());
+        assertThat(decoded.getPolicyId()).isEqualTo(claim.getPolicyId());
+        assertThat(decoded.getIncidentType()).isEqualTo("AUTO");
+        assertThat(decoded.getAttachmentIds()).containsExactlyElementsOf(submission.getAttachmentIds());
+        assertThat(decoded.isTermsAccepted()).isTrue();
+    }
+
+    @Test
+    void submittedEvent_andIncident_roundTrip() {
+        ClaimSubmittedEvent event = new ClaimSubmittedEvent(CLAIM_ID, "SUB-1", "AUTO", "user-1", Instant.parse("2026-02-01T11:00:00Z"));
+        Incident incident = theftClaim(CLAIM_ID).getIncident();
+
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        DomainBinaryCodec.encode(event, buffer);
+        DomainBinaryCodec.encode(incident, buffer);
+        buffer.flip();
+
+        ClaimSubmittedEvent decodedEvent = DomainBinaryCodec.decodeSubmittedEvent(buffer);
+        Incident decodedIncident = DomainBinaryCodec.decodeIncident(buffer);
+
+        assertThat(decodedEvent.getClaimId()).isEqualTo(CLAIM_ID);
+        assertThat(decodedEvent.getSubmissionId()).isEqualTo("SUB-1");
+        assertThat(decodedEvent.getChannel()).isEqualTo("AUTO");
+        assertThat(decodedEvent.occurredAt()).isEqualTo(event.occurredAt());
+        assertThat(decodedIncident).isInstanceOfSatisfying(TheftDetails.class, theft ->
+                assertThat(theft.getStolenItem()).isEqualTo("Bike"));
+    }
+
+    @Test
+    void wrongRecordType_andNewerSchema_areRejected() {
+        assertThatThrownBy(() -> DomainBinaryCodec.decodeIncident(encoded(theftClaim(CLAIM_ID))))
+                .isInstanceOf(IllegalStateException.class);
+
+        ByteBuffer newer = encoded(theftClaim(CLAIM_ID));
+        newer.put(0, (byte) (WireFormat.SCHEMA_VERSION + 1));
+        assertThatThrownBy(() -> DomainBinaryCodec.decodeClaim(newer))
+                .hasMessageContaining("Unsupported schema version");
+    }
+
+    @Test
+    void varints_andZigzag_roundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        long[] values = {0, 1, 127, 128, 300, Long.MAX_VALUE, -1, Long.MIN_VALUE};
+        for (long value : values) {
+            buffer.clear();
+            WireFormat.writeVarLong(buffer, WireFormat.zigzag(value));
+            assertThat(buffer.position()).isEqualTo(WireFormat.varLongSize(WireFormat.zigzag(value)));
+        }
+        assertThat(WireFormat.unzigzag(WireFormat.zigzag(-12345))).isEqualTo(-12345);
+        assertThat(WireFormat.varLongSize(WireFormat.zigzag(-1))).isEqualTo(1);
+    }
+}
@@ -0,0 +1,152 @@
+package com.kkmalysa.claimmodule.adapters.out.events;
+
+import com.kkmalysa.claimmodule.domain.events.ClaimSubmittedEvent;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class RingBufferEventBusTest {
+
+    private static DomainEvent event(int i) {
+        return new ClaimSubmittedEvent("CLM-" + i, "SUB-" + i, "AUTO", "user-1", Instant.parse("2026-02-01T10:00:00Z"));
+    }
+
+    private static List<String> claimIds(List<DomainEvent> events) {
+        return events.stream().map(e -> ((ClaimSubmittedEvent) e).getClaimId()).toList();
+    }
+
+    @Test
+    void everySubscriber_getsAllEvents_inOrder_inBatches() {
+        List<DomainEvent> fraud = new CopyOnWriteArrayList<>();
+        List<DomainEvent> projections = new CopyOnWriteArrayList<>();
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        RingBufferEventBus bus = new RingBufferEventBus(16);
+        bus.subscribe("fraud", fraud::addAll, 1, SlowSubscriberPolicy.BACKPRESSURE);
+        RingBufferEventBus.Subscription batched = bus.subscribe("projections", events -> {
+            batchSizes.add(events.size());
+            projections.addAll(events);
+        }, 8, SlowSubscriberPolicy.BACKPRESSURE);
+        bus.start();
+
+        List<DomainEvent> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) events.add(event(i));
+        bus.publish(events);
+        bus.close(); // drains
+
+        assertThat(fraud).containsExactlyElementsOf(events);
+        assertThat(projections).containsExactlyElementsOf(events);
+        assertThat(batchSizes).allMatch(size -> size <= 8);
+        assertThat(batched.deliveredCount()).isEqualTo(100);
+        assertThat(batched.droppedCount()).isZero();
+    }
+
+    @Test
+    void isolatedSlowSubscriber_doesNotBlockPublisher_andCountsDrops() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<DomainEvent> slow = new CopyOnWriteArrayList<>();
+        List<DomainEvent> fast = new CopyOnWriteArrayList<>();
+
+        RingBufferEventBus bus = new RingBufferEventBus(8);
+        RingBufferEventBus.Subscription stuck = bus.subscribe("slow", events -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            slow.addAll(events);
+        }, 1, SlowSubscriberPolicy.ISOLATE);
+        bus.subscribe("fast", fast::addAll, 4, SlowSubscriberPolicy.BACKPRESSURE);
+        bus.start();
+
+        for (int i = 0; i < 100; i++) bus.publish(event(i)); // would hang if the slow one held the ring
+        release.countDown();
+        bus.close();
+
+        assertThat(fast).hasSize(100);
+        assertThat(stuck.droppedCount()).isPositive();
+        assertThat(stuck.deliveredCount() + stuck.droppedCount()).isEqualTo(100);
+        // what the slow subscriber did get is still in publish order and ends with the newest events
+        assertThat(claimIds(slow)).isSortedAccordingTo((a, b) -> Integer.compare(Integer.parseInt(a.substring(4)), Integer.parseInt(b.substring(4))));
+        assertThat(claimIds(slow)).endsWith("CLM-99");
+    }
+
+    @Test
+    void concurrentPublishers_loseNothing_withBackpressure() throws Exception {
+        List<DomainEvent> received = new CopyOnWriteArrayList<>();
+        RingBufferEventBus bus = new RingBufferEventBus(64);
+        bus.subscribe("all", received::addAll, 32, SlowSubscriberPolicy.BACKPRESSURE);
+        bus.start();
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) bus.publish(event(thread * 10_000 + i));
+                }));
+            }
+            for (Future<?> future : futures) future.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+        bus.close();
+
+        assertThat(received).hasSize(8_000);
+        assertThat(claimIds(received)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void failingSubscriber_isIsolated_fromTheOthers() {
+        List<DomainEvent> healthy = new CopyOnWriteArrayList<>();
+        RingBufferEventBus bus = new RingBufferEventBus(16);
+        RingBufferEventBus.Subscription broken = bus.subscribe("broken", events -> {
+            throw new IllegalStateException("boom");
+        }, 1, SlowSubscriberPolicy.BACKPRESSURE);
+        bus.subscribe("healthy", healthy::addAll, 1, SlowSubscriberPolicy.BACKPRESSURE);
+        bus.start();
+
+        for (int i = 0; i < 50; i++) bus.publish(event(i));
+        bus.close();
+
+        assertThat(healthy).hasSize(50);
+        assertThat(broken.failureCount()).isEqualTo(50);
+        assertThatThrownBy(() -> bus.publish(event(51))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void listWithANull_isRejectedWhole_andDoesNotStallTheBus() {
+        List<DomainEvent> received = new CopyOnWriteArrayList<>();
+        RingBufferEventBus bus = new RingBufferEventBus(16);
+        bus.subscribe("projections", received::addAll, 4, SlowSubscriberPolicy.BACKPRESSURE);
+        bus.start();
+
+        List<DomainEvent> withNull = new ArrayList<>(List.of(event(1), event(2)));
+        withNull.add(null);
+        assertThatThrownBy(() -> bus.publish(withNull)).isInstanceOf(NullPointerException.class);
+
+        bus.publish(List.of(event(3)));
+        assertTimeoutPreemptively(Duration.ofSeconds(5), bus::close); // would wait for the never written slots
+
+        assertThat(claimIds(received)).containsExactly("CLM-3");
+    }
+
+    @Test
+    void capacity_mustBeAPowerOfTwo() {
+        assertThatThrownBy(() -> new RingBufferEventBus(10)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,90 @@
+package com.kkmalysa.claimmodule.adapters.out.metrics;
+
+import com.kkmalysa.claimmodule.adapters.out.attachments.FakeAttachmentProvider;
+import com.kkmalysa.claimmodule.adapters.out.persistence.InMemoryClaimRepository;
+import com.kkmalysa.claimmodule.adapters.out.policy.FakePolicyProvider;
+import com.kkmalysa.claimmodule.adapters.out.submission.InMemorySubmissionGateway;
+import com.kkmalysa.claimmodule.application.submission.LookupMode;
+import com.kkmalysa.claimmodule.application.submission.SubmissionChannel;
+import com.kkmalysa.claimmodule.application.submission.SubmissionStage;
+import com.kkmalysa.claimmodule.application.submission.SubmitClaimUseCase;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MicrometerSubmissionMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final InMemoryClaimRepository claims = new InMemoryClaimRepository();
+
+    private SubmitClaimUseCase useCase(LookupMode mode) {
+        return new SubmitClaimUseCase(
+                claims, new FakePolicyProvider(), new FakeAttachmentProvider(), new InMemorySubmissionGateway(),
+                mode, new MicrometerSubmissionMetrics(registry)
+        );
+    }
+
+    private Claim storedPropertyClaim() {
+        Claim claim = ClaimBuilder.fnol()
+                .policyId("POL-1")
+                .incident(IncidentBuilder.property()
+                        .occurredAt(Instant.parse("2026-02-01T10:00:00Z"))
+                        .location("Warsaw")
+                        .forProperty()
+                        .propertyAddress("Marszałkowska 1")
+                        .build())
+                .createdBy("agent-1")
+                .channel("MANUAL")
+                .build();
+        claims.save(claim);
+        return claim;
+    }
+
+    private Timer stageTimer(SubmissionStage stage, String incidentType) {
+        return registry.find(MicrometerSubmissionMetrics.STAGE_TIMER)
+                .tags("stage", stage.name(), "channel", "MANUAL", "incidentType", incidentType)
+                .timer();
+    }
+
+    @ParameterizedTest
+    @EnumSource(LookupMode.class)
+    void successfulSubmit_timesEveryStage_taggedByChannelAndIncidentType(LookupMode mode) {
+        Claim claim = storedPropertyClaim();
+
+        useCase(mode).submit(claim.getClaimId(), SubmissionChannel.MANUAL, "agent-1", false);
+
+        for (SubmissionStage stage : SubmissionStage.values()) {
+            assertThat(stageTimer(stage, "PROPERTY").count()).as(stage.name()).isEqualTo(1);
+        }
+        Timer total = registry.find(MicrometerSubmissionMetrics.SUBMISSION_TIMER)
+                .tags("channel", "MANUAL", "incidentType", "PROPERTY")
+                .timer();
+        assertThat(total.count()).isEqualTo(1);
+        assertThat(total.totalTime(TimeUnit.NANOSECONDS))
+                .isGreaterThanOrEqualTo(stageTimer(SubmissionStage.SAVE, "PROPERTY").totalTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void failures_areCountedByExceptionType_withTheStagesThatRan() {
+        assertThatThrownBy(() -> useCase(LookupMode.SEQUENTIAL).submit("missing", SubmissionChannel.MANUAL, "agent-1", false))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        double failures = registry.find(MicrometerSubmissionMetrics.FAILURE_COUNTER)
+                .tags("channel", "MANUAL", "incidentType", "unknown", "exception", "IllegalArgumentException")
+                .counter()
+                .count();
+        assertThat(failures).isEqualTo(1);
+        assertThat(stageTimer(SubmissionStage.CLAIM_LOAD, "unknown").count()).isEqualTo(1);
+        assertThat(stageTimer(SubmissionStage.GATEWAY_SEND, "unknown").count()).isZero();
+    }
+}
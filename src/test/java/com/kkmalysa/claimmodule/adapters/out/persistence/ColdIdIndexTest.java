@@ -0,0 +1,70 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ColdIdIndexTest {
+
+    @Test
+    void put_get_remove_forUuidsAndOtherIds() {
+        ColdIdIndex index = new ColdIdIndex();
+        String uuid = UUID.randomUUID().toString();
+
+        assertThat(index.location(uuid)).isEqualTo(ColdIdIndex.ABSENT);
+        assertThat(index.put(uuid, 0, 3)).isEqualTo(ColdIdIndex.ABSENT);
+        assertThat(index.put("CLM-1", 5, 7)).isEqualTo(ColdIdIndex.ABSENT);
+
+        assertThat(index.location(uuid)).isZero(); // location 0 is a valid one
+        assertThat(index.version(uuid)).isEqualTo(3);
+        assertThat(index.location("CLM-1")).isEqualTo(5);
+        assertThat(index.version("CLM-1")).isEqualTo(7);
+        assertThat(index.size()).isEqualTo(2);
+
+        assertThat(index.put(uuid, 9, 4)).isZero();
+        assertThat(index.location(uuid)).isEqualTo(9);
+        assertThat(index.size()).isEqualTo(2);
+
+        assertThat(index.remove(uuid)).isEqualTo(9);
+        assertThat(index.remove("CLM-1")).isEqualTo(5);
+        assertThat(index.remove(uuid)).isEqualTo(ColdIdIndex.ABSENT);
+        assertThat(index.version(uuid)).isEqualTo(-1);
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void nonCanonicalUuid_isKeptAsItIs() {
+        ColdIdIndex index = new ColdIdIndex();
+        String upper = UUID.randomUUID().toString().toUpperCase();
+
+        index.put(upper, 1, 1);
+
+        assertThat(index.location(upper)).isEqualTo(1);
+        assertThat(index.location(upper.toLowerCase())).isEqualTo(ColdIdIndex.ABSENT);
+    }
+
+    @Test
+    void growsAndKeepsFindingEveryIdAfterRemovals() {
+        ColdIdIndex index = new ColdIdIndex();
+        long initialBytes = index.allocatedBytes();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            String id = UUID.randomUUID().toString();
+            ids.add(id);
+            index.put(id, i, i);
+        }
+        assertThat(index.allocatedBytes()).isGreaterThan(initialBytes);
+
+        // every other one goes - the rest of each probe run must still be reachable
+        for (int i = 0; i < ids.size(); i += 2) assertThat(index.remove(ids.get(i))).isEqualTo(i);
+
+        assertThat(index.size()).isEqualTo(50_000);
+        for (int i = 0; i < ids.size(); i++) {
+            assertThat(index.location(ids.get(i))).isEqualTo((i % 2 == 0) ? ColdIdIndex.ABSENT : i);
+        }
+    }
+}
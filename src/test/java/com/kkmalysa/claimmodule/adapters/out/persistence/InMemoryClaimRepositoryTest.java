@@ -0,0 +1,156 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.ports.out.EventOutbox;
+import com.kkmalysa.claimmodule.ports.out.OutboxEntry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InMemoryClaimRepositoryTest {
+
+    private static Claim claim(String claimId, String policyId, String channel, Instant createdAt) {
+        Incident incident = IncidentBuilder.property()
+                .occurredAt(Instant.parse("2026-02-01T08:00:00Z"))
+                .location("Cracow")
+                .forProperty()
+                .propertyAddress("Rynek 1")
+                .build();
+
+        return ClaimBuilder.fnol()
+                .policyId(policyId)
+                .incident(incident)
+                .createdBy("user-1")
+                .channel(channel)
+                .claimId(claimId)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @Test
+    void findByPolicyId_returnsOnlyClaimsOfThatPolicy() {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        repo.save(claim("CLM-1", "POL-1", "MANUAL", Instant.parse("2026-02-01T10:00:00Z")));
+        repo.save(claim("CLM-2", "POL-1", "AUTO", Instant.parse("2026-02-01T11:00:00Z")));
+        repo.save(claim("CLM-3", "POL-2", "AUTO", Instant.parse("2026-02-01T12:00:00Z")));
+
+        assertThat(repo.findByPolicyId("POL-1")).extracting(Claim::getClaimId).containsExactlyInAnyOrder("CLM-1", "CLM-2");
+        assertThat(repo.findByPolicyId("POL-404")).isEmpty();
+    }
+
+    @Test
+    void statusIndex_followsStatusChanges_onSave() {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        Claim draft = claim("CLM-1", "POL-1", "MANUAL", Instant.parse("2026-02-01T10:00:00Z"));
+        repo.save(draft);
+
+        assertThat(repo.findByStatus(ClaimStatus.DRAFT)).extracting(Claim::getClaimId).containsExactly("CLM-1");
+
+        repo.save(draft.withStatus(ClaimStatus.SUBMITTED));
+
+        assertThat(repo.findByStatus(ClaimStatus.DRAFT)).isEmpty();
+        assertThat(repo.findByStatus(ClaimStatus.SUBMITTED)).extracting(Claim::getClaimId).containsExactly("CLM-1");
+    }
+
+    @Test
+    void findCreatedBetween_isHalfOpen_andOrderedByCreatedAt() {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        repo.save(claim("CLM-3", "POL-1", "AUTO", Instant.parse("2026-02-01T11:00:00Z")));
+        repo.save(claim("CLM-1", "POL-1", "AUTO", Instant.parse("2026-02-01T09:59:59Z")));
+        repo.save(claim("CLM-2", "POL-2", "AUTO", Instant.parse("2026-02-01T10:00:00Z")));
+        repo.save(claim("CLM-4", "POL-2", "AUTO", Instant.parse("2026-02-01T10:30:00Z")));
+
+        assertThat(repo.findCreatedBetween(Instant.parse("2026-02-01T10:00:00Z"), Instant.parse("2026-02-01T11:00:00Z")))
+                .extracting(Claim::getClaimId)
+                .containsExactly("CLM-2", "CLM-4");
+    }
+
+    @Test
+    void resavingClaim_withDifferentPolicyAndCreatedAt_leavesNoStaleIndexEntries() {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        repo.save(claim("CLM-1", "POL-1", "MANUAL", Instant.parse("2026-02-01T10:00:00Z")));
+        repo.save(claim("CLM-1", "POL-2", "MANUAL", Instant.parse("2026-02-02T10:00:00Z"))); // import correction
+
+        assertThat(repo.findByPolicyId("POL-1")).isEmpty();
+        assertThat(repo.findByPolicyId("POL-2")).hasSize(1);
+        assertThat(repo.findCreatedBetween(Instant.parse("2026-02-01T00:00:00Z"), Instant.parse("2026-02-02T00:00:00Z"))).isEmpty();
+        assertThat(repo.findByStatus(ClaimStatus.DRAFT)).hasSize(1);
+    }
+
+    @Test
+    void compareAndSave_savesOnlyOnExpectedVersion() {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        Claim v0 = claim("CLM-1", "POL-1", "MANUAL", Instant.parse("2026-02-01T10:00:00Z"));
+        repo.save(v0);
+
+        Claim v1 = v0.withStatus(ClaimStatus.SUBMITTED);
+        assertThat(repo.compareAndSave(v0.getVersion(), v1)).isTrue();
+
+        // a second writer that also started from v0 loses
+        Claim stale = v0.withStatus(ClaimStatus.REJECTED);
+        assertThat(repo.compareAndSave(v0.getVersion(), stale)).isFalse();
+
+        assertThat(repo.getById("CLM-1").orElseThrow().getStatus()).isEqualTo(ClaimStatus.SUBMITTED);
+        assertThat(repo.findByStatus(ClaimStatus.REJECTED)).isEmpty();
+        assertThat(repo.compareAndSave(0, claim("CLM-404", "POL-1", "MANUAL", Instant.now()))).isFalse();
+    }
+
+    @Test
+    void outbox_concurrentSavesOfDifferentClaims_areRelayedOnce_inSequenceOrder() throws Exception {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        int threads = 4;
+        int claimsPerThread = 2_000;
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < claimsPerThread; i++) {
+                repo.save(claim("CLM-" + t + "-" + i, "POL-1", "MANUAL", Instant.parse("2026-02-01T10:00:00Z")));
+            }
+        }
+        DomainEvent event = new DomainEvent() {
+            @Override public Instant occurredAt() { return Instant.EPOCH; }
+            @Override public String eventType() { return "Test"; }
+        };
+
+        ExecutorService writers = Executors.newFixedThreadPool(threads);
+        List<Future<?>> done = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            done.add(writers.submit(() -> {
+                for (int i = 0; i < claimsPerThread; i++) {
+                    Claim current = repo.getById("CLM-" + thread + "-" + i).orElseThrow();
+                    assertThat(repo.compareAndSave(current.getVersion(), current.withStatus(ClaimStatus.SUBMITTED), List.of(event))).isTrue();
+                }
+            }));
+        }
+
+        // relay while the writers run - a gap of an append in flight must not be skipped
+        EventOutbox outbox = repo.outbox();
+        List<Long> relayed = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (relayed.size() < threads * claimsPerThread && System.nanoTime() < deadline) {
+            List<OutboxEntry> batch = outbox.readAfter(outbox.checkpoint(), 100);
+            for (OutboxEntry entry : batch) relayed.add(entry.getSequence());
+            if (!batch.isEmpty()) outbox.checkpoint(batch.get(batch.size() - 1).getSequence());
+        }
+        for (Future<?> writer : done) writer.get();
+        writers.shutdown();
+
+        assertThat(relayed).hasSize(threads * claimsPerThread);
+        for (int i = 0; i < relayed.size(); i++) {
+            assertThat(relayed.get(i)).isEqualTo(i + 1L);
+        }
+        assertThat(repo.outbox().size()).isZero();
+    }
+}
@@ -0,0 +1,151 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.events.ClaimSubmittedEvent;
+import com.kkmalysa.claimmodule.domain.incident.AutoDetails;
+import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.domain.incident.InjuryDetails;
+import com.kkmalysa.claimmodule.domain.incident.TheftDetails;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OffHeapClaimRepositoryTest {
+
+    private static Claim claim(String claimId, String policyId, Incident incident, Instant createdAt) {
+        return ClaimBuilder.fnol()
+                .policyId(policyId)
+                .incident(incident)
+                .createdBy("user-1")
+                .channel("MANUAL")
+                .claimId(claimId)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static Incident property() {
+        return IncidentBuilder.property()
+                .occurredAt(Instant.parse("2026-02-01T08:00:00Z"))
+                .location("Cracow")
+                .forProperty()
+                .propertyAddress("Rynek 1")
+                .build();
+    }
+
+    @Test
+    void getById_rebuildsEveryIncidentType() {
+        OffHeapClaimRepository repo = new OffHeapClaimRepository();
+        String uuidId = UUID.randomUUID().toString();
+        Instant createdAt = Instant.parse("2026-02-01T10:00:00.123456789Z");
+
+        repo.save(claim(uuidId, "POL-1", IncidentBuilder.auto()
+                .occurredAt(Instant.parse("2026-02-01T07:00:00Z"))
+                .location("Warsaw")
+                .description("Parking lot, żółty samochód")
+                .forAuto()
+                .vin("WVWZZZ1JZXW000001")
+                .licensePlate("WX12345")
+                .build(), createdAt));
+        repo.save(claim("CLM-2", "POL-1", IncidentBuilder.theft()
+                .occurredAt(Instant.parse("2026-02-01T07:00:00Z"))
+                .location("Warsaw")
+                .forTheft()
+                .stolenItem("Bike")
+                .build(), createdAt));
+        repo.save(claim("CLM-3", "POL-2", IncidentBuilder.injury()
+                .occurredAt(Instant.parse("2026-02-01T07:00:00Z"))
+                .location("Gdańsk")
+                .forInjury()
+                .injuredPerson("Jan Kowalski")
+                .medicalReportNumber("MED-7")
+                .build(), createdAt));
+
+        Claim auto = repo.getById(uuidId).orElseThrow();
+        assertThat(auto.getClaimId()).isEqualTo(uuidId);
+        assertThat(auto.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(auto.getStatus()).isEqualTo(ClaimStatus.DRAFT);
+        assertThat(auto.getIncident().getDescription()).isEqualTo("Parking lot, żółty samochód");
+        assertThat(auto.getIncident()).isInstanceOfSatisfying(AutoDetails.class, details -> {
+            assertThat(details.getVin()).isEqualTo("WVWZZZ1JZXW000001");
+            assertThat(details.getLicensePlate()).isEqualTo("WX12345");
+        });
+
+        assertThat(repo.getById("CLM-2").orElseThrow().getIncident()).isInstanceOfSatisfying(TheftDetails.class, details -> {
+            assertThat(details.getStolenItem()).isEqualTo("Bike");
+            assertThat(details.getPoliceReportNumber()).isNull();
+            assertThat(details.getDescription()).isNull();
+        });
+        assertThat(repo.getById("CLM-3").orElseThrow().getIncident()).isInstanceOfSatisfying(InjuryDetails.class, details ->
+                assertThat(details.getMedicalReportNumber()).isEqualTo("MED-7"));
+
+        assertThat(repo.getById("CLM-404")).isEmpty();
+        assertThat(repo.getById(UUID.randomUUID().toString())).isEmpty();
+        assertThat(repo.getById(uuidId.toUpperCase())).isEmpty(); // a different string, not the same claim
+        assertThat(repo.size()).isEqualTo(3);
+    }
+
+    @Test
+    void compareAndSave_checksTheVersionColumn_andWritesEventsToTheOutbox() {
+        OffHeapClaimRepository repo = new OffHeapClaimRepository();
+        Claim v0 = claim("CLM-1", "POL-1", property(), Instant.parse("2026-02-01T10:00:00Z"));
+        repo.save(v0);
+
+        Claim v1 = v0.withStatus(ClaimStatus.SUBMITTED);
+        ClaimSubmittedEvent event = new ClaimSubmittedEvent("CLM-1", "SUB-1", "MANUAL", "user-1", Instant.now());
+        assertThat(repo.compareAndSave(v0.getVersion(), v1, List.of(event))).isTrue();
+        assertThat(repo.compareAndSave(v0.getVersion(), v0.withStatus(ClaimStatus.REJECTED), List.of(event))).isFalse();
+        assertThat(repo.compareAndSave(0, claim("CLM-404", "POL-1", property(), Instant.now()))).isFalse();
+
+        Claim stored = repo.getById("CLM-1").orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(ClaimStatus.SUBMITTED);
+        assertThat(stored.getVersion()).isEqualTo(1);
+        assertThat(repo.outbox().readAfter(0, 10)).hasSize(1);
+    }
+
+    @Test
+    void queries_scanColumns_andFollowUpdates() {
+        OffHeapClaimRepository repo = new OffHeapClaimRepository();
+        Claim first = claim("CLM-1", "POL-1", property(), Instant.parse("2026-02-01T10:00:00Z"));
+        repo.save(first);
+        repo.save(claim("CLM-2", "POL-1", property(), Instant.parse("2026-02-01T10:30:00Z")));
+        repo.save(claim("CLM-3", "POL-2", property(), Instant.parse("2026-02-01T09:00:00Z")));
+        repo.save(first.withStatus(ClaimStatus.SUBMITTED));
+        repo.save(claim("CLM-2", "POL-2", property(), Instant.parse("2026-02-01T10:30:00Z"))); // import correction
+
+        assertThat(repo.findByPolicyId("POL-1")).extracting(Claim::getClaimId).containsExactly("CLM-1");
+        assertThat(repo.findByPolicyId("POL-2")).extracting(Claim::getClaimId).containsExactlyInAnyOrder("CLM-2", "CLM-3");
+        assertThat(repo.findByPolicyId("POL-404")).isEmpty();
+        assertThat(repo.findByStatus(ClaimStatus.SUBMITTED)).extracting(Claim::getClaimId).containsExactly("CLM-1");
+        assertThat(repo.findByStatus(ClaimStatus.DRAFT)).extracting(Claim::getClaimId).containsExactlyInAnyOrder("CLM-2", "CLM-3");
+        assertThat(repo.findCreatedBetween(Instant.parse("2026-02-01T09:00:00Z"), Instant.parse("2026-02-01T10:30:00Z")))
+                .extracting(Claim::getClaimId)
+                .containsExactly("CLM-3", "CLM-1");
+    }
+
+    @Test
+    void growsPastOneChunk_andStoresRepeatingStringsOnce() {
+        OffHeapClaimRepository repo = new OffHeapClaimRepository(16);
+        int claims = OffHeapColumn.ROWS_PER_CHUNK + 1_000;
+        Instant createdAt = Instant.parse("2026-02-01T10:00:00Z");
+
+        for (int i = 0; i < claims; i++) {
+            repo.save(claim(new UUID(0x1234, i).toString(), "POL-" + (i % 10), property(), createdAt));
+        }
+
+        assertThat(repo.size()).isEqualTo(claims);
+        for (int i = 0; i < claims; i += 7_919) {
+            assertThat(repo.getById(new UUID(0x1234, i).toString()).orElseThrow().getPolicyId()).isEqualTo("POL-" + (i % 10));
+        }
+        assertThat(repo.findByPolicyId("POL-3")).hasSize((int) IntStream.range(0, claims).filter(i -> i % 10 == 3).count());
+        // ~110 bytes of columns + the property address per claim; the repeating strings are stored once
+        assertThat(repo.offHeapBytes()).isLessThan(claims * 200L + 16L * 1024 * 1024);
+    }
+}
@@ -0,0 +1,200 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.events.ClaimSubmittedEvent;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TieredClaimRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private static Claim claim(String claimId, String policyId, ClaimStatus status, Instant createdAt) {
+        return ClaimBuilder.fnol()
+                .policyId(policyId)
+                .incident(IncidentBuilder.theft()
+                        .occurredAt(Instant.parse("2026-02-01T08:00:00Z"))
+                        .location("Cracow")
+                        .forTheft()
+                        .stolenItem("Bike")
+                        .build())
+                .createdBy("user-1")
+                .channel("MANUAL")
+                .claimId(claimId)
+                .createdAt(createdAt)
+                .status(status)
+                .build();
+    }
+
+    private TieredClaimRepository repository(int blockSize) {
+        return new TieredClaimRepository(dir, blockSize, 2, Duration.ofMillis(10));
+    }
+
+    @Test
+    void closedClaims_moveToCompressedBlocks_andAreStillReadable() {
+        try (TieredClaimRepository repo = repository(2)) {
+            repo.save(claim("CLM-1", "POL-1", ClaimStatus.APPROVED, Instant.parse("2026-02-01T10:00:00Z")));
+            repo.save(claim("CLM-2", "POL-1", ClaimStatus.REJECTED, Instant.parse("2026-02-01T11:00:00Z")));
+            repo.save(claim("CLM-3", "POL-2", ClaimStatus.SUBMITTED, Instant.parse("2026-02-01T12:00:00Z")));
+            repo.save(claim("CLM-4", "POL-1", ClaimStatus.IN_REVIEW, Instant.parse("2026-02-01T13:00:00Z")));
+
+            assertThat(repo.tierOnce()).isEqualTo(2);
+
+            assertThat(repo.hotSize()).isEqualTo(2);
+            assertThat(repo.coldSize()).isEqualTo(2);
+            assertThat(repo.coldBlockCount()).isEqualTo(1);
+            assertThat(repo.coldDiskBytes()).isPositive();
+
+            Claim cold = repo.getById("CLM-1").orElseThrow();
+            assertThat(cold.getStatus()).isEqualTo(ClaimStatus.APPROVED);
+            assertThat(cold.getCreatedAt()).isEqualTo(Instant.parse("2026-02-01T10:00:00Z"));
+            repo.getById("CLM-2").orElseThrow();
+            assertThat(repo.coldCacheMisses()).isEqualTo(1); // one block read, the second get was cached
+            assertThat(repo.coldCacheHits()).isEqualTo(1);
+
+            assertThat(repo.findByPolicyId("POL-1")).extracting(Claim::getClaimId).containsExactlyInAnyOrder("CLM-1", "CLM-2", "CLM-4");
+            assertThat(repo.findByStatus(ClaimStatus.APPROVED)).extracting(Claim::getClaimId).containsExactly("CLM-1");
+            assertThat(repo.findCreatedBetween(Instant.parse("2026-02-01T10:30:00Z"), Instant.parse("2026-02-01T13:00:00Z")))
+                    .extracting(Claim::getClaimId)
+                    .containsExactly("CLM-2", "CLM-3");
+        }
+    }
+
+    @Test
+    void coldQueries_readOnlyTheBlocksThatMayMatch() {
+        try (TieredClaimRepository repo = repository(1)) {
+            repo.save(claim("CLM-1", "POL-1", ClaimStatus.APPROVED, Instant.parse("2026-02-01T10:00:00Z")));
+            repo.save(claim("CLM-2", "POL-2", ClaimStatus.APPROVED, Instant.parse("2026-02-02T10:00:00Z")));
+            repo.save(claim("CLM-3", "POL-3", ClaimStatus.REJECTED, Instant.parse("2026-02-03T10:00:00Z")));
+            assertThat(repo.tierOnce()).isEqualTo(3);
+            assertThat(repo.coldBlockCount()).isEqualTo(3);
+
+            assertThat(repo.findByPolicyId("POL-2")).extracting(Claim::getClaimId).containsExactly("CLM-2");
+            assertThat(blocksRead(repo)).isEqualTo(1);
+
+            assertThat(repo.findByStatus(ClaimStatus.REJECTED)).extracting(Claim::getClaimId).containsExactly("CLM-3");
+            assertThat(blocksRead(repo)).isEqualTo(2);
+
+            assertThat(repo.findCreatedBetween(Instant.parse("2026-02-01T00:00:00Z"), Instant.parse("2026-02-01T23:00:00Z")))
+                    .extracting(Claim::getClaimId)
+                    .containsExactly("CLM-1");
+            assertThat(blocksRead(repo)).isEqualTo(3);
+        }
+    }
+
+    private static long blocksRead(TieredClaimRepository repo) {
+        return repo.coldCacheHits() + repo.coldCacheMisses();
+    }
+
+    @Test
+    void insertAllIfAbsent_leavesHotAndColdClaimsAlone() {
+        try (TieredClaimRepository repo = repository(1)) {
+            Instant createdAt = Instant.parse("2026-02-01T10:00:00Z");
+            repo.save(claim("CLM-COLD", "POL-1", ClaimStatus.APPROVED, createdAt));
+            repo.tierOnce();
+            repo.save(claim("CLM-HOT", "POL-1", ClaimStatus.IN_REVIEW, createdAt));
+
+            Set<String> existing = repo.insertAllIfAbsent(List.of(
+                    claim("CLM-COLD", "POL-9", ClaimStatus.DRAFT, createdAt),
+                    claim("CLM-HOT", "POL-9", ClaimStatus.DRAFT, createdAt),
+                    claim("CLM-NEW", "POL-9", ClaimStatus.DRAFT, createdAt)));
+
+            assertThat(existing).containsExactlyInAnyOrder("CLM-COLD", "CLM-HOT");
+            assertThat(repo.getById("CLM-COLD").orElseThrow().getStatus()).isEqualTo(ClaimStatus.APPROVED);
+            assertThat(repo.getById("CLM-HOT").orElseThrow().getStatus()).isEqualTo(ClaimStatus.IN_REVIEW);
+            assertThat(repo.getById("CLM-NEW")).isPresent();
+            assertThat(repo.coldSize()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void writingAColdClaim_promotesItBack_andDeletesTheEmptyBlock() throws Exception {
+        try (TieredClaimRepository repo = repository(1)) {
+            Claim approved = claim("CLM-1", "POL-1", ClaimStatus.APPROVED, Instant.parse("2026-02-01T10:00:00Z"));
+            repo.save(approved);
+            repo.tierOnce();
+            assertThat(repo.hotSize()).isZero();
+
+            Claim reopened = approved.withStatus(ClaimStatus.REOPENED);
+            ClaimSubmittedEvent event = new ClaimSubmittedEvent("CLM-1", "SUB-1", "MANUAL", "user-1", Instant.now());
+            assertThat(repo.compareAndSave(approved.getVersion() + 1, reopened, List.of(event))).isFalse(); // wrong version
+            assertThat(repo.compareAndSave(approved.getVersion(), reopened, List.of(event))).isTrue();
+            assertThat(repo.compareAndSave(approved.getVersion(), reopened)).isFalse(); // now a conflict on the hot copy
+
+            assertThat(repo.getById("CLM-1").orElseThrow().getStatus()).isEqualTo(ClaimStatus.REOPENED);
+            assertThat(repo.findByStatus(ClaimStatus.APPROVED)).isEmpty();
+            assertThat(repo.promotedCount()).isEqualTo(1);
+            assertThat(repo.coldSize()).isZero();
+            assertThat(repo.outbox().readAfter(0, 10)).hasSize(1);
+            try (Stream<Path> files = Files.list(dir)) {
+                assertThat(files).isEmpty();
+            }
+        }
+    }
+
+    @Test
+    void aBlockFileThatCannotBeDeleted_doesNotFailTheWrite_andIsDeletedOnTheNextRun() throws Exception {
+        try (TieredClaimRepository repo = repository(1)) {
+            Claim approved = claim("CLM-1", "POL-1", ClaimStatus.APPROVED, Instant.parse("2026-02-01T10:00:00Z"));
+            repo.save(approved);
+            repo.tierOnce();
+
+            // a non-empty directory in place of the block file - Files.delete fails on it
+            Path block;
+            try (Stream<Path> files = Files.list(dir)) {
+                block = files.findFirst().orElseThrow();
+            }
+            Files.delete(block);
+            Files.createDirectory(block);
+            Path blocker = Files.createFile(block.resolve("blocker"));
+
+            assertThat(repo.compareAndSave(approved.getVersion(), approved.withStatus(ClaimStatus.REOPENED))).isTrue();
+            assertThat(repo.getById("CLM-1").orElseThrow().getStatus()).isEqualTo(ClaimStatus.REOPENED);
+            assertThat(repo.coldSize()).isZero();
+            assertThat(repo.coldDeleteFailures()).isEqualTo(1);
+
+            Files.delete(blocker);
+            repo.tierOnce();
+            assertThat(block).doesNotExist();
+        }
+    }
+
+    @Test
+    void backgroundThread_movesClaims_andLeftoverFilesAreDroppedOnOpen() throws Exception {
+        try (TieredClaimRepository repo = repository(3)) {
+            for (int i = 0; i < 10; i++) { // 3 full blocks + one claim that waits for more
+                repo.save(claim("CLM-" + i, "POL-1", ClaimStatus.REJECTED, Instant.parse("2026-02-01T10:00:00Z")));
+            }
+            repo.start();
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while ((repo.coldSize() < 9 || repo.hotSize() > 1) && System.nanoTime() < deadline) Thread.sleep(5);
+
+            assertThat(repo.coldSize()).isEqualTo(9);
+            assertThat(repo.coldBlockCount()).isEqualTo(3);
+            assertThat(repo.hotSize()).isEqualTo(1);
+            assertThat(repo.findByPolicyId("POL-1")).hasSize(10);
+        }
+
+        try (TieredClaimRepository reopened = repository(3)) {
+            assertThat(reopened.getById("CLM-1")).isEmpty();
+            try (Stream<Path> files = Files.list(dir)) {
+                assertThat(files).isEmpty();
+            }
+        }
+    }
+}
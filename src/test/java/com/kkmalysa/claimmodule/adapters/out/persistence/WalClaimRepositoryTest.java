@@ -0,0 +1,286 @@
+package com.kkmalysa.claimmodule.adapters.out.persistence;
+
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.events.ClaimSubmittedEvent;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.domain.incident.TheftDetails;
+import com.kkmalysa.claimmodule.ports.out.OutboxEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class WalClaimRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private static Claim claim(String claimId) {
+        Incident incident = IncidentBuilder.theft()
+                .occurredAt(Instant.parse("2026-02-01T10:00:00Z"))
+                .location("Warsaw")
+                .description("Bike stolen from the garage")
+                .forTheft()
+                .stolenItem("Bike")
+                .policeReportNumber("KRP-123/2026")
+                .build();
+
+        return ClaimBuilder.fnol()
+                .policyId("POL-1")
+                .incident(incident)
+                .createdBy("user-1")
+                .channel("MANUAL")
+                .claimId(claimId)
+                .createdAt(Instant.parse("2026-02-01T10:05:00Z"))
+                .build();
+    }
+
+    @Test
+    void savedClaims_surviveRestart_withLatestStatus() {
+        try (WalClaimRepository repo = new WalClaimRepository(dir)) {
+            repo.save(claim("CLM-1"));
+            repo.save(claim("CLM-2"));
+            repo.save(claim("CLM-1").withStatus(ClaimStatus.SUBMITTED));
+        }
+
+        try (WalClaimRepository reopened = new WalClaimRepository(dir)) {
+            Claim restored = reopened.getById("CLM-1").orElseThrow();
+            assertThat(restored.getStatus()).isEqualTo(ClaimStatus.SUBMITTED);
+            assertThat(restored.getVersion()).isEqualTo(1);
+            TheftDetails theft = (TheftDetails) restored.getIncident();
+            assertThat(theft.getStolenItem()).isEqualTo("Bike");
+            assertThat(theft.getPoliceReportNumber()).isEqualTo("KRP-123/2026");
+            assertThat(theft.getDescription()).isEqualTo("Bike stolen from the garage");
+            assertThat(reopened.getById("CLM-2")).isPresent();
+        }
+    }
+
+    @Test
+    void insertAllIfAbsent_skipsStoredAndRepeatedIds_andLogsOnlyTheNewOnes() {
+        try (WalClaimRepository repo = new WalClaimRepository(dir)) {
+            Claim stored = claim("CLM-1").withStatus(ClaimStatus.SUBMITTED);
+            repo.save(stored);
+
+            Set<String> existing = repo.insertAllIfAbsent(List.of(claim("CLM-1"), claim("CLM-2"), claim("CLM-2")));
+
+            assertThat(existing).containsExactlyInAnyOrder("CLM-1", "CLM-2"); // the second CLM-2 lost to the first
+            assertThat(repo.getById("CLM-1")).containsSame(stored);
+        }
+
+        try (WalClaimRepository reopened = new WalClaimRepository(dir)) {
+            assertThat(reopened.getById("CLM-1").orElseThrow().getStatus()).isEqualTo(ClaimStatus.SUBMITTED);
+            assertThat(reopened.getById("CLM-2")).isPresent();
+        }
+    }
+
+    @Test
+    void compareAndSave_rejectsStaleVersion_andKeepsItOutOfTheLog() {
+        try (WalClaimRepository repo = new WalClaimRepository(dir)) {
+            Claim v0 = claim("CLM-1");
+            repo.save(v0);
+            assertThat(repo.compareAndSave(0, v0.withStatus(ClaimStatus.SUBMITTED))).isTrue();
+            assertThat(repo.compareAndSave(0, v0.withStatus(ClaimStatus.REJECTED))).isFalse();
+        }
+
+        try (WalClaimRepository reopened = new WalClaimRepository(dir)) {
+            assertThat(reopened.getById("CLM-1").orElseThrow().getStatus()).isEqualTo(ClaimStatus.SUBMITTED);
+        }
+    }
+
+    @Test
+    void restart_afterSnapshot_replaysOnlyTheLogTail() throws IOException {
+        try (WalClaimRepository repo = new WalClaimRepository(dir)) {
+            repo.save(claim("CLM-1"));
+            repo.snapshot();
+            repo.save(claim("CLM-2"));
+            repo.save(claim("CLM-1").withStatus(ClaimStatus.IN_REVIEW));
+        }
+
+        assertThat(countFiles(".snap")).isEqualTo(1);
+        assertThat(countFiles(".wal")).isEqualTo(1); // segments covered by the snapshot were dropped
+
+        try (WalClaimRepository reopened = new WalClaimRepository(dir)) {
+            assertThat(reopened.getById("CLM-1").orElseThrow().getStatus()).isEqualTo(ClaimStatus.IN_REVIEW);
+            assertThat(reopened.getById("CLM-2")).isPresent();
+        }
+    }
+
+    @Test
+    void tornRecordAtTheEndOfTheLog_isCutOff_onRecovery() throws IOException {
+        try (WalClaimRepository repo = new WalClaimRepository(dir)) {
+            repo.save(claim("CLM-1"));
+        }
+
+        // crash in the middle of a write: header promises more bytes than there are
+        Path segment = newestFile(".wal");
+        Files.write(segment, new byte[]{0, 0, 1, 0, 7, 7, 7}, StandardOpenOption.APPEND);
+
+        try (WalClaimRepository reopened = new WalClaimRepository(dir)) {
+            assertThat(reopened.getById("CLM-1")).isPresent();
+            reopened.save(claim("CLM-2"));
+        }
+
+        try (WalClaimRepository reopened = new WalClaimRepository(dir)) {
+            assertThat(reopened.getById("CLM-1")).isPresent();
+            assertThat(reopened.getById("CLM-2")).isPresent();
+        }
+    }
+
+    @Test
+    void concurrentWriters_shareFsyncs() throws Exception {
+        int threads = 16;
+        int savesPerThread = 50;
+
+        try (WalClaimRepository repo = new WalClaimRepository(dir);
+             ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < savesPerThread; i++) {
+                        repo.save(claim("CLM-" + thread + "-" + i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+
+            assertThat(repo.walAppendCount()).isEqualTo(threads * savesPerThread);
+            assertThat(repo.walSyncCount()).isLessThan(repo.walAppendCount());
+        }
+
+        try (WalClaimRepository reopened = new WalClaimRepository(dir)) {
+            for (int t = 0; t < threads; t++) {
+                for (int i = 0; i < savesPerThread; i++) {
+                    assertThat(reopened.getById("CLM-" + t + "-" + i)).isPresent();
+                }
+            }
+        }
+    }
+
+    @Test
+    void appendsRacingWithClose_allReturnOrFail_noneHangs() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            Path roundDir = Files.createDirectory(dir.resolve("round-" + round));
+            WriteAheadLog wal = new WriteAheadLog(roundDir, 0, 1 << 20);
+            CountDownLatch started = new CountDownLatch(4);
+
+            try (ExecutorService pool = Executors.newFixedThreadPool(4)) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    futures.add(pool.submit(() -> {
+                        started.countDown();
+                        while (true) {
+                            try {
+                                wal.append(new byte[] {1, 2, 3});
+                            } catch (IllegalStateException closed) {
+                                return;
+                            }
+                        }
+                    }));
+                }
+                started.await();
+                wal.close();
+
+                for (Future<?> future : futures) {
+                    future.get(5, TimeUnit.SECONDS); // a TimeoutException here = an append stuck after close
+                }
+            }
+        }
+    }
+
+    private long countFiles(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.toString().endsWith(suffix)).count();
+        }
+    }
+
+    private Path newestFile(String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.toString().endsWith(suffix)).sorted().reduce((a, b) -> b).orElseThrow();
+        }
+    }
+
+    private static DomainEvent submitted(String claimId) {
+        return new ClaimSubmittedEvent(claimId, "SUB-" + claimId, "MANUAL", "user-1", Instant.parse("2026-02-01T11:00:00Z"));
+    }
+
+    private static List<String> pendingClaimIds(WalClaimRepository repo) {
+        return repo.outbox().readAfter(repo.outbox().checkpoint(), 100).stream()
+                .map(entry -> ((ClaimSubmittedEvent) entry.getEvent()).getClaimId())
+                .toList();
+    }
+
+    @Test
+    void outboxEvents_andCheckpoint_surviveRestart() {
+        try (WalClaimRepository repo = new WalClaimRepository(dir)) {
+            for (String id : List.of("CLM-1", "CLM-2", "CLM-3")) {
+                Claim v0 = claim(id);
+                repo.save(v0);
+                assertThat(repo.compareAndSave(0, v0.withStatus(ClaimStatus.SUBMITTED), List.of(submitted(id)))).isTrue();
+            }
+            repo.outbox().checkpoint(1);
+        }
+
+        try (WalClaimRepository reopened = new WalClaimRepository(dir)) {
+            assertThat(reopened.outbox().checkpoint()).isEqualTo(1);
+            assertThat(pendingClaimIds(reopened)).containsExactly("CLM-2", "CLM-3");
+            assertThat(reopened.outbox().readAfter(1, 100)).extracting(OutboxEntry::getSequence).containsExactly(2L, 3L);
+        }
+    }
+
+    @Test
+    void outboxState_isKeptInSnapshot() {
+        try (WalClaimRepository repo = new WalClaimRepository(dir)) {
+            for (String id : List.of("CLM-1", "CLM-2")) {
+                Claim v0 = claim(id);
+                repo.save(v0);
+                repo.compareAndSave(0, v0.withStatus(ClaimStatus.SUBMITTED), List.of(submitted(id)));
+            }
+            repo.outbox().checkpoint(1);
+            repo.snapshot();
+
+            Claim v0 = claim("CLM-3");
+            repo.save(v0);
+            repo.compareAndSave(0, v0.withStatus(ClaimStatus.SUBMITTED), List.of(submitted("CLM-3")));
+        }
+
+        try (WalClaimRepository reopened = new WalClaimRepository(dir)) {
+            assertThat(pendingClaimIds(reopened)).containsExactly("CLM-2", "CLM-3");
+            assertThat(reopened.outbox().readAfter(0, 100)).extracting(OutboxEntry::getSequence).containsExactly(2L, 3L);
+        }
+    }
+
+    @Test
+    void rejectedCompareAndSave_doesNotLogItsEvents() {
+        try (WalClaimRepository repo = new WalClaimRepository(dir)) {
+            Claim v0 = claim("CLM-1");
+            repo.save(v0);
+            repo.save(v0.withStatus(ClaimStatus.DRAFT));
+            assertThat(repo.compareAndSave(0, v0.withStatus(ClaimStatus.SUBMITTED), List.of(submitted("CLM-1")))).isFalse();
+        }
+
+        try (WalClaimRepository reopened = new WalClaimRepository(dir)) {
+            assertThat(pendingClaimIds(reopened)).isEmpty();
+        }
+    }
+}
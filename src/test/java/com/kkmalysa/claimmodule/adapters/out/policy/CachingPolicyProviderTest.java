@@ -0,0 +1,200 @@
+package com.kkmalysa.claimmodule.adapters.out.policy;
+
+import com.kkmalysa.claimmodule.ports.out.PolicyProvider;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CachingPolicyProviderTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-02-01T10:00:00Z"));
+    private final Map<String, String> policies = new HashMap<>();
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+
+    private final PolicyProvider delegate = policyId -> {
+        delegateCalls.incrementAndGet();
+        return Optional.ofNullable(policies.get(policyId));
+    };
+
+    private CachingPolicyProvider cache(int maximumSize) {
+        return new CachingPolicyProvider(
+                delegate,
+                maximumSize,
+                Duration.ofMinutes(10),  // ttl
+                Duration.ofMinutes(2),   // refresh ahead
+                Duration.ofSeconds(30),  // negative ttl
+                clock,
+                Runnable::run            // refresh synchronously, keeps the test deterministic
+        );
+    }
+
+    @Test
+    void secondLookup_isServedFromCache_untilTtlExpires() {
+        policies.put("POL-1", "PN-1");
+        CachingPolicyProvider cache = cache(100);
+
+        assertThat(cache.getPolicyNumber("POL-1")).contains("PN-1");
+        assertThat(cache.getPolicyNumber("POL-1")).contains("PN-1");
+        assertThat(delegateCalls).hasValue(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+
+        clock.advance(Duration.ofMinutes(10));
+
+        assertThat(cache.getPolicyNumber("POL-1")).contains("PN-1");
+        assertThat(delegateCalls).hasValue(2);
+        assertThat(cache.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void hitInsideRefreshWindow_reloadsEntry_beforeItExpires() {
+        policies.put("POL-1", "PN-1");
+        CachingPolicyProvider cache = cache(100);
+        cache.getPolicyNumber("POL-1");
+
+        policies.put("POL-1", "PN-1-NEW");
+        clock.advance(Duration.ofMinutes(9)); // inside the last 2 minutes
+
+        assertThat(cache.getPolicyNumber("POL-1")).contains("PN-1"); // served stale, refresh triggered
+        assertThat(cache.refreshCount()).isEqualTo(1);
+
+        clock.advance(Duration.ofMinutes(5)); // old entry would be expired by now
+        assertThat(cache.getPolicyNumber("POL-1")).contains("PN-1-NEW");
+        assertThat(delegateCalls).hasValue(2);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void notFound_isCachedOnlyForNegativeTtl() {
+        CachingPolicyProvider cache = cache(100);
+
+        assertThat(cache.getPolicyNumber("POL-X")).isEmpty();
+        assertThat(cache.getPolicyNumber("POL-X")).isEmpty();
+        assertThat(delegateCalls).hasValue(1);
+
+        policies.put("POL-X", "PN-X");
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThat(cache.getPolicyNumber("POL-X")).contains("PN-X");
+        assertThat(delegateCalls).hasValue(2);
+    }
+
+    @Test
+    void exceedingMaximumSize_evictsLeastRecentlyUsedEntry() {
+        policies.put("POL-1", "PN-1");
+        policies.put("POL-2", "PN-2");
+        policies.put("POL-3", "PN-3");
+        CachingPolicyProvider cache = cache(2);
+
+        cache.getPolicyNumber("POL-1");
+        cache.getPolicyNumber("POL-2");
+        cache.getPolicyNumber("POL-1"); // POL-2 is now the LRU entry
+        cache.getPolicyNumber("POL-3");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+
+        delegateCalls.set(0);
+        cache.getPolicyNumber("POL-1");
+        assertThat(delegateCalls).hasValue(0);
+        cache.getPolicyNumber("POL-2");
+        assertThat(delegateCalls).hasValue(1);
+    }
+
+    @Test
+    void batchLookup_onlyAsksDelegateForMisses() {
+        policies.put("POL-1", "PN-1");
+        policies.put("POL-2", "PN-2");
+        CachingPolicyProvider cache = cache(100);
+        cache.getPolicyNumber("POL-1");
+
+        Map<String, String> found = cache.getPolicyNumbers(List.of("POL-1", "POL-2", "POL-404"));
+
+        assertThat(found).containsOnly(Map.entry("POL-1", "PN-1"), Map.entry("POL-2", "PN-2"));
+        assertThat(delegateCalls).hasValue(3); // POL-1 once before, then POL-2 and POL-404
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    void concurrentMisses_ofTheSamePolicy_shareOneDelegateCall() throws Exception {
+        CountDownLatch loaderInside = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        PolicyProvider slow = policyId -> {
+            calls.incrementAndGet();
+            loaderInside.countDown();
+            try {
+                releaseLoader.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.of("PN-" + policyId);
+        };
+        CachingPolicyProvider cache = new CachingPolicyProvider(
+                slow, 100, Duration.ofMinutes(10), Duration.ofMinutes(2), Duration.ofSeconds(30), clock, Runnable::run);
+
+        CompletableFuture<Optional<String>> first = CompletableFuture.supplyAsync(() -> cache.getPolicyNumber("POL-1"));
+        assertThat(loaderInside.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Optional<String>> second = CompletableFuture.supplyAsync(() -> cache.getPolicyNumber("POL-1"));
+        CompletableFuture<Map<String, String>> batch = CompletableFuture.supplyAsync(() -> cache.getPolicyNumbers(List.of("POL-1")));
+
+        Thread.sleep(50); // let them reach the in-flight load
+        releaseLoader.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).contains("PN-POL-1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).contains("PN-POL-1");
+        assertThat(batch.get(5, TimeUnit.SECONDS)).containsOnly(Map.entry("POL-1", "PN-POL-1"));
+        assertThat(calls).hasValue(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedRefresh_isRetriedOnTheNextHit() {
+        policies.put("POL-1", "PN-1");
+        AtomicInteger attempts = new AtomicInteger();
+        CachingPolicyProvider cache = new CachingPolicyProvider(
+                delegate, 100, Duration.ofMinutes(10), Duration.ofMinutes(2), Duration.ofSeconds(30), clock,
+                task -> {
+                    if (attempts.incrementAndGet() == 1) throw new RejectedExecutionException("refresh pool is full");
+                    task.run();
+                });
+        cache.getPolicyNumber("POL-1");
+        policies.put("POL-1", "PN-1-NEW");
+        clock.advance(Duration.ofMinutes(9));
+
+        assertThat(cache.getPolicyNumber("POL-1")).contains("PN-1"); // refresh rejected
+        assertThat(cache.refreshCount()).isZero();
+
+        cache.getPolicyNumber("POL-1"); // tries again instead of being stuck as "refreshing"
+        assertThat(cache.refreshCount()).isEqualTo(1);
+        assertThat(cache.getPolicyNumber("POL-1")).contains("PN-1-NEW");
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) { this.now = now; }
+
+        void advance(Duration duration) { now = now.plus(duration); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+}
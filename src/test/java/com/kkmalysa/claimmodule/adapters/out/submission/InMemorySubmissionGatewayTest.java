@@ -0,0 +1,176 @@
+package com.kkmalysa.claimmodule.adapters.out.submission;
+
+import com.kkmalysa.claimmodule.application.submission.ClaimSubmission;
+import com.kkmalysa.claimmodule.application.submission.ClaimSubmissionBuilder;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.ports.out.SubmissionRejectedException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InMemorySubmissionGatewayTest {
+
+    private static final Claim CLAIM = sampleClaim();
+
+    private static Claim sampleClaim() {
+        Incident incident = IncidentBuilder.injury()
+                .occurredAt(Instant.parse("2026-02-01T10:00:00Z"))
+                .location("Gdansk")
+                .forInjury()
+                .injuredPerson("Jan Kowalski")
+                .build();
+
+        return ClaimBuilder.fnol()
+                .policyId("POL-1")
+                .incident(incident)
+                .createdBy("agent-1")
+                .channel("MANUAL")
+                .claimId("CLM-1")
+                .build();
+    }
+
+    private static ClaimSubmission submission(String submissionId) {
+        return ClaimSubmissionBuilder.create()
+                .fromClaim(CLAIM)
+                .policyNumber("PN-POL-1")
+                .attachments(List.of())
+                .submittedBy("agent-1")
+                .manual()
+                .termsAcceptedOptional(false)
+                .submissionId(submissionId)
+                .build();
+    }
+
+    private static List<String> ids(List<ClaimSubmission> submissions) {
+        return submissions.stream().map(ClaimSubmission::getSubmissionId).toList();
+    }
+
+    @Test
+    void drain_returnsSubmissionsInSendOrder_andFreesSpace() {
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway(3, OverflowPolicy.REJECT);
+        gateway.send(submission("S-1"));
+        gateway.send(submission("S-2"));
+        gateway.send(submission("S-3"));
+
+        assertThat(ids(gateway.drain(2))).containsExactly("S-1", "S-2");
+
+        gateway.send(submission("S-4")); // wraps around the ring
+        gateway.send(submission("S-5"));
+
+        assertThat(gateway.size()).isEqualTo(3);
+        assertThat(ids(gateway.drain(10))).containsExactly("S-3", "S-4", "S-5");
+        assertThat(gateway.acceptedCount()).isEqualTo(5);
+    }
+
+    @Test
+    void dropOldest_keepsNewestSubmissions_andCountsDrops() {
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway(2, OverflowPolicy.DROP_OLDEST);
+        gateway.send(submission("S-1"));
+        gateway.send(submission("S-2"));
+        gateway.send(submission("S-3"));
+
+        assertThat(ids(gateway.sentSubmissions())).containsExactly("S-2", "S-3");
+        assertThat(gateway.droppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reject_failsFast_whenFull() {
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway(1, OverflowPolicy.REJECT);
+        gateway.send(submission("S-1"));
+
+        assertThatThrownBy(() -> gateway.send(submission("S-2")))
+                .isInstanceOf(SubmissionRejectedException.class)
+                .hasMessageContaining("full");
+        assertThat(gateway.rejectedCount()).isEqualTo(1);
+        assertThat(ids(gateway.sentSubmissions())).containsExactly("S-1");
+    }
+
+    @Test
+    void defaultGateway_rejectsWhenFull_insteadOfBlocking() {
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway();
+        for (int i = 0; i < InMemorySubmissionGateway.DEFAULT_CAPACITY; i++) gateway.send(submission("S-" + i));
+
+        assertThatThrownBy(() -> gateway.send(submission("S-overflow"))).isInstanceOf(SubmissionRejectedException.class);
+        assertThat(gateway.rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void block_holdsProducer_untilConsumerDrains() throws Exception {
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway(1, OverflowPolicy.BLOCK);
+        gateway.send(submission("S-1"));
+
+        CountDownLatch secondSent = new CountDownLatch(1);
+        Thread producer = Thread.ofVirtual().start(() -> {
+            gateway.send(submission("S-2"));
+            secondSent.countDown();
+        });
+
+        assertThat(secondSent.await(200, TimeUnit.MILLISECONDS)).isFalse(); // backpressure
+        assertThat(ids(gateway.drain(1))).containsExactly("S-1");
+        assertThat(secondSent.await(5, TimeUnit.SECONDS)).isTrue();
+        producer.join();
+        assertThat(ids(gateway.drain(1, Duration.ofSeconds(1)))).containsExactly("S-2");
+    }
+
+    @Test
+    void manyProducers_singleConsumer_loseNothing() throws Exception {
+        int producers = 8;
+        int perProducer = 2_000;
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway(64, OverflowPolicy.BLOCK);
+
+        List<ClaimSubmission> received = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(producers)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) gateway.send(submission("S-" + producer + "-" + i));
+                }));
+            }
+
+            while (received.size() < producers * perProducer) {
+                received.addAll(gateway.drain(32, Duration.ofSeconds(5)));
+            }
+            for (Future<?> future : futures) future.get();
+        }
+
+        assertThat(received).hasSize(producers * perProducer);
+        assertThat(ids(received)).doesNotHaveDuplicates();
+        assertThat(gateway.size()).isZero();
+    }
+
+    @Test
+    void drainer_keepsTheBufferFromFillingUp() throws Exception {
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway(2, OverflowPolicy.REJECT);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        try (SubmissionDrainer drainer = new SubmissionDrainer(gateway, batch -> delivered.addAll(ids(batch)), 10, Duration.ofMillis(5))) {
+            drainer.start();
+
+            for (int i = 1; i <= 20; i++) {
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (gateway.size() == gateway.capacity() && System.nanoTime() < deadline) Thread.sleep(1);
+                gateway.send(submission("S-" + i));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (drainer.deliveredCount() < 20 && System.nanoTime() < deadline) Thread.sleep(1);
+
+            assertThat(drainer.deliveredCount()).isEqualTo(20);
+        }
+        assertThat(delivered).hasSize(20).startsWith("S-1", "S-2").endsWith("S-20");
+        assertThat(gateway.rejectedCount()).isZero();
+    }
+}
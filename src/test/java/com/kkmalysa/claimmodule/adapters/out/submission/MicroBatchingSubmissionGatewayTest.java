@@ -0,0 +1,176 @@
+package com.kkmalysa.claimmodule.adapters.out.submission;
+
+import com.kkmalysa.claimmodule.application.submission.ClaimSubmission;
+import com.kkmalysa.claimmodule.application.submission.ClaimSubmissionBuilder;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.ports.out.SubmissionGateway;
+import com.kkmalysa.claimmodule.ports.out.SubmissionRejectedException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MicroBatchingSubmissionGatewayTest {
+
+    private static final Claim CLAIM = sampleClaim();
+
+    private static Claim sampleClaim() {
+        Incident incident = IncidentBuilder.auto()
+                .occurredAt(Instant.parse("2026-02-01T10:00:00Z"))
+                .location("Warsaw")
+                .forAuto()
+                .vin("WVWZZZ1JZXW000001")
+                .licensePlate("WI1234A")
+                .build();
+
+        return ClaimBuilder.fnol()
+                .policyId("POL-1")
+                .incident(incident)
+                .createdBy("user-1")
+                .channel("AUTO")
+                .claimId("CLM-1")
+                .build();
+    }
+
+    private static ClaimSubmission submission(String submissionId) {
+        return ClaimSubmissionBuilder.create()
+                .fromClaim(CLAIM)
+                .policyNumber("PN-POL-1")
+                .attachments(List.of("att-1"))
+                .submittedBy("user-1")
+                .manual()
+                .termsAcceptedOptional(true)
+                .submissionId(submissionId)
+                .build();
+    }
+
+    // records every downstream call as one batch
+    private static final class RecordingGateway implements SubmissionGateway {
+        private final List<List<ClaimSubmission>> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(ClaimSubmission submission) {
+            sendAll(List.of(submission));
+        }
+
+        @Override
+        public void sendAll(List<ClaimSubmission> submissions) {
+            batches.add(List.copyOf(submissions));
+        }
+    }
+
+    @Test
+    void fullBatch_isFlushedWithoutWaitingForLinger() throws Exception {
+        RecordingGateway downstream = new RecordingGateway();
+        try (MicroBatchingSubmissionGateway gateway =
+                     new MicroBatchingSubmissionGateway(downstream, 3, 1_000_000, Duration.ofMinutes(1))) {
+
+            List<CompletableFuture<Void>> handles = new ArrayList<>();
+            for (int i = 1; i <= 3; i++) handles.add(gateway.sendAsync(submission("S-" + i)));
+
+            CompletableFuture.allOf(handles.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+            assertThat(downstream.batches).hasSize(1);
+            assertThat(downstream.batches.get(0)).extracting(ClaimSubmission::getSubmissionId)
+                    .containsExactly("S-1", "S-2", "S-3");
+        }
+    }
+
+    @Test
+    void partialBatch_isFlushedAfterMaxLinger() {
+        RecordingGateway downstream = new RecordingGateway();
+        try (MicroBatchingSubmissionGateway gateway =
+                     new MicroBatchingSubmissionGateway(downstream, 500, 1_000_000, Duration.ofMillis(20))) {
+
+            gateway.send(submission("S-1")); // blocking port contract: returns once flushed
+
+            assertThat(downstream.batches).hasSize(1);
+            assertThat(gateway.batchCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void byteLimit_splitsBatches() throws Exception {
+        RecordingGateway downstream = new RecordingGateway();
+        try (MicroBatchingSubmissionGateway gateway = new MicroBatchingSubmissionGateway(
+                downstream, 500, 250, Duration.ofMillis(50), submission -> 100)) {
+
+            List<CompletableFuture<Void>> handles = new ArrayList<>();
+            for (int i = 1; i <= 5; i++) handles.add(gateway.sendAsync(submission("S-" + i)));
+            CompletableFuture.allOf(handles.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+            assertThat(downstream.batches).extracting(List::size).containsExactly(2, 2, 1);
+        }
+    }
+
+    @Test
+    void downstreamFailure_failsEveryHandleOfThatBatch() {
+        SubmissionGateway failing = submission -> {
+            throw new IllegalStateException("claims core unavailable");
+        };
+        try (MicroBatchingSubmissionGateway gateway =
+                     new MicroBatchingSubmissionGateway(failing, 10, 1_000_000, Duration.ofMillis(10))) {
+
+            assertThatThrownBy(() -> gateway.send(submission("S-1")))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("claims core unavailable");
+        }
+    }
+
+    @Test
+    void close_flushesWhatIsQueued_andRejectsLaterSends() {
+        RecordingGateway downstream = new RecordingGateway();
+        MicroBatchingSubmissionGateway gateway =
+                new MicroBatchingSubmissionGateway(downstream, 500, 1_000_000, Duration.ofMinutes(1));
+
+        CompletableFuture<Void> queued = gateway.sendAsync(submission("S-1"));
+        gateway.close();
+
+        assertThat(queued).isCompleted();
+        assertThat(downstream.batches).hasSize(1);
+        assertThat(gateway.sendAsync(submission("S-2"))).isCompletedExceptionally();
+    }
+
+    @Test
+    void fullQueue_rejectsAfterTheEnqueueTimeout_insteadOfGrowing() throws Exception {
+        CountDownLatch downstreamBusy = new CountDownLatch(1);
+        CountDownLatch releaseDownstream = new CountDownLatch(1);
+        SubmissionGateway slow = submission -> {
+            downstreamBusy.countDown();
+            try {
+                releaseDownstream.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        try (MicroBatchingSubmissionGateway gateway = new MicroBatchingSubmissionGateway(
+                slow, 1, 1_000_000, Duration.ZERO, 2, Duration.ofMillis(20))) {
+
+            CompletableFuture<Void> inFlight = gateway.sendAsync(submission("S-1"));
+            assertThat(downstreamBusy.await(5, TimeUnit.SECONDS)).isTrue(); // flusher is stuck in the downstream
+            CompletableFuture<Void> queued1 = gateway.sendAsync(submission("S-2"));
+            CompletableFuture<Void> queued2 = gateway.sendAsync(submission("S-3"));
+
+            assertThatThrownBy(() -> gateway.send(submission("S-4")))
+                    .isInstanceOf(SubmissionRejectedException.class);
+            assertThat(gateway.rejectedCount()).isEqualTo(1);
+            assertThat(gateway.queuedCount()).isEqualTo(2);
+
+            releaseDownstream.countDown();
+            CompletableFuture.allOf(inFlight, queued1, queued2).get(5, TimeUnit.SECONDS);
+            assertThat(gateway.submissionCount()).isEqualTo(3);
+        }
+    }
+}
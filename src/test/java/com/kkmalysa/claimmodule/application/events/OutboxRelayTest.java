@@ -0,0 +1,130 @@
+package com.kkmalysa.claimmodule.application.events;
+
+import com.kkmalysa.claimmodule.adapters.out.attachments.FakeAttachmentProvider;
+import com.kkmalysa.claimmodule.adapters.out.persistence.InMemoryClaimRepository;
+import com.kkmalysa.claimmodule.adapters.out.policy.FakePolicyProvider;
+import com.kkmalysa.claimmodule.adapters.out.submission.InMemorySubmissionGateway;
+import com.kkmalysa.claimmodule.application.submission.SubmissionChannel;
+import com.kkmalysa.claimmodule.application.submission.SubmitClaimUseCase;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.events.ClaimSubmittedEvent;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.ports.out.DomainEventPublisher;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OutboxRelayTest {
+
+    private static Claim claim(String claimId) {
+        Incident incident = IncidentBuilder.auto()
+                .occurredAt(Instant.parse("2026-02-01T10:00:00Z"))
+                .location("Warsaw")
+                .forAuto()
+                .vin("WVWZZZ1JZXW000001")
+                .licensePlate("WI1234A")
+                .build();
+
+        return ClaimBuilder.fnol()
+                .policyId("POL-1")
+                .incident(incident)
+                .createdBy("user-1")
+                .channel("AUTO")
+                .claimId(claimId)
+                .createdAt(Instant.parse("2026-02-01T10:05:00Z"))
+                .build();
+    }
+
+    private static List<String> claimIds(List<DomainEvent> events) {
+        return events.stream().map(event -> ((ClaimSubmittedEvent) event).getClaimId()).toList();
+    }
+
+    private static SubmitClaimUseCase useCase(InMemoryClaimRepository repo) {
+        return new SubmitClaimUseCase(repo, new FakePolicyProvider(), new FakeAttachmentProvider(), new InMemorySubmissionGateway());
+    }
+
+    @Test
+    void submittedEvents_areRelayedInOrder_andCheckpointed() {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        for (int i = 1; i <= 5; i++) repo.save(claim("CLM-" + i));
+        SubmitClaimUseCase useCase = useCase(repo);
+        for (int i = 1; i <= 5; i++) useCase.submit("CLM-" + i, SubmissionChannel.MANUAL, "user-1", false);
+
+        List<DomainEvent> received = new CopyOnWriteArrayList<>();
+        OutboxRelay relay = new OutboxRelay(repo.outbox(), List.of(received::addAll), 2, Duration.ofMillis(10));
+
+        assertThat(relay.runOnce()).isEqualTo(2);
+        assertThat(relay.runOnce()).isEqualTo(2);
+        assertThat(relay.runOnce()).isEqualTo(1);
+        assertThat(relay.runOnce()).isZero();
+
+        assertThat(claimIds(received)).containsExactly("CLM-1", "CLM-2", "CLM-3", "CLM-4", "CLM-5");
+        assertThat(repo.outbox().checkpoint()).isEqualTo(5);
+        assertThat(repo.outbox().size()).isZero();
+    }
+
+    @Test
+    void failedPublish_isRetried_withTheSameBatch() {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        repo.save(claim("CLM-1"));
+        useCase(repo).submit("CLM-1", SubmissionChannel.MANUAL, "user-1", false);
+
+        AtomicInteger attempts = new AtomicInteger();
+        List<DomainEvent> received = new CopyOnWriteArrayList<>();
+        DomainEventPublisher flaky = events -> {
+            if (attempts.incrementAndGet() == 1) throw new IllegalStateException("broker down");
+            received.addAll(events);
+        };
+        OutboxRelay relay = new OutboxRelay(repo.outbox(), List.of(flaky), 10, Duration.ofMillis(10));
+
+        assertThatThrownBy(relay::runOnce).hasMessage("broker down");
+        assertThat(repo.outbox().checkpoint()).isZero();
+
+        assertThat(relay.runOnce()).isEqualTo(1);
+        assertThat(claimIds(received)).containsExactly("CLM-1");
+    }
+
+    @Test
+    void conflictingSave_leavesNothingInTheOutbox() {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        Claim claim = claim("CLM-1");
+        repo.save(claim);
+        repo.save(claim.withStatus(claim.getStatus())); // someone else bumped the version
+
+        DomainEvent event = new ClaimSubmittedEvent("CLM-1", "SUB-1", "AUTO", "user-1", Instant.now());
+        assertThat(repo.compareAndSave(0, claim.withStatus(claim.getStatus()), List.of(event))).isFalse();
+        assertThat(repo.outbox().readAfter(0, 10)).isEmpty();
+    }
+
+    @Test
+    void backgroundRelay_keepsRetrying_untilPublished() throws Exception {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        repo.save(claim("CLM-1"));
+        useCase(repo).submit("CLM-1", SubmissionChannel.MANUAL, "user-1", false);
+
+        AtomicInteger attempts = new AtomicInteger();
+        List<DomainEvent> received = new CopyOnWriteArrayList<>();
+        DomainEventPublisher flaky = events -> {
+            if (attempts.incrementAndGet() <= 2) throw new IllegalStateException("broker down");
+            received.addAll(events);
+        };
+
+        try (OutboxRelay relay = new OutboxRelay(repo.outbox(), List.of(flaky), 10, Duration.ofMillis(5))) {
+            relay.start();
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (received.isEmpty() && System.nanoTime() < deadline) Thread.sleep(5);
+
+            assertThat(claimIds(received)).containsExactly("CLM-1");
+            assertThat(relay.failureCount()).isEqualTo(2);
+        }
+    }
+}
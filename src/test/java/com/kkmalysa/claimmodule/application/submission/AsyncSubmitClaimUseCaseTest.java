@@ -0,0 +1,208 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+import com.kkmalysa.claimmodule.adapters.out.async.BlockingPortAdapters;
+import com.kkmalysa.claimmodule.adapters.out.attachments.FakeAttachmentProvider;
+import com.kkmalysa.claimmodule.adapters.out.persistence.InMemoryClaimRepository;
+import com.kkmalysa.claimmodule.adapters.out.policy.FakePolicyProvider;
+import com.kkmalysa.claimmodule.adapters.out.submission.InMemorySubmissionGateway;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.domain.incident.IncidentType;
+import com.kkmalysa.claimmodule.ports.out.AsyncClaimRepository;
+import com.kkmalysa.claimmodule.ports.out.AsyncSubmissionGateway;
+import com.kkmalysa.claimmodule.ports.out.SubmissionMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncSubmitClaimUseCaseTest {
+
+    private static Claim storeClaim(InMemoryClaimRepository repo, String claimId) {
+        Incident incident = IncidentBuilder.auto()
+                .occurredAt(Instant.parse("2026-02-01T10:00:00Z"))
+                .location("Warsaw")
+                .forAuto()
+                .vin("WVWZZZ1JZXW000001")
+                .licensePlate("WI1234A")
+                .build();
+
+        Claim claim = ClaimBuilder.fnol()
+                .policyId("POL-1")
+                .incident(incident)
+                .createdBy("user-1")
+                .channel("AUTO")
+                .claimId(claimId)
+                .createdAt(Instant.parse("2026-02-01T10:05:00Z"))
+                .build();
+
+        repo.save(claim);
+        return claim;
+    }
+
+    private static AsyncSubmitClaimUseCase useCase(InMemoryClaimRepository repo, FakeAttachmentProvider attachments, AsyncSubmissionGateway gateway) {
+        return new AsyncSubmitClaimUseCase(
+                BlockingPortAdapters.claimRepository(repo),
+                BlockingPortAdapters.policyProvider(new FakePolicyProvider()),
+                BlockingPortAdapters.attachmentProvider(attachments),
+                gateway
+        );
+    }
+
+    @Test
+    void submit_overWrappedBlockingPorts_sendsSubmissionAndSavesClaim() throws Exception {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        storeClaim(repo, "CLM-1");
+        FakeAttachmentProvider attachments = new FakeAttachmentProvider();
+        attachments.put("CLM-1", List.of("ATT-1", "ATT-2"));
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway();
+
+        SubmissionResult result = useCase(repo, attachments, BlockingPortAdapters.submissionGateway(gateway))
+                .submit("CLM-1", SubmissionChannel.AUTO, "agent-1", true)
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getSubmission().getPolicyNumber()).isEqualTo("PN-POL-1");
+        assertThat(result.getSubmission().getAttachmentIds()).containsExactly("ATT-1", "ATT-2");
+        assertThat(gateway.sentSubmissions()).containsExactly(result.getSubmission());
+        assertThat(repo.getById("CLM-1")).get().extracting(Claim::getStatus).isEqualTo(ClaimStatus.SUBMITTED);
+    }
+
+    @Test
+    void submit_missingClaim_failsWithTheSameExceptionAsTheBlockingUseCase() {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway();
+
+        CompletableFuture<SubmissionResult> future = useCase(repo, new FakeAttachmentProvider(), BlockingPortAdapters.submissionGateway(gateway))
+                .submit("CLM-404", SubmissionChannel.AUTO, "agent-1", true);
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("CLM-404");
+        assertThat(gateway.sentSubmissions()).isEmpty();
+    }
+
+    @Test
+    void submit_claimLookupFailsFirst_reportsOnlyAfterTheAttachmentLookupIsDone() throws Exception {
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        CompletableFuture<List<String>> attachmentLookup = new CompletableFuture<>();
+        List<SubmissionStage> recordedStages = new CopyOnWriteArrayList<>();
+        SubmissionMetrics metrics = new SubmissionMetrics() {
+            @Override
+            public void recordStage(SubmissionStage stage, SubmissionChannel channel, IncidentType incidentType, long nanos) {
+                recordedStages.add(stage);
+            }
+        };
+
+        AsyncSubmitClaimUseCase useCase = new AsyncSubmitClaimUseCase(
+                BlockingPortAdapters.claimRepository(repo),
+                BlockingPortAdapters.policyProvider(new FakePolicyProvider()),
+                claimId -> attachmentLookup,
+                BlockingPortAdapters.submissionGateway(new InMemorySubmissionGateway()),
+                metrics
+        );
+        CompletableFuture<SubmissionResult> future = useCase.submit("CLM-404", SubmissionChannel.AUTO, "agent-1", true);
+
+        Thread.sleep(50);
+        assertThat(future).isNotDone(); // the claim lookup failed, but the attachment lookup still runs
+        assertThat(recordedStages).isEmpty();
+
+        attachmentLookup.complete(List.of());
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).cause().isInstanceOf(IllegalArgumentException.class);
+        assertThat(recordedStages).containsExactlyInAnyOrder(SubmissionStage.CLAIM_LOAD, SubmissionStage.ATTACHMENT_LOOKUP);
+    }
+
+    @Test
+    void submit_claimChangedMeanwhile_failsWithVersionConflict() {
+        InMemoryClaimRepository store = new InMemoryClaimRepository();
+        storeClaim(store, "CLM-1");
+        FakeAttachmentProvider attachments = new FakeAttachmentProvider();
+        attachments.put("CLM-1", List.of("ATT-1"));
+        AsyncClaimRepository delegate = BlockingPortAdapters.claimRepository(store);
+
+        // someone else saves a newer version between our load and our save
+        AsyncClaimRepository racingRepo = new AsyncClaimRepository() {
+            @Override
+            public CompletableFuture<Optional<Claim>> getById(String claimId) {
+                return delegate.getById(claimId).thenApply(loaded -> {
+                    Claim current = store.getById(claimId).orElseThrow();
+                    store.compareAndSave(current.getVersion(), current.withStatus(ClaimStatus.DRAFT), List.of());
+                    return loaded;
+                });
+            }
+
+            @Override
+            public CompletableFuture<Boolean> compareAndSave(long expectedVersion, Claim claim, List<DomainEvent> events) {
+                return delegate.compareAndSave(expectedVersion, claim, events);
+            }
+        };
+
+        AsyncSubmitClaimUseCase useCase = new AsyncSubmitClaimUseCase(
+                racingRepo,
+                BlockingPortAdapters.policyProvider(new FakePolicyProvider()),
+                BlockingPortAdapters.attachmentProvider(attachments),
+                BlockingPortAdapters.submissionGateway(new InMemorySubmissionGateway())
+        );
+
+        assertThatThrownBy(() -> useCase.submit("CLM-1", SubmissionChannel.AUTO, "agent-1", true).get(5, TimeUnit.SECONDS))
+                .cause()
+                .isInstanceOf(ClaimVersionConflictException.class);
+    }
+
+    @Test
+    void submit_manyInFlightSubmissions_doNotNeedAThreadEach() throws Exception {
+        int submissions = 5_000;
+        InMemoryClaimRepository repo = new InMemoryClaimRepository();
+        FakeAttachmentProvider attachments = new FakeAttachmentProvider();
+        for (int i = 0; i < submissions; i++) {
+            storeClaim(repo, "CLM-" + i);
+            attachments.put("CLM-" + i, List.of("ATT-" + i));
+        }
+
+        // a "remote" gateway: answers after a delay from one scheduler thread, nobody blocks on it
+        ScheduledExecutorService remote = Executors.newSingleThreadScheduledExecutor();
+        AtomicInteger pending = new AtomicInteger();
+        AtomicInteger maxPending = new AtomicInteger();
+        AsyncSubmissionGateway slowGateway = submission -> {
+            maxPending.accumulateAndGet(pending.incrementAndGet(), Math::max);
+            CompletableFuture<Void> sent = new CompletableFuture<>();
+            remote.schedule(() -> {
+                pending.decrementAndGet();
+                sent.complete(null);
+            }, 200, TimeUnit.MILLISECONDS);
+            return sent;
+        };
+
+        try {
+            AsyncSubmitClaimUseCase useCase = useCase(repo, attachments, slowGateway);
+
+            List<CompletableFuture<SubmissionResult>> futures = new ArrayList<>(submissions);
+            for (int i = 0; i < submissions; i++) {
+                futures.add(useCase.submit("CLM-" + i, SubmissionChannel.AUTO, "agent-1", true));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+            assertThat(futures).allMatch(f -> f.resultNow().getUpdatedClaim().getStatus() == ClaimStatus.SUBMITTED);
+            // lots of submissions waited on the gateway at once with a single remote thread behind it
+            assertThat(maxPending.get()).isGreaterThan(100);
+        } finally {
+            remote.shutdownNow();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.kkmalysa.claimmodule.domain.claim.Claim;
 import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
 import com.kkmalysa.claimmodule.domain.incident.Incident;
 import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.domain.shared.BuildResult;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
@@ -82,4 +83,50 @@ class ClaimSubmissionBuilderTest {
         assertThat(submission.getAttachmentIds()).isEmpty();
         assertThat(submission.isTermsAccepted()).isFalse();
     }
+
+    @Test
+    void autoChannel_tryBuild_reportsAllBrokenRules_withoutThrowing() {
+        BuildResult<ClaimSubmission> result = ClaimSubmissionBuilder.create()
+                .fromClaim(sampleClaim())
+                .policyNumber("PN-POL-123")
+                .attachments(List.of())
+                .submittedBy("user-1")
+                .auto()
+                .termsAccepted(false)
+                .tryBuild();
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getViolations()).containsExactly(
+                "termsAccepted must be true for AUTO channel",
+                "at least 1 attachment is required for AUTO channel");
+    }
+
+    @Test
+    void reusableBuilder_resetClearsChannelTermsAndOverrides() {
+        Claim claim = sampleClaim();
+        ClaimSubmissionBuilder.Reusable submissions = ClaimSubmissionBuilder.reusable();
+
+        ClaimSubmission auto = submissions.reset()
+                .fromClaim(claim)
+                .policyNumber("PN-POL-123")
+                .attachments(List.of("att-1"))
+                .submittedBy("user-1")
+                .auto()
+                .termsAccepted(true)
+                .build();
+        assertThat(auto.isTermsAccepted()).isTrue();
+
+        ClaimSubmission manual = submissions.reset()
+                .fromClaim(claim)
+                .policyNumber("PN-POL-123")
+                .attachments(List.of())
+                .submittedBy("user-2")
+                .manual()
+                .build();
+
+        assertThat(manual.getChannel()).isEqualTo(SubmissionChannel.MANUAL);
+        assertThat(manual.isTermsAccepted()).isFalse();
+        assertThat(manual.getSubmissionId()).isNotEqualTo(auto.getSubmissionId());
+        assertThat(auto.getSubmittedBy()).isEqualTo("user-1");
+    }
 }
@@ -0,0 +1,63 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LookupScopeTest {
+
+    @Test
+    void dependentTaskForkedFirst_theOriginalFailureIsRethrown_notTheWaitersWrapper() throws Exception {
+        try (LookupScope scope = new LookupScope()) {
+            CountDownLatch dependentWaiting = new CountDownLatch(1);
+            Future<?>[] claim = new Future<?>[1];
+
+            // like the policy lookup: waits for the claim - forked first, so it is first in fork order
+            scope.fork(() -> {
+                dependentWaiting.countDown();
+                while (claim[0] == null) Thread.onSpinWait();
+                return claim[0].get();
+            });
+            claim[0] = scope.fork(() -> {
+                dependentWaiting.await();
+                throw new IllegalArgumentException("Claim not found: CLM-404");
+            });
+
+            scope.join();
+
+            assertThatThrownBy(scope::throwIfFailed)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Claim not found: CLM-404");
+        }
+    }
+
+    @Test
+    void siblingsInterruptedByTheCancel_doNotReplaceTheFailure() throws Exception {
+        try (LookupScope scope = new LookupScope()) {
+            scope.fork(() -> {
+                Thread.sleep(60_000); // interrupted by cancelAll()
+                return null;
+            });
+            scope.fork(() -> {
+                throw new IllegalStateException("policy service down");
+            });
+
+            scope.join();
+
+            assertThatThrownBy(scope::throwIfFailed).hasMessage("policy service down");
+        }
+    }
+
+    @Test
+    void noFailure_throwIfFailedDoesNothing() throws Exception {
+        try (LookupScope scope = new LookupScope()) {
+            Future<String> value = scope.fork(() -> "ok");
+            scope.join();
+            scope.throwIfFailed();
+            assertThat(value.resultNow()).isEqualTo("ok");
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+import com.kkmalysa.claimmodule.adapters.out.attachments.FakeAttachmentProvider;
+import com.kkmalysa.claimmodule.adapters.out.persistence.InMemoryClaimRepository;
+import com.kkmalysa.claimmodule.adapters.out.policy.FakePolicyProvider;
+import com.kkmalysa.claimmodule.adapters.out.submission.InMemorySubmissionGateway;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.ports.out.AttachmentProvider;
+import com.kkmalysa.claimmodule.ports.out.ClaimRepository;
+import com.kkmalysa.claimmodule.ports.out.EventOutbox;
+import com.kkmalysa.claimmodule.ports.out.PolicyProvider;
+import com.kkmalysa.claimmodule.ports.out.SubmissionGateway;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SubmitClaimUseCaseBulkTest {
+
+    private Claim createAndStoreClaim(InMemoryClaimRepository repo, String claimId, String policyId) {
+        Incident incident = IncidentBuilder.theft()
+                .occurredAt(Instant.parse("2026-02-01T10:00:00Z"))
+                .location("Warsaw")
+                .forTheft()
+                .stolenItem("Laptop")
+                .build();
+
+        Claim claim = ClaimBuilder.fnol()
+                .policyId(policyId)
+                .incident(incident)
+                .createdBy("user-1")
+                .channel("MANUAL")
+                .claimId(claimId)
+                .createdAt(Instant.parse("2026-02-01T10:05:00Z"))
+                .build();
+
+        repo.save(claim);
+        return claim;
+    }
+
+    @Test
+    void submitAll_returnsOneOutcomePerRequest_inRequestOrder() {
+        InMemoryClaimRepository claimRepo = new InMemoryClaimRepository();
+        FakeAttachmentProvider attachmentProvider = new FakeAttachmentProvider();
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway();
+
+        createAndStoreClaim(claimRepo, "CLM-1", "POL-1");
+        createAndStoreClaim(claimRepo, "CLM-2", "POL-2");
+        attachmentProvider.put("CLM-1", List.of("att-1"));
+
+        SubmitClaimUseCase useCase = new SubmitClaimUseCase(
+                claimRepo, new FakePolicyProvider(), attachmentProvider, gateway
+        );
+
+        List<SubmissionOutcome> outcomes = useCase.submitAll(List.of(
+                new SubmissionRequest("CLM-1", SubmissionChannel.AUTO, "user-1", true),
+                new SubmissionRequest("CLM-404", SubmissionChannel.MANUAL, "agent-7", false),
+                new SubmissionRequest("CLM-2", SubmissionChannel.AUTO, "user-1", true) // no attachments
+        ));
+
+        assertThat(outcomes).hasSize(3);
+
+        assertThat(outcomes.get(0).isSuccess()).isTrue();
+        assertThat(outcomes.get(0).getResult().getSubmission().getPolicyNumber()).isEqualTo("PN-POL-1");
+        assertThat(outcomes.get(0).getResult().getUpdatedClaim().getStatus()).isEqualTo(ClaimStatus.SUBMITTED);
+
+        assertThat(outcomes.get(1).isSuccess()).isFalse();
+        assertThat(outcomes.get(1).getFailure())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Claim not found: CLM-404");
+
+        assertThat(outcomes.get(2).isSuccess()).isFalse();
+        assertThat(outcomes.get(2).getFailure())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("at least 1 attachment");
+
+        // only the valid request was sent and saved
+        assertThat(gateway.sentSubmissions()).hasSize(1);
+        assertThat(claimRepo.getById("CLM-1").orElseThrow().getStatus()).isEqualTo(ClaimStatus.SUBMITTED);
+        assertThat(claimRepo.getById("CLM-2").orElseThrow().getStatus()).isEqualTo(ClaimStatus.DRAFT);
+    }
+
+    @Test
+    void submitAll_sameClaimTwiceInOneChunk_secondIsReservedAgainstTheFirstsResult() {
+        InMemoryClaimRepository claimRepo = new InMemoryClaimRepository();
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway();
+        Claim claim = createAndStoreClaim(claimRepo, "CLM-1", "POL-1");
+
+        SubmitClaimUseCase useCase = new SubmitClaimUseCase(
+                claimRepo, new FakePolicyProvider(), new FakeAttachmentProvider(), gateway
+        );
+
+        List<SubmissionOutcome> outcomes = useCase.submitAll(List.of(
+                new SubmissionRequest("CLM-1", SubmissionChannel.MANUAL, "agent-1", false),
+                new SubmissionRequest("CLM-1", SubmissionChannel.MANUAL, "agent-2", false)
+        ));
+
+        assertThat(outcomes).allMatch(SubmissionOutcome::isSuccess);
+        assertThat(gateway.sentSubmissions()).hasSize(2);
+        Claim stored = claimRepo.getById("CLM-1").orElseThrow();
+        assertThat(stored).isSameAs(outcomes.get(1).getResult().getUpdatedClaim());
+        assertThat(stored.getVersion()).isEqualTo(claim.getVersion() + 4); // two reservations, two saves
+        assertThat(stored.getStatus()).isEqualTo(ClaimStatus.DRAFT);
+    }
+
+    @Test
+    void submitAll_usesOneBatchCallPerPort_perChunk() {
+        InMemoryClaimRepository store = new InMemoryClaimRepository();
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway();
+
+        int claimCount = SubmitClaimUseCase.BULK_CHUNK_SIZE + 1; // -> 2 chunks
+        List<SubmissionRequest> requests = new ArrayList<>();
+        for (int i = 0; i < claimCount; i++) {
+            createAndStoreClaim(store, "CLM-" + i, "POL-" + (i % 3));
+            requests.add(new SubmissionRequest("CLM-" + i, SubmissionChannel.MANUAL, "agent-7", false));
+        }
+
+        AtomicInteger singleCalls = new AtomicInteger();
+        AtomicInteger batchCalls = new AtomicInteger();
+
+        ClaimRepository claimRepo = new ClaimRepository() {
+            @Override
+            public Optional<Claim> getById(String claimId) {
+                singleCalls.incrementAndGet();
+                return store.getById(claimId);
+            }
+
+            @Override
+            public void save(Claim claim) {
+                singleCalls.incrementAndGet();
+                store.save(claim);
+            }
+
+            @Override
+            public List<Claim> findByPolicyId(String policyId) {
+                return store.findByPolicyId(policyId);
+            }
+
+            @Override
+            public List<Claim> findByStatus(ClaimStatus status) {
+                return store.findByStatus(status);
+            }
+
+            @Override
+            public List<Claim> findCreatedBetween(Instant fromInclusive, Instant toExclusive) {
+                return store.findCreatedBetween(fromInclusive, toExclusive);
+            }
+
+            @Override
+            public Map<String, Claim> getByIds(Collection<String> claimIds) {
+                batchCalls.incrementAndGet();
+                return store.getByIds(claimIds);
+            }
+
+            @Override
+            public boolean compareAndSave(long expectedVersion, Claim claim, List<DomainEvent> events) {
+                singleCalls.incrementAndGet();
+                return store.compareAndSave(expectedVersion, claim, events);
+            }
+
+            @Override
+            public Set<String> compareAndSaveAll(
+                    Map<String, Long> expectedVersions,
+                    Collection<Claim> claims,
+                    Map<String, List<DomainEvent>> eventsByClaimId
+            ) {
+                batchCalls.incrementAndGet();
+                return store.compareAndSaveAll(expectedVersions, claims, eventsByClaimId);
+            }
+
+            @Override
+            public EventOutbox outbox() {
+                return store.outbox();
+            }
+        };
+
+        FakePolicyProvider fakePolicies = new FakePolicyProvider();
+        PolicyProvider policyProvider = new PolicyProvider() {
+            @Override
+            public Optional<String> getPolicyNumber(String policyId) {
+                singleCalls.incrementAndGet();
+                return fakePolicies.getPolicyNumber(policyId);
+            }
+
+            @Override
+            public Map<String, String> getPolicyNumbers(Collection<String> policyIds) {
+                batchCalls.incrementAndGet();
+                return fakePolicies.getPolicyNumbers(policyIds);
+            }
+        };
+
+        AttachmentProvider attachmentProvider = new AttachmentProvider() {
+            @Override
+            public List<String> findAttachmentIdsForClaim(String claimId) {
+                singleCalls.incrementAndGet();
+                return List.of();
+            }
+
+            @Override
+            public Map<String, List<String>> findAttachmentIdsForClaims(Collection<String> claimIds) {
+                batchCalls.incrementAndGet();
+                return Map.of();
+            }
+        };
+
+        SubmitClaimUseCase useCase = new SubmitClaimUseCase(claimRepo, policyProvider, attachmentProvider, gateway);
+
+        List<SubmissionOutcome> outcomes = useCase.submitAll(requests);
+
+        assertThat(outcomes).hasSize(claimCount).allMatch(SubmissionOutcome::isSuccess);
+        assertThat(gateway.sentSubmissions()).hasSize(claimCount);
+        assertThat(singleCalls).hasValue(0);
+        assertThat(batchCalls).hasValue(2 * 5); // getByIds + getPolicyNumbers + attachments + compareAndSaveAll (reserve, save), per chunk
+    }
+
+    @Test
+    void submitAll_lookupFailsInOneChunk_failsOnlyThatChunk_andKeepsTheEarlierOutcomes() {
+        InMemoryClaimRepository claimRepo = new InMemoryClaimRepository();
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway();
+        int claimCount = SubmitClaimUseCase.BULK_CHUNK_SIZE + 2; // -> 2 chunks, the second one fails
+        List<SubmissionRequest> requests = new ArrayList<>();
+        for (int i = 0; i < claimCount; i++) {
+            createAndStoreClaim(claimRepo, "CLM-" + i, "POL-" + i);
+            requests.add(new SubmissionRequest("CLM-" + i, SubmissionChannel.MANUAL, "agent-1", false));
+        }
+
+        AtomicInteger batchCalls = new AtomicInteger();
+        FakePolicyProvider fakePolicies = new FakePolicyProvider();
+        PolicyProvider policyProvider = new PolicyProvider() {
+            @Override
+            public Optional<String> getPolicyNumber(String policyId) {
+                return fakePolicies.getPolicyNumber(policyId);
+            }
+
+            @Override
+            public Map<String, String> getPolicyNumbers(Collection<String> policyIds) {
+                if (batchCalls.incrementAndGet() == 2) {
+                    throw new IllegalStateException("policy service down");
+                }
+                return fakePolicies.getPolicyNumbers(policyIds);
+            }
+        };
+
+        SubmitClaimUseCase useCase = new SubmitClaimUseCase(
+                claimRepo, policyProvider, new FakeAttachmentProvider(), gateway
+        );
+
+        List<SubmissionOutcome> outcomes = useCase.submitAll(requests);
+
+        assertThat(outcomes).hasSize(claimCount);
+        assertThat(outcomes.subList(0, SubmitClaimUseCase.BULK_CHUNK_SIZE)).allMatch(SubmissionOutcome::isSuccess);
+        assertThat(outcomes.subList(SubmitClaimUseCase.BULK_CHUNK_SIZE, claimCount))
+                .allSatisfy(outcome -> assertThat(outcome.getFailure())
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessage("policy service down"));
+        assertThat(outcomes.get(claimCount - 1).getRequest().getClaimId()).isEqualTo("CLM-" + (claimCount - 1));
+
+        assertThat(gateway.sentSubmissions()).hasSize(SubmitClaimUseCase.BULK_CHUNK_SIZE);
+        assertThat(claimRepo.getById("CLM-" + (claimCount - 1)).orElseThrow().getStatus()).isEqualTo(ClaimStatus.DRAFT);
+    }
+
+    @Test
+    void submitAll_sendAndReleaseBothFail_recordsTheSendFailure_andGoesOn() {
+        InMemoryClaimRepository store = new InMemoryClaimRepository();
+        createAndStoreClaim(store, "CLM-1", "POL-1");
+        createAndStoreClaim(store, "CLM-2", "POL-2");
+
+        // batch writes work, the single write that gives a claim back does not
+        ClaimRepository claimRepo = new ClaimRepository() {
+            @Override
+            public Optional<Claim> getById(String claimId) { return store.getById(claimId); }
+
+            @Override
+            public void save(Claim claim) { store.save(claim); }
+
+            @Override
+            public List<Claim> findByPolicyId(String policyId) { return store.findByPolicyId(policyId); }
+
+            @Override
+            public List<Claim> findByStatus(ClaimStatus status) { return store.findByStatus(status); }
+
+            @Override
+            public List<Claim> findCreatedBetween(Instant fromInclusive, Instant toExclusive) {
+                return store.findCreatedBetween(fromInclusive, toExclusive);
+            }
+
+            @Override
+            public Map<String, Claim> getByIds(Collection<String> claimIds) { return store.getByIds(claimIds); }
+
+            @Override
+            public boolean compareAndSave(long expectedVersion, Claim claim, List<DomainEvent> events) {
+                throw new IllegalStateException("store down");
+            }
+
+            @Override
+            public Set<String> compareAndSaveAll(
+                    Map<String, Long> expectedVersions,
+                    Collection<Claim> claims,
+                    Map<String, List<DomainEvent>> eventsByClaimId
+            ) {
+                return store.compareAndSaveAll(expectedVersions, claims, eventsByClaimId);
+            }
+
+            @Override
+            public EventOutbox outbox() { return store.outbox(); }
+        };
+        InMemorySubmissionGateway delivered = new InMemorySubmissionGateway();
+        SubmissionGateway gateway = submission -> {
+            if (submission.getClaimId().equals("CLM-1")) throw new IllegalStateException("gateway down");
+            delivered.send(submission);
+        };
+
+        SubmitClaimUseCase useCase = new SubmitClaimUseCase(claimRepo, new FakePolicyProvider(), new FakeAttachmentProvider(), gateway);
+        List<SubmissionOutcome> outcomes = useCase.submitAll(List.of(
+                new SubmissionRequest("CLM-1", SubmissionChannel.MANUAL, "agent-1", false),
+                new SubmissionRequest("CLM-2", SubmissionChannel.MANUAL, "agent-1", false)
+        ));
+
+        assertThat(outcomes.get(0).getFailure())
+                .hasMessage("gateway down")
+                .satisfies(failure -> assertThat(failure.getSuppressed()).extracting(Throwable::getMessage).containsExactly("store down"));
+        assertThat(outcomes.get(1).isSuccess()).isTrue();
+        assertThat(delivered.sentSubmissions()).hasSize(1);
+    }
+}
@@ -0,0 +1,197 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+import com.kkmalysa.claimmodule.adapters.out.persistence.InMemoryClaimRepository;
+import com.kkmalysa.claimmodule.adapters.out.policy.FakePolicyProvider;
+import com.kkmalysa.claimmodule.adapters.out.submission.InMemorySubmissionGateway;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
+import com.kkmalysa.claimmodule.domain.events.DomainEvent;
+import com.kkmalysa.claimmodule.domain.incident.Incident;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.ports.out.AttachmentProvider;
+import com.kkmalysa.claimmodule.ports.out.ClaimRepository;
+import com.kkmalysa.claimmodule.ports.out.EventOutbox;
+import com.kkmalysa.claimmodule.ports.out.PolicyProvider;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SubmitClaimUseCaseConcurrentLookupTest {
+
+    private Claim createAndStoreClaim(InMemoryClaimRepository repo, String claimId) {
+        Incident incident = IncidentBuilder.auto()
+                .occurredAt(Instant.parse("2026-02-01T10:00:00Z"))
+                .location("Warsaw")
+                .forAuto()
+                .vin("WVWZZZ1JZXW000001")
+                .licensePlate("WI1234A")
+                .build();
+
+        Claim claim = ClaimBuilder.fnol()
+                .policyId("POL-1")
+                .incident(incident)
+                .createdBy("user-1")
+                .channel("AUTO")
+                .claimId(claimId)
+                .createdAt(Instant.parse("2026-02-01T10:05:00Z"))
+                .build();
+
+        repo.save(claim);
+        return claim;
+    }
+
+    @Test
+    void concurrentMode_runsAttachmentLookup_alongsideClaimAndPolicyLookups() {
+        InMemoryClaimRepository store = new InMemoryClaimRepository();
+        createAndStoreClaim(store, "CLM-1");
+
+        // each lookup waits until the other one has started - only passes if they overlap
+        CountDownLatch claimLookupStarted = new CountDownLatch(1);
+        CountDownLatch attachmentLookupStarted = new CountDownLatch(1);
+
+        ClaimRepository claimRepo = new ClaimRepository() {
+            @Override
+            public Optional<Claim> getById(String claimId) {
+                claimLookupStarted.countDown();
+                await(attachmentLookupStarted);
+                return store.getById(claimId);
+            }
+
+            @Override
+            public void save(Claim claim) {
+                store.save(claim);
+            }
+
+            @Override
+            public boolean compareAndSave(long expectedVersion, Claim claim, List<DomainEvent> events) {
+                return store.compareAndSave(expectedVersion, claim, events);
+            }
+
+            @Override
+            public EventOutbox outbox() {
+                return store.outbox();
+            }
+
+            @Override
+            public List<Claim> findByPolicyId(String policyId) {
+                return store.findByPolicyId(policyId);
+            }
+
+            @Override
+            public List<Claim> findByStatus(ClaimStatus status) {
+                return store.findByStatus(status);
+            }
+
+            @Override
+            public List<Claim> findCreatedBetween(Instant fromInclusive, Instant toExclusive) {
+                return store.findCreatedBetween(fromInclusive, toExclusive);
+            }
+        };
+
+        AttachmentProvider attachmentProvider = claimId -> {
+            attachmentLookupStarted.countDown();
+            await(claimLookupStarted);
+            return List.of("att-1");
+        };
+
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway();
+        SubmitClaimUseCase useCase = new SubmitClaimUseCase(
+                claimRepo, new FakePolicyProvider(), attachmentProvider, gateway, LookupMode.CONCURRENT
+        );
+
+        SubmissionResult result = useCase.submit("CLM-1", SubmissionChannel.AUTO, "user-1", true);
+
+        assertThat(result.getSubmission().getPolicyNumber()).isEqualTo("PN-POL-1");
+        assertThat(result.getSubmission().getAttachmentIds()).containsExactly("att-1");
+        assertThat(result.getUpdatedClaim().getStatus()).isEqualTo(ClaimStatus.SUBMITTED);
+        assertThat(gateway.sentSubmissions()).hasSize(1);
+    }
+
+    @Test
+    void concurrentMode_failingLookup_cancelsTheOthers_andRethrowsOriginalException() throws InterruptedException {
+        CountDownLatch attachmentLookupStarted = new CountDownLatch(1);
+        CountDownLatch attachmentLookupInterrupted = new CountDownLatch(1);
+
+        InMemoryClaimRepository store = new InMemoryClaimRepository(); // empty -> claim not found
+        ClaimRepository claimRepo = new ClaimRepository() {
+            @Override
+            public Optional<Claim> getById(String claimId) {
+                await(attachmentLookupStarted); // fail only once the slow lookup is in flight
+                return store.getById(claimId);
+            }
+
+            @Override
+            public void save(Claim claim) {
+                store.save(claim);
+            }
+
+            @Override
+            public boolean compareAndSave(long expectedVersion, Claim claim, List<DomainEvent> events) {
+                return store.compareAndSave(expectedVersion, claim, events);
+            }
+
+            @Override
+            public EventOutbox outbox() {
+                return store.outbox();
+            }
+
+            @Override
+            public List<Claim> findByPolicyId(String policyId) {
+                return store.findByPolicyId(policyId);
+            }
+
+            @Override
+            public List<Claim> findByStatus(ClaimStatus status) {
+                return store.findByStatus(status);
+            }
+
+            @Override
+            public List<Claim> findCreatedBetween(Instant fromInclusive, Instant toExclusive) {
+                return store.findCreatedBetween(fromInclusive, toExclusive);
+            }
+        };
+
+        AttachmentProvider attachmentProvider = claimId -> {
+            attachmentLookupStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1)); // slow remote call
+                return List.of();
+            } catch (InterruptedException e) {
+                attachmentLookupInterrupted.countDown();
+                throw new IllegalStateException("cancelled", e);
+            }
+        };
+
+        PolicyProvider policyProvider = policyId -> {
+            throw new AssertionError("policy lookup must not run without a claim");
+        };
+
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway();
+        SubmitClaimUseCase useCase = new SubmitClaimUseCase(
+                claimRepo, policyProvider, attachmentProvider, gateway, LookupMode.CONCURRENT
+        );
+
+        assertThatThrownBy(() -> useCase.submit("CLM-404", SubmissionChannel.AUTO, "user-1", true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Claim not found: CLM-404");
+
+        assertThat(attachmentLookupInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(gateway.sentSubmissions()).isEmpty();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) throw new AssertionError("lookups did not run concurrently");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
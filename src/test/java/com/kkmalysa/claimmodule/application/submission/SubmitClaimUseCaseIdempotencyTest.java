@@ -0,0 +1,194 @@
+package com.kkmalysa.claimmodule.application.submission;
+
+import com.kkmalysa.claimmodule.adapters.out.attachments.FakeAttachmentProvider;
+import com.kkmalysa.claimmodule.adapters.out.persistence.InMemoryClaimRepository;
+import com.kkmalysa.claimmodule.adapters.out.policy.FakePolicyProvider;
+import com.kkmalysa.claimmodule.domain.claim.Claim;
+import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
+import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.ports.out.SubmissionGateway;
+import com.kkmalysa.claimmodule.ports.out.SubmissionMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SubmitClaimUseCaseIdempotencyTest {
+
+    private final InMemoryClaimRepository claims = new InMemoryClaimRepository();
+    private final AtomicInteger sends = new AtomicInteger();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-02-01T10:00:00Z"));
+
+    private SubmitClaimUseCase useCase(SubmissionGateway gateway, IdempotencyKeyStore keys) {
+        return new SubmitClaimUseCase(
+                claims, new FakePolicyProvider(), new FakeAttachmentProvider(), gateway,
+                LookupMode.SEQUENTIAL, SubmissionMetrics.NONE, keys
+        );
+    }
+
+    private SubmitClaimUseCase useCase(IdempotencyKeyStore keys) {
+        return useCase(submission -> sends.incrementAndGet(), keys);
+    }
+
+    private String storedClaim(String claimId) {
+        Claim claim = ClaimBuilder.fnol()
+                .policyId("POL-1")
+                .incident(IncidentBuilder.theft()
+                        .occurredAt(Instant.parse("2026-02-01T09:00:00Z"))
+                        .location("Warsaw")
+                        .forTheft()
+                        .stolenItem("Laptop")
+                        .build())
+                .createdBy("user-1")
+                .channel("MANUAL")
+                .claimId(claimId)
+                .build();
+        claims.save(claim);
+        return claimId;
+    }
+
+    @Test
+    void retryWithSameKey_returnsFirstResult_withoutSendingAgain() {
+        IdempotencyKeyStore keys = new IdempotencyKeyStore(100, Duration.ofMinutes(10), clock);
+        SubmitClaimUseCase useCase = useCase(keys);
+        String claimId = storedClaim("CLM-1");
+
+        SubmissionResult first = useCase.submit("key-1", claimId, SubmissionChannel.MANUAL, "user-1", false);
+        SubmissionResult retry = useCase.submit("key-1", claimId, SubmissionChannel.MANUAL, "user-1", false);
+
+        assertThat(retry).isSameAs(first);
+        assertThat(sends).hasValue(1);
+        assertThat(keys.replayCount()).isEqualTo(1);
+        assertThat(claims.getById(claimId).orElseThrow().getVersion()).isEqualTo(first.getUpdatedClaim().getVersion());
+    }
+
+    @Test
+    void keyExpires_afterTimeToLive() {
+        IdempotencyKeyStore keys = new IdempotencyKeyStore(100, Duration.ofMinutes(10), clock);
+        SubmitClaimUseCase useCase = useCase(keys);
+        String claimId = storedClaim("CLM-1");
+
+        useCase.submit("key-1", claimId, SubmissionChannel.MANUAL, "user-1", false);
+        clock.advance(Duration.ofMinutes(11));
+        useCase.submit("key-1", claimId, SubmissionChannel.MANUAL, "user-1", false);
+
+        assertThat(sends).hasValue(2);
+    }
+
+    @Test
+    void concurrentDuplicates_waitForTheFirstCall() throws Exception {
+        CountDownLatch firstSendStarted = new CountDownLatch(1);
+        CountDownLatch releaseSend = new CountDownLatch(1);
+        IdempotencyKeyStore keys = new IdempotencyKeyStore(100, Duration.ofMinutes(10), clock);
+        SubmitClaimUseCase useCase = useCase(submission -> {
+            sends.incrementAndGet();
+            firstSendStarted.countDown();
+            try {
+                releaseSend.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, keys);
+        String claimId = storedClaim("CLM-1");
+
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            Future<SubmissionResult> first = pool.submit(() -> useCase.submit("key-1", claimId, SubmissionChannel.MANUAL, "user-1", false));
+            assertThat(firstSendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<SubmissionResult> second = pool.submit(() -> useCase.submit("key-1", claimId, SubmissionChannel.MANUAL, "user-1", false));
+            Future<SubmissionResult> third = pool.submit(() -> useCase.submit("key-1", claimId, SubmissionChannel.MANUAL, "user-1", false));
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (keys.waitCount() < 2 && System.nanoTime() < deadline) Thread.sleep(1);
+            releaseSend.countDown();
+
+            assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+            assertThat(third.get(5, TimeUnit.SECONDS)).isSameAs(first.get());
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(sends).hasValue(1);
+        assertThat(keys.waitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void failure_isNotRemembered_soARetryRunsAgain() {
+        IdempotencyKeyStore keys = new IdempotencyKeyStore(100, Duration.ofMinutes(10), clock);
+        SubmitClaimUseCase useCase = useCase(keys);
+
+        assertThatThrownBy(() -> useCase.submit("key-1", "CLM-1", SubmissionChannel.MANUAL, "user-1", false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Claim not found");
+
+        storedClaim("CLM-1");
+        useCase.submit("key-1", "CLM-1", SubmissionChannel.MANUAL, "user-1", false);
+        assertThat(sends).hasValue(1);
+    }
+
+    @Test
+    void anErrorInTheFirstCall_releasesTheKey_insteadOfBlockingRetriesForever() {
+        IdempotencyKeyStore keys = new IdempotencyKeyStore(100, Duration.ofMinutes(10), clock);
+        SubmissionRequest request = new SubmissionRequest("CLM-1", SubmissionChannel.MANUAL, "user-1", false);
+
+        assertThatThrownBy(() -> keys.execute("key-1", request, () -> { throw new StackOverflowError("deep"); }))
+                .isInstanceOf(StackOverflowError.class);
+        assertThat(keys.size()).isZero();
+
+        AtomicInteger runs = new AtomicInteger();
+        keys.execute("key-1", request, () -> {
+            runs.incrementAndGet();
+            return null;
+        });
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void sameKey_forADifferentRequest_isRejected() {
+        SubmitClaimUseCase useCase = useCase(new IdempotencyKeyStore(100, Duration.ofMinutes(10), clock));
+        useCase.submit("key-1", storedClaim("CLM-1"), SubmissionChannel.MANUAL, "user-1", false);
+
+        assertThatThrownBy(() -> useCase.submit("key-1", storedClaim("CLM-2"), SubmissionChannel.MANUAL, "user-1", false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("different request");
+        assertThat(sends).hasValue(1);
+    }
+
+    @Test
+    void store_isBounded_oldestCompletedKeysEvictedFirst() {
+        IdempotencyKeyStore keys = new IdempotencyKeyStore(2, Duration.ofMinutes(10), clock);
+        SubmitClaimUseCase useCase = useCase(keys);
+        String claimId = storedClaim("CLM-1");
+
+        for (int i = 1; i <= 3; i++) {
+            useCase.submit("key-" + i, claimId, SubmissionChannel.MANUAL, "user-1", false);
+        }
+        assertThat(keys.size()).isEqualTo(2);
+        assertThat(keys.evictionCount()).isEqualTo(1);
+
+        useCase.submit("key-3", claimId, SubmissionChannel.MANUAL, "user-1", false); // still remembered
+        assertThat(sends).hasValue(3);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) { this.now = now; }
+
+        void advance(Duration duration) { now = now.plus(duration); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+}
@@ -9,10 +9,14 @@ import com.kkmalysa.claimmodule.domain.claim.ClaimBuilder;
 import com.kkmalysa.claimmodule.domain.claim.ClaimStatus;
 import com.kkmalysa.claimmodule.domain.incident.Incident;
 import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.ports.out.PolicyProvider;
+import com.kkmalysa.claimmodule.ports.out.SubmissionGateway;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -100,4 +104,89 @@ class SubmitClaimUseCaseTest {
         Claim updated = claimRepo.getById(claim.getClaimId()).orElseThrow();
         assertThat(updated.getStatus()).isEqualTo(ClaimStatus.DRAFT);
     }
+
+    @Test
+    void submit_failsCleanly_whenClaimWasModifiedConcurrently() {
+        InMemoryClaimRepository claimRepo = new InMemoryClaimRepository();
+        FakePolicyProvider policyProvider = new FakePolicyProvider();
+        FakeAttachmentProvider attachmentProvider = new FakeAttachmentProvider();
+
+        Claim claim = createAndStoreClaim(claimRepo, "CLM-3", "POL-3");
+        attachmentProvider.put(claim.getClaimId(), List.of("att-1"));
+
+        // another writer (e.g. a back-office reviewer) changes the claim between our load and our reservation
+        Claim concurrentChange = claim.withStatus(ClaimStatus.IN_REVIEW);
+        PolicyProvider racingPolicies = policyId -> {
+            claimRepo.save(concurrentChange);
+            return policyProvider.getPolicyNumber(policyId);
+        };
+        InMemorySubmissionGateway gateway = new InMemorySubmissionGateway();
+
+        SubmitClaimUseCase useCase = new SubmitClaimUseCase(
+                claimRepo, racingPolicies, attachmentProvider, gateway
+        );
+
+        assertThatThrownBy(() -> useCase.submit(
+                claim.getClaimId(),
+                SubmissionChannel.AUTO,
+                "user-1",
+                true
+        )).isInstanceOf(ClaimVersionConflictException.class)
+                .hasMessageContaining("CLM-3");
+
+        // the other writer's change was not overwritten
+        Claim stored = claimRepo.getById(claim.getClaimId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(ClaimStatus.IN_REVIEW);
+        assertThat(stored.getVersion()).isEqualTo(claim.getVersion() + 1);
+        // the conflict was found before sending - nothing went out
+        assertThat(gateway.sentSubmissions()).isEmpty();
+    }
+
+    @Test
+    void submit_sameClaimTwiceAtOnce_onlyOneIsSent() {
+        InMemoryClaimRepository claimRepo = new InMemoryClaimRepository();
+        FakeAttachmentProvider attachmentProvider = new FakeAttachmentProvider();
+        Claim claim = createAndStoreClaim(claimRepo, "CLM-4", "POL-4");
+        attachmentProvider.put(claim.getClaimId(), List.of("att-1"));
+
+        // the second submit runs while the first one is sending - both loaded the same version before
+        List<ClaimSubmission> sent = new ArrayList<>();
+        AtomicReference<SubmitClaimUseCase> useCase = new AtomicReference<>();
+        AtomicReference<Throwable> secondFailure = new AtomicReference<>();
+        SubmissionGateway gateway = submission -> {
+            sent.add(submission);
+            if (sent.size() == 1) {
+                try {
+                    useCase.get().submit(claim.getClaimId(), SubmissionChannel.AUTO, "user-2", true);
+                } catch (RuntimeException e) {
+                    secondFailure.set(e);
+                }
+            }
+        };
+        useCase.set(new SubmitClaimUseCase(claimRepo, new FakePolicyProvider(), attachmentProvider, gateway));
+
+        SubmissionResult first = useCase.get().submit(claim.getClaimId(), SubmissionChannel.AUTO, "user-1", true);
+
+        assertThat(sent).hasSize(1);
+        assertThat(secondFailure.get())
+                .isInstanceOf(ClaimVersionConflictException.class)
+                .hasMessageContaining("already being submitted");
+        assertThat(claimRepo.getById(claim.getClaimId()).orElseThrow()).isSameAs(first.getUpdatedClaim());
+        assertThat(first.getUpdatedClaim().getStatus()).isEqualTo(ClaimStatus.SUBMITTED);
+    }
+
+    @Test
+    void submit_failedSend_releasesTheClaim() {
+        InMemoryClaimRepository claimRepo = new InMemoryClaimRepository();
+        FakeAttachmentProvider attachmentProvider = new FakeAttachmentProvider();
+        Claim claim = createAndStoreClaim(claimRepo, "CLM-5", "POL-5");
+        attachmentProvider.put(claim.getClaimId(), List.of("att-1"));
+        SubmissionGateway failing = submission -> { throw new IllegalStateException("core is down"); };
+
+        SubmitClaimUseCase useCase = new SubmitClaimUseCase(claimRepo, new FakePolicyProvider(), attachmentProvider, failing);
+
+        assertThatThrownBy(() -> useCase.submit(claim.getClaimId(), SubmissionChannel.AUTO, "user-1", true))
+                .hasMessage("core is down");
+        assertThat(claimRepo.getById(claim.getClaimId()).orElseThrow().getStatus()).isEqualTo(claim.getStatus());
+    }
 }
@@ -2,11 +2,14 @@ package com.kkmalysa.claimmodule.domain.claim;
 
 import com.kkmalysa.claimmodule.domain.incident.Incident;
 import com.kkmalysa.claimmodule.domain.incident.IncidentBuilder;
+import com.kkmalysa.claimmodule.domain.shared.BuildResult;
+import com.kkmalysa.claimmodule.domain.shared.CompactId;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -52,6 +55,38 @@ class ClaimBuilderTest {
 
         assertEquals("agent-1", claim.getCreatedBy());
         assertEquals("MANUAL", claim.getChannel());
+        assertEquals(0, claim.getVersion());
+    }
+
+    @Test
+    void withStatus_createsNextRevision() {
+        Claim claim = ClaimBuilder.fnol(Clock.fixed(Instant.parse("2026-01-27T12:00:00Z"), ZoneOffset.UTC))
+                .policyId("POL-010")
+                .incident(sampleIncidentAuto())
+                .createdBy("agent-1")
+                .channel("MANUAL")
+                .build();
+
+        Claim submitted = claim.withStatus(ClaimStatus.SUBMITTED);
+
+        assertEquals(ClaimStatus.SUBMITTED, submitted.getStatus());
+        assertEquals(claim.getVersion() + 1, submitted.getVersion());
+        assertEquals(ClaimStatus.DRAFT, claim.getStatus()); // original untouched
+    }
+
+    @Test
+    void shouldAllowRestoringStatusAndVersion() {
+        Claim claim = ClaimBuilder.fnol(Clock.fixed(Instant.parse("2026-01-27T12:00:00Z"), ZoneOffset.UTC))
+                .policyId("POL-011")
+                .incident(sampleIncidentAuto())
+                .createdBy("agent-1")
+                .channel("AUTO")
+                .status(ClaimStatus.APPROVED)
+                .version(7)
+                .build();
+
+        assertEquals(ClaimStatus.APPROVED, claim.getStatus());
+        assertEquals(7, claim.getVersion());
     }
 
     @Test
@@ -192,5 +227,91 @@ class ClaimBuilderTest {
 
         assertEquals("createdAt", ex.getMessage());
     }
-}
 
+    @Test
+    void repeatedAttributes_shareOneInstanceAcrossClaims() {
+        Claim first = ClaimBuilder.fnol()
+                .policyId(new String("POL-001"))
+                .incident(sampleIncidentAuto())
+                .createdBy(new String("agent-1"))
+                .channel(new String("MANUAL"))
+                .build();
+        Claim second = ClaimBuilder.fnol()
+                .policyId(new String("POL-001"))
+                .incident(sampleIncidentAuto())
+                .createdBy(new String("agent-1"))
+                .channel(new String("MANUAL"))
+                .build();
+
+        assertSame(first.getPolicyId(), second.getPolicyId());
+        assertSame(first.getCreatedBy(), second.getCreatedBy());
+        assertSame(first.getChannel(), second.getChannel());
+        assertSame(first.getIncident().getLocation(), second.getIncident().getLocation());
+        assertNotSame(first.getClaimId(), second.getClaimId());
+    }
+
+    @Test
+    void generatedClaimId_comesFromThePluggedIdGenerator() {
+        Claim claim = ClaimBuilder.fnol(() -> new CompactId(1, 2))
+                .policyId("POL-001")
+                .incident(sampleIncidentAuto())
+                .createdBy("agent-1")
+                .channel("MANUAL")
+                .build();
+
+        assertEquals("00000000-0000-0001-0000-000000000002", claim.getClaimId());
+        assertEquals(7, CompactId.parse(ClaimBuilder.fnol()
+                .policyId("POL-001")
+                .incident(sampleIncidentAuto())
+                .createdBy("agent-1")
+                .channel("MANUAL")
+                .build()
+                .getClaimId()).version());
+    }
+
+    @Test
+    void tryBuildShouldReportUnknownChannelAsViolation() {
+        Clock clock = Clock.fixed(Instant.parse("2026-01-27T12:00:00Z"), ZoneOffset.UTC);
+
+        BuildResult<Claim> result = ClaimBuilder.fnol(clock)
+                .policyId("POL-004")
+                .incident(sampleIncidentAuto())
+                .createdBy("agent-3")
+                .channel("EMAIL")
+                .tryBuild();
+
+        assertFalse(result.isValid());
+        assertEquals(List.of("Unknown channel: EMAIL"), result.getViolations());
+    }
+
+    @Test
+    void reusableBuilder_resetDropsTheOverridesOfThePreviousClaim() {
+        ClaimBuilder.Reusable claims = ClaimBuilder.reusable();
+        Incident incident = sampleIncidentAuto();
+
+        Claim imported = claims.reset()
+                .policyId("POL-001")
+                .incident(incident)
+                .createdBy("agent-1")
+                .channel("MANUAL")
+                .claimId("CLM-IMPORTED")
+                .status(ClaimStatus.SUBMITTED)
+                .version(7)
+                .build();
+        assertEquals("CLM-IMPORTED", imported.getClaimId());
+
+        Claim fresh = claims.reset()
+                .policyId("POL-002")
+                .incident(incident)
+                .createdBy("agent-2")
+                .channel("MANUAL")
+                .build();
+
+        assertNotEquals("CLM-IMPORTED", fresh.getClaimId());
+        assertEquals(ClaimStatus.DRAFT, fresh.getStatus());
+        assertEquals(0, fresh.getVersion());
+        assertEquals("POL-002", fresh.getPolicyId());
+        // the first claim is immutable - reusing the builder did not touch it
+        assertEquals("POL-001", imported.getPolicyId());
+    }
+}
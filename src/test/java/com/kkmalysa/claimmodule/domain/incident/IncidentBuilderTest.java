@@ -1,8 +1,12 @@
 package com.kkmalysa.claimmodule.domain.incident;
 
+import com.kkmalysa.claimmodule.domain.shared.BuildResult;
+import com.kkmalysa.claimmodule.domain.shared.Rule;
+import com.kkmalysa.claimmodule.domain.shared.RuleSet;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,9 +28,26 @@ class IncidentBuilderTest {
         assertEquals(IncidentType.AUTO, incident.getIncidentType());
         assertEquals(now, incident.getOccurredAt());
         assertEquals("Warsaw", incident.getLocation());
-        assertEquals("Minor crash", incident.getDescription().orElseThrow());
-        assertEquals("WVWZZZ1JZXW000001", incident.getVin().orElseThrow());
-        assertEquals("WX12345", incident.getLicensePlate().orElseThrow());
+        assertEquals("Minor crash", incident.getDescription());
+        AutoDetails auto = assertInstanceOf(AutoDetails.class, incident);
+        assertEquals("WVWZZZ1JZXW000001", auto.getVin());
+        assertEquals("WX12345", auto.getLicensePlate());
+    }
+
+    @Test
+    void shouldBuildTheftIncidentWithoutOptionalFields() {
+        Incident incident = IncidentBuilder.theft()
+                .occurredAt(Instant.parse("2026-01-27T10:15:30Z"))
+                .location("Warsaw")
+                .forTheft()
+                .stolenItem("Bike")
+                .build();
+
+        TheftDetails theft = assertInstanceOf(TheftDetails.class, incident);
+        assertEquals(IncidentType.THEFT, theft.getIncidentType());
+        assertEquals("Bike", theft.getStolenItem());
+        assertNull(theft.getPoliceReportNumber());
+        assertNull(theft.getDescription());
     }
 
     @Test
@@ -71,4 +92,93 @@ class IncidentBuilderTest {
 
         assertTrue(ex.getMessage().contains("This builder is for AUTO"));
     }
+
+    @Test
+    void tryBuildShouldReturnEveryViolationInsteadOfThrowing() {
+        BuildResult<Incident> result = IncidentBuilder.auto()
+                .location("Warsaw")
+                .forAuto()
+                .tryBuild();
+
+        assertFalse(result.isValid());
+        assertEquals(List.of("occurredAt is required", "vin is required for AUTO", "licensePlate is required for AUTO"),
+                result.getViolations());
+        assertThrows(IllegalStateException.class, result::get);
+    }
+
+    @Test
+    void tryBuildShouldReturnTheIncidentWhenValid() {
+        BuildResult<Incident> result = IncidentBuilder.theft()
+                .occurredAt(Instant.parse("2026-02-01T10:00:00Z"))
+                .location("Warsaw")
+                .forTheft()
+                .stolenItem("bike")
+                .tryBuild();
+
+        assertTrue(result.isValid());
+        assertTrue(result.getViolations().isEmpty());
+        assertEquals("bike", ((TheftDetails) result.get()).getStolenItem());
+    }
+
+    @Test
+    void shouldApplyCustomRulesPassedToOf() {
+        RuleSet<IncidentType, IncidentDraft> insurerRules = IncidentRules.DEFAULT.toBuilder()
+                .when(IncidentType.THEFT, Rule.requireText("policeReportNumber is required for THEFT", IncidentDraft::getPoliceReportNumber))
+                .compile();
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () ->
+                IncidentBuilder.of(IncidentType.THEFT, insurerRules)
+                        .occurredAt(Instant.now())
+                        .location("Warsaw")
+                        .forTheft()
+                        .stolenItem("bike")
+                        .build()
+        );
+        assertEquals("policeReportNumber is required for THEFT", ex.getMessage());
+
+        // the default table is untouched
+        assertTrue(IncidentBuilder.of(IncidentType.THEFT)
+                .occurredAt(Instant.now())
+                .location("Warsaw")
+                .forTheft()
+                .stolenItem("bike")
+                .tryBuild()
+                .isValid());
+    }
+
+    @Test
+    void reusableBuilder_resetClearsThePreviousIncident() {
+        IncidentBuilder.Reusable incidents = IncidentBuilder.reusable();
+
+        Incident auto = incidents.reset(IncidentType.AUTO)
+                .occurredAt(Instant.now())
+                .location("Warsaw")
+                .description("Minor crash")
+                .forAuto()
+                .vin("WVWZZZ1JZXW000001")
+                .licensePlate("WX12345")
+                .build();
+        assertEquals(IncidentType.AUTO, auto.getIncidentType());
+
+        // nothing carried over - location, description and the type all come from the new run
+        BuildResult<Incident> theft = incidents.reset(IncidentType.THEFT)
+                .occurredAt(Instant.now())
+                .forTheft()
+                .stolenItem("bike")
+                .tryBuild();
+        assertEquals(List.of("location is required"), theft.getViolations());
+
+        assertThrows(IllegalStateException.class, () -> incidents.reset(IncidentType.THEFT).forAuto());
+    }
+
+    @Test
+    void reusableBuilder_isConfinedToItsThread() throws Exception {
+        IncidentBuilder.Reusable incidents = IncidentBuilder.reusable();
+
+        Thread other = Thread.ofVirtual().start(() ->
+                assertThrows(IllegalStateException.class, () -> incidents.reset(IncidentType.AUTO)));
+        other.join();
+
+        assertNotNull(incidents.reset(IncidentType.AUTO)); // the owner still can
+    }
 }
@@ -0,0 +1,53 @@
+package com.kkmalysa.claimmodule.domain.incident;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Instance sizes measured with JOL for the current VM (compressed oops or not).
+ * The old Incident had a type plus ten reference fields for every type - LegacyIncident below mirrors it.
+ */
+class IncidentFootprintTest {
+
+    @Test
+    void everyIncidentType_isSmallerThanTheFlatLayout() {
+        long legacy = instanceSize(LegacyIncident.class);
+
+        for (Class<? extends Incident> type : List.of(AutoDetails.class, TheftDetails.class, PropertyDetails.class, InjuryDetails.class)) {
+            long size = instanceSize(type);
+            assertTrue(size < legacy, type.getSimpleName() + " takes " + size + " bytes, flat layout " + legacy);
+        }
+    }
+
+    @Test
+    void incident_hasNoSlotsForOtherTypes() {
+        // occurredAt, location, description + at most two type specific fields
+        assertEquals(3, ClassLayout.parseClass(Incident.class).fields().size());
+        assertTrue(ClassLayout.parseClass(AutoDetails.class).fields().size() <= 5);
+        assertTrue(ClassLayout.parseClass(PropertyDetails.class).fields().size() <= 4);
+    }
+
+    private static long instanceSize(Class<?> type) {
+        return ClassLayout.parseClass(type).instanceSize();
+    }
+
+    @SuppressWarnings("unused")
+    private static final class LegacyIncident {
+        IncidentType incidentType;
+        Instant occurredAt;
+        String location;
+        String description;
+        String vin;
+        String licensePlate;
+        String stolenItem;
+        String policeReportNumber;
+        String propertyAddress;
+        String injuredPerson;
+        String medicalReportNumber;
+    }
+}
@@ -0,0 +1,73 @@
+package com.kkmalysa.claimmodule.domain.shared;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RuleSetTest {
+
+    private enum Kind { CAR, HOUSE }
+
+    private static final class Row {
+        final Kind kind;
+        final String owner;
+        final String plate;
+        final String address;
+
+        Row(Kind kind, String owner, String plate, String address) {
+            this.kind = kind;
+            this.owner = owner;
+            this.plate = plate;
+            this.address = address;
+        }
+    }
+
+    private static final RuleSet<Kind, Row> RULES = RuleSet.<Kind, Row>builder(Kind.class)
+            .always(Rule.requireText("owner is required", row -> row.owner))
+            .when(Kind.CAR, Rule.requireText("plate is required", row -> row.plate))
+            .when(Kind.HOUSE, Rule.requireText("address is required", row -> row.address))
+            .compile();
+
+    @Test
+    void validate_reportsEveryBrokenRuleOfTheKey_commonOnesFirst() {
+        assertThat(RULES.validate(Kind.CAR, new Row(Kind.CAR, " ", null, null)))
+                .containsExactly("owner is required", "plate is required");
+        assertThat(RULES.validate(Kind.HOUSE, new Row(Kind.HOUSE, "Ann", "WI1234A", null)))
+                .containsExactly("address is required");
+        assertThat(RULES.validate(Kind.CAR, new Row(Kind.CAR, "Ann", "WI1234A", null))).isEmpty();
+        assertThat(RULES.ruleCount(Kind.CAR)).isEqualTo(2);
+    }
+
+    @Test
+    void validateAll_givesTheSameAnswerAsValidate_inInputOrder() {
+        List<Row> rows = List.of(
+                new Row(Kind.HOUSE, "Ann", null, "Main St 1"),
+                new Row(Kind.CAR, null, null, null),
+                new Row(Kind.HOUSE, null, null, null),
+                new Row(Kind.CAR, "Bob", "WI1234A", null)
+        );
+
+        List<List<String>> violations = RULES.validateAll(rows, row -> row.kind);
+
+        assertThat(violations).hasSize(4);
+        for (int i = 0; i < rows.size(); i++) {
+            assertThat(violations.get(i)).isEqualTo(RULES.validate(rows.get(i).kind, rows.get(i)));
+        }
+        assertThat(violations.get(0)).isEmpty();
+        assertThat(violations.get(2)).containsExactly("owner is required", "address is required");
+    }
+
+    @Test
+    void toBuilder_addsRulesToACopy_theOriginalSetIsUnchanged() {
+        RuleSet<Kind, Row> strict = RULES.toBuilder()
+                .when(Kind.CAR, Rule.require("plate must be Polish", row -> row.plate != null && row.plate.startsWith("W")))
+                .compile();
+        Row foreignCar = new Row(Kind.CAR, "Ann", "B-XY 123", null);
+
+        assertThat(strict.validate(Kind.CAR, foreignCar)).containsExactly("plate must be Polish");
+        assertThat(RULES.validate(Kind.CAR, foreignCar)).isEmpty();
+        assertThat(strict.ruleCount(Kind.HOUSE)).isEqualTo(RULES.ruleCount(Kind.HOUSE));
+    }
+}
@@ -0,0 +1,95 @@
+package com.kkmalysa.claimmodule.domain.shared;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StringInternerTest {
+
+    @Test
+    void equalStrings_resolveToTheFirstInstance_andCountTheSavedBytes() {
+        StringInterner interner = new StringInterner(64, 64);
+        String first = new String("MANUAL");
+        String duplicate = new String("MANUAL");
+
+        assertThat(interner.intern(first)).isSameAs(first);
+        assertThat(interner.intern(duplicate)).isSameAs(first);
+        assertThat(interner.intern(first)).isSameAs(first); // same instance again - a hit, but nothing saved
+
+        assertThat(interner.hitCount()).isEqualTo(2);
+        assertThat(interner.missCount()).isEqualTo(1);
+        assertThat(interner.hitRate()).isEqualTo(2.0 / 3);
+        assertThat(interner.bytesSaved()).isEqualTo(StringInterner.estimatedSize("MANUAL")).isPositive();
+    }
+
+    @Test
+    void longStrings_andNull_arePassedThrough() {
+        StringInterner interner = new StringInterner(64, 8);
+        String description = new String("Bike stolen from the garage");
+
+        assertThat(interner.intern(description)).isSameAs(description);
+        assertThat(interner.intern(new String("Bike stolen from the garage"))).isNotSameAs(description);
+        assertThat(interner.intern(null)).isNull();
+
+        assertThat(interner.skippedCount()).isEqualTo(2);
+        assertThat(interner.hitRate()).isZero();
+    }
+
+    @Test
+    void table_isBounded_andStillReturnsEqualValues() {
+        StringInterner interner = new StringInterner(16, 64);
+
+        for (int i = 0; i < 10_000; i++) {
+            String value = "POL-" + i;
+            assertThat(interner.intern(value)).isEqualTo(value);
+        }
+
+        assertThat(interner.capacity()).isEqualTo(16);
+        assertThat(interner.missCount()).isEqualTo(10_000);
+    }
+
+    @Test
+    void concurrentCallers_alwaysGetAnEqualString_andMostlyTheSameInstance() throws Exception {
+        StringInterner interner = new StringInterner(1024, 64);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        Set<String> instances = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 10_000; i++) {
+                        String interned = interner.intern(new String("AUTO"));
+                        if (!interned.equals("AUTO")) throw new AssertionError(interned);
+                        instances.add(identity(interned));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // a race on the first insert may leave a few losers, never one per call
+        assertThat(instances.size()).isLessThanOrEqualTo(threads);
+        assertThat(interner.hitCount()).isGreaterThanOrEqualTo(80_000 - threads);
+    }
+
+    private static String identity(String value) {
+        return Integer.toHexString(System.identityHashCode(value));
+    }
+}
@@ -0,0 +1,115 @@
+package com.kkmalysa.claimmodule.domain.shared;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-02-01T10:00:00.123Z"));
+
+    @Test
+    void ids_areUuidV7_carryTheirCreationTime_andRenderAsCanonicalUuids() {
+        CompactId id = new UuidV7Generator(clock).next();
+
+        UUID uuid = UUID.fromString(id.toString());
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.timestamp()).isEqualTo(Instant.parse("2026-02-01T10:00:00.123Z"));
+        assertThat(CompactId.parse(id.toString())).isEqualTo(id);
+        assertThat(CompactId.fromBytes(id.toBytes())).isEqualTo(id);
+    }
+
+    @Test
+    void randomBits_differAcrossBufferRefills_andKeepTheVariant() {
+        UuidV7Generator generator = new UuidV7Generator(clock);
+        Set<Long> lows = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) { // a stripe buffer holds 64 values
+            CompactId id = generator.next();
+            assertThat(UUID.fromString(id.toString()).variant()).isEqualTo(2);
+            lows.add(id.low());
+        }
+        assertThat(lows).hasSize(1_000);
+    }
+
+    @Test
+    void ids_keepIncreasing_whenTheClockStandsStillOrGoesBack() {
+        UuidV7Generator generator = new UuidV7Generator(clock);
+        List<CompactId> ids = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) ids.add(generator.next()); // > 4096 in one millisecond
+        clock.advance(Duration.ofSeconds(-5));
+        for (int i = 0; i < 10; i++) ids.add(generator.next());
+        clock.advance(Duration.ofSeconds(10));
+        ids.add(generator.next());
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids).extracting(CompactId::toString).isSorted(); // string order = id order
+        assertThat(ids.getLast().timestamp()).isEqualTo(Instant.parse("2026-02-01T10:00:05.123Z"));
+    }
+
+    @Test
+    void concurrentCallers_getUniqueIds_increasingWithinEachThread() throws Exception {
+        UuidV7Generator generator = new UuidV7Generator();
+        int threads = 8;
+        Set<CompactId> all = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    CompactId previous = null;
+                    for (int i = 0; i < 20_000; i++) {
+                        CompactId id = generator.next();
+                        if (previous != null && id.compareTo(previous) <= 0) throw new AssertionError(previous + " >= " + id);
+                        all.add(id);
+                        previous = id;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) future.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(all).hasSize(threads * 20_000);
+    }
+
+    @Test
+    void parse_rejectsStringsThatWouldNotComeBackTheSame() {
+        assertThatThrownBy(() -> CompactId.parse("CLM-1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompactId.parse("0190F0E2-7C3A-7000-8000-000000000001")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CompactId(0, 0).timestamp()).isInstanceOf(IllegalStateException.class);
+        assertThat(new CompactId(1, 2)).hasToString("00000000-0000-0001-0000-000000000002");
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) { this.now = now; }
+
+        void advance(Duration duration) { now = now.plus(duration); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+}